@@ -22,11 +22,19 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 })
 @EntityScan(basePackages = {
     "com.company.manufacturingorder.adapter.out.persistence",
-    "com.company.customerorder.adapter.out.persistence"
+    "com.company.customerorder.adapter.out.persistence",
+    "com.company.ordermanagement.outbox",
+    "com.company.ordermanagement.deadletter",
+    "com.company.ordermanagement.archive",
+    "com.company.ordermanagement.lock"
 })
 @EnableJpaRepositories(basePackages = {
     "com.company.manufacturingorder.adapter.out.persistence",
-    "com.company.customerorder.adapter.out.persistence"
+    "com.company.customerorder.adapter.out.persistence",
+    "com.company.ordermanagement.outbox",
+    "com.company.ordermanagement.deadletter",
+    "com.company.ordermanagement.archive",
+    "com.company.ordermanagement.lock"
 })
 @EnableTransactionManagement
 @EnableAspectJAutoProxy
@@ -0,0 +1,269 @@
+package com.company.ordermanagement.archive;
+
+import com.company.sharedkernel.OrderArchive.AggregateType;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * One memory-mapped file of the order archive.
+ *
+ * Records are laid out as {@code [length:int][crc:int][type:byte][id:uuid][rawLength:int][payload]},
+ * where the payload is the deflated order and the checksum covers everything after it. The
+ * length is written last, so a record torn by a crash is recognised on recovery by a missing
+ * length or a checksum mismatch, and is dropped together with everything after it.
+ *
+ * While a segment is being appended to, its records are found through an in-memory map.
+ * Once it is full it is sealed: a sorted index of {@code [id:uuid][type:int][position:int]}
+ * entries is written next to it, and lookups binary-search that index in place, so sealed
+ * segments cost no heap however many orders they hold. When an order was stored more than
+ * once the index keeps the latest copy.
+ *
+ * A single thread appends; any number of threads may read.
+ */
+final class ArchiveSegment implements Closeable {
+    static final int RECORD_HEADER_BYTES = Integer.BYTES + Integer.BYTES + 1 + 2 * Long.BYTES + Integer.BYTES;
+    private static final int CHECKED_FROM = 2 * Integer.BYTES;
+    private static final int INDEX_HEADER_BYTES = Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = 2 * Long.BYTES + Integer.BYTES + Integer.BYTES;
+    private static final Comparator<Key> KEY_ORDER = Comparator
+        .comparingLong((Key key) -> key.id().getMostSignificantBits())
+        .thenComparingLong(key -> key.id().getLeastSignificantBits())
+        .thenComparingInt(key -> key.type().ordinal());
+    private static final AggregateType[] TYPES = AggregateType.values();
+
+    private final long sequence;
+    private final Path indexPath;
+    private final FileChannel logChannel;
+    private final MappedByteBuffer log;
+    private final int capacity;
+
+    private volatile Map<Key, Integer> positions;
+    private volatile ByteBuffer index;
+    private volatile int writePosition;
+
+    private ArchiveSegment(Path directory, long sequence, int segmentSize) throws IOException {
+        this.sequence = sequence;
+        var logPath = directory.resolve(fileName(sequence, ".log"));
+        this.indexPath = directory.resolve(fileName(sequence, ".index"));
+        var sealed = Files.exists(indexPath);
+        if (sealed) {
+            this.logChannel = FileChannel.open(logPath, StandardOpenOption.READ);
+            this.capacity = (int) Files.size(logPath);
+            this.log = logChannel.map(FileChannel.MapMode.READ_ONLY, 0, capacity);
+            this.index = mapIndex();
+        } else {
+            this.logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.capacity = (int) Math.max(segmentSize, Files.size(logPath));
+            this.log = logChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            this.positions = new ConcurrentHashMap<>();
+            recover();
+        }
+    }
+
+    static ArchiveSegment open(Path directory, long sequence, int segmentSize) throws IOException {
+        return new ArchiveSegment(directory, sequence, segmentSize);
+    }
+
+    static String fileName(long sequence, String suffix) {
+        return String.format("%020d%s", sequence, suffix);
+    }
+
+    /**
+     * @return {@code false} if the record does not fit into the remaining space
+     */
+    boolean append(AggregateType type, UUID id, int rawLength, byte[] payload) {
+        if (isSealed()) {
+            throw new IllegalStateException("Archive segment " + sequence + " is sealed");
+        }
+        int position = writePosition;
+        int end = position + RECORD_HEADER_BYTES + payload.length;
+        if (end > capacity) {
+            return false;
+        }
+        log.put(position + CHECKED_FROM, (byte) type.ordinal());
+        log.putLong(position + CHECKED_FROM + 1, id.getMostSignificantBits());
+        log.putLong(position + CHECKED_FROM + 1 + Long.BYTES, id.getLeastSignificantBits());
+        log.putInt(position + CHECKED_FROM + 1 + 2 * Long.BYTES, rawLength);
+        log.put(position + RECORD_HEADER_BYTES, payload);
+        log.putInt(position + Integer.BYTES, checksum(position, payload.length));
+        if (end + Integer.BYTES <= capacity) {
+            log.putInt(end, 0);
+        }
+        log.putInt(position, payload.length);
+
+        positions.put(new Key(type, id), position);
+        writePosition = end;
+        return true;
+    }
+
+    /**
+     * @return position of the latest record stored for the order, or -1
+     */
+    int find(AggregateType type, UUID id) {
+        var key = new Key(type, id);
+        var sortedIndex = index;
+        if (sortedIndex == null) {
+            var appended = positions;
+            if (appended != null) {
+                return appended.getOrDefault(key, -1);
+            }
+            // Sealed since index was read; the index is published before the map is dropped
+            sortedIndex = index;
+        }
+        int low = 0;
+        int high = sortedIndex.getInt(0) - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = KEY_ORDER.compare(indexKey(sortedIndex, mid), key);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return sortedIndex.getInt(INDEX_HEADER_BYTES + mid * INDEX_ENTRY_BYTES + 2 * Long.BYTES + Integer.BYTES);
+            }
+        }
+        return -1;
+    }
+
+    int rawLength(int position) {
+        return log.getInt(position + CHECKED_FROM + 1 + 2 * Long.BYTES);
+    }
+
+    byte[] payload(int position) {
+        var payload = new byte[log.getInt(position)];
+        log.get(position + RECORD_HEADER_BYTES, payload);
+        return payload;
+    }
+
+    /**
+     * Forces the records to disk and writes the sorted index. The index file is written
+     * under a temporary name and moved into place, so a segment counts as sealed only
+     * once its index is complete.
+     */
+    void seal() throws IOException {
+        if (isSealed()) {
+            return;
+        }
+        log.force();
+        var entries = new ArrayList<>(positions.entrySet());
+        entries.sort(Map.Entry.comparingByKey(KEY_ORDER));
+        var buffer = ByteBuffer.allocate(INDEX_HEADER_BYTES + entries.size() * INDEX_ENTRY_BYTES);
+        buffer.putInt(entries.size());
+        for (var entry : entries) {
+            buffer.putLong(entry.getKey().id().getMostSignificantBits());
+            buffer.putLong(entry.getKey().id().getLeastSignificantBits());
+            buffer.putInt(entry.getKey().type().ordinal());
+            buffer.putInt(entry.getValue());
+        }
+        buffer.flip();
+
+        var temporary = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        try (var channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+        Files.move(temporary, indexPath, StandardCopyOption.ATOMIC_MOVE);
+        index = mapIndex();
+        positions = null;
+    }
+
+    boolean isSealed() {
+        return index != null;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    /**
+     * @return number of distinct orders in the segment
+     */
+    int records() {
+        var sortedIndex = index;
+        return sortedIndex != null ? sortedIndex.getInt(0) : positions.size();
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    void flush() {
+        if (!isSealed()) {
+            log.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        logChannel.close();
+    }
+
+    private ByteBuffer mapIndex() throws IOException {
+        try (var channel = FileChannel.open(indexPath, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static Key indexKey(ByteBuffer sortedIndex, int entry) {
+        int offset = INDEX_HEADER_BYTES + entry * INDEX_ENTRY_BYTES;
+        return new Key(
+            TYPES[sortedIndex.getInt(offset + 2 * Long.BYTES)],
+            new UUID(sortedIndex.getLong(offset), sortedIndex.getLong(offset + Long.BYTES))
+        );
+    }
+
+    private int checksum(int position, int payloadLength) {
+        var crc = new CRC32();
+        crc.update(log.slice(position + CHECKED_FROM, RECORD_HEADER_BYTES - CHECKED_FROM + payloadLength));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Scans the records from the start of the file to rebuild the lookup map and find
+     * the end of the log.
+     */
+    private void recover() {
+        int position = 0;
+        while (isValidRecord(position)) {
+            var type = TYPES[log.get(position + CHECKED_FROM)];
+            var id = new UUID(log.getLong(position + CHECKED_FROM + 1), log.getLong(position + CHECKED_FROM + 1 + Long.BYTES));
+            positions.put(new Key(type, id), position);
+            position += RECORD_HEADER_BYTES + log.getInt(position);
+        }
+        writePosition = position;
+    }
+
+    private boolean isValidRecord(int position) {
+        if (position + RECORD_HEADER_BYTES > capacity) {
+            return false;
+        }
+        int length = log.getInt(position);
+        if (length <= 0 || length > capacity - position - RECORD_HEADER_BYTES) {
+            return false;
+        }
+        int type = log.get(position + CHECKED_FROM);
+        return type >= 0 && type < TYPES.length && checksum(position, length) == log.getInt(position + Integer.BYTES);
+    }
+
+    private record Key(AggregateType type, UUID id) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.company.ordermanagement.archive;
+
+import com.company.sharedkernel.OrderArchive.AggregateType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "archived_orders")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArchivedOrderJpaEntity {
+    
+    @EmbeddedId
+    private Key key;
+    
+    @Column(name = "payload", nullable = false)
+    private byte[] payload;
+    
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+    
+    @Embeddable
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        
+        @Enumerated(EnumType.ORDINAL)
+        @Column(name = "aggregate_type", nullable = false)
+        private AggregateType aggregateType;
+        
+        @Column(name = "id", nullable = false)
+        private UUID id;
+    }
+}
@@ -0,0 +1,18 @@
+package com.company.ordermanagement.archive;
+
+import com.company.sharedkernel.OrderArchive.AggregateType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Repository
+public interface ArchivedOrderJpaRepository extends JpaRepository<ArchivedOrderJpaEntity, ArchivedOrderJpaEntity.Key> {
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ArchivedOrderJpaEntity o WHERE o.key.aggregateType = :aggregateType AND o.key.id IN :ids")
+    int deleteByAggregateTypeAndIdIn(AggregateType aggregateType, Collection<UUID> ids);
+}
@@ -0,0 +1,73 @@
+package com.company.ordermanagement.archive;
+
+import com.company.sharedkernel.OrderArchive;
+import com.company.sharedkernel.OrderId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps archived orders in the {@code archived_orders} table, so every instance of the
+ * application finds every archived order. {@link #store} joins the transaction of the
+ * archival job, which deletes the orders' rows in the same transaction, so an order is
+ * always in exactly one of the two tiers.
+ */
+public class JpaOrderArchive implements OrderArchive {
+    private final ArchivedOrderJpaRepository repository;
+    private final AtomicLong storedOrders = new AtomicLong();
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    public JpaOrderArchive(ArchivedOrderJpaRepository repository) {
+        this.repository = repository;
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void store(AggregateType type, Map<OrderId, byte[]> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        var keys = orders.keySet().stream().map(orderId -> new ArchivedOrderJpaEntity.Key(type, orderId.getValue())).toList();
+        // A copy loaded earlier in the transaction would clash with the new row
+        keys.forEach(key -> entityManager.detach(entityManager.getReference(ArchivedOrderJpaEntity.class, key)));
+        repository.deleteByAggregateTypeAndIdIn(type, orders.keySet().stream().map(OrderId::getValue).toList());
+        
+        var archivedAt = Instant.now();
+        // Persisted rather than saved: with an assigned key a save would read every row first
+        var entities = orders.entrySet().stream()
+            .map(order -> new ArchivedOrderJpaEntity(
+                new ArchivedOrderJpaEntity.Key(type, order.getKey().getValue()), order.getValue(), archivedAt))
+            .toList();
+        entities.forEach(entityManager::persist);
+        entityManager.flush();
+        // The payloads are not needed again in this transaction
+        entities.forEach(entityManager::detach);
+        storedOrders.addAndGet(orders.size());
+    }
+    
+    @Override
+    public Optional<byte[]> find(AggregateType type, OrderId orderId) {
+        return repository.findById(new ArchivedOrderJpaEntity.Key(type, orderId.getValue()))
+            .map(ArchivedOrderJpaEntity::getPayload);
+    }
+    
+    @Override
+    public boolean contains(AggregateType type, OrderId orderId) {
+        return repository.existsById(new ArchivedOrderJpaEntity.Key(type, orderId.getValue()));
+    }
+    
+    /**
+     * @return orders stored by this instance since it started, counting repeats
+     */
+    public long storedOrders() {
+        return storedOrders.get();
+    }
+}
@@ -0,0 +1,192 @@
+package com.company.ordermanagement.archive;
+
+import com.company.sharedkernel.OrderArchive;
+import com.company.sharedkernel.OrderId;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Order archive in rolling memory-mapped segment files.
+ *
+ * Each order is deflated on its own and appended to the newest segment; a full segment is
+ * sealed with a sorted index and a new one is started. Lookups go through the segments
+ * from newest to oldest, so the latest copy of an order wins, and read the record straight
+ * from the mapped file.
+ *
+ * Stores are serialised; lookups may run concurrently with them. The files are only seen
+ * by the instance that writes them, so this storage suits a single instance whose
+ * directory is on a durable volume.
+ */
+@Slf4j
+public class MappedOrderArchive implements OrderArchive, Closeable {
+    private final Path directory;
+    private final int segmentSize;
+    private final List<ArchiveSegment> segments = new CopyOnWriteArrayList<>();
+    private final AtomicLong storedOrders = new AtomicLong();
+
+    private ArchiveSegment active;
+
+    public MappedOrderArchive(Path directory, int segmentSize) throws IOException {
+        if (segmentSize <= ArchiveSegment.RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("Archive segment size is too small: " + segmentSize);
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        openSegments();
+    }
+
+    @Override
+    public synchronized void store(AggregateType type, Map<OrderId, byte[]> orders) {
+        try {
+            for (var order : orders.entrySet()) {
+                var payload = deflate(order.getValue());
+                if (ArchiveSegment.RECORD_HEADER_BYTES + payload.length > segmentSize) {
+                    throw new IllegalArgumentException(
+                        "Order " + order.getKey() + " of " + payload.length + " bytes does not fit into an archive segment");
+                }
+                var id = order.getKey().getValue();
+                if (!active.append(type, id, order.getValue().length, payload)) {
+                    roll();
+                    active.append(type, id, order.getValue().length, payload);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to roll the order archive", e);
+        }
+        active.flush();
+        storedOrders.addAndGet(orders.size());
+    }
+
+    @Override
+    public Optional<byte[]> find(AggregateType type, OrderId orderId) {
+        // Segments are only ever added, so the indexes read here stay valid
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            var segment = segments.get(i);
+            int position = segment.find(type, orderId.getValue());
+            if (position >= 0) {
+                return Optional.of(inflate(segment.payload(position), segment.rawLength(position)));
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean contains(AggregateType type, OrderId orderId) {
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            if (segments.get(i).find(type, orderId.getValue()) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return orders stored since the archive was opened, counting repeats
+     */
+    public long storedOrders() {
+        return storedOrders.get();
+    }
+
+    /**
+     * @return distinct orders per segment, summed; an order stored again in a later
+     *         segment is counted once for each
+     */
+    public long archivedOrders() {
+        return segments.stream().mapToLong(ArchiveSegment::records).sum();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (var segment : segments) {
+            segment.close();
+        }
+    }
+
+    private void openSegments() throws IOException {
+        List<Long> sequences;
+        try (var files = Files.list(directory)) {
+            sequences = files
+                .map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(".log"))
+                .map(name -> Long.parseLong(name.substring(0, name.length() - ".log".length())))
+                .sorted()
+                .toList();
+        }
+        var opened = new ArrayList<ArchiveSegment>();
+        for (var sequence : sequences) {
+            opened.add(ArchiveSegment.open(directory, sequence, segmentSize));
+        }
+        // Only the newest segment may still be appended to; an older one without an index
+        // was full when the process stopped before sealing it
+        for (int i = 0; i < opened.size() - 1; i++) {
+            opened.get(i).seal();
+        }
+        if (opened.isEmpty() || opened.getLast().isSealed()) {
+            opened.add(ArchiveSegment.open(directory, opened.isEmpty() ? 0 : opened.getLast().sequence() + 1, segmentSize));
+        }
+        segments.addAll(opened);
+        active = opened.getLast();
+        log.info("Opened order archive in {} with {} segments and {} orders", directory, segments.size(), archivedOrders());
+    }
+
+    private void roll() throws IOException {
+        active.seal();
+        active = ArchiveSegment.open(directory, active.sequence() + 1, segmentSize);
+        segments.add(active);
+    }
+
+    private static byte[] deflate(byte[] order) {
+        var deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(order);
+            deflater.finish();
+            var out = new ByteArrayOutputStream(Math.max(64, order.length / 2));
+            var buffer = new byte[1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] payload, int rawLength) {
+        var inflater = new Inflater();
+        try {
+            inflater.setInput(payload);
+            var order = new byte[rawLength];
+            int length = inflater.inflate(order);
+            if (!inflater.finished()) {
+                length += inflater.inflate(new byte[1]);
+            }
+            if (length != rawLength || !inflater.finished()) {
+                throw new IllegalStateException("Archived order is corrupt: expected " + rawLength + " bytes, got " + length);
+            }
+            return order;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Archived order is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
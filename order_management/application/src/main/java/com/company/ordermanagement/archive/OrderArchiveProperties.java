@@ -0,0 +1,51 @@
+package com.company.ordermanagement.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for the cold tier of closed orders.
+ *
+ * @param enabled     move closed orders out of the order tables into the archive
+ * @param storage     where archived orders are kept: {@code database}, shared by all
+ *                    instances, or {@code files}, memory-mapped segment files on the local
+ *                    disk, only for a single instance with a durable volume
+ * @param directory   where segment and index files are kept with {@code files} storage
+ * @param segmentSize size of each segment file; a new segment is started once it is full
+ * @param closedFor   how long an order must have been delivered, completed or cancelled
+ *                    before the archival jobs of the modules move it
+ * @param batchSize   orders moved per archival transaction
+ * @param interval    pause between archival runs once there is nothing left to move
+ * @param lockLease   how long an archival run holds its cluster lock before it has to
+ *                    extend it; extended after every batch
+ */
+@ConfigurationProperties(prefix = "order.management.archive")
+public record OrderArchiveProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("database") Storage storage,
+    @DefaultValue("data/archive") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("90d") Duration closedFor,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("1h") Duration interval,
+    @DefaultValue("10m") Duration lockLease
+) {
+    public enum Storage {
+        DATABASE,
+        FILES
+    }
+    
+
+    public OrderArchiveProperties {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Archive segment size must be below 2GB");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Archive batch size must be positive");
+        }
+    }
+}
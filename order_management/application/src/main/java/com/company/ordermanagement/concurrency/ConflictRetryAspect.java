@@ -0,0 +1,97 @@
+package com.company.ordermanagement.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runs methods marked {@link com.company.sharedkernel.RetryOnConflict} again when they fail
+ * with an {@link OptimisticLockingFailureException}, after a short randomised backoff, up to
+ * the configured number of attempts. It wraps the transaction of the method, so every
+ * attempt reloads the order in a transaction of its own.
+ *
+ * Every attempt is counted as {@code order.commands.attempts} and every conflict as
+ * {@code order.commands.conflicts}, both tagged with the handler as {@code operation}; the
+ * conflicts also carry {@code outcome=retried} or {@code outcome=exhausted}. Their ratio is
+ * the conflict rate of a handler.
+ */
+@Aspect
+@Slf4j
+public class ConflictRetryAspect implements Ordered {
+    private final ConflictRetryProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ConflictRetryAspect(ConflictRetryProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(com.company.sharedkernel.RetryOnConflict)")
+    public Object retryOnConflict(ProceedingJoinPoint joinPoint) throws Throwable {
+        var operation = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            // A repeat would run in the caller's transaction, which the conflict has doomed
+            counter("order.commands.attempts", operation).increment();
+            return joinPoint.proceed();
+        }
+        for (int attempt = 1; ; attempt++) {
+            counter("order.commands.attempts", operation).increment();
+            try {
+                return joinPoint.proceed();
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= properties.maxAttempts()) {
+                    counter("order.commands.conflicts", operation, "exhausted").increment();
+                    log.warn("{} still conflicts after {} attempts: {}", operation, attempt, e.getMessage());
+                    throw e;
+                }
+                counter("order.commands.conflicts", operation, "retried").increment();
+                log.debug("{} conflicts on attempt {}, retrying: {}", operation, attempt, e.getMessage());
+                if (!sleep(backoff(attempt))) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs outside the transaction interceptor, which has the lowest precedence.
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    Duration backoff(int attempt) {
+        var initial = properties.initialBackoff().toNanos();
+        var delay = Math.min(properties.maxBackoff().toNanos(), initial << Math.min(attempt - 1, 30));
+        // Taking off up to half keeps handlers that collided from colliding again in step
+        return Duration.ofNanos(delay - ThreadLocalRandom.current().nextLong(delay / 2 + 1));
+    }
+
+    private static boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Counter counter(String name, String operation) {
+        return meterRegistry.counter(name, "operation", operation);
+    }
+
+    private Counter counter(String name, String operation, String outcome) {
+        return meterRegistry.counter(name, "operation", operation, "outcome", outcome);
+    }
+}
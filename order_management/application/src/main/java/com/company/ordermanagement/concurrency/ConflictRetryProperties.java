@@ -0,0 +1,29 @@
+package com.company.ordermanagement.concurrency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Repeats of command handlers that failed on a concurrent change to an order.
+ *
+ * @param maxAttempts    calls per command, including the first, before the conflict is passed on
+ * @param initialBackoff delay before the first repeat; it doubles with every further one
+ * @param maxBackoff     upper bound for the delay between two attempts
+ */
+@ConfigurationProperties(prefix = "order.management.conflict-retry")
+public record ConflictRetryProperties(
+    @DefaultValue("3") int maxAttempts,
+    @DefaultValue("10ms") Duration initialBackoff,
+    @DefaultValue("200ms") Duration maxBackoff
+) {
+    public ConflictRetryProperties {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Backoff must be non-negative and the maximum at least the initial backoff");
+        }
+    }
+}
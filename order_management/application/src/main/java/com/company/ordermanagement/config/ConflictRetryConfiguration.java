@@ -0,0 +1,18 @@
+package com.company.ordermanagement.config;
+
+import com.company.ordermanagement.concurrency.ConflictRetryAspect;
+import com.company.ordermanagement.concurrency.ConflictRetryProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ConflictRetryProperties.class)
+public class ConflictRetryConfiguration {
+
+    @Bean
+    public ConflictRetryAspect conflictRetryAspect(ConflictRetryProperties properties, MeterRegistry meterRegistry) {
+        return new ConflictRetryAspect(properties, meterRegistry);
+    }
+}
@@ -1,20 +1,165 @@
 package com.company.ordermanagement.config;
 
+import com.company.ordermanagement.deadletter.DeadLetterStore;
+import com.company.ordermanagement.events.BoundedEventMulticaster;
+import com.company.ordermanagement.events.BoundedVirtualThreadExecutor;
+import com.company.ordermanagement.events.EventBulkheadProperties;
+import com.company.ordermanagement.events.EventDeduplicationProperties;
+import com.company.ordermanagement.events.EventDeduplicator;
+import com.company.ordermanagement.events.EventDispatchProperties;
+import com.company.ordermanagement.events.EventRetryProperties;
+import com.company.ordermanagement.events.ListenerBulkhead;
+import com.company.ordermanagement.events.ListenerRetryScheduler;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.event.ApplicationEventMulticaster;
-import org.springframework.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.context.annotation.Bean;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Configuration
 @EnableAsync
+@EnableConfigurationProperties({
+    EventDispatchProperties.class,
+    EventRetryProperties.class,
+    EventDeduplicationProperties.class,
+    EventBulkheadProperties.class
+})
 public class EventConfiguration {
 
+    @Bean
+    public BoundedVirtualThreadExecutor eventDispatchExecutor(EventDispatchProperties properties) {
+        return new BoundedVirtualThreadExecutor(
+            "event-dispatch",
+            properties.maxConcurrency(),
+            properties.queueCapacity(),
+            properties.overflowPolicy()
+        );
+    }
+
+    /**
+     * The dead-letter store is looked up only once a delivery has run out of retries, as it
+     * needs JPA, which is not yet available when the multicaster is created.
+     */
+    @Bean(destroyMethod = "close")
+    public ListenerRetryScheduler listenerRetryScheduler(
+        EventRetryProperties properties,
+        ObjectProvider<DeadLetterStore> deadLetterStore
+    ) {
+        return new ListenerRetryScheduler(properties, failure -> deadLetterStore.getObject().store(failure));
+    }
+
+    @Bean
+    public EventDeduplicator eventDeduplicator(EventDeduplicationProperties properties) {
+        return new EventDeduplicator(properties.window(), properties.maxEntriesPerListener());
+    }
+
     @Bean(name = "applicationEventMulticaster")
-    public ApplicationEventMulticaster simpleApplicationEventMulticaster() {
-        SimpleApplicationEventMulticaster eventMulticaster = new SimpleApplicationEventMulticaster();
-        eventMulticaster.setTaskExecutor(new SimpleAsyncTaskExecutor());
-        return eventMulticaster;
+    public BoundedEventMulticaster simpleApplicationEventMulticaster(
+        BoundedVirtualThreadExecutor eventDispatchExecutor,
+        ListenerRetryScheduler listenerRetryScheduler,
+        EventDeduplicator eventDeduplicator,
+        EventDispatchProperties properties,
+        EventBulkheadProperties bulkheadProperties
+    ) {
+        return new BoundedEventMulticaster(
+            eventDispatchExecutor,
+            properties.listenerConcurrency(),
+            listenerRetryScheduler,
+            eventDeduplicator,
+            bulkheads(bulkheadProperties)
+        );
+    }
+
+    @Bean
+    public MeterBinder eventDispatchMetrics(
+        BoundedVirtualThreadExecutor eventDispatchExecutor,
+        BoundedEventMulticaster applicationEventMulticaster,
+        ListenerRetryScheduler listenerRetryScheduler,
+        EventDeduplicator eventDeduplicator
+    ) {
+        return registry -> {
+            bindExecutorMetrics(registry, eventDispatchExecutor);
+            applicationEventMulticaster.getBulkheads().values().forEach(bulkhead -> bindBulkheadMetrics(registry, bulkhead));
+            Gauge.builder("order.events.dispatch.listener.backlog", applicationEventMulticaster, BoundedEventMulticaster::getGateBacklogDepth)
+                .description("Listener invocations waiting for their listener's concurrency limit")
+                .register(registry);
+            Gauge.builder("order.events.dispatch.ordered.backlog", applicationEventMulticaster, BoundedEventMulticaster::getOrderedBacklogDepth)
+                .description("Order events waiting for their listener to finish an earlier event of the same order")
+                .register(registry);
+            Gauge.builder("order.events.retry.pending", listenerRetryScheduler, ListenerRetryScheduler::getPendingRetries)
+                .description("Failed listener invocations waiting for their next attempt")
+                .register(registry);
+            FunctionCounter.builder("order.events.retry.scheduled", listenerRetryScheduler, ListenerRetryScheduler::getScheduledRetries)
+                .description("Retries scheduled after a listener invocation failed")
+                .register(registry);
+            FunctionCounter.builder("order.events.dead-lettered", listenerRetryScheduler, ListenerRetryScheduler::getExhaustedDeliveries)
+                .description("Listener invocations that failed on every attempt")
+                .register(registry);
+            FunctionCounter.builder("order.events.deduplicated", eventDeduplicator, EventDeduplicator::getDuplicateCount)
+                .description("Deliveries dropped because the listener had already handled the event")
+                .register(registry);
+            Gauge.builder("order.events.deduplication.tracked", eventDeduplicator, EventDeduplicator::getTrackedEventCount)
+                .description("Event ids currently remembered across all listeners")
+                .register(registry);
+        };
+    }
+
+    private static Map<String, ListenerBulkhead> bulkheads(EventBulkheadProperties properties) {
+        return properties.listeners().entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> new ListenerBulkhead(
+                entry.getKey(),
+                entry.getValue().maxConcurrency(),
+                entry.getValue().queueCapacity(),
+                entry.getValue().overflowPolicy()
+            )));
+    }
+
+    private static void bindBulkheadMetrics(MeterRegistry registry, ListenerBulkhead bulkhead) {
+        var listener = bulkhead.getListenerId();
+        Gauge.builder("order.events.bulkhead.active", bulkhead, ListenerBulkhead::getActiveCount)
+            .description("Invocations of the listener currently running")
+            .tag("listener", listener)
+            .register(registry);
+        Gauge.builder("order.events.bulkhead.queue.depth", bulkhead, ListenerBulkhead::getQueueDepth)
+            .description("Invocations of the listener waiting for a free slot")
+            .tag("listener", listener)
+            .register(registry);
+        Gauge.builder("order.events.bulkhead.utilization", bulkhead,
+                b -> (double) b.getActiveCount() / b.getMaxConcurrency())
+            .description("Share of the listener's slots in use")
+            .tag("listener", listener)
+            .register(registry);
+        FunctionCounter.builder("order.events.bulkhead.rejected", bulkhead, ListenerBulkhead::getRejectedCount)
+            .description("Invocations of the listener that found its queue full")
+            .tag("listener", listener)
+            .register(registry);
+    }
+
+    private static void bindExecutorMetrics(MeterRegistry registry, BoundedVirtualThreadExecutor dispatchExecutor) {
+        var executor = dispatchExecutor.getName();
+        Gauge.builder("order.events.dispatch.queue.depth", dispatchExecutor, BoundedVirtualThreadExecutor::getQueueDepth)
+            .description("Listener invocations waiting for a free slot, including spilled ones")
+            .tag("executor", executor)
+            .register(registry);
+        Gauge.builder("order.events.dispatch.spill.depth", dispatchExecutor, BoundedVirtualThreadExecutor::getSpillDepth)
+            .description("Listener invocations held in the overflow list")
+            .tag("executor", executor)
+            .register(registry);
+        Gauge.builder("order.events.dispatch.active", dispatchExecutor, BoundedVirtualThreadExecutor::getActiveCount)
+            .description("Listener invocations currently running")
+            .tag("executor", executor)
+            .register(registry);
+        FunctionCounter.builder("order.events.dispatch.rejected", dispatchExecutor, BoundedVirtualThreadExecutor::getRejectedCount)
+            .description("Listener invocations that found the queue full")
+            .tag("executor", executor)
+            .tag("policy", dispatchExecutor.getOverflowPolicy().name())
+            .register(registry);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,56 @@
+package com.company.ordermanagement.config;
+
+import com.company.ordermanagement.journal.EventJournalEndpoint;
+import com.company.ordermanagement.journal.EventJournalProperties;
+import com.company.ordermanagement.journal.MappedEventJournal;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(name = "order.management.events.journal.enabled", havingValue = "true")
+@EnableConfigurationProperties(EventJournalProperties.class)
+public class EventJournalConfiguration {
+
+    @Bean(destroyMethod = "close")
+    public MappedEventJournal eventJournal(EventJournalProperties properties, DomainEventCodec codec) throws IOException {
+        return new MappedEventJournal(
+            properties.directory(),
+            (int) properties.segmentSize().toBytes(),
+            (int) properties.indexInterval().toBytes(),
+            codec,
+            Clock.systemUTC(),
+            properties.retention(),
+            properties.retentionSize().toBytes()
+        );
+    }
+
+    @Bean
+    public EventJournalEndpoint eventJournalEndpoint(MappedEventJournal eventJournal) {
+        return new EventJournalEndpoint(eventJournal);
+    }
+
+    @Bean
+    public MeterBinder eventJournalMetrics(MappedEventJournal eventJournal) {
+        return registry -> {
+            FunctionCounter.builder("order.events.journal.appended", eventJournal, MappedEventJournal::nextOffset)
+                .description("Events written to the journal since it was created")
+                .register(registry);
+            Gauge.builder("order.events.journal.segments", eventJournal, MappedEventJournal::segmentCount)
+                .description("Segment files in the journal")
+                .register(registry);
+            Gauge.builder("order.events.journal.size", eventJournal, MappedEventJournal::sizeInBytes)
+                .description("Disk space taken by the journal's segment and index files")
+                .baseUnit("bytes")
+                .register(registry);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.company.ordermanagement.config;
+
+import com.company.ordermanagement.archive.ArchivedOrderJpaRepository;
+import com.company.ordermanagement.archive.JpaOrderArchive;
+import com.company.ordermanagement.archive.MappedOrderArchive;
+import com.company.ordermanagement.archive.OrderArchiveProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Provides the order archive in the configured storage. Database storage is the default;
+ * segment files are only readable by the instance that wrote them.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.management.archive.enabled", havingValue = "true")
+@EnableConfigurationProperties(OrderArchiveProperties.class)
+public class OrderArchiveConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "order.management.archive.storage", havingValue = "database", matchIfMissing = true)
+    public JpaOrderArchive jpaOrderArchive(ArchivedOrderJpaRepository repository) {
+        return new JpaOrderArchive(repository);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "order.management.archive.storage", havingValue = "database", matchIfMissing = true)
+    public MeterBinder jpaOrderArchiveMetrics(JpaOrderArchive orderArchive) {
+        return registry -> FunctionCounter.builder("order.archive.stored", orderArchive, JpaOrderArchive::storedOrders)
+            .description("Orders moved into the archive since the application started")
+            .register(registry);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "order.management.archive.storage", havingValue = "files")
+    public MappedOrderArchive orderArchive(OrderArchiveProperties properties) throws IOException {
+        return new MappedOrderArchive(properties.directory(), (int) properties.segmentSize().toBytes());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "order.management.archive.storage", havingValue = "files")
+    public MeterBinder orderArchiveMetrics(MappedOrderArchive orderArchive) {
+        return registry -> {
+            FunctionCounter.builder("order.archive.stored", orderArchive, MappedOrderArchive::storedOrders)
+                .description("Orders moved into the archive since the application started")
+                .register(registry);
+            Gauge.builder("order.archive.orders", orderArchive, MappedOrderArchive::archivedOrders)
+                .description("Orders kept in the archive")
+                .register(registry);
+            Gauge.builder("order.archive.segments", orderArchive, MappedOrderArchive::segmentCount)
+                .description("Segment files in the archive")
+                .register(registry);
+        };
+    }
+}
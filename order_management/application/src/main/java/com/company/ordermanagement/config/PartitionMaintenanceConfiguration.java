@@ -0,0 +1,27 @@
+package com.company.ordermanagement.config;
+
+import com.company.ordermanagement.partitioning.PartitionMaintenanceJob;
+import com.company.ordermanagement.partitioning.PartitionMaintenanceProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+
+@Configuration
+@ConditionalOnProperty(name = "order.management.partitioning.enabled", havingValue = "true")
+@EnableConfigurationProperties(PartitionMaintenanceProperties.class)
+public class PartitionMaintenanceConfiguration {
+
+    @Bean
+    public PartitionMaintenanceJob partitionMaintenanceJob(
+        JdbcTemplate jdbcTemplate,
+        PartitionMaintenanceProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        return new PartitionMaintenanceJob(jdbcTemplate, properties, Clock.systemUTC(), meterRegistry);
+    }
+}
@@ -0,0 +1,105 @@
+package com.company.ordermanagement.config;
+
+import com.company.ordermanagement.datasource.ReadReplicaProperties;
+import com.company.ordermanagement.datasource.ReadReplicaRoutingDataSource;
+import com.company.ordermanagement.datasource.ReplicaLagMonitor;
+import com.company.ordermanagement.datasource.ReplicaPool;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces the auto-configured data source with one that sends read-only transactions
+ * to read replicas. The primary pool is still configured under {@code spring.datasource}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "order.management.datasource.read-replicas.enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        var dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(ReadReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(
+        HikariDataSource primaryDataSource,
+        ReadReplicaProperties properties
+    ) {
+        var replicas = properties.pools().stream()
+            .map(pool -> new ReplicaPool(pool.name(), replicaDataSource(pool)))
+            .toList();
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+        ReadReplicaRoutingDataSource readReplicaRoutingDataSource,
+        ReadReplicaProperties properties
+    ) {
+        return new ReplicaLagMonitor(readReplicaRoutingDataSource.replicas(), properties.lagQuery(), properties.maxLag());
+    }
+
+    @Bean
+    public MeterBinder readReplicaMetrics(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return registry -> {
+            FunctionCounter.builder("order.datasource.connections.routed", readReplicaRoutingDataSource,
+                    routing -> routing.routedConnections(ReadReplicaRoutingDataSource.PRIMARY))
+                .description("Connections handed out by the routing data source")
+                .tag("target", ReadReplicaRoutingDataSource.PRIMARY)
+                .register(registry);
+            for (var replica : readReplicaRoutingDataSource.replicas()) {
+                FunctionCounter.builder("order.datasource.connections.routed", readReplicaRoutingDataSource,
+                        routing -> routing.routedConnections(replica.name()))
+                    .description("Connections handed out by the routing data source")
+                    .tag("target", replica.name())
+                    .register(registry);
+                Gauge.builder("order.datasource.replica.lag", replica, ReplicaPool::lagSeconds)
+                    .description("Replication lag found by the last check")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name())
+                    .register(registry);
+                Gauge.builder("order.datasource.replica.available", replica, pool -> pool.isAvailable() ? 1 : 0)
+                    .description("Whether the replica takes read-only transactions")
+                    .tag("replica", replica.name())
+                    .register(registry);
+                if (replica.dataSource() instanceof HikariDataSource hikari && hikari.getMetricsTrackerFactory() == null) {
+                    hikari.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                }
+            }
+        };
+    }
+
+    private static HikariDataSource replicaDataSource(ReadReplicaProperties.Pool pool) {
+        var dataSource = new HikariDataSource();
+        dataSource.setPoolName(pool.name());
+        dataSource.setJdbcUrl(pool.url());
+        dataSource.setUsername(pool.username());
+        dataSource.setPassword(pool.password());
+        dataSource.setMaximumPoolSize(pool.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,69 @@
+package com.company.ordermanagement.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Read replicas that serve read-only transactions.
+ *
+ * @param enabled          route read-only transactions to the replicas
+ * @param pools            one connection pool per replica
+ * @param maxLag           replication lag above which a replica is skipped until it catches up
+ * @param lagCheckInterval pause between two lag checks of every replica
+ * @param lagQuery         query returning a replica's lag in seconds as its only column
+ */
+@ConfigurationProperties(prefix = "order.management.datasource.read-replicas")
+public record ReadReplicaProperties(
+    @DefaultValue("false") boolean enabled,
+    List<Pool> pools,
+    @DefaultValue("10s") Duration maxLag,
+    @DefaultValue("5s") Duration lagCheckInterval,
+    @DefaultValue(POSTGRES_LAG_QUERY) String lagQuery
+) {
+    /**
+     * A replica that has replayed everything it received is not lagging, however long
+     * ago the primary last committed.
+     */
+    public static final String POSTGRES_LAG_QUERY =
+        "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+        "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    public ReadReplicaProperties {
+        pools = pools != null ? List.copyOf(pools) : List.of();
+        if (enabled && pools.isEmpty()) {
+            throw new IllegalArgumentException("Read replica routing is enabled but no replica pool is configured");
+        }
+        var names = new HashSet<String>();
+        for (var pool : pools) {
+            if (ReadReplicaRoutingDataSource.PRIMARY.equals(pool.name()) || !names.add(pool.name())) {
+                throw new IllegalArgumentException("Replica pool names must be unique and not 'primary': " + pool.name());
+            }
+        }
+    }
+
+    /**
+     * @param name            identifies the replica in routing and pool metrics
+     * @param url             JDBC URL of the replica
+     * @param maximumPoolSize connections kept to the replica at most
+     */
+    public record Pool(
+        String name,
+        String url,
+        String username,
+        String password,
+        @DefaultValue("10") int maximumPoolSize
+    ) {
+        public Pool {
+            if (name == null || name.isBlank()) {
+                throw new IllegalArgumentException("Replica pool name cannot be empty");
+            }
+            if (url == null || url.isBlank()) {
+                throw new IllegalArgumentException("Replica pool " + name + " needs a JDBC URL");
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.ordermanagement.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands out connections of the next available replica, in turn, inside read-only
+ * transactions and connections of the primary everywhere else. When no replica is
+ * available, read-only transactions use the primary as well.
+ *
+ * The read-only flag of a transaction is only known once the transaction has started,
+ * after the transaction manager has asked for a connection. This data source must
+ * therefore sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which fetches the real connection on the first statement.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private final List<ReplicaPool> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Map<String, LongAdder> routedConnections = new HashMap<>();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, List<ReplicaPool> replicas) {
+        this.replicas = List.copyOf(replicas);
+        var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, primary);
+        routedConnections.put(PRIMARY, new LongAdder());
+        for (var replica : this.replicas) {
+            targets.put(replica.name(), replica.dataSource());
+            routedConnections.put(replica.name(), new LongAdder());
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        initialize();
+    }
+
+    public List<ReplicaPool> replicas() {
+        return replicas;
+    }
+
+    /**
+     * @return connections handed out for the primary or the named replica so far
+     */
+    public long routedConnections(String target) {
+        return routedConnections.get(target).sum();
+    }
+
+    /**
+     * Closes the replica pools. The primary is left to whoever created it.
+     */
+    @Override
+    public void close() throws Exception {
+        for (var replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        var target = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? nextAvailableReplica() : PRIMARY;
+        routedConnections.get(target).increment();
+        return target;
+    }
+
+    private String nextAvailableReplica() {
+        if (replicas.isEmpty()) {
+            return PRIMARY;
+        }
+        var start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            var replica = replicas.get((start + i) % replicas.size());
+            if (replica.isAvailable()) {
+                return replica.name();
+            }
+        }
+        return PRIMARY;
+    }
+}
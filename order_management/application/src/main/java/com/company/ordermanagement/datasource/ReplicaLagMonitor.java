@@ -0,0 +1,58 @@
+package com.company.ordermanagement.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Measures the replication lag of every replica and takes replicas out of the rotation
+ * while they lag more than allowed or cannot be reached. The first check runs as soon
+ * as the scheduler starts; until then read-only transactions use the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    private final List<ReplicaPool> replicas;
+    private final String lagQuery;
+    private final double maxLagSeconds;
+
+    public ReplicaLagMonitor(List<ReplicaPool> replicas, String lagQuery, Duration maxLag) {
+        this.replicas = List.copyOf(replicas);
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    @Scheduled(fixedDelayString = "${order.management.datasource.read-replicas.lag-check-interval:5s}")
+    public void checkReplicas() {
+        replicas.forEach(this::check);
+    }
+
+    private void check(ReplicaPool replica) {
+        var wasAvailable = replica.isAvailable();
+        try (var connection = replica.dataSource().getConnection();
+             var statement = connection.createStatement()) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            try (var resultSet = statement.executeQuery(lagQuery)) {
+                resultSet.next();
+                var lagSeconds = resultSet.getDouble(1);
+                replica.update(lagSeconds, lagSeconds <= maxLagSeconds);
+            }
+        } catch (Exception e) {
+            replica.update(Double.NaN, false);
+            if (wasAvailable) {
+                log.warn("Read replica {} cannot be reached, reading from the primary instead: {}",
+                    replica.name(), e.getMessage());
+            }
+            return;
+        }
+        if (wasAvailable && !replica.isAvailable()) {
+            log.warn("Read replica {} lags {}s behind, reading from the other replicas or the primary until it catches up",
+                replica.name(), replica.lagSeconds());
+        } else if (!wasAvailable && replica.isAvailable()) {
+            log.info("Read replica {} is available, lag {}s", replica.name(), replica.lagSeconds());
+        }
+    }
+}
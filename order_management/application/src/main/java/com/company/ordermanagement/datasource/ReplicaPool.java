@@ -0,0 +1,43 @@
+package com.company.ordermanagement.datasource;
+
+import javax.sql.DataSource;
+
+/**
+ * A replica's connections together with what its last lag check found. A replica is
+ * unavailable until its first check succeeds.
+ */
+public final class ReplicaPool {
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean available;
+    private volatile double lagSeconds = Double.NaN;
+
+    public ReplicaPool(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    /**
+     * @return lag measured by the last successful check, NaN if the replica could not be reached
+     */
+    public double lagSeconds() {
+        return lagSeconds;
+    }
+
+    void update(double lagSeconds, boolean available) {
+        this.lagSeconds = lagSeconds;
+        this.available = available;
+    }
+}
@@ -0,0 +1,19 @@
+package com.company.ordermanagement.deadletter;
+
+import com.company.sharedkernel.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * A domain event that a listener still failed to handle after all retries.
+ */
+public record DeadLetter(
+    Long id,
+    String listenerId,
+    String eventType,
+    int attempts,
+    String lastError,
+    Instant deadLetteredAt,
+    DomainEvent event
+) {
+}
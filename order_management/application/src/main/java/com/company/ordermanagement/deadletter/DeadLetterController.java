@@ -0,0 +1,51 @@
+package com.company.ordermanagement.deadletter;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/dead-letters")
+@RequiredArgsConstructor
+public class DeadLetterController {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_REDRIVE_LIMIT = 5000;
+
+    private final DeadLetterStore deadLetterStore;
+    
+    @GetMapping
+    public List<DeadLetter> findDeadLetters(
+        @RequestParam(required = false) String listenerId,
+        @RequestParam(required = false) String eventType,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "50") int size
+    ) {
+        if (page < 0 || size <= 0 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must be non-negative and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        return deadLetterStore.find(listenerId, eventType, page, size);
+    }
+    
+    /**
+     * Re-drives the listed dead letters, or else the oldest ones matching the filters.
+     */
+    @PostMapping("/redrive")
+    public RedriveResult redrive(@RequestBody RedriveRequest request) {
+        if (request.ids() != null && !request.ids().isEmpty()) {
+            return deadLetterStore.redrive(request.ids());
+        }
+        int limit = request.limit() != null ? request.limit() : MAX_PAGE_SIZE;
+        if (limit <= 0 || limit > MAX_REDRIVE_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_REDRIVE_LIMIT);
+        }
+        return deadLetterStore.redriveMatching(request.listenerId(), request.eventType(), limit);
+    }
+    
+    public record RedriveRequest(
+        List<Long> ids,
+        String listenerId,
+        String eventType,
+        Integer limit
+    ) {}
+}
@@ -0,0 +1,41 @@
+package com.company.ordermanagement.deadletter;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "event_dead_letter")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterEventJpaEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_dead_letter_seq")
+    @SequenceGenerator(name = "event_dead_letter_seq", sequenceName = "event_dead_letter_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "listener_id", nullable = false, length = 500)
+    private String listenerId;
+    
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+    
+    @Column(name = "encoded_payload", nullable = false)
+    private byte[] encodedPayload;
+    
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+    
+    @Column(name = "last_error", length = 2000)
+    private String lastError;
+    
+    @Column(name = "dead_lettered_at", nullable = false)
+    private Instant deadLetteredAt;
+}
@@ -0,0 +1,23 @@
+package com.company.ordermanagement.deadletter;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DeadLetterEventJpaRepository extends JpaRepository<DeadLetterEventJpaEntity, Long> {
+    
+    /**
+     * Oldest dead letters first; a {@code null} filter matches every row.
+     */
+    @Query("""
+        SELECT d FROM DeadLetterEventJpaEntity d
+        WHERE (:listenerId IS NULL OR d.listenerId = :listenerId)
+          AND (:eventType IS NULL OR d.eventType = :eventType)
+        ORDER BY d.id
+        """)
+    List<DeadLetterEventJpaEntity> findMatching(String listenerId, String eventType, Pageable pageable);
+}
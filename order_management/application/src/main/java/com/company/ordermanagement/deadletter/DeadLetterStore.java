@@ -0,0 +1,104 @@
+package com.company.ordermanagement.deadletter;
+
+import com.company.ordermanagement.events.BoundedEventMulticaster;
+import com.company.ordermanagement.events.FailedDelivery;
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Keeps domain events whose listener kept failing until an operator re-drives them.
+ *
+ * Re-driving hands each event to the listener it failed for, and only to that one, as a
+ * fresh delivery with a full set of retries. Should it fail again it comes back as a new
+ * dead letter.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DeadLetterStore {
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final DeadLetterEventJpaRepository repository;
+    private final DomainEventCodec codec;
+    private final BoundedEventMulticaster multicaster;
+
+    @Transactional
+    public void store(FailedDelivery failure) {
+        if (!(failure.payload() instanceof DomainEvent event)) {
+            log.error("Dropping failed delivery of {} to {}: only domain events can be dead-lettered",
+                failure.payload().getClass().getName(), failure.listenerId());
+            return;
+        }
+        var saved = repository.save(new DeadLetterEventJpaEntity(
+            null,
+            failure.listenerId(),
+            event.eventType(),
+            codec.encode(event),
+            failure.attempt(),
+            truncate(failure.error().toString()),
+            Instant.now()
+        ));
+        log.warn("Dead-lettered {} for listener {} as {}", event.eventType(), failure.listenerId(), saved.getId());
+    }
+
+    @Transactional(readOnly = true)
+    public List<DeadLetter> find(String listenerId, String eventType, int page, int size) {
+        return repository.findMatching(listenerId, eventType, PageRequest.of(page, size)).stream()
+            .map(this::toDeadLetter)
+            .toList();
+    }
+
+    @Transactional
+    public RedriveResult redrive(Collection<Long> ids) {
+        return redriveAll(repository.findAllById(ids));
+    }
+
+    /**
+     * Re-drives up to {@code limit} of the oldest dead letters matching the filters.
+     */
+    @Transactional
+    public RedriveResult redriveMatching(String listenerId, String eventType, int limit) {
+        return redriveAll(repository.findMatching(listenerId, eventType, PageRequest.of(0, limit)));
+    }
+
+    private RedriveResult redriveAll(List<DeadLetterEventJpaEntity> deadLetters) {
+        List<DeadLetterEventJpaEntity> redriven = new ArrayList<>();
+        List<Long> notRedriven = new ArrayList<>();
+        for (var deadLetter : deadLetters) {
+            if (multicaster.redeliver(deadLetter.getListenerId(), codec.decode(deadLetter.getEncodedPayload()))) {
+                redriven.add(deadLetter);
+            } else {
+                notRedriven.add(deadLetter.getId());
+            }
+        }
+        repository.deleteAllInBatch(redriven);
+        log.info("Re-drove {} dead letters, {} without a matching listener", redriven.size(), notRedriven.size());
+        return new RedriveResult(redriven.size(), notRedriven);
+    }
+
+    private DeadLetter toDeadLetter(DeadLetterEventJpaEntity entity) {
+        return new DeadLetter(
+            entity.getId(),
+            entity.getListenerId(),
+            entity.getEventType(),
+            entity.getAttempts(),
+            entity.getLastError(),
+            entity.getDeadLetteredAt(),
+            codec.decode(entity.getEncodedPayload())
+        );
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= MAX_ERROR_LENGTH ? error : error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -0,0 +1,10 @@
+package com.company.ordermanagement.deadletter;
+
+import java.util.List;
+
+/**
+ * @param redriven   dead letters handed to their listener again and removed from the store
+ * @param notRedriven ids kept because their listener is no longer registered
+ */
+public record RedriveResult(int redriven, List<Long> notRedriven) {
+}
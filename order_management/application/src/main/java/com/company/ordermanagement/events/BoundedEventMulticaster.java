@@ -0,0 +1,319 @@
+package com.company.ordermanagement.events;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.OrderEvent;
+import com.company.sharedkernel.OrderId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.core.ResolvableType;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multicaster that hands every listener invocation to a {@link BoundedVirtualThreadExecutor}
+ * instead of starting a new platform thread per event. On top of the executor-wide limit,
+ * each listener may only run {@code listenerConcurrency} invocations at once, so a single
+ * busy listener cannot take every database connection. Invocations over that limit wait in
+ * the listener's {@link ListenerGate} rather than on a worker, so they leave the workers to
+ * the other listeners.
+ *
+ * Events of an order aggregate ({@link OrderEvent}) are passed through a {@link KeyedSequencer}
+ * keyed by listener and order id before they reach the listener's gate, so a listener sees
+ * the events of one order in the order they were raised. Different orders, and different
+ * listeners of the same order, are still processed in parallel, within the same limits as
+ * any other event; a listener that is slow or failing for an order only holds up its own
+ * later invocations for that order.
+ *
+ * An asynchronous invocation that throws is passed to the {@link ListenerRetryScheduler},
+ * which dispatches it again later the same way. For order events the sequencer keeps the
+ * listener parked for that order until the retry succeeds or is given up, and buffers the
+ * order's later events for the listener meanwhile, so a retry never lets a later event of
+ * the order overtake it. No thread waits for the backoff.
+ *
+ * A listener with its own {@link ListenerBulkhead} is left out of the shared executor; its
+ * invocations only compete with each other, and its lanes are its concurrency limit. Such
+ * a listener still sees the events of one order in order.
+ *
+ * Listeners that do not support asynchronous execution, such as transactional event
+ * listeners registering their synchronization, run on the publishing thread, and what
+ * they throw reaches the publisher.
+ *
+ * Domain events are passed through the {@link EventDeduplicator} first, so a listener that
+ * has already handled an event id recently does not see it again.
+ *
+ * A caller that needs to know when an event has been dealt with, such as the outbox relay,
+ * multicasts it with a callback; that runs once every listener has handled the event or
+ * had its delivery given up.
+ */
+@Slf4j
+public class BoundedEventMulticaster extends SimpleApplicationEventMulticaster {
+    private static final Runnable NOTHING = () -> { };
+
+    private final BoundedVirtualThreadExecutor executor;
+    private final int listenerConcurrency;
+    private final ListenerRetryScheduler retryScheduler;
+    private final EventDeduplicator deduplicator;
+    private final Map<String, ListenerBulkhead> bulkheads;
+    private final Map<ApplicationListener<?>, ListenerGate> listenerGates = new ConcurrentHashMap<>();
+    private final KeyedSequencer orderedDeliveries = new KeyedSequencer();
+
+    public BoundedEventMulticaster(
+        BoundedVirtualThreadExecutor executor,
+        int listenerConcurrency
+    ) {
+        this(executor, listenerConcurrency, null, null, Map.of());
+    }
+
+    /**
+     * @param retryScheduler retries failed asynchronous invocations; {@code null} only logs them
+     * @param deduplicator   drops events a listener has already handled; {@code null} delivers every event
+     * @param bulkheads      dedicated executors by listener id
+     */
+    public BoundedEventMulticaster(
+        BoundedVirtualThreadExecutor executor,
+        int listenerConcurrency,
+        ListenerRetryScheduler retryScheduler,
+        EventDeduplicator deduplicator,
+        Map<String, ListenerBulkhead> bulkheads
+    ) {
+        this.executor = executor;
+        this.listenerConcurrency = listenerConcurrency;
+        this.retryScheduler = retryScheduler;
+        this.deduplicator = deduplicator;
+        this.bulkheads = Map.copyOf(bulkheads);
+        setTaskExecutor(executor);
+    }
+
+    @Override
+    public void multicastEvent(ApplicationEvent event, ResolvableType eventType) {
+        var type = eventType != null ? eventType : ResolvableType.forInstance(event);
+        for (ApplicationListener<?> listener : getApplicationListeners(event, type)) {
+            if (listener.supportsAsyncExecution()) {
+                dispatch(listener, event, 1, NOTHING);
+            } else {
+                invokeSynchronously(listener, event);
+            }
+        }
+    }
+
+    /**
+     * Multicasts {@code event} and runs {@code whenHandled} once every listener has handled
+     * it, or has failed on every attempt and had its delivery dead-lettered. It is not run
+     * if a synchronous listener throws, or if a retry is dropped on shutdown.
+     */
+    public void multicastEvent(ApplicationEvent event, Runnable whenHandled) {
+        var listeners = getApplicationListeners(event, ResolvableType.forInstance(event));
+        var remaining = new AtomicInteger(listeners.size() + 1);
+        Runnable handled = () -> {
+            if (remaining.decrementAndGet() == 0) {
+                whenHandled.run();
+            }
+        };
+        for (ApplicationListener<?> listener : listeners) {
+            if (listener.supportsAsyncExecution()) {
+                dispatch(listener, event, 1, handled);
+            } else {
+                invokeSynchronously(listener, event);
+                handled.run();
+            }
+        }
+        handled.run();
+    }
+
+    /**
+     * Delivers {@code payload} to the single listener with the given id, as a fresh first attempt.
+     *
+     * @return {@code false} if no registered listener with that id accepts the payload
+     */
+    public boolean redeliver(String listenerId, Object payload) {
+        var event = new PayloadApplicationEvent<>(this, payload);
+        for (ApplicationListener<?> listener : getApplicationListeners(event, event.getResolvableType())) {
+            if (listenerId(listener).equals(listenerId)) {
+                dispatch(listener, event, 1, NOTHING);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Stable name of a listener, used to record and re-drive failed deliveries. For
+     * {@code @EventListener} methods this is the declaring class, method and parameter types
+     * unless the annotation sets an explicit id.
+     */
+    public static String listenerId(ApplicationListener<?> listener) {
+        if (listener instanceof SmartApplicationListener smartListener && !smartListener.getListenerId().isEmpty()) {
+            return smartListener.getListenerId();
+        }
+        return listener.getClass().getName();
+    }
+
+    public BoundedVirtualThreadExecutor getExecutor() {
+        return executor;
+    }
+
+    public Map<String, ListenerBulkhead> getBulkheads() {
+        return bulkheads;
+    }
+
+    /**
+     * @return invocations waiting for a permit of their listener, across all listeners
+     */
+    public int getGateBacklogDepth() {
+        return listenerGates.values().stream().mapToInt(ListenerGate::getBacklogDepth).sum();
+    }
+
+    /**
+     * @return order events waiting for their listener to finish an earlier event of the same order
+     */
+    public int getOrderedBacklogDepth() {
+        return orderedDeliveries.getBufferedCount();
+    }
+
+    /**
+     * @param done run once the listener has handled the event or its delivery has been given up
+     */
+    private void dispatch(ApplicationListener<?> listener, ApplicationEvent event, int attempt, Runnable done) {
+        var orderEvent = orderEventOf(event);
+        var bulkhead = bulkheadOf(listener);
+        if (orderEvent != null) {
+            var key = new ListenerOrderKey(listener, orderEvent.orderId());
+            orderedDeliveries.submit(key, () -> deliverInOrder(key, listener, event, 1, done));
+        } else if (bulkhead != null) {
+            bulkhead.execute(event, () -> invoke(listener, event, attempt, done));
+        } else {
+            gateOf(listener).execute(() -> invoke(listener, event, attempt, done));
+        }
+    }
+
+    private void invoke(ApplicationListener<?> listener, ApplicationEvent event, int attempt, Runnable done) {
+        var failure = tryInvoke(listener, event, attempt);
+        if (failure == null || !retryLater(failure, () -> dispatch(listener, event, attempt + 1, done))) {
+            done.run();
+        }
+    }
+
+    /**
+     * Runs one attempt of an order event delivery. A failed attempt keeps {@code key} parked
+     * until its retry has run; the sequencer moves on to the next event of the key only once
+     * the listener has handled the event or the delivery has been given up.
+     */
+    private void deliverInOrder(
+        ListenerOrderKey key,
+        ApplicationListener<?> listener,
+        ApplicationEvent event,
+        int attempt,
+        Runnable done
+    ) {
+        Runnable task = () -> {
+            var failure = tryInvoke(listener, event, attempt);
+            if (failure == null || !retryLater(failure, () -> deliverInOrder(key, listener, event, attempt + 1, done))) {
+                orderedDeliveries.complete(key);
+                done.run();
+            }
+        };
+        var bulkhead = bulkheadOf(listener);
+        try {
+            if (bulkhead != null) {
+                bulkhead.execute(key.orderId(), task);
+            } else {
+                gateOf(listener).execute(task);
+            }
+        } catch (RuntimeException e) {
+            orderedDeliveries.complete(key);
+            throw e;
+        }
+    }
+
+    /**
+     * @return the failure, or {@code null} if the listener handled the event or had already handled it
+     */
+    private FailedDelivery tryInvoke(ApplicationListener<?> listener, ApplicationEvent event, int attempt) {
+        var eventId = eventIdOf(event);
+        if (!claim(listener, eventId)) {
+            return null;
+        }
+        try {
+            invokeListener(listener, event);
+            return null;
+        } catch (Throwable throwable) {
+            release(listener, eventId);
+            return new FailedDelivery(listenerId(listener), event, attempt, throwable);
+        }
+    }
+
+    private ListenerBulkhead bulkheadOf(ApplicationListener<?> listener) {
+        return bulkheads.isEmpty() ? null : bulkheads.get(listenerId(listener));
+    }
+
+    private ListenerGate gateOf(ApplicationListener<?> listener) {
+        return listenerGates.computeIfAbsent(listener, key -> new ListenerGate(executor, listenerConcurrency));
+    }
+
+    private boolean claim(ApplicationListener<?> listener, UUID eventId) {
+        if (deduplicator == null || eventId == null || deduplicator.tryClaim(listenerId(listener), eventId)) {
+            return true;
+        }
+        log.debug("Skipping event {} already handled by {}", eventId, listenerId(listener));
+        return false;
+    }
+
+    private void release(ApplicationListener<?> listener, UUID eventId) {
+        if (deduplicator != null && eventId != null) {
+            deduplicator.release(listenerId(listener), eventId);
+        }
+    }
+
+    /**
+     * @return {@code true} if {@code retry} was scheduled, {@code false} if the delivery was given up
+     */
+    private boolean retryLater(FailedDelivery failure, Runnable retry) {
+        if (retryScheduler == null) {
+            log.error("Event listener failed: {}", failure.error().getMessage(), failure.error());
+            return false;
+        }
+        return retryScheduler.onFailure(failure, retry);
+    }
+
+    private void invokeSynchronously(ApplicationListener<?> listener, ApplicationEvent event) {
+        var eventId = eventIdOf(event);
+        if (!claim(listener, eventId)) {
+            return;
+        }
+        try {
+            invokeListener(listener, event);
+        } catch (RuntimeException | Error e) {
+            release(listener, eventId);
+            throw e;
+        }
+    }
+
+    private static UUID eventIdOf(ApplicationEvent event) {
+        if (event instanceof PayloadApplicationEvent<?> payloadEvent
+            && payloadEvent.getPayload() instanceof DomainEvent domainEvent) {
+            return domainEvent.eventId();
+        }
+        return null;
+    }
+
+    private static OrderEvent orderEventOf(ApplicationEvent event) {
+        if (event instanceof PayloadApplicationEvent<?> payloadEvent
+            && payloadEvent.getPayload() instanceof OrderEvent orderEvent) {
+            return orderEvent;
+        }
+        return null;
+    }
+
+    /**
+     * Lane key of one listener's invocations for one order.
+     */
+    private record ListenerOrderKey(ApplicationListener<?> listener, OrderId orderId) {
+    }
+}
@@ -0,0 +1,193 @@
+package com.company.ordermanagement.events;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Executor that runs tasks on virtual threads, with at most {@code maxConcurrency} of them
+ * running at once and at most {@code queueCapacity} waiting. Tasks that do not fit are
+ * handled according to the configured {@link OverflowPolicy}.
+ *
+ * Tasks are started in submission order. A virtual thread keeps pulling queued work until
+ * the queue is empty, so a busy executor does not create one thread per task.
+ *
+ * A task that submits more work to its own executor is never blocked by the BLOCK policy:
+ * with every worker waiting for queue space nothing would drain the queue, so such tasks
+ * are spilled instead.
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements Executor {
+    private static final ThreadLocal<BoundedVirtualThreadExecutor> currentExecutor = new ThreadLocal<>();
+    private final String name;
+    private final int maxConcurrency;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Semaphore permits;
+    private final BlockingQueue<Runnable> queue;
+    private final Queue<Runnable> spill = new ConcurrentLinkedQueue<>();
+    private final ThreadFactory threadFactory;
+    private final AtomicLong submitted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    public BoundedVirtualThreadExecutor(String name, int maxConcurrency, int queueCapacity, OverflowPolicy overflowPolicy) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("Max concurrency must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        if (overflowPolicy == null) {
+            throw new IllegalArgumentException("Overflow policy cannot be null");
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.permits = new Semaphore(maxConcurrency);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.threadFactory = Thread.ofVirtual().name(name + "-", 0).factory();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new NullPointerException("Task cannot be null");
+        }
+        submitted.incrementAndGet();
+
+        if (spill.isEmpty() && queue.offer(task)) {
+            startWorkers();
+            return;
+        }
+
+        rejected.incrementAndGet();
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                if (isWorkerThread()) {
+                    spill.add(task);
+                } else {
+                    enqueueBlocking(task);
+                }
+                startWorkers();
+            }
+            case CALLER_RUNS -> task.run();
+            case SPILL -> {
+                spill.add(task);
+                startWorkers();
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    public int getQueueDepth() {
+        return queue.size() + spill.size();
+    }
+
+    public int getSpillDepth() {
+        return spill.size();
+    }
+
+    public long getSubmittedCount() {
+        return submitted.get();
+    }
+
+    /**
+     * Number of tasks that found the queue full and were handed to the overflow policy.
+     */
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    /**
+     * @return whether the calling thread is one of this executor's workers
+     */
+    boolean isWorkerThread() {
+        return currentExecutor.get() == this;
+    }
+
+    private void enqueueBlocking(Runnable task) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                queue.put(task);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void startWorkers() {
+        while (hasPendingTasks() && permits.tryAcquire()) {
+            var task = nextTask();
+            if (task == null) {
+                permits.release();
+                continue;
+            }
+            threadFactory.newThread(() -> runWorker(task)).start();
+        }
+    }
+
+    private void runWorker(Runnable firstTask) {
+        var task = firstTask;
+        currentExecutor.set(this);
+        try {
+            while (task != null) {
+                runSafely(task);
+                task = nextTask();
+            }
+        } finally {
+            currentExecutor.remove();
+            permits.release();
+            // Work submitted between the last poll and the release would otherwise sit idle
+            startWorkers();
+        }
+    }
+
+    private void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Throwable e) {
+            log.error("Task failed on executor {}: {}", name, e.getMessage(), e);
+        }
+    }
+
+    private Runnable nextTask() {
+        var task = queue.poll();
+        return task != null ? task : spill.poll();
+    }
+
+    private boolean hasPendingTasks() {
+        return !queue.isEmpty() || !spill.isEmpty();
+    }
+}
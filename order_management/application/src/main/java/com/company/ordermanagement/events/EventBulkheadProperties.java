@@ -0,0 +1,30 @@
+package com.company.ordermanagement.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+/**
+ * Listeners that get their own {@link ListenerBulkhead} instead of sharing the dispatch
+ * executor, keyed by listener id.
+ */
+@ConfigurationProperties(prefix = "order.management.events.bulkheads")
+public record EventBulkheadProperties(Map<String, Bulkhead> listeners) {
+
+    public EventBulkheadProperties {
+        listeners = listeners == null ? Map.of() : Map.copyOf(listeners);
+    }
+
+    /**
+     * @param maxConcurrency invocations of the listener running at once
+     * @param queueCapacity  invocations waiting for the listener before the overflow policy applies
+     * @param overflowPolicy what to do with an invocation once the queue is full
+     */
+    public record Bulkhead(
+        @DefaultValue("2") int maxConcurrency,
+        @DefaultValue("1000") int queueCapacity,
+        @DefaultValue("BLOCK") OverflowPolicy overflowPolicy
+    ) {
+    }
+}
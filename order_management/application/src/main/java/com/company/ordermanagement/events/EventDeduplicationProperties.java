@@ -0,0 +1,19 @@
+package com.company.ordermanagement.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * In-memory deduplication of events in front of every listener.
+ *
+ * @param window                how long a listener remembers an event id; 0 turns deduplication off
+ * @param maxEntriesPerListener event ids remembered per listener before the oldest are forgotten
+ */
+@ConfigurationProperties(prefix = "order.management.events.deduplication")
+public record EventDeduplicationProperties(
+    @DefaultValue("10m") Duration window,
+    @DefaultValue("100000") int maxEntriesPerListener
+) {
+}
@@ -0,0 +1,105 @@
+package com.company.ordermanagement.events;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers for a limited time which events every listener has taken on, so an event that
+ * is delivered again (after an outbox relay retry, for example) is dropped before the
+ * listener runs instead of after a database lookup.
+ *
+ * Each listener has its own window holding at most {@code maxEntriesPerListener} event ids;
+ * the oldest ids are forgotten first once the window is full or they expire. A window of
+ * zero turns deduplication off.
+ */
+public class EventDeduplicator {
+    private final long windowNanos;
+    private final int maxEntriesPerListener;
+    private final LongSupplier nanoClock;
+    private final Map<String, ListenerWindow> windows = new ConcurrentHashMap<>();
+    private final AtomicLong duplicates = new AtomicLong();
+
+    public EventDeduplicator(Duration window, int maxEntriesPerListener) {
+        this(window, maxEntriesPerListener, System::nanoTime);
+    }
+
+    EventDeduplicator(Duration window, int maxEntriesPerListener, LongSupplier nanoClock) {
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("Deduplication window cannot be negative");
+        }
+        if (maxEntriesPerListener <= 0) {
+            throw new IllegalArgumentException("Deduplication capacity must be positive");
+        }
+        this.windowNanos = window.toNanos();
+        this.maxEntriesPerListener = maxEntriesPerListener;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return {@code false} if the listener has already handled, or is handling, the event
+     */
+    public boolean tryClaim(String listenerId, UUID eventId) {
+        if (windowNanos == 0) {
+            return true;
+        }
+        var claimed = windows.computeIfAbsent(listenerId, id -> new ListenerWindow())
+            .claim(eventId, nanoClock.getAsLong());
+        if (!claimed) {
+            duplicates.incrementAndGet();
+        }
+        return claimed;
+    }
+
+    /**
+     * Forgets a claim whose delivery failed, so that a retry of the event is let through.
+     */
+    public void release(String listenerId, UUID eventId) {
+        var window = windows.get(listenerId);
+        if (window != null) {
+            window.expiries.remove(eventId);
+        }
+    }
+
+    public long getDuplicateCount() {
+        return duplicates.get();
+    }
+
+    public int getTrackedEventCount() {
+        return windows.values().stream().mapToInt(window -> window.expiries.size()).sum();
+    }
+
+    private final class ListenerWindow {
+        private final Map<UUID, Long> expiries = new ConcurrentHashMap<>();
+        private final Queue<Claim> claims = new ConcurrentLinkedQueue<>();
+
+        boolean claim(UUID eventId, long now) {
+            evict(now);
+            long expiresAt = now + windowNanos;
+            var existing = expiries.putIfAbsent(eventId, expiresAt);
+            if (existing != null && (existing - now > 0 || !expiries.replace(eventId, existing, expiresAt))) {
+                return false;
+            }
+            claims.add(new Claim(eventId, expiresAt));
+            return true;
+        }
+
+        private void evict(long now) {
+            Claim oldest;
+            while ((oldest = claims.peek()) != null
+                && (oldest.expiresAt() - now <= 0 || expiries.size() >= maxEntriesPerListener)) {
+                if (claims.remove(oldest)) {
+                    expiries.remove(oldest.eventId(), oldest.expiresAt());
+                }
+            }
+        }
+    }
+
+    private record Claim(UUID eventId, long expiresAt) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.company.ordermanagement.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Limits for asynchronous delivery of application events to listeners.
+ *
+ * @param maxConcurrency      listener invocations running at once across all listeners
+ * @param listenerConcurrency invocations of any single listener running at once, order events included
+ * @param queueCapacity       invocations waiting for a free slot before the overflow policy applies
+ * @param overflowPolicy      what to do with an invocation once the queue is full
+ */
+@ConfigurationProperties(prefix = "order.management.events.dispatch")
+public record EventDispatchProperties(
+    @DefaultValue("16") int maxConcurrency,
+    @DefaultValue("4") int listenerConcurrency,
+    @DefaultValue("10000") int queueCapacity,
+    @DefaultValue("BLOCK") OverflowPolicy overflowPolicy
+) {
+    public EventDispatchProperties {
+        if (listenerConcurrency <= 0) {
+            throw new IllegalArgumentException("Listener concurrency must be positive");
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.company.ordermanagement.events;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Retries of asynchronous listener invocations that threw.
+ *
+ * @param maxAttempts    invocations per event and listener, including the first, before it is dead-lettered
+ * @param initialBackoff delay before the first retry
+ * @param maxBackoff     upper bound for the delay between two attempts
+ * @param multiplier     factor applied to the delay after every failed attempt
+ * @param jitter         fraction of the delay that is randomly taken off, so retries of a burst spread out
+ */
+@ConfigurationProperties(prefix = "order.management.events.retry")
+public record EventRetryProperties(
+    @DefaultValue("5") int maxAttempts,
+    @DefaultValue("200ms") Duration initialBackoff,
+    @DefaultValue("30s") Duration maxBackoff,
+    @DefaultValue("2.0") double multiplier,
+    @DefaultValue("0.5") double jitter
+) {
+    public EventRetryProperties {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Max attempts must be positive");
+        }
+        if (initialBackoff.isNegative() || maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException("Backoff must be non-negative and the maximum at least the initial backoff");
+        }
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("Backoff multiplier must be at least 1");
+        }
+        if (jitter < 0.0 || jitter > 1.0) {
+            throw new IllegalArgumentException("Jitter must be between 0 and 1");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.company.ordermanagement.events;
+
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.PayloadApplicationEvent;
+
+/**
+ * A listener invocation that threw.
+ *
+ * @param listenerId listener that failed, see {@link BoundedEventMulticaster#listenerId}
+ * @param attempt    number of the failed attempt, starting at 1
+ */
+public record FailedDelivery(String listenerId, ApplicationEvent event, int attempt, Throwable error) {
+
+    /**
+     * @return the published object, which is the domain event for events raised by aggregates
+     */
+    public Object payload() {
+        return event instanceof PayloadApplicationEvent<?> payloadEvent ? payloadEvent.getPayload() : event;
+    }
+}
@@ -0,0 +1,59 @@
+package com.company.ordermanagement.events;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Starts the deliveries of one key one after another. A delivery is started as soon as no
+ * other delivery of its key is in flight; otherwise it is buffered here until the one in
+ * flight calls {@link #complete}. Nothing waits on a thread, so a delivery that is parked
+ * for a retry holds up only the later deliveries of its own key.
+ *
+ * Starting a delivery should only hand it to an executor; the delivery must call
+ * {@link #complete} with its key exactly once, when it is finally done.
+ */
+class KeyedSequencer {
+    private final Map<Object, Queue<Runnable>> buffered = new ConcurrentHashMap<>();
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+
+    void submit(Object key, Runnable delivery) {
+        var start = new boolean[1];
+        buffered.compute(key, (k, queue) -> {
+            if (queue == null) {
+                start[0] = true;
+                return new ArrayDeque<>();
+            }
+            queue.add(delivery);
+            bufferedCount.incrementAndGet();
+            return queue;
+        });
+        if (start[0]) {
+            delivery.run();
+        }
+    }
+
+    /**
+     * Starts the next buffered delivery of {@code key}, if any.
+     */
+    void complete(Object key) {
+        var next = new Runnable[1];
+        buffered.computeIfPresent(key, (k, queue) -> {
+            next[0] = queue.poll();
+            return next[0] == null ? null : queue;
+        });
+        if (next[0] != null) {
+            bufferedCount.decrementAndGet();
+            next[0].run();
+        }
+    }
+
+    /**
+     * @return deliveries waiting for an earlier delivery of their key, across all keys
+     */
+    int getBufferedCount() {
+        return bufferedCount.get();
+    }
+}
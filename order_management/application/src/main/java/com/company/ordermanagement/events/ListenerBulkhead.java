@@ -0,0 +1,49 @@
+package com.company.ordermanagement.events;
+
+import java.util.List;
+
+/**
+ * Workers reserved for a single listener, so that a slow listener queues up behind itself
+ * instead of behind, or in front of, every other listener.
+ *
+ * The bulkhead is a {@link PartitionedExecutor} with one lane per allowed concurrent
+ * invocation. Events of the same order are keyed to the same lane and still reach the
+ * listener in the order they were raised.
+ */
+public class ListenerBulkhead {
+    private final String listenerId;
+    private final PartitionedExecutor lanes;
+
+    public ListenerBulkhead(String listenerId, int maxConcurrency, int queueCapacity, OverflowPolicy overflowPolicy) {
+        this.listenerId = listenerId;
+        this.lanes = new PartitionedExecutor("bulkhead-" + listenerId, maxConcurrency, queueCapacity, overflowPolicy);
+    }
+
+    public void execute(Object key, Runnable task) {
+        lanes.execute(key, task);
+    }
+
+    public String getListenerId() {
+        return listenerId;
+    }
+
+    public int getMaxConcurrency() {
+        return lanes.getLanes().size();
+    }
+
+    public List<BoundedVirtualThreadExecutor> getLanes() {
+        return lanes.getLanes();
+    }
+
+    public int getActiveCount() {
+        return lanes.getLanes().stream().mapToInt(BoundedVirtualThreadExecutor::getActiveCount).sum();
+    }
+
+    public int getQueueDepth() {
+        return lanes.getLanes().stream().mapToInt(BoundedVirtualThreadExecutor::getQueueDepth).sum();
+    }
+
+    public long getRejectedCount() {
+        return lanes.getLanes().stream().mapToLong(BoundedVirtualThreadExecutor::getRejectedCount).sum();
+    }
+}
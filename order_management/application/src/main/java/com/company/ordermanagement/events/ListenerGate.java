@@ -0,0 +1,89 @@
+package com.company.ordermanagement.events;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admits at most {@code limit} invocations of one listener to the dispatch executor at
+ * once. Invocations over the limit wait here, in arrival order, instead of on a worker of
+ * the executor, so a busy listener cannot hold the workers the other listeners need.
+ *
+ * At most {@code backlogCapacity} invocations wait. Beyond that the caller waits for room
+ * unless the policy is SPILL or the caller is itself a worker of the executor; those are
+ * added anyway, as the executor does with its own queue.
+ */
+class ListenerGate {
+    private final BoundedVirtualThreadExecutor executor;
+    private final int limit;
+    private final int backlogCapacity;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition backlogFreed = lock.newCondition();
+    private final Queue<Runnable> backlog = new ArrayDeque<>();
+    private int running;
+
+    ListenerGate(BoundedVirtualThreadExecutor executor, int limit) {
+        this.executor = executor;
+        this.limit = limit;
+        this.backlogCapacity = executor.getQueueCapacity();
+    }
+
+    void execute(Runnable task) {
+        Runnable admitted = () -> {
+            try {
+                task.run();
+            } finally {
+                release();
+            }
+        };
+        lock.lock();
+        try {
+            while (running >= limit || !backlog.isEmpty()) {
+                if (backlog.size() < backlogCapacity || !mayWait()) {
+                    backlog.add(admitted);
+                    return;
+                }
+                backlogFreed.awaitUninterruptibly();
+            }
+            running++;
+        } finally {
+            lock.unlock();
+        }
+        executor.execute(admitted);
+    }
+
+    int getBacklogDepth() {
+        lock.lock();
+        try {
+            return backlog.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Passes the permit of a finished invocation on to the next waiting one, if any.
+     */
+    private void release() {
+        Runnable next;
+        lock.lock();
+        try {
+            next = backlog.poll();
+            if (next == null) {
+                running--;
+            } else {
+                backlogFreed.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (next != null) {
+            executor.execute(next);
+        }
+    }
+
+    private boolean mayWait() {
+        return executor.getOverflowPolicy() != OverflowPolicy.SPILL && !executor.isWorkerThread();
+    }
+}
@@ -0,0 +1,117 @@
+package com.company.ordermanagement.events;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Reschedules failed listener invocations with exponential backoff and jitter.
+ *
+ * Waiting happens on a single timer thread; the failed invocation gives its worker and
+ * any database connection back straight away, and the retry is handed to the dispatcher
+ * again when its delay has passed. Once {@code maxAttempts} invocations have failed the
+ * delivery is passed to the exhausted handler, which stores it as a dead letter.
+ *
+ * Retries still waiting when the application shuts down are dropped and logged.
+ */
+@Slf4j
+public class ListenerRetryScheduler implements Closeable {
+    private final ScheduledThreadPoolExecutor timer;
+    private final int maxAttempts;
+    private final long initialBackoffMillis;
+    private final long maxBackoffMillis;
+    private final double multiplier;
+    private final double jitter;
+    private final Consumer<FailedDelivery> exhaustedHandler;
+    private final AtomicLong scheduledRetries = new AtomicLong();
+    private final AtomicLong exhaustedDeliveries = new AtomicLong();
+
+    public ListenerRetryScheduler(EventRetryProperties properties, Consumer<FailedDelivery> exhaustedHandler) {
+        this.maxAttempts = properties.maxAttempts();
+        this.initialBackoffMillis = properties.initialBackoff().toMillis();
+        this.maxBackoffMillis = properties.maxBackoff().toMillis();
+        this.multiplier = properties.multiplier();
+        this.jitter = properties.jitter();
+        this.exhaustedHandler = exhaustedHandler;
+        this.timer = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("event-retry-timer").daemon().factory());
+        this.timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Schedules {@code retry} for the next attempt, or hands the delivery to the exhausted
+     * handler if it has no attempts left.
+     *
+     * @return {@code true} if the retry was scheduled, {@code false} if the delivery was given up
+     */
+    public boolean onFailure(FailedDelivery failure, Runnable retry) {
+        if (failure.attempt() >= maxAttempts) {
+            exhaust(failure);
+            return false;
+        }
+        var delay = backoff(failure.attempt());
+        log.warn("Listener {} failed on attempt {}/{} for {}, retrying in {}ms: {}",
+            failure.listenerId(), failure.attempt(), maxAttempts, failure.payload().getClass().getSimpleName(),
+            delay.toMillis(), failure.error().toString());
+        try {
+            timer.schedule(retry, delay.toMillis(), TimeUnit.MILLISECONDS);
+            scheduledRetries.incrementAndGet();
+            return true;
+        } catch (RejectedExecutionException e) {
+            exhaust(failure);
+            return false;
+        }
+    }
+
+    /**
+     * @param attempt number of the attempt that failed, starting at 1
+     */
+    Duration backoff(int attempt) {
+        double exponential = initialBackoffMillis * Math.pow(multiplier, attempt - 1);
+        double capped = Math.min(exponential, maxBackoffMillis);
+        double jittered = capped * (1.0 - jitter * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofMillis(Math.round(jittered));
+    }
+
+    public int getPendingRetries() {
+        return timer.getQueue().size();
+    }
+
+    public long getScheduledRetries() {
+        return scheduledRetries.get();
+    }
+
+    public long getExhaustedDeliveries() {
+        return exhaustedDeliveries.get();
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    @Override
+    public void close() {
+        var dropped = timer.shutdownNow();
+        if (!dropped.isEmpty()) {
+            log.warn("Dropped {} pending listener retries on shutdown", dropped.size());
+        }
+    }
+
+    private void exhaust(FailedDelivery failure) {
+        exhaustedDeliveries.incrementAndGet();
+        log.error("Listener {} failed {} times for {}, giving up: {}",
+            failure.listenerId(), failure.attempt(), failure.payload().getClass().getSimpleName(),
+            failure.error().toString(), failure.error());
+        try {
+            exhaustedHandler.accept(failure);
+        } catch (RuntimeException e) {
+            log.error("Failed to dead-letter event for listener {}: {}", failure.listenerId(), e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.company.ordermanagement.events;
+
+/**
+ * What a {@link BoundedVirtualThreadExecutor} does with a task when its queue is full.
+ */
+public enum OverflowPolicy {
+    /** Park the publishing thread until the queue has room again. */
+    BLOCK,
+    /** Run the task on the publishing thread. */
+    CALLER_RUNS,
+    /** Append the task to an unbounded overflow list that is drained after the queue. */
+    SPILL
+}
@@ -0,0 +1,54 @@
+package com.company.ordermanagement.events;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Fixed set of single-worker lanes. Tasks submitted with the same key always land in the
+ * same lane and therefore run one after another in submission order, while tasks with
+ * different keys run in parallel across lanes.
+ *
+ * CALLER_RUNS would let a later task overtake earlier ones waiting in the lane, so lanes
+ * fall back to BLOCK when it is configured.
+ */
+public class PartitionedExecutor {
+    private final String name;
+    private final List<BoundedVirtualThreadExecutor> lanes;
+
+    public PartitionedExecutor(String name, int partitions, int queueCapacity, OverflowPolicy overflowPolicy) {
+        if (partitions <= 0) {
+            throw new IllegalArgumentException("Partition count must be positive");
+        }
+        if (queueCapacity <= 0) {
+            throw new IllegalArgumentException("Queue capacity must be positive");
+        }
+        var lanePolicy = overflowPolicy == OverflowPolicy.CALLER_RUNS ? OverflowPolicy.BLOCK : overflowPolicy;
+        var laneCapacity = Math.max(1, queueCapacity / partitions);
+        var created = new ArrayList<BoundedVirtualThreadExecutor>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            created.add(new BoundedVirtualThreadExecutor(name + "-" + i, 1, laneCapacity, lanePolicy));
+        }
+        this.name = name;
+        this.lanes = Collections.unmodifiableList(created);
+    }
+
+    public void execute(Object key, Runnable task) {
+        if (key == null) {
+            throw new IllegalArgumentException("Partition key cannot be null");
+        }
+        laneFor(key).execute(task);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<BoundedVirtualThreadExecutor> getLanes() {
+        return lanes;
+    }
+
+    BoundedVirtualThreadExecutor laneFor(Object key) {
+        return lanes.get(Math.floorMod(key.hashCode(), lanes.size()));
+    }
+}
@@ -0,0 +1,50 @@
+package com.company.ordermanagement.journal;
+
+import com.company.sharedkernel.DomainEvent;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Read access to the event journal for incident investigation, e.g.
+ * {@code GET /actuator/eventjournal?from=2025-01-31T10:15:00Z&limit=200}.
+ *
+ * Not exposed over HTTP by default, since entries carry whole events with customer
+ * details. Add it to {@code management.endpoints.web.exposure.include} together with a
+ * separate {@code management.server.port} that only operators can reach.
+ */
+@Endpoint(id = "eventjournal")
+public class EventJournalEndpoint {
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int MAX_LIMIT = 1000;
+
+    private final MappedEventJournal journal;
+
+    public EventJournalEndpoint(MappedEventJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * @param fromOffset first offset to return; takes precedence over {@code from}
+     * @param from       earliest append time to return
+     * @param limit      maximum number of entries, at most {@value #MAX_LIMIT}
+     */
+    @ReadOperation
+    public List<JournalEntryView> entries(@Nullable Long fromOffset, @Nullable Instant from, @Nullable Integer limit) {
+        int maxEntries = Math.clamp(limit != null ? limit : DEFAULT_LIMIT, 1, MAX_LIMIT);
+        try (var entries = fromOffset != null || from == null
+            ? journal.replayFrom(fromOffset != null ? fromOffset : 0L)
+            : journal.replayFrom(from)) {
+            return entries.limit(maxEntries).map(JournalEntryView::of).toList();
+        }
+    }
+
+    public record JournalEntryView(long offset, Instant appendedAt, String eventType, DomainEvent event) {
+        static JournalEntryView of(JournalEntry entry) {
+            return new JournalEntryView(entry.offset(), entry.appendedAt(), entry.event().eventType(), entry.event());
+        }
+    }
+}
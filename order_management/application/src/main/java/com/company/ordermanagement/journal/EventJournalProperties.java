@@ -0,0 +1,44 @@
+package com.company.ordermanagement.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Settings for the memory-mapped domain event journal.
+ *
+ * @param enabled       journal committed domain events
+ * @param directory     where segment and index files are kept
+ * @param segmentSize   size of each segment file; a new segment is started once it is full
+ * @param indexInterval bytes of records between two entries of a segment's sparse index
+ * @param flushInterval how often written pages are forced to disk
+ * @param retention     how long events are kept; whole segments are deleted once their last event is older
+ * @param retentionSize how much disk the journal may take before its oldest segments are deleted
+ * @param retentionCheckInterval how often segments are checked against the retention limits
+ */
+@ConfigurationProperties(prefix = "order.management.events.journal")
+public record EventJournalProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("data/journal") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("4KB") DataSize indexInterval,
+    @DefaultValue("1s") Duration flushInterval,
+    @DefaultValue("7d") Duration retention,
+    @DefaultValue("10GB") DataSize retentionSize,
+    @DefaultValue("5m") Duration retentionCheckInterval
+) {
+    public EventJournalProperties {
+        if (segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Journal segment size must be below 2GB");
+        }
+        if (indexInterval.toBytes() <= 0 || indexInterval.toBytes() > segmentSize.toBytes()) {
+            throw new IllegalArgumentException("Journal index interval must be positive and at most the segment size");
+        }
+        if (retention.isNegative() || retentionSize.isNegative()) {
+            throw new IllegalArgumentException("Journal retention cannot be negative");
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.company.ordermanagement.journal;
+
+import com.company.sharedkernel.DomainEvent;
+
+import java.time.Instant;
+
+/**
+ * @param offset     position of the event in the journal, starting at 0 and increasing by one per event
+ * @param appendedAt when the event was journaled; never earlier than the entry before it
+ */
+public record JournalEntry(long offset, Instant appendedAt, DomainEvent event) {
+}
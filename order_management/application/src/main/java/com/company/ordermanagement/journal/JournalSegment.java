@@ -0,0 +1,277 @@
+package com.company.ordermanagement.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * One file of the event journal together with its sparse index, both memory-mapped.
+ *
+ * Records are laid out as {@code [length:int][offset:long][timestamp:long][crc:int][payload]}.
+ * The length is written last, so a record torn by a crash is recognised on recovery by a
+ * missing length, an unexpected offset or a checksum mismatch, and is dropped together with
+ * everything after it.
+ *
+ * The index holds a count followed by {@code [offset:long][position:int][timestamp:long]}
+ * entries, one for the first record and then one whenever at least {@code indexInterval}
+ * bytes have been written since the previous entry. Lookups binary-search the index and
+ * scan forward from the entry found.
+ *
+ * A single thread appends; any number of threads may read. Readers only look at bytes
+ * below {@link #writePosition()}, which is published after a record is complete.
+ */
+final class JournalSegment implements Closeable {
+    static final int RECORD_HEADER_BYTES = Integer.BYTES + Long.BYTES + Long.BYTES + Integer.BYTES;
+    private static final int INDEX_HEADER_BYTES = Integer.BYTES;
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES;
+
+    private final long baseOffset;
+    private final int indexInterval;
+    private final Path logPath;
+    private final Path indexPath;
+    private final FileChannel logChannel;
+    private final FileChannel indexChannel;
+    private final MappedByteBuffer log;
+    private final MappedByteBuffer index;
+    private final int capacity;
+    private final int indexCapacity;
+
+    private volatile int writePosition;
+    private volatile int indexEntries;
+    private long nextOffset;
+    private long lastTimestamp;
+    private int lastIndexedPosition;
+
+    private JournalSegment(Path directory, long baseOffset, int segmentSize, int indexInterval) throws IOException {
+        this.baseOffset = baseOffset;
+        this.indexInterval = indexInterval;
+        this.logPath = directory.resolve(fileName(baseOffset, ".log"));
+        this.indexPath = directory.resolve(fileName(baseOffset, ".index"));
+        this.capacity = (int) Math.max(segmentSize, Files.exists(logPath) ? Files.size(logPath) : 0);
+        this.indexCapacity = INDEX_HEADER_BYTES + (capacity / indexInterval + 2) * INDEX_ENTRY_BYTES;
+        this.logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.indexChannel = FileChannel.open(indexPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.log = logChannel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        this.index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexCapacity);
+        recover();
+    }
+
+    static JournalSegment open(Path directory, long baseOffset, int segmentSize, int indexInterval) throws IOException {
+        return new JournalSegment(directory, baseOffset, segmentSize, indexInterval);
+    }
+
+    static String fileName(long baseOffset, String suffix) {
+        return String.format("%020d%s", baseOffset, suffix);
+    }
+
+    /**
+     * @return {@code false} if the record does not fit into the remaining space
+     */
+    boolean append(long timestamp, byte[] payload) {
+        int position = writePosition;
+        int end = position + RECORD_HEADER_BYTES + payload.length;
+        if (end > capacity) {
+            return false;
+        }
+        var crc = new CRC32();
+        crc.update(payload);
+
+        log.putLong(position + Integer.BYTES, nextOffset);
+        log.putLong(position + Integer.BYTES + Long.BYTES, timestamp);
+        log.putInt(position + Integer.BYTES + 2 * Long.BYTES, (int) crc.getValue());
+        log.put(position + RECORD_HEADER_BYTES, payload);
+        if (end + Integer.BYTES <= capacity) {
+            log.putInt(end, 0);
+        }
+        log.putInt(position, payload.length);
+
+        if (position == 0 || position - lastIndexedPosition >= indexInterval) {
+            addIndexEntry(nextOffset, position, timestamp);
+        }
+        nextOffset++;
+        lastTimestamp = timestamp;
+        writePosition = end;
+        return true;
+    }
+
+    /**
+     * @return position of the last indexed record at or before {@code offset}
+     */
+    int floorPositionForOffset(long offset) {
+        int low = 0;
+        int high = indexEntries - 1;
+        int found = 0;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexOffset(mid) <= offset) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return indexEntries == 0 ? 0 : indexPosition(found);
+    }
+
+    /**
+     * @return position of the last indexed record written before {@code timestamp}
+     */
+    int floorPositionForTimestamp(long timestamp) {
+        int low = 0;
+        int high = indexEntries - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (indexTimestamp(mid) < timestamp) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found < 0 ? 0 : indexPosition(found);
+    }
+
+    long recordOffset(int position) {
+        return log.getLong(position + Integer.BYTES);
+    }
+
+    long recordTimestamp(int position) {
+        return log.getLong(position + Integer.BYTES + Long.BYTES);
+    }
+
+    byte[] recordPayload(int position) {
+        var payload = new byte[log.getInt(position)];
+        log.get(position + RECORD_HEADER_BYTES, payload);
+        return payload;
+    }
+
+    int nextRecordPosition(int position) {
+        return position + RECORD_HEADER_BYTES + log.getInt(position);
+    }
+
+    long firstTimestamp() {
+        return indexEntries == 0 ? Long.MAX_VALUE : indexTimestamp(0);
+    }
+
+    long baseOffset() {
+        return baseOffset;
+    }
+
+    long nextOffset() {
+        return nextOffset;
+    }
+
+    long lastTimestamp() {
+        return lastTimestamp;
+    }
+
+    int writePosition() {
+        return writePosition;
+    }
+
+    /**
+     * @return bytes the segment takes on disk, which is its full mapped size from the start
+     */
+    long sizeInBytes() {
+        return (long) capacity + indexCapacity;
+    }
+
+    void flush() {
+        log.force();
+        index.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        logChannel.close();
+        indexChannel.close();
+    }
+
+    /**
+     * Closes the segment and removes its files. Readers that still hold the segment keep
+     * reading the mapped pages until they let go of it.
+     */
+    void delete() throws IOException {
+        close();
+        Files.deleteIfExists(logPath);
+        Files.deleteIfExists(indexPath);
+    }
+
+    private void addIndexEntry(long offset, int position, long timestamp) {
+        int entries = indexEntries;
+        int entryPosition = INDEX_HEADER_BYTES + entries * INDEX_ENTRY_BYTES;
+        if (entryPosition + INDEX_ENTRY_BYTES > indexCapacity) {
+            return;
+        }
+        index.putLong(entryPosition, offset);
+        index.putInt(entryPosition + Long.BYTES, position);
+        index.putLong(entryPosition + Long.BYTES + Integer.BYTES, timestamp);
+        index.putInt(0, entries + 1);
+        lastIndexedPosition = position;
+        indexEntries = entries + 1;
+    }
+
+    private long indexOffset(int entry) {
+        return index.getLong(INDEX_HEADER_BYTES + entry * INDEX_ENTRY_BYTES);
+    }
+
+    private int indexPosition(int entry) {
+        return index.getInt(INDEX_HEADER_BYTES + entry * INDEX_ENTRY_BYTES + Long.BYTES);
+    }
+
+    private long indexTimestamp(int entry) {
+        return index.getLong(INDEX_HEADER_BYTES + entry * INDEX_ENTRY_BYTES + Long.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Trusts index entries that point at valid records, then scans forward from the last
+     * of them to find the end of the log.
+     */
+    private void recover() {
+        int storedEntries = Math.clamp(index.getInt(0), 0, (indexCapacity - INDEX_HEADER_BYTES) / INDEX_ENTRY_BYTES);
+        int validEntries = 0;
+        while (validEntries < storedEntries && isValidRecord(indexPosition(validEntries), indexOffset(validEntries))) {
+            validEntries++;
+        }
+        indexEntries = validEntries;
+        index.putInt(0, validEntries);
+
+        int position = 0;
+        long offset = baseOffset;
+        if (validEntries > 0) {
+            position = indexPosition(validEntries - 1);
+            offset = indexOffset(validEntries - 1);
+            lastIndexedPosition = position;
+        }
+        while (isValidRecord(position, offset)) {
+            lastTimestamp = recordTimestamp(position);
+            position = nextRecordPosition(position);
+            offset++;
+        }
+        nextOffset = offset;
+        writePosition = position;
+    }
+
+    private boolean isValidRecord(int position, long expectedOffset) {
+        if (position < 0 || position + RECORD_HEADER_BYTES > capacity) {
+            return false;
+        }
+        int length = log.getInt(position);
+        if (length <= 0 || length > capacity - position - RECORD_HEADER_BYTES) {
+            return false;
+        }
+        if (recordOffset(position) != expectedOffset) {
+            return false;
+        }
+        var crc = new CRC32();
+        crc.update(log.slice(position + RECORD_HEADER_BYTES, length));
+        return (int) crc.getValue() == log.getInt(position + Integer.BYTES + 2 * Long.BYTES);
+    }
+}
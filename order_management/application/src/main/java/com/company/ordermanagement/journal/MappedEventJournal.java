@@ -0,0 +1,284 @@
+package com.company.ordermanagement.journal;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.DomainEventJournal;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Append-only journal of committed domain events in rolling memory-mapped segment files.
+ *
+ * Events are stored in their {@link DomainEventCodec} form under consecutive offsets and
+ * with a non-decreasing append timestamp. Each segment keeps a sparse index, so a replay
+ * from any offset or point in time starts with a binary search and a short scan, then
+ * reads records sequentially straight from the mapped files.
+ *
+ * Appends are serialised; replays may run concurrently with them and see the events that
+ * were journaled when the replay started.
+ *
+ * Full segments are deleted once their last event is older than {@code retention}, and the
+ * oldest ones also while the journal takes more than {@code retentionSize} bytes. The
+ * segment being written is always kept, so the journal never loses its next offset. A
+ * replay that started before a deletion still reads the deleted segment to the end.
+ */
+@Slf4j
+public class MappedEventJournal implements DomainEventJournal, Closeable {
+    private final Path directory;
+    private final int segmentSize;
+    private final int indexInterval;
+    private final DomainEventCodec codec;
+    private final Clock clock;
+    private final Duration retention;
+    private final long retentionSize;
+    private final List<JournalSegment> segments = new CopyOnWriteArrayList<>();
+
+    private volatile long nextOffset;
+    private JournalSegment active;
+
+    public MappedEventJournal(Path directory, int segmentSize, int indexInterval, DomainEventCodec codec, Clock clock)
+        throws IOException {
+        this(directory, segmentSize, indexInterval, codec, clock, Duration.ZERO, 0);
+    }
+
+    /**
+     * @param retention     age after which a full segment is deleted; zero keeps segments regardless of age
+     * @param retentionSize bytes above which the oldest full segments are deleted; zero keeps them regardless of size
+     */
+    public MappedEventJournal(
+        Path directory,
+        int segmentSize,
+        int indexInterval,
+        DomainEventCodec codec,
+        Clock clock,
+        Duration retention,
+        long retentionSize
+    ) throws IOException {
+        if (segmentSize <= JournalSegment.RECORD_HEADER_BYTES) {
+            throw new IllegalArgumentException("Journal segment size is too small: " + segmentSize);
+        }
+        if (indexInterval <= 0) {
+            throw new IllegalArgumentException("Journal index interval must be positive");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.indexInterval = indexInterval;
+        this.codec = codec;
+        this.clock = clock;
+        this.retention = retention;
+        this.retentionSize = retentionSize;
+        openSegments();
+    }
+
+    @Override
+    public synchronized void appendAll(List<? extends DomainEvent> events) {
+        events.forEach(this::append);
+    }
+
+    /**
+     * @return offset assigned to the event
+     */
+    public synchronized long append(DomainEvent event) {
+        var payload = codec.encode(event);
+        if (JournalSegment.RECORD_HEADER_BYTES + payload.length > segmentSize) {
+            throw new IllegalArgumentException(
+                "Event " + event.eventType() + " of " + payload.length + " bytes does not fit into a journal segment");
+        }
+        long timestamp = Math.max(clock.millis(), active.lastTimestamp());
+        if (!active.append(timestamp, payload)) {
+            roll();
+            active.append(timestamp, payload);
+        }
+        return nextOffset++;
+    }
+
+    /**
+     * Streams the events from {@code offset} on; offsets before the start of the journal
+     * begin with its first event.
+     */
+    public Stream<JournalEntry> replayFrom(long offset) {
+        var snapshot = List.copyOf(segments);
+        int segment = 0;
+        while (segment + 1 < snapshot.size() && snapshot.get(segment + 1).baseOffset() <= offset) {
+            segment++;
+        }
+        var start = snapshot.get(segment);
+        return replay(snapshot, segment, start.floorPositionForOffset(offset), entry -> entry.offset() >= offset);
+    }
+
+    /**
+     * Streams the events journaled at or after {@code timestamp}.
+     */
+    public Stream<JournalEntry> replayFrom(Instant timestamp) {
+        long millis = timestamp.toEpochMilli();
+        var snapshot = List.copyOf(segments);
+        int segment = 0;
+        while (segment + 1 < snapshot.size() && snapshot.get(segment + 1).firstTimestamp() < millis) {
+            segment++;
+        }
+        var start = snapshot.get(segment);
+        return replay(snapshot, segment, start.floorPositionForTimestamp(millis),
+            entry -> entry.appendedAt().toEpochMilli() >= millis);
+    }
+
+    /**
+     * @return offset the next journaled event will get
+     */
+    public long nextOffset() {
+        return nextOffset;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public long sizeInBytes() {
+        return segments.stream().mapToLong(JournalSegment::sizeInBytes).sum();
+    }
+
+    /**
+     * Deletes the full segments that are past the retention age or beyond the retention size,
+     * oldest first.
+     *
+     * @return the number of segments deleted
+     */
+    @Scheduled(fixedDelayString = "${order.management.events.journal.retention-check-interval:5m}")
+    public synchronized int deleteExpiredSegments() {
+        long expiredBefore = retention.isZero() ? Long.MIN_VALUE : clock.millis() - retention.toMillis();
+        long size = sizeInBytes();
+        int deleted = 0;
+        while (segments.size() > 1) {
+            var oldest = segments.getFirst();
+            boolean expired = oldest.lastTimestamp() < expiredBefore;
+            boolean oversized = retentionSize > 0 && size > retentionSize;
+            if (!expired && !oversized) {
+                break;
+            }
+            segments.removeFirst();
+            size -= oldest.sizeInBytes();
+            try {
+                oldest.delete();
+            } catch (IOException e) {
+                log.warn("Failed to delete journal segment {} in {}: {}",
+                    JournalSegment.fileName(oldest.baseOffset(), ".log"), directory, e.getMessage());
+            }
+            deleted++;
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} journal segments in {}, journal now starts at offset {}",
+                deleted, directory, segments.getFirst().baseOffset());
+        }
+        return deleted;
+    }
+
+    @Scheduled(fixedDelayString = "${order.management.events.journal.flush-interval:1s}")
+    public synchronized void flush() {
+        active.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (var segment : segments) {
+            segment.close();
+        }
+    }
+
+    private Stream<JournalEntry> replay(
+        List<JournalSegment> snapshot,
+        int firstSegment,
+        int firstPosition,
+        Predicate<JournalEntry> startsAt
+    ) {
+        long endOffset = nextOffset;
+        var spliterator = new Spliterators.AbstractSpliterator<JournalEntry>(
+            Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.DISTINCT
+        ) {
+            private int segmentIndex = firstSegment;
+            private int position = firstPosition;
+            private boolean started;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super JournalEntry> action) {
+                while (segmentIndex < snapshot.size()) {
+                    var segment = snapshot.get(segmentIndex);
+                    if (position >= segment.writePosition()) {
+                        segmentIndex++;
+                        position = 0;
+                        continue;
+                    }
+                    long offset = segment.recordOffset(position);
+                    if (offset >= endOffset) {
+                        return false;
+                    }
+                    int recordPosition = position;
+                    position = segment.nextRecordPosition(position);
+                    var entry = new JournalEntry(
+                        offset,
+                        Instant.ofEpochMilli(segment.recordTimestamp(recordPosition)),
+                        codec.decode(segment.recordPayload(recordPosition))
+                    );
+                    if (started || startsAt.test(entry)) {
+                        started = true;
+                        action.accept(entry);
+                        return true;
+                    }
+                }
+                return false;
+            }
+        };
+        return StreamSupport.stream(spliterator, false);
+    }
+
+    private void roll() {
+        active.flush();
+        active = openSegment(nextOffset);
+        segments.add(active);
+        log.info("Started journal segment {} in {}", JournalSegment.fileName(nextOffset, ".log"), directory);
+    }
+
+    private void openSegments() throws IOException {
+        List<Long> baseOffsets = new ArrayList<>();
+        try (var files = Files.list(directory)) {
+            files.map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(".log"))
+                .map(name -> Long.parseLong(name.substring(0, name.length() - ".log".length())))
+                .sorted()
+                .forEach(baseOffsets::add);
+        }
+        if (baseOffsets.isEmpty()) {
+            baseOffsets.add(0L);
+        }
+        for (long baseOffset : baseOffsets) {
+            segments.add(openSegment(baseOffset));
+        }
+        active = segments.getLast();
+        nextOffset = active.nextOffset();
+        log.info("Opened event journal in {} with {} segments, next offset {}", directory, segments.size(), nextOffset);
+    }
+
+    private JournalSegment openSegment(long baseOffset) {
+        try {
+            return JournalSegment.open(directory, baseOffset, segmentSize, indexInterval);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open journal segment " + baseOffset + " in " + directory, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.company.ordermanagement.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "job_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobLockJpaEntity {
+    
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+    
+    @Column(name = "locked_until", nullable = false)
+    private Instant lockedUntil;
+    
+    @Column(name = "locked_by", nullable = false, length = 100)
+    private String lockedBy;
+}
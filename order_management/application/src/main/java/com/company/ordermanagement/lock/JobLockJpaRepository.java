@@ -0,0 +1,32 @@
+package com.company.ordermanagement.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+
+@Repository
+public interface JobLockJpaRepository extends JpaRepository<JobLockJpaEntity, String> {
+    
+    /**
+     * Takes the lock if its lease has run out, or extends it if {@code owner} holds it.
+     */
+    @Modifying
+    @Query("UPDATE JobLockJpaEntity l SET l.lockedUntil = :lockedUntil, l.lockedBy = :owner " +
+           "WHERE l.name = :name AND (l.lockedUntil <= :now OR l.lockedBy = :owner)")
+    int acquire(String name, String owner, Instant now, Instant lockedUntil);
+    
+    /**
+     * Creates a lock that was never taken before. Fails if another instance created it first.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO job_locks (name, locked_until, locked_by) VALUES (:name, :lockedUntil, :owner)",
+           nativeQuery = true)
+    void create(String name, String owner, Instant lockedUntil);
+    
+    @Modifying
+    @Query("UPDATE JobLockJpaEntity l SET l.lockedUntil = :now WHERE l.name = :name AND l.lockedBy = :owner")
+    int release(String name, String owner, Instant now);
+}
@@ -0,0 +1,56 @@
+package com.company.ordermanagement.lock;
+
+import com.company.sharedkernel.ClusterLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Cluster lock kept in the {@code job_locks} table. Every change runs in a transaction of
+ * its own, so a lock is visible to the other instances as soon as it is taken, whatever
+ * the caller does afterwards. Leases are measured by the clocks of the instances, which
+ * are assumed to agree to well within a lease.
+ */
+@Component
+@Slf4j
+public class JpaClusterLock implements ClusterLock {
+    private final JobLockJpaRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final String owner = UUID.randomUUID().toString();
+    
+    public JpaClusterLock(JobLockJpaRepository repository, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+    
+    @Override
+    public boolean tryLock(String name, Duration leaseTime) {
+        var now = Instant.now();
+        var lockedUntil = now.plus(leaseTime);
+        var acquired = transactionTemplate.execute(status -> repository.acquire(name, owner, now, lockedUntil) == 1);
+        if (Boolean.TRUE.equals(acquired)) {
+            return true;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> repository.create(name, owner, lockedUntil));
+            log.debug("Created cluster lock {}", name);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            // Held by another instance, or created by one just now
+            return false;
+        }
+    }
+    
+    @Override
+    public void unlock(String name) {
+        transactionTemplate.executeWithoutResult(status -> repository.release(name, owner, Instant.now()));
+    }
+}
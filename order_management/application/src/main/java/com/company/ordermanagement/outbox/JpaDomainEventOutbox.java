@@ -0,0 +1,48 @@
+package com.company.ordermanagement.outbox;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.DomainEventOutbox;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "order.management.events.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaDomainEventOutbox implements DomainEventOutbox {
+    private final OutboxEventJpaRepository outboxRepository;
+    private final DomainEventCodec codec;
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DomainEvent event) {
+        outboxRepository.save(toEntity(event, Instant.now()));
+    }
+    
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void appendAll(List<? extends DomainEvent> events) {
+        var createdAt = Instant.now();
+        outboxRepository.saveAll(events.stream()
+            .map(event -> toEntity(event, createdAt))
+            .toList());
+    }
+    
+    private OutboxEventJpaEntity toEntity(DomainEvent event, Instant createdAt) {
+        return new OutboxEventJpaEntity(
+            null,
+            event.eventType(),
+            null,
+            codec.encode(event),
+            event.occurredOn(),
+            createdAt,
+            null
+        );
+    }
+}
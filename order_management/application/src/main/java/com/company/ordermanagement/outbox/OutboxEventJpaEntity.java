@@ -0,0 +1,47 @@
+package com.company.ordermanagement.outbox;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "event_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEventJpaEntity {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_outbox_seq")
+    @SequenceGenerator(name = "event_outbox_seq", sequenceName = "event_outbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+    
+    /**
+     * JSON payload of events stored before the binary codec was introduced.
+     */
+    @Column(name = "payload", columnDefinition = "TEXT")
+    private String payload;
+    
+    @Column(name = "encoded_payload")
+    private byte[] encodedPayload;
+    
+    @Column(name = "occurred_on", nullable = false)
+    private Instant occurredOn;
+    
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+    
+    /**
+     * When the event was last handed to the listeners; {@code null} until then.
+     */
+    @Column(name = "dispatched_at")
+    private Instant dispatchedAt;
+}
@@ -0,0 +1,32 @@
+package com.company.ordermanagement.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+    
+    /**
+     * Locks the oldest events that have not been dispatched yet, or were dispatched before
+     * {@code redeliverBefore} and never acknowledged. Rows locked by a relay that is still
+     * finishing its run after losing the relay lock are skipped rather than waited for.
+     */
+    @Query(value = """
+        SELECT * FROM event_outbox
+        WHERE dispatched_at IS NULL OR dispatched_at < :redeliverBefore
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxEventJpaEntity> lockNextBatch(Instant redeliverBefore, int limit);
+    
+    @Modifying
+    @Query("UPDATE OutboxEventJpaEntity e SET e.dispatchedAt = :dispatchedAt WHERE e.id IN :ids")
+    int markDispatched(Collection<Long> ids, Instant dispatchedAt);
+}
@@ -0,0 +1,124 @@
+package com.company.ordermanagement.outbox;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.CustomerOrderPlaced;
+import com.company.sharedkernel.events.CustomerOrderStatusUpdated;
+import com.company.sharedkernel.events.ManufacturingOrderCompleted;
+import com.company.sharedkernel.events.ManufacturingOrderCreated;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Currency;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Converts domain events to and from the JSON payload stored in the outbox.
+ * Events are identified by {@link DomainEvent#eventType()} rather than by class name,
+ * so moving an event class does not strand rows that are still waiting for delivery.
+ * Payloads written before events had ids get one derived from the payload text.
+ */
+@Component
+public class OutboxEventSerializer {
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Stream.of(
+            CustomerOrderPlaced.class,
+            CustomerOrderStatusUpdated.class,
+            CustomerOrderCancelled.class,
+            ManufacturingOrderCreated.class,
+            ManufacturingOrderStatusChanged.class,
+            ManufacturingOrderCompleted.class
+        )
+        .collect(Collectors.toUnmodifiableMap(OutboxEventSerializer::typeName, type -> type));
+
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().registerModule(sharedKernelModule());
+    }
+
+    public String serialize(DomainEvent event) {
+        if (!EVENT_TYPES.containsKey(event.eventType())) {
+            throw new IllegalArgumentException("Unsupported event type: " + event.eventType());
+        }
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize event " + event.eventType(), e);
+        }
+    }
+
+    public DomainEvent deserialize(String eventType, String payload) {
+        var type = EVENT_TYPES.get(eventType);
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported event type: " + eventType);
+        }
+        try {
+            var node = objectMapper.reader(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS).readTree(payload);
+            if (!(node instanceof ObjectNode tree)) {
+                throw new IllegalStateException("Payload of event " + eventType + " is not a JSON object");
+            }
+            if (!tree.hasNonNull("eventId")) {
+                tree.put("eventId", UUID.nameUUIDFromBytes(payload.getBytes(StandardCharsets.UTF_8)).toString());
+            }
+            return objectMapper.treeToValue(tree, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to deserialize event " + eventType, e);
+        }
+    }
+
+    private static String typeName(Class<? extends DomainEvent> type) {
+        return type.getSimpleName();
+    }
+
+    private static SimpleModule sharedKernelModule() {
+        var module = new SimpleModule("SharedKernelOutboxModule");
+        module.addSerializer(OrderId.class, ToStringSerializer.instance);
+        module.addDeserializer(OrderId.class, new JsonDeserializer<>() {
+            @Override
+            public OrderId deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                return OrderId.of(parser.getValueAsString());
+            }
+        });
+        module.addSerializer(Money.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                generator.writeStartObject();
+                generator.writeStringField("amount", money.getAmount().toPlainString());
+                generator.writeStringField("currency", money.getCurrency().getCurrencyCode());
+                generator.writeEndObject();
+            }
+        });
+        module.addDeserializer(Money.class, new JsonDeserializer<>() {
+            @Override
+            public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                JsonNode node = parser.readValueAsTree();
+                return Money.of(
+                    new BigDecimal(node.get("amount").asText()),
+                    Currency.getInstance(node.get("currency").asText())
+                );
+            }
+        });
+        return module;
+    }
+}
@@ -0,0 +1,33 @@
+package com.company.ordermanagement.outbox;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the transactional event outbox.
+ *
+ * @param enabled         store events in the outbox instead of publishing them directly
+ * @param batchSize       events locked and dispatched per relay transaction
+ * @param pollInterval    pause between relay runs once the outbox has been drained
+ * @param redeliverAfter  how long a dispatched event may stay unacknowledged before it is
+ *                        dispatched again; longer than a delivery takes with all its retries
+ * @param lockLease       how long the relaying instance holds the relay lock before it has
+ *                        to extend it; another instance takes over at most one lease after
+ *                        the relaying one stops
+ */
+@ConfigurationProperties(prefix = "order.management.events.outbox")
+public record OutboxProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("500") int batchSize,
+    @DefaultValue("100ms") Duration pollInterval,
+    @DefaultValue("10m") Duration redeliverAfter,
+    @DefaultValue("30s") Duration lockLease
+) {
+    public OutboxProperties {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Outbox batch size must be positive");
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.company.ordermanagement.outbox;
+
+import com.company.ordermanagement.events.BoundedEventMulticaster;
+import com.company.sharedkernel.ClusterLock;
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Delivers events stored by {@link JpaDomainEventOutbox} to application listeners.
+ *
+ * Each run locks a batch of the oldest undispatched events, marks them dispatched and
+ * commits, then multicasts them in id order, repeating while full batches keep coming
+ * back. A row is deleted only once every listener has handled its event or had the
+ * delivery dead-lettered; the deletes of a run are made at the start of the next one.
+ * Delivery is at-least-once: a row whose listeners never finished, because the relaying
+ * instance stopped, is dispatched again once it has been unacknowledged for
+ * {@code redeliver-after}, and the listeners' deduplication drops what they had already
+ * handled.
+ *
+ * Only the instance holding the relay {@link ClusterLock} relays, and it keeps the lock
+ * for as long as it runs, so the events of one order reach the listeners in the order
+ * they were stored. The other instances take over one lease after it stops.
+ *
+ * Events are stored in the binary {@link DomainEventCodec} form; rows written as JSON
+ * before the codec was introduced are still read through {@link OutboxEventSerializer}.
+ */
+@Component
+@ConditionalOnProperty(name = "order.management.events.outbox.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+    private static final String LOCK_NAME = "event-outbox-relay";
+
+    private final OutboxEventJpaRepository outboxRepository;
+    private final DomainEventCodec codec;
+    private final OutboxEventSerializer serializer;
+    private final BoundedEventMulticaster multicaster;
+    private final TransactionTemplate transactionTemplate;
+    private final ClusterLock clusterLock;
+    private final int batchSize;
+    private final Duration redeliverAfter;
+    private final Duration lockLease;
+    private final Counter relayedEvents;
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private final Queue<Long> handled = new ConcurrentLinkedQueue<>();
+    private Instant lockRenewalDue;
+
+    public OutboxRelay(
+        OutboxEventJpaRepository outboxRepository,
+        DomainEventCodec codec,
+        OutboxEventSerializer serializer,
+        BoundedEventMulticaster multicaster,
+        TransactionTemplate transactionTemplate,
+        ClusterLock clusterLock,
+        OutboxProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.codec = codec;
+        this.serializer = serializer;
+        this.multicaster = multicaster;
+        this.transactionTemplate = transactionTemplate;
+        this.clusterLock = clusterLock;
+        this.batchSize = properties.batchSize();
+        this.redeliverAfter = properties.redeliverAfter();
+        this.lockLease = properties.lockLease();
+        this.relayedEvents = Counter.builder("order.events.outbox.relayed")
+            .description("Events delivered from the outbox to listeners")
+            .register(meterRegistry);
+        Gauge.builder("order.events.outbox.in-flight", inFlight, Set::size)
+            .description("Dispatched outbox events whose listeners have not all finished yet")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.management.events.outbox.poll-interval:100ms}")
+    public void relayPendingEvents() {
+        if (!holdRelayLock()) {
+            deleteAcknowledged();
+            return;
+        }
+        int locked;
+        do {
+            locked = relayBatch();
+        } while (locked == batchSize && holdRelayLock());
+    }
+
+    /**
+     * Deletes the events acknowledged since the last run, then dispatches the next batch.
+     *
+     * @return number of events locked, fewer than the batch size once the outbox is drained
+     */
+    public int relayBatch() {
+        var acknowledged = drainHandled();
+        List<OutboxEventJpaEntity> batch;
+        try {
+            batch = transactionTemplate.execute(status -> {
+                if (!acknowledged.isEmpty()) {
+                    outboxRepository.deleteAllByIdInBatch(acknowledged);
+                }
+                var entries = outboxRepository.lockNextBatch(Instant.now().minus(redeliverAfter), batchSize);
+                if (!entries.isEmpty()) {
+                    outboxRepository.markDispatched(entries.stream().map(OutboxEventJpaEntity::getId).toList(), Instant.now());
+                }
+                return entries;
+            });
+        } catch (RuntimeException e) {
+            handled.addAll(acknowledged);
+            throw e;
+        }
+        acknowledged.forEach(inFlight::remove);
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        int dispatched = 0;
+        for (var entry : batch) {
+            // An event still being handled here was only marked again, which extends its lease
+            var id = entry.getId();
+            if (!inFlight.add(id)) {
+                continue;
+            }
+            try {
+                multicaster.multicastEvent(new PayloadApplicationEvent<>(this, decode(entry)), () -> handled.add(id));
+                dispatched++;
+            } catch (RuntimeException e) {
+                inFlight.remove(id);
+                log.error("Failed to dispatch outbox event {}, retrying after {}: {}", id, redeliverAfter, e.getMessage(), e);
+            }
+        }
+        if (dispatched > 0) {
+            relayedEvents.increment(dispatched);
+            log.debug("Relayed {} events from outbox", dispatched);
+        }
+        return batch.size();
+    }
+
+    @PreDestroy
+    void releaseRelayLock() {
+        if (lockRenewalDue != null) {
+            clusterLock.unlock(LOCK_NAME);
+        }
+    }
+
+    /**
+     * Takes or extends the relay lock, asking the database only once a third of the lease
+     * has passed since it was last extended.
+     */
+    private boolean holdRelayLock() {
+        var now = Instant.now();
+        if (lockRenewalDue != null && now.isBefore(lockRenewalDue)) {
+            return true;
+        }
+        if (!clusterLock.tryLock(LOCK_NAME, lockLease)) {
+            lockRenewalDue = null;
+            return false;
+        }
+        lockRenewalDue = now.plus(lockLease.dividedBy(3));
+        return true;
+    }
+
+    /**
+     * Deletes what was handled while this instance relayed, after it has lost the lock.
+     */
+    private void deleteAcknowledged() {
+        var acknowledged = drainHandled();
+        if (acknowledged.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> outboxRepository.deleteAllByIdInBatch(acknowledged));
+        } catch (RuntimeException e) {
+            handled.addAll(acknowledged);
+            throw e;
+        }
+        acknowledged.forEach(inFlight::remove);
+    }
+
+    private List<Long> drainHandled() {
+        List<Long> ids = new ArrayList<>();
+        Long id;
+        while ((id = handled.poll()) != null) {
+            ids.add(id);
+        }
+        return ids;
+    }
+
+    private DomainEvent decode(OutboxEventJpaEntity entry) {
+        if (entry.getEncodedPayload() != null) {
+            return codec.decode(entry.getEncodedPayload());
+        }
+        return serializer.deserialize(entry.getEventType(), entry.getPayload());
+    }
+}
@@ -0,0 +1,76 @@
+package com.company.ordermanagement.partitioning;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Keeps the current month and the configured number of months after it partitioned for
+ * every range-partitioned order table, using the {@code create_monthly_partitions}
+ * database function. Runs once before the application takes requests and then at the
+ * configured interval; creating a partition that exists is a no-op, so several instances
+ * can run the job side by side.
+ *
+ * Rows that arrive for a month without a partition are kept in the table's default
+ * partition and moved out when their month is created.
+ */
+@Slf4j
+public class PartitionMaintenanceJob implements SmartInitializingSingleton {
+    private final JdbcTemplate jdbcTemplate;
+    private final List<String> tables;
+    private final int monthsAhead;
+    private final Clock clock;
+    private final Counter createdPartitions;
+
+    public PartitionMaintenanceJob(
+        JdbcTemplate jdbcTemplate,
+        PartitionMaintenanceProperties properties,
+        Clock clock,
+        MeterRegistry meterRegistry
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tables = List.copyOf(properties.tables());
+        this.monthsAhead = properties.monthsAhead();
+        this.clock = clock;
+        this.createdPartitions = Counter.builder("order.partitions.created")
+            .description("Monthly order table partitions created by the maintenance job")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        createMissingPartitions();
+    }
+
+    @Scheduled(
+        fixedDelayString = "${order.management.partitioning.check-interval:6h}",
+        initialDelayString = "${order.management.partitioning.check-interval:6h}"
+    )
+    public void createMissingPartitions() {
+        var currentMonth = YearMonth.now(clock);
+        var from = currentMonth.atDay(1);
+        var to = currentMonth.plusMonths(monthsAhead).atDay(1);
+        tables.forEach(table -> createPartitions(table, from, to));
+    }
+
+    private void createPartitions(String table, LocalDate from, LocalDate to) {
+        try {
+            var created = jdbcTemplate.queryForObject(
+                "SELECT create_monthly_partitions(CAST(? AS regclass), ?, ?)", Integer.class, table, from, to);
+            if (created != null && created > 0) {
+                createdPartitions.increment(created);
+                log.info("Created {} monthly partitions of {} up to {}", created, table, YearMonth.from(to));
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to create monthly partitions of {}: {}", table, e.getMessage(), e);
+        }
+    }
+}
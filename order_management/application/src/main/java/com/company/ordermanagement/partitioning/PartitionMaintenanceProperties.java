@@ -0,0 +1,29 @@
+package com.company.ordermanagement.partitioning;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Settings for the creation of monthly order table partitions.
+ *
+ * @param enabled       create partitions ahead of time; needs the PostgreSQL schema
+ * @param tables        range-partitioned tables to keep ahead of time
+ * @param monthsAhead   months after the current one that must have a partition
+ * @param checkInterval pause between two checks for missing partitions
+ */
+@ConfigurationProperties(prefix = "order.management.partitioning")
+public record PartitionMaintenanceProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue({"customer_orders", "manufacturing_orders"}) List<String> tables,
+    @DefaultValue("3") int monthsAhead,
+    @DefaultValue("6h") Duration checkInterval
+) {
+    public PartitionMaintenanceProperties {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("Partitions must be created at least one month ahead");
+        }
+    }
+}
@@ -0,0 +1,130 @@
+-- Customer orders are range-partitioned by month of placed_at and manufacturing orders by
+-- month of created_at, so indexes stay the size of one month and queries on those columns
+-- (exports, keyset pages) only read the partitions they touch.
+--
+-- A primary key on a partitioned table must include the partition key, so both keys become
+-- (id, <partition key>). Ids are UUIDs and stay unique in practice; lookups by id alone
+-- probe each partition's key index. Foreign keys can only reference a unique key, so the
+-- references to both tables by id are dropped; items are removed with their order by the
+-- application.
+
+-- Creates the monthly partitions of a table partitioned by a single timestamp column, for
+-- every UTC calendar month from from_month through to_month, named <table>_yyyy_mm. Months
+-- that already have a partition are skipped, and rows of a new month that were caught by
+-- the default partition are moved into it. Returns the number of partitions created.
+CREATE FUNCTION create_monthly_partitions(parent regclass, from_month date, to_month date)
+RETURNS integer
+LANGUAGE plpgsql AS $$
+DECLARE
+    parent_name text := (SELECT relname FROM pg_class WHERE oid = parent);
+    key_column text;
+    month_start date := date_trunc('month', from_month)::date;
+    month_end date;
+    lower_bound timestamptz;
+    upper_bound timestamptz;
+    partition_name text;
+    default_name text;
+    backlog integer;
+    created integer := 0;
+BEGIN
+    SELECT a.attname INTO key_column
+    FROM pg_partitioned_table p
+    JOIN pg_attribute a ON a.attrelid = p.partrelid AND a.attnum = p.partattrs[0]
+    WHERE p.partrelid = parent;
+    IF key_column IS NULL THEN
+        RAISE EXCEPTION '% is not a partitioned table', parent;
+    END IF;
+
+    SELECT c.relname INTO default_name
+    FROM pg_inherits i
+    JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = parent AND pg_get_expr(c.relpartbound, c.oid) = 'DEFAULT';
+
+    WHILE month_start <= to_month LOOP
+        month_end := (month_start + interval '1 month')::date;
+        lower_bound := month_start::timestamp AT TIME ZONE 'UTC';
+        upper_bound := month_end::timestamp AT TIME ZONE 'UTC';
+        partition_name := format('%s_%s', parent_name, to_char(month_start, 'YYYY_MM'));
+
+        IF to_regclass(quote_ident(partition_name)) IS NULL THEN
+            backlog := 0;
+            IF default_name IS NOT NULL THEN
+                EXECUTE format('CREATE TEMP TABLE partition_backlog (LIKE %s) ON COMMIT DROP', parent);
+                EXECUTE format(
+                    'WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+                    'INSERT INTO partition_backlog SELECT * FROM moved',
+                    default_name, key_column, lower_bound, key_column, upper_bound);
+                GET DIAGNOSTICS backlog = ROW_COUNT;
+            END IF;
+
+            EXECUTE format('CREATE TABLE %I PARTITION OF %s FOR VALUES FROM (%L) TO (%L)',
+                partition_name, parent, lower_bound, upper_bound);
+
+            IF default_name IS NOT NULL THEN
+                EXECUTE format('INSERT INTO %I SELECT * FROM partition_backlog', partition_name);
+                DROP TABLE partition_backlog;
+            END IF;
+            IF backlog > 0 THEN
+                RAISE NOTICE 'Moved % rows from % to %', backlog, default_name, partition_name;
+            END IF;
+            created := created + 1;
+        END IF;
+
+        month_start := month_end;
+    END LOOP;
+    RETURN created;
+END;
+$$;
+
+ALTER TABLE order_items DROP CONSTRAINT order_items_customer_order_id_fkey;
+ALTER TABLE customer_orders DROP CONSTRAINT fk_customer_orders_manufacturing_order;
+
+-- Manufacturing orders
+ALTER TABLE manufacturing_orders RENAME TO manufacturing_orders_unpartitioned;
+ALTER INDEX manufacturing_orders_pkey RENAME TO manufacturing_orders_unpartitioned_pkey;
+
+CREATE TABLE manufacturing_orders (
+    LIKE manufacturing_orders_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Catches rows outside every monthly partition, so an insert never fails for want of one;
+-- the maintenance job moves them out when it creates their month
+CREATE TABLE manufacturing_orders_default PARTITION OF manufacturing_orders DEFAULT;
+
+SELECT create_monthly_partitions(
+    'manufacturing_orders',
+    (LEAST(COALESCE((SELECT MIN(created_at) FROM manufacturing_orders_unpartitioned), now()), now()) AT TIME ZONE 'UTC')::date,
+    ((now() + interval '3 months') AT TIME ZONE 'UTC')::date);
+
+INSERT INTO manufacturing_orders SELECT * FROM manufacturing_orders_unpartitioned;
+DROP TABLE manufacturing_orders_unpartitioned;
+
+CREATE INDEX idx_manufacturing_orders_product_code ON manufacturing_orders(product_code);
+CREATE INDEX idx_manufacturing_orders_expected_completion ON manufacturing_orders(expected_completion_date);
+CREATE INDEX idx_manufacturing_orders_created_at_id ON manufacturing_orders(created_at, id);
+CREATE INDEX idx_manufacturing_orders_status_created_at_id ON manufacturing_orders(status, created_at, id);
+
+-- Customer orders
+ALTER TABLE customer_orders RENAME TO customer_orders_unpartitioned;
+ALTER INDEX customer_orders_pkey RENAME TO customer_orders_unpartitioned_pkey;
+
+CREATE TABLE customer_orders (
+    LIKE customer_orders_unpartitioned INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (id, placed_at)
+) PARTITION BY RANGE (placed_at);
+
+CREATE TABLE customer_orders_default PARTITION OF customer_orders DEFAULT;
+
+SELECT create_monthly_partitions(
+    'customer_orders',
+    (LEAST(COALESCE((SELECT MIN(placed_at) FROM customer_orders_unpartitioned), now()), now()) AT TIME ZONE 'UTC')::date,
+    ((now() + interval '3 months') AT TIME ZONE 'UTC')::date);
+
+INSERT INTO customer_orders SELECT * FROM customer_orders_unpartitioned;
+DROP TABLE customer_orders_unpartitioned;
+
+CREATE INDEX idx_customer_orders_manufacturing_order_id ON customer_orders(manufacturing_order_id);
+CREATE INDEX idx_customer_orders_placed_at_id ON customer_orders(placed_at, id);
+CREATE INDEX idx_customer_orders_status_placed_at_id ON customer_orders(status, placed_at, id);
+CREATE INDEX idx_customer_orders_customer_id_placed_at_id ON customer_orders(customer_id, placed_at, id);
@@ -0,0 +1,4 @@
+-- The archival jobs look for closed orders by status and last change; without these
+-- indexes every run scans all closed orders still in the tables.
+CREATE INDEX idx_customer_orders_status_updated_at ON customer_orders(status, updated_at);
+CREATE INDEX idx_manufacturing_orders_status_updated_at ON manufacturing_orders(status, updated_at);
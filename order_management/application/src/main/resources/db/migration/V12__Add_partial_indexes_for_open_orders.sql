@@ -0,0 +1,10 @@
+-- Active and overdue lists only read orders that are still open. Indexing just those rows
+-- keeps the indexes small and the scans short however many closed orders pile up. The
+-- queries write the closed statuses as literals; the conditions here must match them.
+CREATE INDEX idx_customer_orders_active_placed_at_id ON customer_orders(placed_at, id)
+    WHERE status NOT IN ('DELIVERED', 'CANCELLED');
+
+-- Only the overdue list filters on the expected completion date, so the full index goes.
+CREATE INDEX idx_manufacturing_orders_open_expected_completion ON manufacturing_orders(expected_completion_date)
+    WHERE status NOT IN ('COMPLETED', 'CANCELLED');
+DROP INDEX idx_manufacturing_orders_expected_completion;
@@ -0,0 +1,27 @@
+-- Document storage for customer orders, used instead of customer_orders and order_items
+-- when order.management.customer-orders.storage is 'document'. Each order, items included,
+-- is one JSONB document in one row, so reading or writing it touches a single row. The
+-- scalar columns repeat the fields that lists and jobs filter and sort on, and are written
+-- together with the document.
+--
+-- The table is not partitioned: lookups by id are the common access here, and a primary
+-- key on id alone serves them from a single index.
+CREATE TABLE customer_order_documents (
+    id UUID PRIMARY KEY,
+    customer_id UUID NOT NULL,
+    status VARCHAR(30) NOT NULL CHECK (status IN ('PLACED', 'CONFIRMED', 'MANUFACTURING_IN_PROGRESS', 'MANUFACTURING_COMPLETED', 'SHIPPED', 'DELIVERED', 'CANCELLED')),
+    placed_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    manufacturing_order_id UUID,
+    version BIGINT NOT NULL DEFAULT 0,
+    document JSONB NOT NULL
+);
+
+-- The same list, active-order and archival indexes as on customer_orders (V9, V11, V12)
+CREATE INDEX idx_customer_order_documents_placed_at_id ON customer_order_documents(placed_at, id);
+CREATE INDEX idx_customer_order_documents_status_placed_at_id ON customer_order_documents(status, placed_at, id);
+CREATE INDEX idx_customer_order_documents_customer_id_placed_at_id ON customer_order_documents(customer_id, placed_at, id);
+CREATE INDEX idx_customer_order_documents_manufacturing_order_id ON customer_order_documents(manufacturing_order_id);
+CREATE INDEX idx_customer_order_documents_status_updated_at ON customer_order_documents(status, updated_at);
+CREATE INDEX idx_customer_order_documents_active_placed_at_id ON customer_order_documents(placed_at, id)
+    WHERE status NOT IN ('DELIVERED', 'CANCELLED');
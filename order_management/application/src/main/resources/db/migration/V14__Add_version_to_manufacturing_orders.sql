@@ -0,0 +1,3 @@
+-- Optimistic locking for manufacturing orders, so concurrent changes to an order are
+-- detected instead of the last write silently winning
+ALTER TABLE manufacturing_orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
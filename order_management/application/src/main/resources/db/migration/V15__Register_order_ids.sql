@@ -0,0 +1,44 @@
+-- The partitioned order tables (V10) can only have primary keys that include their
+-- partition key, so (id, placed_at) and (id, created_at) do not stop a second row with the
+-- same id in another month. Customer order ids come from the client, and a retried order
+-- with a different placed_at would be stored twice.
+--
+-- Each table gets a registry of its ids with a primary key on id alone, kept by row
+-- triggers on the partitioned table: an insert registers the id and fails on a duplicate
+-- exactly as the old primary key did, and a delete frees it again. Row triggers on the
+-- parent apply to every partition, including those created later. Neither ids nor the
+-- partition keys are ever updated, so rows never move between partitions.
+
+CREATE TABLE customer_order_ids (
+    id UUID PRIMARY KEY
+);
+
+CREATE TABLE manufacturing_order_ids (
+    id UUID PRIMARY KEY
+);
+
+-- Fails here if duplicates were stored since V10; they have to be resolved by hand
+INSERT INTO customer_order_ids SELECT id FROM customer_orders;
+INSERT INTO manufacturing_order_ids SELECT id FROM manufacturing_orders;
+
+-- Keeps the registry named by the first trigger argument in step with the order table
+CREATE FUNCTION register_order_id()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        EXECUTE format('INSERT INTO %I (id) VALUES ($1)', TG_ARGV[0]) USING NEW.id;
+    ELSE
+        EXECUTE format('DELETE FROM %I WHERE id = $1', TG_ARGV[0]) USING OLD.id;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER customer_orders_register_id
+    AFTER INSERT OR DELETE ON customer_orders
+    FOR EACH ROW EXECUTE FUNCTION register_order_id('customer_order_ids');
+
+CREATE TRIGGER manufacturing_orders_register_id
+    AFTER INSERT OR DELETE ON manufacturing_orders
+    FOR EACH ROW EXECUTE FUNCTION register_order_id('manufacturing_order_ids');
@@ -0,0 +1,14 @@
+-- Closed orders moved out of the order tables by the archival jobs. Kept in the database
+-- rather than on the local disk of one instance, so every instance finds every archived
+-- order, and written in the same transaction that deletes the order's row.
+--
+-- The payload is the module's own encoding of the order; aggregate_type is the position
+-- of OrderArchive.AggregateType, since a customer order and its manufacturing order share
+-- their id. Lookups are by type and id only, so the primary key is the only index.
+CREATE TABLE archived_orders (
+    aggregate_type SMALLINT NOT NULL,
+    id UUID NOT NULL,
+    payload BYTEA NOT NULL,
+    archived_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    PRIMARY KEY (aggregate_type, id)
+);
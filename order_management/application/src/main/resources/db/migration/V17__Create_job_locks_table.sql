@@ -0,0 +1,8 @@
+-- Leases of scheduled jobs that must run on one instance at a time. A row is created the
+-- first time a job takes its lock; a lease that has run out is free again, so an instance
+-- that dies holding a lock blocks the job for one lease at most.
+CREATE TABLE job_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    locked_until TIMESTAMP WITH TIME ZONE NOT NULL,
+    locked_by VARCHAR(100) NOT NULL
+);
@@ -0,0 +1,9 @@
+-- Outbox rows now stay until every listener has handled their event. dispatched_at marks a
+-- row handed to the listeners; a row dispatched longer ago than the redelivery timeout and
+-- still present was lost with the instance relaying it and is dispatched again.
+ALTER TABLE event_outbox ADD COLUMN dispatched_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX idx_event_outbox_undispatched ON event_outbox (id) WHERE dispatched_at IS NULL;
+
+COMMENT ON TABLE event_outbox IS
+'Pending domain events; rows are deleted by the outbox relay once every listener has handled them';
@@ -0,0 +1,90 @@
+-- The id registries of V15 now also hold the partition key of each order, so a lookup by
+-- id reads the key from the registry first and probes only the partition holding the row,
+-- instead of the id index of every monthly partition. The registry triggers take the
+-- name of the key column as their second argument.
+--
+-- The registries also restore the references V10 had to drop, since their primary key is
+-- on id alone:
+--   * order_items.customer_order_id references customer_order_ids again. The constraint
+--     is deferred to commit because create_monthly_partitions moves the rows caught by the
+--     default partition with a delete and an insert, which unregisters and registers the
+--     id again in between. Items are no longer deleted with their order by the database;
+--     the application deletes them first, as it has done since V10.
+--   * customer_orders.manufacturing_order_id is checked by a trigger rather than a foreign
+--     key, since archiving a closed manufacturing order deletes its row while customer
+--     orders still link to it. A new link must name a manufacturing order that is stored
+--     or archived. Deleting a manufacturing order is not checked, as it was not before.
+
+ALTER TABLE customer_order_ids ADD COLUMN placed_at TIMESTAMP WITH TIME ZONE;
+UPDATE customer_order_ids r SET placed_at = o.placed_at FROM customer_orders o WHERE o.id = r.id;
+ALTER TABLE customer_order_ids ALTER COLUMN placed_at SET NOT NULL;
+
+ALTER TABLE manufacturing_order_ids ADD COLUMN created_at TIMESTAMP WITH TIME ZONE;
+UPDATE manufacturing_order_ids r SET created_at = o.created_at FROM manufacturing_orders o WHERE o.id = r.id;
+ALTER TABLE manufacturing_order_ids ALTER COLUMN created_at SET NOT NULL;
+
+-- Keeps the registry named by the first trigger argument in step with the order table,
+-- copying the partition key column named by the second
+CREATE OR REPLACE FUNCTION register_order_id()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        EXECUTE format('INSERT INTO %I (id, %I) VALUES (($1).id, ($1).%I)', TG_ARGV[0], TG_ARGV[1], TG_ARGV[1])
+            USING NEW;
+    ELSE
+        EXECUTE format('DELETE FROM %I WHERE id = $1', TG_ARGV[0]) USING OLD.id;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+DROP TRIGGER customer_orders_register_id ON customer_orders;
+CREATE TRIGGER customer_orders_register_id
+    AFTER INSERT OR DELETE ON customer_orders
+    FOR EACH ROW EXECUTE FUNCTION register_order_id('customer_order_ids', 'placed_at');
+
+DROP TRIGGER manufacturing_orders_register_id ON manufacturing_orders;
+CREATE TRIGGER manufacturing_orders_register_id
+    AFTER INSERT OR DELETE ON manufacturing_orders
+    FOR EACH ROW EXECUTE FUNCTION register_order_id('manufacturing_order_ids', 'created_at');
+
+-- Fails here if items of deleted orders were left behind since V10
+ALTER TABLE order_items
+    ADD CONSTRAINT fk_order_items_customer_order
+    FOREIGN KEY (customer_order_id) REFERENCES customer_order_ids(id)
+    DEFERRABLE INITIALLY DEFERRED;
+
+-- The key share lock on the registry row keeps the manufacturing order from being deleted
+-- until the linking transaction ends, as a foreign key would. 1 is the position of
+-- OrderArchive.AggregateType.MANUFACTURING_ORDER.
+CREATE FUNCTION check_manufacturing_order_link()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    IF NEW.manufacturing_order_id IS NULL THEN
+        RETURN NEW;
+    END IF;
+    PERFORM 1 FROM manufacturing_order_ids WHERE id = NEW.manufacturing_order_id FOR KEY SHARE;
+    IF NOT FOUND AND NOT EXISTS (
+        SELECT 1 FROM archived_orders WHERE aggregate_type = 1 AND id = NEW.manufacturing_order_id
+    ) THEN
+        RAISE foreign_key_violation
+            USING MESSAGE = format('Manufacturing order %s of customer order %s does not exist',
+                NEW.manufacturing_order_id, NEW.id);
+    END IF;
+    RETURN NEW;
+END;
+$$;
+
+CREATE TRIGGER customer_orders_check_manufacturing_order_on_insert
+    BEFORE INSERT ON customer_orders
+    FOR EACH ROW EXECUTE FUNCTION check_manufacturing_order_link();
+
+-- Versioned updates write the link back unchanged, which must not fail once the
+-- manufacturing order has been archived
+CREATE TRIGGER customer_orders_check_manufacturing_order_on_update
+    BEFORE UPDATE OF manufacturing_order_id ON customer_orders
+    FOR EACH ROW
+    WHEN (NEW.manufacturing_order_id IS DISTINCT FROM OLD.manufacturing_order_id)
+    EXECUTE FUNCTION check_manufacturing_order_link();
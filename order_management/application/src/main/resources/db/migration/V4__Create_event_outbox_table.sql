@@ -0,0 +1,13 @@
+-- Domain events written in the same transaction as the aggregate change that raised them
+CREATE SEQUENCE event_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE event_outbox (
+    id BIGINT PRIMARY KEY,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    occurred_on TIMESTAMP WITH TIME ZONE NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE event_outbox IS
+'Pending domain events; rows are deleted by the outbox relay once delivered';
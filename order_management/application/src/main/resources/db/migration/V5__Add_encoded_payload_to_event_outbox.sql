@@ -0,0 +1,7 @@
+-- Outbox events are now stored in the compact binary encoding; the JSON column is kept
+-- for rows written before the switch until they have been relayed
+ALTER TABLE event_outbox ADD COLUMN encoded_payload BYTEA;
+ALTER TABLE event_outbox ALTER COLUMN payload DROP NOT NULL;
+
+ALTER TABLE event_outbox ADD CONSTRAINT event_outbox_payload_present
+    CHECK (payload IS NOT NULL OR encoded_payload IS NOT NULL);
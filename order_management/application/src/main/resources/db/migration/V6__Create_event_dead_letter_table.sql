@@ -0,0 +1,17 @@
+-- Domain events an asynchronous listener still failed to handle after all retries
+CREATE SEQUENCE event_dead_letter_seq INCREMENT BY 50;
+
+CREATE TABLE event_dead_letter (
+    id BIGINT PRIMARY KEY,
+    listener_id VARCHAR(500) NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    encoded_payload BYTEA NOT NULL,
+    attempts INTEGER NOT NULL,
+    last_error VARCHAR(2000),
+    dead_lettered_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_event_dead_letter_listener ON event_dead_letter(listener_id, event_type);
+
+COMMENT ON TABLE event_dead_letter IS
+'Failed listener deliveries; rows are removed when re-driven through /api/admin/dead-letters/redrive';
@@ -0,0 +1,2 @@
+-- Optimistic locking for customer orders, so updates need no read before the write
+ALTER TABLE customer_orders ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
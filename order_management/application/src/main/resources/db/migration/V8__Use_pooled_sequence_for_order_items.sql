@@ -0,0 +1,10 @@
+-- Item ids come from a sequence handed out in blocks of 50, so Hibernate can batch item
+-- inserts; identity columns force one INSERT round trip per item.
+CREATE SEQUENCE order_items_seq INCREMENT BY 50;
+
+-- The pooled optimizer uses the block ending at the value it reads, so start one block
+-- above the highest id handed out by the old identity column
+SELECT setval('order_items_seq', COALESCE((SELECT MAX(id) FROM order_items), 0) + 50, false);
+
+ALTER TABLE order_items ALTER COLUMN id DROP DEFAULT;
+DROP SEQUENCE IF EXISTS order_items_id_seq;
@@ -0,0 +1,14 @@
+-- Keyset pagination reads lists ordered by (placed_at, id) and (created_at, id), optionally
+-- filtered by status or customer. These indexes serve each page as a short range scan and
+-- replace the single-column indexes they start with.
+CREATE INDEX idx_customer_orders_placed_at_id ON customer_orders(placed_at, id);
+CREATE INDEX idx_customer_orders_status_placed_at_id ON customer_orders(status, placed_at, id);
+CREATE INDEX idx_customer_orders_customer_id_placed_at_id ON customer_orders(customer_id, placed_at, id);
+DROP INDEX idx_customer_orders_placed_at;
+DROP INDEX idx_customer_orders_status;
+DROP INDEX idx_customer_orders_customer_id;
+
+CREATE INDEX idx_manufacturing_orders_created_at_id ON manufacturing_orders(created_at, id);
+CREATE INDEX idx_manufacturing_orders_status_created_at_id ON manufacturing_orders(status, created_at, id);
+DROP INDEX idx_manufacturing_orders_created_at;
+DROP INDEX idx_manufacturing_orders_status;
@@ -0,0 +1,100 @@
+package com.company.ordermanagement.archive;
+
+import com.company.sharedkernel.OrderArchive;
+import com.company.sharedkernel.OrderArchive.AggregateType;
+import com.company.sharedkernel.OrderId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archivestoragetest",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "order.management.auto-create-manufacturing-orders=false",
+    "order.management.events.outbox.enabled=false",
+    "order.management.archive.enabled=true",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+@DisplayName("JPA Order Archive Integration Tests")
+class JpaOrderArchiveIntegrationTest {
+
+    @Autowired
+    private OrderArchive archive;
+
+    @Autowired
+    private ArchivedOrderJpaRepository repository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should keep archived orders in the database by type and id")
+    void shouldStoreAndFindOrdersByTypeAndId() {
+        var orderId = OrderId.of(UUID.randomUUID());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            archive.store(AggregateType.CUSTOMER_ORDER, Map.of(orderId, bytes("customer")));
+            archive.store(AggregateType.MANUFACTURING_ORDER, Map.of(orderId, bytes("manufacturing")));
+        });
+
+        assertThat(archive).isInstanceOf(JpaOrderArchive.class);
+        assertThat(archive.find(AggregateType.CUSTOMER_ORDER, orderId)).hasValue(bytes("customer"));
+        assertThat(archive.find(AggregateType.MANUFACTURING_ORDER, orderId)).hasValue(bytes("manufacturing"));
+        assertThat(archive.contains(AggregateType.CUSTOMER_ORDER, orderId)).isTrue();
+        assertThat(archive.contains(AggregateType.CUSTOMER_ORDER, OrderId.of(UUID.randomUUID()))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should replace an order that is stored again")
+    void shouldReplaceOrderStoredAgain() {
+        var orderId = OrderId.of(UUID.randomUUID());
+
+        transactionTemplate.executeWithoutResult(status -> archive.store(AggregateType.CUSTOMER_ORDER, Map.of(orderId, bytes("first"))));
+        transactionTemplate.executeWithoutResult(status -> {
+            archive.find(AggregateType.CUSTOMER_ORDER, orderId);
+            archive.store(AggregateType.CUSTOMER_ORDER, Map.of(orderId, bytes("second")));
+        });
+
+        assertThat(archive.find(AggregateType.CUSTOMER_ORDER, orderId)).hasValue(bytes("second"));
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should only store orders inside the transaction that archives them")
+    void shouldRollBackWithArchivingTransaction() {
+        var orderId = OrderId.of(UUID.randomUUID());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            archive.store(AggregateType.CUSTOMER_ORDER, Map.of(orderId, bytes("order")));
+            status.setRollbackOnly();
+        });
+
+        assertThat(archive.contains(AggregateType.CUSTOMER_ORDER, orderId)).isFalse();
+        assertThatThrownBy(() -> archive.store(AggregateType.CUSTOMER_ORDER, Map.of(orderId, bytes("order"))))
+            .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,204 @@
+package com.company.ordermanagement.archive;
+
+import com.company.sharedkernel.OrderArchive.AggregateType;
+import com.company.sharedkernel.OrderId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Mapped Order Archive Tests")
+class MappedOrderArchiveTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+
+    @TempDir
+    Path directory;
+
+    private final Random random = new Random(42);
+    private MappedOrderArchive archive;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (archive != null) {
+            archive.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should find stored orders by type and id")
+    void shouldFindStoredOrders() throws IOException {
+        archive = open();
+        var orders = orders(3);
+
+        archive.store(AggregateType.CUSTOMER_ORDER, orders);
+
+        orders.forEach((id, order) -> {
+            assertThat(archive.find(AggregateType.CUSTOMER_ORDER, id)).hasValue(order);
+            assertThat(archive.contains(AggregateType.CUSTOMER_ORDER, id)).isTrue();
+        });
+        assertThat(archive.find(AggregateType.CUSTOMER_ORDER, OrderId.generate())).isEmpty();
+        assertThat(archive.storedOrders()).isEqualTo(3);
+        assertThat(archive.archivedOrders()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep orders of different types apart")
+    void shouldKeepTypesApart() throws IOException {
+        archive = open();
+        var id = OrderId.generate();
+
+        archive.store(AggregateType.CUSTOMER_ORDER, Map.of(id, order("customer")));
+        archive.store(AggregateType.MANUFACTURING_ORDER, Map.of(id, order("manufacturing")));
+
+        assertThat(archive.find(AggregateType.CUSTOMER_ORDER, id)).hasValue(order("customer"));
+        assertThat(archive.find(AggregateType.MANUFACTURING_ORDER, id)).hasValue(order("manufacturing"));
+    }
+
+    @Test
+    @DisplayName("Should return the latest copy of an order stored twice")
+    void shouldReturnLatestCopy() throws IOException {
+        archive = open();
+        var id = OrderId.generate();
+
+        archive.store(AggregateType.CUSTOMER_ORDER, Map.of(id, order("first")));
+        archive.store(AggregateType.CUSTOMER_ORDER, Map.of(id, order("second")));
+
+        assertThat(archive.find(AggregateType.CUSTOMER_ORDER, id)).hasValue(order("second"));
+        assertThat(archive.archivedOrders()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should roll over to new segments and find orders in sealed ones")
+    void shouldRollOverSegments() throws IOException {
+        archive = open();
+        var orders = orders(40);
+
+        archive.store(AggregateType.MANUFACTURING_ORDER, orders);
+
+        assertThat(archive.segmentCount()).isGreaterThan(1);
+        try (var files = Files.list(directory)) {
+            assertThat(files.filter(path -> path.toString().endsWith(".index")).count())
+                .isEqualTo(archive.segmentCount() - 1);
+        }
+        orders.forEach((id, order) ->
+            assertThat(archive.find(AggregateType.MANUFACTURING_ORDER, id)).hasValue(order));
+        assertThat(archive.archivedOrders()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("Should find orders after reopening and continue appending")
+    void shouldReopen() throws IOException {
+        archive = open();
+        var before = orders(25);
+        archive.store(AggregateType.CUSTOMER_ORDER, before);
+        archive.close();
+
+        archive = open();
+        var after = orders(5);
+        archive.store(AggregateType.CUSTOMER_ORDER, after);
+
+        before.forEach((id, order) -> assertThat(archive.find(AggregateType.CUSTOMER_ORDER, id)).hasValue(order));
+        after.forEach((id, order) -> assertThat(archive.find(AggregateType.CUSTOMER_ORDER, id)).hasValue(order));
+        assertThat(archive.archivedOrders()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("Should drop a torn record on reopening and overwrite it")
+    void shouldRecoverFromTornRecord() throws IOException {
+        archive = open();
+        var kept = OrderId.generate();
+        var torn = OrderId.generate();
+        archive.store(AggregateType.CUSTOMER_ORDER, Map.of(kept, order("kept")));
+        archive.store(AggregateType.CUSTOMER_ORDER, Map.of(torn, order("torn")));
+        archive.close();
+        corruptLastRecord(torn);
+
+        archive = open();
+
+        assertThat(archive.find(AggregateType.CUSTOMER_ORDER, kept)).hasValue(order("kept"));
+        assertThat(archive.contains(AggregateType.CUSTOMER_ORDER, torn)).isFalse();
+        var after = OrderId.generate();
+        archive.store(AggregateType.CUSTOMER_ORDER, Map.of(after, order("after")));
+        assertThat(archive.find(AggregateType.CUSTOMER_ORDER, after)).hasValue(order("after"));
+        assertThat(archive.archivedOrders()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject an order larger than a segment")
+    void shouldRejectOversizedOrder() throws IOException {
+        archive = open();
+        var oversized = new byte[SEGMENT_SIZE * 2];
+        random.nextBytes(oversized);
+
+        assertThatThrownBy(() -> archive.store(AggregateType.CUSTOMER_ORDER, Map.of(OrderId.generate(), oversized)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not fit");
+    }
+
+    @Test
+    @DisplayName("Should reject a segment size that cannot hold a record")
+    void shouldRejectTinySegments() {
+        assertThatThrownBy(() -> new MappedOrderArchive(directory, 16))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private MappedOrderArchive open() throws IOException {
+        return new MappedOrderArchive(directory, SEGMENT_SIZE);
+    }
+
+    private Map<OrderId, byte[]> orders(int count) {
+        var orders = new LinkedHashMap<OrderId, byte[]>();
+        IntStream.range(0, count).forEach(i -> {
+            // Random bytes barely compress, so a handful of orders fill a segment
+            var order = new byte[64];
+            random.nextBytes(order);
+            orders.put(OrderId.generate(), order);
+        });
+        return orders;
+    }
+
+    private static byte[] order(String content) {
+        return content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Flips a byte of the id of the record, so its checksum no longer matches.
+     */
+    private void corruptLastRecord(OrderId id) throws IOException {
+        var log = directory.resolve(ArchiveSegment.fileName(0, ".log"));
+        try (var channel = FileChannel.open(log, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            var buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size());
+            int position = find(buffer, id.getValue());
+            assertThat(position).isNotNegative();
+            buffer.put(position, (byte) (buffer.get(position) ^ 0xFF));
+            buffer.force();
+        }
+    }
+
+    private static int find(ByteBuffer buffer, UUID id) {
+        for (int position = 0; position + 2 * Long.BYTES <= buffer.limit(); position++) {
+            if (buffer.getLong(position) == id.getMostSignificantBits()
+                    && buffer.getLong(position + Long.BYTES) == id.getLeastSignificantBits()) {
+                return position;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,130 @@
+package com.company.ordermanagement.concurrency;
+
+import com.company.sharedkernel.RetryOnConflict;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Conflict Retry Aspect Tests")
+class ConflictRetryAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConflictRetryAspect aspect = new ConflictRetryAspect(
+        new ConflictRetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(4)), meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("Should repeat a conflicting call until it succeeds")
+    void shouldRetryUntilSuccess() {
+        var handler = proxy(new ConflictingHandler(2));
+
+        assertThat(handler.handle()).isEqualTo(3);
+        assertThat(attempts()).isEqualTo(3);
+        assertThat(conflicts("retried")).isEqualTo(2);
+        assertThat(conflicts("exhausted")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should pass the conflict on once the attempts are used up")
+    void shouldGiveUpAfterMaxAttempts() {
+        var handler = proxy(new ConflictingHandler(5));
+
+        assertThatThrownBy(handler::handle).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts()).isEqualTo(3);
+        assertThat(conflicts("retried")).isEqualTo(2);
+        assertThat(conflicts("exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not repeat a call made inside the caller's transaction")
+    void shouldNotRetryInsideTransaction() {
+        var handler = proxy(new ConflictingHandler(1));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        assertThatThrownBy(handler::handle).isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(attempts()).isEqualTo(1);
+        assertThat(conflicts("retried")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not repeat calls that fail for other reasons")
+    void shouldNotRetryOtherFailures() {
+        var handler = proxy(new ConflictingHandler(2, new IllegalStateException("Invalid transition")));
+
+        assertThatThrownBy(handler::handle).isInstanceOf(IllegalStateException.class);
+        assertThat(attempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should double the backoff up to the maximum and take at most half off")
+    void shouldBackOff() {
+        for (int i = 0; i < 100; i++) {
+            assertThat(aspect.backoff(1)).isBetween(Duration.ofNanos(500_000), Duration.ofMillis(1));
+            assertThat(aspect.backoff(2)).isBetween(Duration.ofMillis(1), Duration.ofMillis(2));
+            assertThat(aspect.backoff(10)).isBetween(Duration.ofMillis(2), Duration.ofMillis(4));
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject invalid retry settings")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new ConflictRetryProperties(0, Duration.ofMillis(10), Duration.ofMillis(100)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConflictRetryProperties(3, Duration.ofMillis(100), Duration.ofMillis(10)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ConflictingHandler proxy(ConflictingHandler target) {
+        var factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+
+    private double attempts() {
+        return meterRegistry.counter("order.commands.attempts", "operation", "ConflictingHandler").count();
+    }
+
+    private double conflicts(String outcome) {
+        return meterRegistry.counter("order.commands.conflicts", "operation", "ConflictingHandler", "outcome", outcome).count();
+    }
+
+    /**
+     * Fails its first calls with the given failure, by default a conflict.
+     */
+    static class ConflictingHandler {
+        private final int failures;
+        private final RuntimeException failure;
+        private int calls;
+
+        ConflictingHandler(int failures) {
+            this(failures, new ObjectOptimisticLockingFailureException(ConflictingHandler.class, "order"));
+        }
+
+        ConflictingHandler(int failures, RuntimeException failure) {
+            this.failures = failures;
+            this.failure = failure;
+        }
+
+        @RetryOnConflict
+        public int handle() {
+            if (++calls <= failures) {
+                throw failure;
+            }
+            return calls;
+        }
+    }
+}
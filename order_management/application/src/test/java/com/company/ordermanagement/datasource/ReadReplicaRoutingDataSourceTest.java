@@ -0,0 +1,119 @@
+package com.company.ordermanagement.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Read Replica Routing Data Source Tests")
+class ReadReplicaRoutingDataSourceTest {
+
+    private ReplicaPool replicaA;
+    private ReplicaPool replicaB;
+    private ReadReplicaRoutingDataSource routingDataSource;
+    private ReplicaLagMonitor lagMonitor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        var primary = database("primary");
+        replicaA = new ReplicaPool("replica-a", database("replica-a"));
+        replicaB = new ReplicaPool("replica-b", database("replica-b"));
+        routingDataSource = new ReadReplicaRoutingDataSource(primary, List.of(replicaA, replicaB));
+        lagMonitor = new ReplicaLagMonitor(List.of(replicaA, replicaB), "SELECT seconds FROM replication_lag", Duration.ofSeconds(10));
+
+        var dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    @DisplayName("Should send writes and read-write transactions to the primary")
+    void shouldUsePrimaryOutsideReadOnlyTransactions() {
+        lagMonitor.checkReplicas();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+        assertThat(readNode(false)).isEqualTo("primary");
+        assertThat(routingDataSource.routedConnections("replica-a")).isZero();
+        assertThat(routingDataSource.routedConnections("replica-b")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should spread read-only transactions over the replicas once they have been checked")
+    void shouldRotateReadOnlyTransactionsOverReplicas() {
+        assertThat(readNode(true)).isEqualTo("primary");
+
+        lagMonitor.checkReplicas();
+        var nodes = IntStream.range(0, 4).mapToObj(i -> readNode(true)).toList();
+
+        assertThat(nodes).containsOnly("replica-a", "replica-b");
+        assertThat(routingDataSource.routedConnections("replica-a")).isEqualTo(2);
+        assertThat(routingDataSource.routedConnections("replica-b")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should skip replicas that lag too far behind and fall back to the primary")
+    void shouldSkipLaggingReplicas() {
+        setLag(replicaB, 30);
+        lagMonitor.checkReplicas();
+
+        assertThat(IntStream.range(0, 3).mapToObj(i -> readNode(true)).toList()).containsOnly("replica-a");
+        assertThat(replicaB.isAvailable()).isFalse();
+        assertThat(replicaB.lagSeconds()).isEqualTo(30);
+
+        setLag(replicaA, 11);
+        lagMonitor.checkReplicas();
+
+        assertThat(readNode(true)).isEqualTo("primary");
+
+        setLag(replicaB, 0);
+        lagMonitor.checkReplicas();
+
+        assertThat(readNode(true)).isEqualTo("replica-b");
+    }
+
+    @Test
+    @DisplayName("Should take a replica out of rotation when it cannot be reached")
+    void shouldSkipUnreachableReplica() {
+        var unreachable = new ReplicaPool("replica-c", new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE"));
+        var monitor = new ReplicaLagMonitor(List.of(unreachable), "SELECT seconds FROM replication_lag", Duration.ofSeconds(10));
+
+        monitor.checkReplicas();
+
+        assertThat(unreachable.isAvailable()).isFalse();
+        assertThat(unreachable.lagSeconds()).isNaN();
+    }
+
+    private String readNode(boolean readOnly) {
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static void setLag(ReplicaPool replica, int seconds) {
+        new JdbcTemplate(replica.dataSource()).update("UPDATE replication_lag SET seconds = ?", seconds);
+    }
+
+    private static DataSource database(String name) {
+        var dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        var jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(32))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        jdbc.execute("CREATE TABLE replication_lag (seconds DOUBLE PRECISION)");
+        jdbc.update("INSERT INTO replication_lag VALUES (0)");
+        return dataSource;
+    }
+}
@@ -0,0 +1,130 @@
+package com.company.ordermanagement.deadletter;
+
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(DeadLetterIntegrationTest.FlakyListenerConfiguration.class)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:deadlettertest",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "order.management.auto-create-manufacturing-orders=false",
+    "order.management.events.outbox.enabled=false",
+    "order.management.events.retry.max-attempts=3",
+    "order.management.events.retry.initial-backoff=10ms",
+    "order.management.events.retry.max-backoff=50ms",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+class DeadLetterIntegrationTest {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private DeadLetterController controller;
+
+    @Autowired
+    private DeadLetterEventJpaRepository repository;
+
+    @Autowired
+    private FlakyListener listener;
+
+    @Autowired
+    private DomainEventCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        listener.failing.set(true);
+        listener.attempts.set(0);
+        listener.handled.clear();
+    }
+
+    @Test
+    void shouldDeadLetterEventAfterRetriesAndRedriveIt() {
+        var event = CustomerOrderCancelled.of(OrderId.generate(), "flaky");
+
+        eventPublisher.publishEvent(event);
+
+        await().atMost(5, TimeUnit.SECONDS)
+            .until(() -> !controller.findDeadLetters(FlakyListener.ID, null, 0, 50).isEmpty());
+        var deadLetter = controller.findDeadLetters(FlakyListener.ID, null, 0, 50).getFirst();
+        assertThat(listener.attempts.get()).isEqualTo(3);
+        assertThat(deadLetter.attempts()).isEqualTo(3);
+        assertThat(deadLetter.eventType()).isEqualTo("CustomerOrderCancelled");
+        assertThat(deadLetter.lastError()).contains("Downstream unavailable");
+        assertThat(deadLetter.event()).isEqualTo(event);
+
+        listener.failing.set(false);
+        var result = controller.redrive(new DeadLetterController.RedriveRequest(List.of(deadLetter.id()), null, null, null));
+
+        assertThat(result.redriven()).isEqualTo(1);
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> assertThat(listener.handled).containsExactly(event));
+        assertThat(repository.count()).isZero();
+    }
+
+    @Test
+    void shouldKeepDeadLettersOfUnknownListeners() {
+        var event = CustomerOrderCancelled.of(OrderId.generate(), "orphaned");
+        var stored = repository.save(new DeadLetterEventJpaEntity(
+            null, "com.example.RemovedListener.on(Event)", event.eventType(),
+            codec.encode(event), 3, "gone", Instant.now()));
+
+        var result = controller.redrive(new DeadLetterController.RedriveRequest(null, null, "CustomerOrderCancelled", 10));
+
+        assertThat(result.redriven()).isZero();
+        assertThat(result.notRedriven()).containsExactly(stored.getId());
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @TestConfiguration
+    static class FlakyListenerConfiguration {
+        @Bean
+        FlakyListener flakyListener() {
+            return new FlakyListener();
+        }
+    }
+
+    static class FlakyListener {
+        static final String ID = "flaky-listener";
+
+        final AtomicBoolean failing = new AtomicBoolean(true);
+        final AtomicInteger attempts = new AtomicInteger();
+        final List<CustomerOrderCancelled> handled = new CopyOnWriteArrayList<>();
+
+        @EventListener(id = ID)
+        void on(CustomerOrderCancelled event) {
+            if (!event.reason().equals("flaky")) {
+                return;
+            }
+            attempts.incrementAndGet();
+            if (failing.get()) {
+                throw new IllegalStateException("Downstream unavailable");
+            }
+            handled.add(event);
+        }
+    }
+}
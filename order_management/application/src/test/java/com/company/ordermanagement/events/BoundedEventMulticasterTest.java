@@ -0,0 +1,485 @@
+package com.company.ordermanagement.events;
+
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.event.SmartApplicationListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Bounded Event Multicaster Tests")
+class BoundedEventMulticasterTest {
+
+    private BoundedEventMulticaster multicaster;
+
+    @BeforeEach
+    void setUp() {
+        multicaster = new BoundedEventMulticaster(
+            new BoundedVirtualThreadExecutor("test", 8, 1000, OverflowPolicy.BLOCK),
+            4
+        );
+    }
+
+    @Test
+    @DisplayName("Should deliver events of one order in the order they were published")
+    void shouldPreserveOrderPerAggregate() {
+        Map<OrderId, List<Integer>> received = new ConcurrentHashMap<>();
+        multicaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            sleepUpTo(2);
+            received.computeIfAbsent(event.orderId(), id -> new CopyOnWriteArrayList<>())
+                .add(Integer.parseInt(event.newStatus()));
+        }));
+        var orders = IntStream.range(0, 20).mapToObj(i -> OrderId.generate()).toList();
+
+        for (int step = 0; step < 10; step++) {
+            for (var orderId : orders) {
+                publish(ManufacturingOrderStatusChanged.of(orderId, String.valueOf(step - 1), String.valueOf(step)));
+            }
+        }
+
+        await().atMost(10, TimeUnit.SECONDS)
+            .until(() -> received.values().stream().mapToInt(List::size).sum() == 200);
+        var expected = IntStream.range(0, 10).boxed().toList();
+        orders.forEach(orderId -> assertThat(received.get(orderId)).containsExactlyElementsOf(expected));
+    }
+
+    @Test
+    @DisplayName("Should deliver an order's events to each listener in the order they were raised")
+    void shouldOrderEventsPerListener() {
+        List<String> first = new CopyOnWriteArrayList<>();
+        List<String> second = new CopyOnWriteArrayList<>();
+        multicaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            sleepUpTo(5);
+            first.add(event.newStatus());
+        }));
+        multicaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            sleepUpTo(5);
+            second.add(event.newStatus());
+        }));
+        var orderId = OrderId.generate();
+
+        publish(ManufacturingOrderStatusChanged.of(orderId, "PENDING", "IN_PROGRESS"));
+        publish(ManufacturingOrderStatusChanged.of(orderId, "IN_PROGRESS", "ON_HOLD"));
+        publish(ManufacturingOrderStatusChanged.of(orderId, "ON_HOLD", "COMPLETED"));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> first.size() == 3 && second.size() == 3);
+        assertThat(first).containsExactly("IN_PROGRESS", "ON_HOLD", "COMPLETED");
+        assertThat(second).containsExactly("IN_PROGRESS", "ON_HOLD", "COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should not hold up the other listeners of an order while one listener is stuck")
+    void shouldIsolateListenersOfAnOrder() {
+        var release = new CountDownLatch(1);
+        List<String> stuck = new CopyOnWriteArrayList<>();
+        List<String> other = new CopyOnWriteArrayList<>();
+        multicaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            awaitQuietly(release);
+            stuck.add(event.newStatus());
+        }));
+        multicaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event ->
+            other.add(event.newStatus())));
+        var orderId = OrderId.generate();
+
+        publish(ManufacturingOrderStatusChanged.of(orderId, "PENDING", "IN_PROGRESS"));
+        publish(ManufacturingOrderStatusChanged.of(orderId, "IN_PROGRESS", "COMPLETED"));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> other.size() == 2);
+        assertThat(other).containsExactly("IN_PROGRESS", "COMPLETED");
+        assertThat(stuck).isEmpty();
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> stuck.size() == 2);
+        assertThat(stuck).containsExactly("IN_PROGRESS", "COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should run a listener no more often at once than its limit for order events")
+    void shouldLimitListenerConcurrencyForOrderEvents() {
+        var running = new AtomicInteger();
+        var maxObserved = new AtomicInteger();
+        var done = new AtomicInteger();
+        var gatedMulticaster = new BoundedEventMulticaster(
+            new BoundedVirtualThreadExecutor("test", 8, 1000, OverflowPolicy.BLOCK),
+            2
+        );
+        gatedMulticaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            maxObserved.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleepUpTo(10);
+            running.decrementAndGet();
+            done.incrementAndGet();
+        }));
+
+        for (int i = 0; i < 30; i++) {
+            gatedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+                ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS")));
+        }
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> done.get() == 30);
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should pass what a synchronous listener throws on to the publisher")
+    void shouldRethrowSynchronousListenerFailure() {
+        multicaster.addApplicationListener(new ApplicationListener<PayloadApplicationEvent<String>>() {
+            @Override
+            public void onApplicationEvent(PayloadApplicationEvent<String> event) {
+                throw new IllegalStateException("Synchronization failed");
+            }
+
+            @Override
+            public boolean supportsAsyncExecution() {
+                return false;
+            }
+        });
+
+        assertThatThrownBy(() -> multicaster.multicastEvent(new PayloadApplicationEvent<>(this, "payload")))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("Synchronization failed");
+    }
+
+    @Test
+    @DisplayName("Should process different orders in parallel")
+    void shouldProcessDifferentOrdersInParallel() {
+        var running = new AtomicInteger();
+        var maxObserved = new AtomicInteger();
+        var done = new AtomicInteger();
+        multicaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            maxObserved.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleepUpTo(20);
+            running.decrementAndGet();
+            done.incrementAndGet();
+        }));
+
+        for (int i = 0; i < 40; i++) {
+            publish(ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS"));
+        }
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> done.get() == 40);
+        assertThat(maxObserved.get()).isGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Should keep workers free for other listeners while one listener is at its limit")
+    void shouldNotHoldWorkersWaitingForListenerLimit() {
+        var release = new CountDownLatch(1);
+        var gatedMulticaster = new BoundedEventMulticaster(
+            new BoundedVirtualThreadExecutor("test", 2, 1000, OverflowPolicy.BLOCK),
+            1
+        );
+        List<String> slow = new CopyOnWriteArrayList<>();
+        List<Integer> fast = new CopyOnWriteArrayList<>();
+        gatedMulticaster.addApplicationListener(ApplicationListener.forPayload(payload -> {
+            if (payload instanceof String text) {
+                awaitQuietly(release);
+                slow.add(text);
+            }
+        }));
+        gatedMulticaster.addApplicationListener(ApplicationListener.forPayload(payload -> {
+            if (payload instanceof Integer number) {
+                fast.add(number);
+            }
+        }));
+
+        for (var payload : List.of("a", "b", "c")) {
+            gatedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this, payload));
+        }
+        gatedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this, 1));
+        gatedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this, 2));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> fast.size() == 2);
+        assertThat(slow).isEmpty();
+        assertThat(gatedMulticaster.getGateBacklogDepth()).isEqualTo(4);
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> slow.size() == 3);
+        assertThat(slow).containsExactly("a", "b", "c");
+        assertThat(gatedMulticaster.getGateBacklogDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should retry a failing listener until it succeeds")
+    void shouldRetryFailingListener() {
+        List<FailedDelivery> deadLetters = new CopyOnWriteArrayList<>();
+        var retryingMulticaster = retryingMulticaster(3, deadLetters);
+        var attempts = new AtomicInteger();
+        List<String> handled = new CopyOnWriteArrayList<>();
+        retryingMulticaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            handled.add(event.newStatus());
+        }));
+
+        retryingMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+            ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS")));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 1);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(deadLetters).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should retry an order event before delivering later events of that order")
+    void shouldRetryOrderEventBeforeLaterEvents() {
+        var retryingMulticaster = retryingMulticaster(3, new CopyOnWriteArrayList<>());
+        var attempts = new AtomicInteger();
+        List<String> handled = new CopyOnWriteArrayList<>();
+        retryingMulticaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            if (event.newStatus().equals("IN_PROGRESS") && attempts.incrementAndGet() < 3) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            handled.add(event.newStatus());
+        }));
+        var orderId = OrderId.generate();
+
+        retryingMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+            ManufacturingOrderStatusChanged.of(orderId, "PENDING", "IN_PROGRESS")));
+        retryingMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+            ManufacturingOrderStatusChanged.of(orderId, "IN_PROGRESS", "COMPLETED")));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 2);
+        assertThat(handled).containsExactly("IN_PROGRESS", "COMPLETED");
+        assertThat(attempts.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep the listener free for other orders while an order event waits for its retry")
+    void shouldNotHoldListenerWhileOrderEventWaitsForRetry() {
+        var gatedMulticaster = new BoundedEventMulticaster(
+            new BoundedVirtualThreadExecutor("test", 8, 1000, OverflowPolicy.BLOCK),
+            1,
+            new ListenerRetryScheduler(
+                new EventRetryProperties(1000, Duration.ofMillis(10), Duration.ofMillis(20), 2.0, 0.5),
+                failure -> { }
+            ),
+            null,
+            Map.of()
+        );
+        var failingOrder = OrderId.generate();
+        var otherOrder = OrderId.generate();
+        var recovered = new AtomicBoolean();
+        List<String> handled = new CopyOnWriteArrayList<>();
+        gatedMulticaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            if (event.orderId().equals(failingOrder) && !recovered.get()) {
+                throw new IllegalStateException("Database unavailable");
+            }
+            handled.add(event.orderId().equals(failingOrder) ? "failing:" + event.newStatus() : "other:" + event.newStatus());
+        }));
+
+        gatedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+            ManufacturingOrderStatusChanged.of(failingOrder, "PENDING", "IN_PROGRESS")));
+        gatedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+            ManufacturingOrderStatusChanged.of(failingOrder, "IN_PROGRESS", "COMPLETED")));
+        gatedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+            ManufacturingOrderStatusChanged.of(otherOrder, "PENDING", "IN_PROGRESS")));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.contains("other:IN_PROGRESS"));
+        assertThat(handled).containsExactly("other:IN_PROGRESS");
+        assertThat(gatedMulticaster.getOrderedBacklogDepth()).isEqualTo(1);
+
+        recovered.set(true);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 3);
+        assertThat(handled).containsExactly("other:IN_PROGRESS", "failing:IN_PROGRESS", "failing:COMPLETED");
+        assertThat(gatedMulticaster.getOrderedBacklogDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand a delivery over once it has failed on every attempt")
+    void shouldGiveUpAfterMaxAttempts() {
+        List<FailedDelivery> deadLetters = new CopyOnWriteArrayList<>();
+        var retryingMulticaster = retryingMulticaster(3, deadLetters);
+        var attempts = new AtomicInteger();
+        retryingMulticaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Always failing");
+        }));
+        var event = ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS");
+
+        retryingMulticaster.multicastEvent(new PayloadApplicationEvent<>(this, event));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> deadLetters.size() == 1);
+        assertThat(attempts.get()).isEqualTo(3);
+        assertThat(deadLetters.getFirst().attempt()).isEqualTo(3);
+        assertThat(deadLetters.getFirst().payload()).isEqualTo(event);
+        assertThat(deadLetters.getFirst().error()).hasMessage("Always failing");
+    }
+
+    @Test
+    @DisplayName("Should not hand the same event to a listener twice")
+    void shouldSkipRedeliveredEvent() {
+        var deduplicatingMulticaster = retryingMulticaster(1, new CopyOnWriteArrayList<>());
+        List<String> handled = new CopyOnWriteArrayList<>();
+        deduplicatingMulticaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event ->
+            handled.add(event.newStatus())));
+        var event = ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS");
+        var next = ManufacturingOrderStatusChanged.of(event.orderId(), "IN_PROGRESS", "COMPLETED");
+
+        deduplicatingMulticaster.multicastEvent(new PayloadApplicationEvent<>(this, event));
+        deduplicatingMulticaster.multicastEvent(new PayloadApplicationEvent<>(this, event));
+        deduplicatingMulticaster.multicastEvent(new PayloadApplicationEvent<>(this, next));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> handled.size() == 2);
+        assertThat(handled).containsExactly("IN_PROGRESS", "COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should let a retry through after a failed delivery")
+    void shouldRetryDeduplicatedEventAfterFailure() {
+        List<FailedDelivery> deadLetters = new CopyOnWriteArrayList<>();
+        var retryingMulticaster = retryingMulticaster(2, deadLetters);
+        var attempts = new AtomicInteger();
+        retryingMulticaster.addApplicationListener(ApplicationListener.<ManufacturingOrderStatusChanged>forPayload(event -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Always failing");
+        }));
+        var event = ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS");
+
+        retryingMulticaster.multicastEvent(new PayloadApplicationEvent<>(this, event));
+        await().atMost(5, TimeUnit.SECONDS).until(() -> deadLetters.size() == 1);
+        assertThat(retryingMulticaster.redeliver(deadLetters.getFirst().listenerId(), event)).isTrue();
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> deadLetters.size() == 2);
+        assertThat(attempts.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should keep other listeners running while a bulkheaded listener is stuck")
+    void shouldIsolateBulkheadedListener() {
+        var release = new CountDownLatch(1);
+        List<String> slow = new CopyOnWriteArrayList<>();
+        List<String> fast = new CopyOnWriteArrayList<>();
+        var bulkheadedMulticaster = new BoundedEventMulticaster(
+            new BoundedVirtualThreadExecutor("test", 8, 1000, OverflowPolicy.BLOCK),
+            4,
+            null,
+            null,
+            Map.of("slow", new ListenerBulkhead("slow", 1, 100, OverflowPolicy.BLOCK))
+        );
+        bulkheadedMulticaster.addApplicationListener(listener("slow", event -> {
+            awaitQuietly(release);
+            slow.add(event.newStatus());
+        }));
+        bulkheadedMulticaster.addApplicationListener(listener("fast", event -> fast.add(event.newStatus())));
+        var orderId = OrderId.generate();
+
+        bulkheadedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+            ManufacturingOrderStatusChanged.of(orderId, "PENDING", "IN_PROGRESS")));
+        bulkheadedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+            ManufacturingOrderStatusChanged.of(orderId, "IN_PROGRESS", "COMPLETED")));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> fast.size() == 2);
+        assertThat(slow).isEmpty();
+        assertThat(bulkheadedMulticaster.getOrderedBacklogDepth()).isEqualTo(1);
+
+        release.countDown();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> slow.size() == 2);
+        assertThat(slow).containsExactly("IN_PROGRESS", "COMPLETED");
+    }
+
+    @Test
+    @DisplayName("Should run a bulkheaded listener no more often at once than its limit")
+    void shouldCapBulkheadConcurrency() {
+        var running = new AtomicInteger();
+        var maxObserved = new AtomicInteger();
+        var done = new AtomicInteger();
+        var bulkheadedMulticaster = new BoundedEventMulticaster(
+            new BoundedVirtualThreadExecutor("test", 8, 1000, OverflowPolicy.BLOCK),
+            8,
+            null,
+            null,
+            Map.of("limited", new ListenerBulkhead("limited", 2, 100, OverflowPolicy.BLOCK))
+        );
+        bulkheadedMulticaster.addApplicationListener(listener("limited", event -> {
+            maxObserved.accumulateAndGet(running.incrementAndGet(), Math::max);
+            sleepUpTo(10);
+            running.decrementAndGet();
+            done.incrementAndGet();
+        }));
+
+        for (int i = 0; i < 30; i++) {
+            bulkheadedMulticaster.multicastEvent(new PayloadApplicationEvent<>(this,
+                ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS")));
+        }
+
+        await().atMost(10, TimeUnit.SECONDS).until(() -> done.get() == 30);
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(2);
+    }
+
+    private static ApplicationListener<?> listener(String id, Consumer<ManufacturingOrderStatusChanged> handler) {
+        return new SmartApplicationListener() {
+            @Override
+            public boolean supportsEventType(Class<? extends ApplicationEvent> eventType) {
+                return PayloadApplicationEvent.class.isAssignableFrom(eventType);
+            }
+
+            @Override
+            public void onApplicationEvent(ApplicationEvent event) {
+                if (event instanceof PayloadApplicationEvent<?> payloadEvent
+                    && payloadEvent.getPayload() instanceof ManufacturingOrderStatusChanged statusChanged) {
+                    handler.accept(statusChanged);
+                }
+            }
+
+            @Override
+            public String getListenerId() {
+                return id;
+            }
+        };
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private BoundedEventMulticaster retryingMulticaster(int maxAttempts, List<FailedDelivery> deadLetters) {
+        var retryScheduler = new ListenerRetryScheduler(
+            new EventRetryProperties(maxAttempts, Duration.ofMillis(10), Duration.ofMillis(50), 2.0, 0.5),
+            deadLetters::add
+        );
+        return new BoundedEventMulticaster(
+            new BoundedVirtualThreadExecutor("test", 8, 1000, OverflowPolicy.BLOCK),
+            4,
+            retryScheduler,
+            new EventDeduplicator(Duration.ofMinutes(1), 100),
+            Map.of()
+        );
+    }
+
+    private void publish(Object payload) {
+        multicaster.multicastEvent(new PayloadApplicationEvent<>(this, payload));
+    }
+
+    private static void sleepUpTo(int millis) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextInt(millis + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
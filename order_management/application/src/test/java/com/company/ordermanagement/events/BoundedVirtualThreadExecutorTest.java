@@ -0,0 +1,160 @@
+package com.company.ordermanagement.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("Bounded Virtual Thread Executor Tests")
+class BoundedVirtualThreadExecutorTest {
+
+    @Test
+    @DisplayName("Should never run more tasks than the concurrency limit")
+    void shouldCapConcurrency() throws InterruptedException {
+        var executor = new BoundedVirtualThreadExecutor("test", 2, 100, OverflowPolicy.BLOCK);
+        var running = new AtomicInteger();
+        var maxObserved = new AtomicInteger();
+        var done = new CountDownLatch(20);
+
+        for (int i = 0; i < 20; i++) {
+            executor.execute(() -> {
+                maxObserved.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(5);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(2);
+        assertThat(executor.getRejectedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should run overflowing task on caller thread with CALLER_RUNS policy")
+    void shouldRunOnCallerWhenQueueFull() throws InterruptedException {
+        var executor = new BoundedVirtualThreadExecutor("test", 1, 1, OverflowPolicy.CALLER_RUNS);
+        var release = new CountDownLatch(1);
+        var callerThread = Thread.currentThread();
+        var ranOn = new CopyOnWriteArrayList<Thread>();
+
+        executor.execute(() -> awaitQuietly(release));
+        await().atMost(1, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 1);
+        executor.execute(() -> awaitQuietly(release));
+        executor.execute(() -> ranOn.add(Thread.currentThread()));
+
+        assertThat(ranOn).containsExactly(callerThread);
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("Should spill overflowing tasks and still run them in submission order")
+    void shouldSpillAndPreserveOrder() throws InterruptedException {
+        var executor = new BoundedVirtualThreadExecutor("test", 1, 2, OverflowPolicy.SPILL);
+        var release = new CountDownLatch(1);
+        List<Integer> order = new CopyOnWriteArrayList<>();
+
+        executor.execute(() -> awaitQuietly(release));
+        await().atMost(1, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 1);
+        for (int i = 0; i < 5; i++) {
+            int value = i;
+            executor.execute(() -> order.add(value));
+        }
+
+        assertThat(executor.getQueueDepth()).isEqualTo(5);
+        assertThat(executor.getSpillDepth()).isEqualTo(3);
+        assertThat(executor.getRejectedCount()).isEqualTo(3);
+
+        release.countDown();
+        await().atMost(2, TimeUnit.SECONDS).until(() -> order.size() == 5);
+        assertThat(order).containsExactly(0, 1, 2, 3, 4);
+        assertThat(executor.getQueueDepth()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should block the caller until the queue has room with BLOCK policy")
+    void shouldBlockCallerWhenQueueFull() throws InterruptedException {
+        var executor = new BoundedVirtualThreadExecutor("test", 1, 1, OverflowPolicy.BLOCK);
+        var release = new CountDownLatch(1);
+        var submittedAll = new CountDownLatch(1);
+
+        executor.execute(() -> awaitQuietly(release));
+        await().atMost(1, TimeUnit.SECONDS).until(() -> executor.getActiveCount() == 1);
+        executor.execute(() -> { });
+
+        var publisher = Thread.ofVirtual().start(() -> {
+            executor.execute(() -> { });
+            submittedAll.countDown();
+        });
+
+        assertThat(submittedAll.await(100, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(submittedAll.await(2, TimeUnit.SECONDS)).isTrue();
+        publisher.join();
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should not block a worker that submits to its own full executor")
+    void shouldNotBlockWorkerSubmittingToItself() throws InterruptedException {
+        var executor = new BoundedVirtualThreadExecutor("test", 1, 1, OverflowPolicy.BLOCK);
+        var done = new CountDownLatch(3);
+
+        executor.execute(() -> {
+            executor.execute(done::countDown);
+            executor.execute(done::countDown);
+            done.countDown();
+        });
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(executor.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should keep running tasks after one of them fails")
+    void shouldSurviveFailingTask() throws InterruptedException {
+        var executor = new BoundedVirtualThreadExecutor("test", 1, 10, OverflowPolicy.BLOCK);
+        var done = new CountDownLatch(1);
+
+        executor.execute(() -> { throw new IllegalStateException("boom"); });
+        executor.execute(done::countDown);
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new BoundedVirtualThreadExecutor("test", 0, 10, OverflowPolicy.BLOCK))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BoundedVirtualThreadExecutor("test", 1, 0, OverflowPolicy.BLOCK))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new BoundedVirtualThreadExecutor("test", 1, 10, null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.company.ordermanagement.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Event Deduplicator Tests")
+class EventDeduplicatorTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    @Test
+    @DisplayName("Should reject an event a listener has already claimed")
+    void shouldRejectDuplicate() {
+        var deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 10, nanos::get);
+        var eventId = UUID.randomUUID();
+
+        assertThat(deduplicator.tryClaim("listener", eventId)).isTrue();
+        assertThat(deduplicator.tryClaim("listener", eventId)).isFalse();
+        assertThat(deduplicator.tryClaim("other-listener", eventId)).isTrue();
+        assertThat(deduplicator.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should accept an event again once the window has passed")
+    void shouldForgetAfterWindow() {
+        var deduplicator = new EventDeduplicator(Duration.ofSeconds(10), 10, nanos::get);
+        var eventId = UUID.randomUUID();
+        deduplicator.tryClaim("listener", eventId);
+
+        nanos.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(deduplicator.tryClaim("listener", eventId)).isFalse();
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(deduplicator.tryClaim("listener", eventId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should forget the oldest events once a listener's window is full")
+    void shouldEvictOldestWhenFull() {
+        var deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 2, nanos::get);
+        var oldest = UUID.randomUUID();
+        var newest = UUID.randomUUID();
+        deduplicator.tryClaim("listener", oldest);
+        deduplicator.tryClaim("listener", UUID.randomUUID());
+        deduplicator.tryClaim("listener", newest);
+
+        assertThat(deduplicator.getTrackedEventCount()).isEqualTo(2);
+        assertThat(deduplicator.tryClaim("listener", newest)).isFalse();
+        assertThat(deduplicator.tryClaim("listener", oldest)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should accept an event again after its claim was released")
+    void shouldAcceptReleasedEvent() {
+        var deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 10, nanos::get);
+        var eventId = UUID.randomUUID();
+        deduplicator.tryClaim("listener", eventId);
+
+        deduplicator.release("listener", eventId);
+
+        assertThat(deduplicator.tryClaim("listener", eventId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should let every event through when the window is zero")
+    void shouldBeDisabledWithZeroWindow() {
+        var deduplicator = new EventDeduplicator(Duration.ZERO, 10, nanos::get);
+        var eventId = UUID.randomUUID();
+
+        assertThat(deduplicator.tryClaim("listener", eventId)).isTrue();
+        assertThat(deduplicator.tryClaim("listener", eventId)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid configuration")
+    void shouldRejectInvalidConfiguration() {
+        assertThatThrownBy(() -> new EventDeduplicator(Duration.ofSeconds(-1), 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventDeduplicator(Duration.ofMinutes(1), 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
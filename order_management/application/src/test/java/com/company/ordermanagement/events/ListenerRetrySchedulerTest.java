@@ -0,0 +1,56 @@
+package com.company.ordermanagement.events;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Listener Retry Scheduler Tests")
+class ListenerRetrySchedulerTest {
+
+    @Test
+    @DisplayName("Should grow the backoff exponentially up to the maximum")
+    void shouldGrowBackoffExponentially() {
+        var scheduler = scheduler(0.0);
+
+        assertThat(scheduler.backoff(1)).isEqualTo(Duration.ofMillis(100));
+        assertThat(scheduler.backoff(2)).isEqualTo(Duration.ofMillis(200));
+        assertThat(scheduler.backoff(4)).isEqualTo(Duration.ofMillis(800));
+        assertThat(scheduler.backoff(10)).isEqualTo(Duration.ofSeconds(1));
+        scheduler.close();
+    }
+
+    @Test
+    @DisplayName("Should take at most the jitter fraction off the backoff")
+    void shouldApplyJitter() {
+        var scheduler = scheduler(0.5);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(scheduler.backoff(3)).isBetween(Duration.ofMillis(200), Duration.ofMillis(400));
+        }
+        scheduler.close();
+    }
+
+    @Test
+    @DisplayName("Should reject invalid retry settings")
+    void shouldRejectInvalidSettings() {
+        assertThatThrownBy(() -> new EventRetryProperties(0, Duration.ofMillis(100), Duration.ofSeconds(1), 2.0, 0.5))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventRetryProperties(3, Duration.ofSeconds(2), Duration.ofSeconds(1), 2.0, 0.5))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventRetryProperties(3, Duration.ofMillis(100), Duration.ofSeconds(1), 0.5, 0.5))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EventRetryProperties(3, Duration.ofMillis(100), Duration.ofSeconds(1), 2.0, 1.5))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static ListenerRetryScheduler scheduler(double jitter) {
+        return new ListenerRetryScheduler(
+            new EventRetryProperties(5, Duration.ofMillis(100), Duration.ofSeconds(1), 2.0, jitter),
+            failure -> { }
+        );
+    }
+}
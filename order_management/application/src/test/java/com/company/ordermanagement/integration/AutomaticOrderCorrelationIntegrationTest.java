@@ -1,5 +1,6 @@
 package com.company.ordermanagement.integration;
 
+import com.company.sharedkernel.KeysetPage;
 import com.company.sharedkernel.OrderId;
 import com.company.sharedkernel.Money;
 import com.company.customerorder.application.command.PlaceCustomerOrderCommand;
@@ -22,6 +23,7 @@ import org.springframework.test.context.TestPropertySource;
 import java.math.BigDecimal;
 import java.util.Currency;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -61,9 +63,9 @@ class AutomaticOrderCorrelationIntegrationTest {
     @AfterEach 
     void tearDown() {
         try {
-            customerOrderRepository.findAll().forEach(order -> 
+            customerOrderRepository.findAll(null, KeysetPage.MAX_LIMIT).items().forEach(order -> 
                 customerOrderRepository.delete(order.getId()));
-            manufacturingOrderRepository.findAll().forEach(order ->
+            manufacturingOrderRepository.findAll(null, KeysetPage.MAX_LIMIT).items().forEach(order ->
                 manufacturingOrderRepository.delete(order.getId()));
         } catch (Exception e) {
         }
@@ -101,6 +103,7 @@ class AutomaticOrderCorrelationIntegrationTest {
         // Then - Manufacturing order should be automatically created when confirmed
         await()
             .atMost(5, TimeUnit.SECONDS)
+            .ignoreExceptionsInstanceOf(NoSuchElementException.class)
             .untilAsserted(() -> {
                 var updatedCustomerOrder = customerOrderRepository.findById(placedOrderId).orElseThrow();
                 assertThat(updatedCustomerOrder.getId()).isEqualTo(testOrderId);
@@ -144,6 +147,7 @@ class AutomaticOrderCorrelationIntegrationTest {
 
         await()
             .atMost(5, TimeUnit.SECONDS)
+            .ignoreExceptionsInstanceOf(NoSuchElementException.class)
             .untilAsserted(() -> {
                 assertThat(manufacturingOrderRepository.existsById(testOrderId)).isTrue();
                 var updatedCustomerOrder = customerOrderRepository.findById(placedOrderId).orElseThrow();
@@ -161,6 +165,7 @@ class AutomaticOrderCorrelationIntegrationTest {
         // Then - Manufacturing order should be automatically cancelled
         await()
             .atMost(5, TimeUnit.SECONDS)
+            .ignoreExceptionsInstanceOf(NoSuchElementException.class)
             .untilAsserted(() -> {
                 var manufacturingOrder = manufacturingOrderRepository.findById(testOrderId).orElseThrow();
                 assertThat(manufacturingOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
@@ -217,6 +222,7 @@ class AutomaticOrderCorrelationIntegrationTest {
         // Then - Both should have separate manufacturing orders
         await()
             .atMost(5, TimeUnit.SECONDS)
+            .ignoreExceptionsInstanceOf(NoSuchElementException.class)
             .untilAsserted(() -> {
                 var customerOrder1 = customerOrderRepository.findById(order1Id).orElseThrow();
                 var manufacturingOrder1 = manufacturingOrderRepository.findById(order1Id).orElseThrow();
@@ -264,6 +270,7 @@ class AutomaticOrderCorrelationIntegrationTest {
         
         await()
             .atMost(3, TimeUnit.SECONDS)
+            .ignoreExceptionsInstanceOf(NoSuchElementException.class)
             .untilAsserted(() -> {
                 assertThat(manufacturingOrderRepository.existsById(testOrderId)).isTrue();
             });
@@ -273,8 +280,9 @@ class AutomaticOrderCorrelationIntegrationTest {
         // Then - Only one manufacturing order should exist
         await()
             .atMost(2, TimeUnit.SECONDS)
+            .ignoreExceptionsInstanceOf(NoSuchElementException.class)
             .untilAsserted(() -> {
-                var allManufacturingOrders = manufacturingOrderRepository.findAll();
+                var allManufacturingOrders = manufacturingOrderRepository.findAll(null, KeysetPage.MAX_LIMIT).items();
                 var ordersWithTestId = allManufacturingOrders.stream()
                     .filter(order -> order.getId().equals(testOrderId))
                     .toList();
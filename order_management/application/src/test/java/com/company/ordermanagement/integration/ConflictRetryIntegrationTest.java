@@ -0,0 +1,164 @@
+package com.company.ordermanagement.integration;
+
+import com.company.customerorder.adapter.in.event.ManufacturingOrderEventHandler;
+import com.company.customerorder.domain.model.CustomerId;
+import com.company.customerorder.domain.model.CustomerInfo;
+import com.company.customerorder.domain.model.CustomerOrder;
+import com.company.customerorder.domain.model.CustomerOrderStatus;
+import com.company.customerorder.domain.model.OrderItem;
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import com.company.manufacturingorder.application.command.ChangeOrderStatusCommand;
+import com.company.manufacturingorder.application.command.ChangeOrderStatusHandler;
+import com.company.manufacturingorder.application.command.CreateManufacturingOrderCommand;
+import com.company.manufacturingorder.application.command.CreateManufacturingOrderHandler;
+import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Lets a status change, and a batch of manufacturing progress, lose a race against a
+ * concurrent change to the same order, and checks that it is run again in a new
+ * transaction from the stored state.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:conflictretrytest",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "order.management.auto-create-manufacturing-orders=false",
+    "order.management.events.outbox.enabled=false",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+class ConflictRetryIntegrationTest {
+
+    @MockitoSpyBean
+    private ManufacturingOrderRepository repository;
+
+    @MockitoSpyBean
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Autowired
+    private CreateManufacturingOrderHandler createHandler;
+
+    @Autowired
+    private ManufacturingOrderEventHandler manufacturingOrderEventHandler;
+
+    @Autowired
+    private ChangeOrderStatusHandler changeStatusHandler;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldRepeatStatusChangeThatLostRaceToConcurrentChange() {
+        // Given
+        var orderId = OrderId.generate();
+        var now = Instant.now();
+        createHandler.handle(new CreateManufacturingOrderCommand(
+            orderId, "PROD-001", "Test Product", 1, "Standard specifications",
+            now.plus(Duration.ofHours(1)), now.plus(Duration.ofDays(1))));
+        clearInvocations(repository);
+        var concurrentChange = new TransactionTemplate(transactionManager);
+        concurrentChange.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        doAnswer(invocation -> {
+            // Another writer commits a change between this handler's read and its write
+            concurrentChange.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE manufacturing_orders SET version = version + 1 WHERE id = ?", orderId.getValue()));
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(repository).save(any());
+        var retriedBefore = conflicts("retried");
+        
+        // When
+        changeStatusHandler.handle(new ChangeOrderStatusCommand(orderId, OrderStatus.IN_PROGRESS));
+        
+        // Then
+        verify(repository, times(2)).save(any());
+        var stored = repository.findById(orderId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(OrderStatus.IN_PROGRESS);
+        assertThat(stored.getVersion()).isEqualTo(2);
+        assertThat(conflicts("retried") - retriedBefore).isEqualTo(1);
+        assertThat(conflicts("exhausted")).isZero();
+    }
+
+    @Test
+    void shouldReapplyManufacturingProgressThatLostRaceToConcurrentChange() {
+        // Given
+        var manufacturingOrderId = OrderId.generate();
+        var customerOrder = CustomerOrder.placeOrder(manufacturingOrderId,
+            CustomerInfo.of(CustomerId.generate(), "John Doe", "john.doe@example.com", "123 Main St"),
+            List.of(OrderItem.of("PROD-001", "Test Product", 1, Money.of(new BigDecimal("10.00"), Currency.getInstance("USD")))));
+        customerOrder.confirm();
+        customerOrder.linkManufacturingOrder(manufacturingOrderId);
+        customerOrderRepository.save(customerOrder);
+        clearInvocations(customerOrderRepository);
+        var concurrentChange = new TransactionTemplate(transactionManager);
+        concurrentChange.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        doAnswer(invocation -> {
+            // A request through the API commits a change between the batch's read and its write
+            concurrentChange.executeWithoutResult(status -> jdbcTemplate.update(
+                "UPDATE customer_orders SET version = version + 1 WHERE id = ?", customerOrder.getId().getValue()));
+            return invocation.callRealMethod();
+        }).doCallRealMethod().when(customerOrderRepository).saveAll(anyList());
+        var retriedBefore = conflicts("ManufacturingProgressApplier", "retried");
+        
+        // When - the progress is applied by the coalescer's timer
+        manufacturingOrderEventHandler.handleManufacturingOrderStatusChanged(
+            ManufacturingOrderStatusChanged.of(manufacturingOrderId, "PENDING", "IN_PROGRESS"));
+        
+        // Then
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+            var stored = customerOrderRepository.findById(customerOrder.getId()).orElseThrow();
+            assertThat(stored.getStatus()).isEqualTo(CustomerOrderStatus.MANUFACTURING_IN_PROGRESS);
+            assertThat(stored.getVersion()).isEqualTo(2);
+        });
+        verify(customerOrderRepository, times(2)).saveAll(anyList());
+        assertThat(conflicts("ManufacturingProgressApplier", "retried") - retriedBefore).isEqualTo(1);
+        assertThat(conflicts("ManufacturingProgressApplier", "exhausted")).isZero();
+    }
+
+    private double conflicts(String outcome) {
+        return conflicts("ChangeOrderStatusHandler", outcome);
+    }
+
+    private double conflicts(String operation, String outcome) {
+        return meterRegistry.counter("order.commands.conflicts",
+            "operation", operation, "outcome", outcome).count();
+    }
+}
@@ -1,5 +1,6 @@
 package com.company.ordermanagement.integration;
 
+import com.company.sharedkernel.KeysetPage;
 import com.company.sharedkernel.OrderId;
 import com.company.sharedkernel.Money;
 import com.company.manufacturingorder.application.command.CreateManufacturingOrderCommand;
@@ -45,7 +46,7 @@ import static org.awaitility.Awaitility.await;
 @Import(TestEventConfiguration.class)
 @ActiveProfiles("test")
 @TestPropertySource(properties = {
-    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.datasource.url=jdbc:h2:mem:crossmoduletest",
     "spring.jpa.hibernate.ddl-auto=create-drop",
     "order.management.auto-create-manufacturing-orders=false",
     "spring.main.allow-bean-definition-overriding=true"
@@ -82,9 +83,9 @@ class CrossModuleCommunicationIntegrationTest {
     @AfterEach 
     void tearDown() {
         try {
-            customerOrderRepository.findAll().forEach(order -> 
+            customerOrderRepository.findAll(null, KeysetPage.MAX_LIMIT).items().forEach(order -> 
                 customerOrderRepository.delete(order.getId()));
-            manufacturingOrderRepository.findAll().forEach(order ->
+            manufacturingOrderRepository.findAll(null, KeysetPage.MAX_LIMIT).items().forEach(order ->
                 manufacturingOrderRepository.delete(order.getId()));
         } catch (Exception e) {
         }
@@ -0,0 +1,274 @@
+package com.company.ordermanagement.integration;
+
+import com.company.customerorder.domain.model.CustomerOrder;
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import com.company.manufacturingorder.domain.model.ManufacturingOrder;
+import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.sharedkernel.KeysetPage;
+import com.company.sharedkernel.PageCursor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the active and overdue order lists against PostgreSQL with the Flyway migrations and
+ * a large share of closed orders. Each page must take a fixed number of statements, and the
+ * order query must be planned over the partial indexes of open orders, also as a generic plan
+ * of a prepared statement. Skipped where Docker is not available.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestPropertySource(properties = {
+    "spring.datasource.driver-class-name=org.postgresql.Driver",
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.company.ordermanagement.integration.OpenOrderQueryPlanIntegrationTest$StatementCapture",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "spring.flyway.enabled=true",
+    "order.management.auto-create-manufacturing-orders=false",
+    "order.management.events.outbox.enabled=false",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+class OpenOrderQueryPlanIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(OpenOrderQueryPlanIntegrationTest.class);
+    private static final int ORDERS = 100_000;
+    private static final int OPEN_EVERY = 50;
+    private static final int PAGE_SIZE = 100;
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Autowired
+    private ManufacturingOrderRepository manufacturingOrderRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeAll
+    void seed() {
+        // Five minutes apart, the orders span about a year of monthly partitions
+        for (var table : List.of("customer_orders", "manufacturing_orders")) {
+            jdbcTemplate.queryForObject(
+                "SELECT create_monthly_partitions(CAST(? AS regclass), " +
+                "CAST(date_trunc('month', now() - interval '13 months') AS date), CAST(now() AS date))",
+                Integer.class, table);
+        }
+        jdbcTemplate.update("""
+            INSERT INTO customer_orders (id, customer_id, customer_name, customer_email, customer_address,
+                total_amount, currency, status, placed_at, updated_at, version)
+            SELECT gen_random_uuid(), gen_random_uuid(), 'Customer ' || n, 'customer' || n || '@example.com',
+                n || ' Main Street', 10.00, 'EUR',
+                CASE WHEN n % ? = 0 THEN 'PLACED' WHEN n % 3 = 0 THEN 'CANCELLED' ELSE 'DELIVERED' END,
+                now() - make_interval(mins => n * 5), now(), 0
+            FROM generate_series(1, ?) AS n
+            """, OPEN_EVERY, ORDERS);
+        jdbcTemplate.update("""
+            INSERT INTO order_items (id, customer_order_id, product_code, description, quantity, unit_price, currency)
+            SELECT row_number() OVER (), id, 'PROD-1', 'Product', 1, 10.00, 'EUR' FROM customer_orders
+            """);
+        jdbcTemplate.update("""
+            INSERT INTO manufacturing_orders (id, product_code, description, quantity, specifications, status,
+                expected_start_date, expected_completion_date, created_at, updated_at)
+            SELECT gen_random_uuid(), 'PROD-' || n % 20, 'Product', 1, 'Standard',
+                CASE WHEN n % ? = 0 THEN 'IN_PROGRESS' WHEN n % 3 = 0 THEN 'CANCELLED' ELSE 'COMPLETED' END,
+                created_at + interval '1 day', created_at + interval '7 days', created_at, now()
+            FROM generate_series(1, ?) AS n, LATERAL (SELECT now() - make_interval(mins => n * 5) AS created_at) c
+            """, OPEN_EVERY, ORDERS);
+        jdbcTemplate.execute("ANALYZE customer_orders, order_items, manufacturing_orders");
+    }
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        StatementCapture.STATEMENTS.clear();
+    }
+
+    @Test
+    void shouldPageThroughActiveCustomerOrdersOverPartialIndex() {
+        var orders = readAll(after -> customerOrderRepository.findActiveOrders(after, PAGE_SIZE));
+
+        assertThat(orders).hasSize(ORDERS / OPEN_EVERY);
+        assertThat(orders).allMatch(CustomerOrder::isActive);
+        assertThat(orders).extracting(CustomerOrder::getPlacedAt).isSorted();
+
+        var scans = scansOfGenericPlan(capturedQueryOn("customer_orders"), PAGE_SIZE + 1);
+        assertReadThroughPartialIndex(scans, "customer_orders", "idx_customer_orders_active_placed_at_id");
+    }
+
+    @Test
+    void shouldPageThroughOverdueManufacturingOrdersOverPartialIndex() {
+        var orders = readAll(after -> manufacturingOrderRepository.findOverdueOrders(after, PAGE_SIZE));
+
+        // The 40 open orders created within the last week are not due yet
+        assertThat(orders).hasSize(ORDERS / OPEN_EVERY - 40);
+        assertThat(orders).allMatch(ManufacturingOrder::isOverdue);
+        assertThat(orders).extracting(ManufacturingOrder::getCreatedAt).isSorted();
+
+        var scans = scansOfGenericPlan(capturedQueryOn("manufacturing_orders"), "now()", PAGE_SIZE + 1);
+        assertReadThroughPartialIndex(scans, "manufacturing_orders", "idx_manufacturing_orders_open_expected_completion");
+    }
+
+    /**
+     * Reads every page and checks that none takes more than the order query and one batched
+     * load of the items.
+     */
+    private <T> List<T> readAll(Function<PageCursor, KeysetPage<T>> pageReader) {
+        var all = new ArrayList<T>();
+        PageCursor after = null;
+        do {
+            statistics.clear();
+            var page = pageReader.apply(after);
+            assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+            all.addAll(page.items());
+            after = page.nextCursor();
+        } while (after != null);
+        return all;
+    }
+
+    private static String capturedQueryOn(String table) {
+        return StatementCapture.STATEMENTS.stream()
+            .filter(sql -> sql.contains(" from " + table + " "))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    /**
+     * Checks that every partition holding rows is read through its part of the partial
+     * index. Empty partitions may be scanned in any way.
+     */
+    private void assertReadThroughPartialIndex(Map<String, Set<String>> scans, String table, String partialIndex) {
+        var partialIndexes = childrenOf(partialIndex);
+        var populatedPartitions = jdbcTemplate.queryForList("""
+            SELECT child.relname FROM pg_inherits
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE pg_inherits.inhparent = CAST(? AS regclass) AND child.reltuples > 0
+            """, String.class, table);
+        assertThat(populatedPartitions).isNotEmpty().allSatisfy(partition ->
+            assertThat(scans.get(partition)).as(partition).isNotEmpty().isSubsetOf(partialIndexes));
+    }
+
+    /**
+     * Prepares the query with its placeholders as statement parameters and explains the
+     * generic plan, which cannot rely on the parameter values to match a partial index.
+     *
+     * @return the indexes each scanned table is read through
+     */
+    private Map<String, Set<String>> scansOfGenericPlan(String sql, Object... arguments) {
+        var parameter = new int[] {0};
+        var prepared = Pattern.compile("\\?").matcher(sql).replaceAll(match -> "\\$" + ++parameter[0]);
+        var argumentList = Arrays.stream(arguments).map(String::valueOf).collect(Collectors.joining(", "));
+        return jdbcTemplate.execute((ConnectionCallback<Map<String, Set<String>>>) connection -> {
+            try (var statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE page AS " + prepared);
+                var plan = new StringBuilder();
+                try (var rows = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE page(" + argumentList + ")")) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1));
+                    }
+                }
+                statement.execute("DEALLOCATE page");
+                statement.execute("RESET plan_cache_mode");
+                log.info("Generic plan of {}: {}", sql, plan);
+                var scans = new HashMap<String, Set<String>>();
+                collectScans(OBJECT_MAPPER.readTree(plan.toString()).get(0).get("Plan"), scans);
+                return scans;
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    private static void collectScans(JsonNode node, Map<String, Set<String>> scans) {
+        if (node.has("Relation Name")) {
+            scans.put(node.get("Relation Name").asText(), indexesBelow(node));
+        }
+        node.path("Plans").forEach(child -> collectScans(child, scans));
+    }
+
+    /**
+     * A bitmap heap scan names its indexes in the bitmap index scans below it.
+     */
+    private static Set<String> indexesBelow(JsonNode node) {
+        var indexes = new HashSet<String>();
+        if (node.has("Index Name")) {
+            indexes.add(node.get("Index Name").asText());
+        }
+        node.path("Plans").forEach(child -> indexes.addAll(indexesBelow(child)));
+        return indexes;
+    }
+
+    private Set<String> childrenOf(String parentIndex) {
+        return Set.copyOf(jdbcTemplate.queryForList("""
+            SELECT child.relname FROM pg_inherits
+            JOIN pg_class child ON child.oid = pg_inherits.inhrelid
+            WHERE pg_inherits.inhparent = CAST(? AS regclass)
+            """, String.class, parentIndex));
+    }
+
+    public static class StatementCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.company.ordermanagement.integration;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the Flyway migrations against PostgreSQL and checks that an order id stays unique
+ * across the monthly partitions of the order tables, that its registry names the partition
+ * of the order, and that the references the registries stand in for are enforced. Skipped
+ * where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class OrderIdRegistryMigrationIntegrationTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void migrate() {
+        var dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").load().migrate();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Test
+    void shouldRejectCustomerOrderIdStoredInAnotherMonth() {
+        var orderId = UUID.randomUUID();
+        var placedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        insertCustomerOrder(orderId, placedAt);
+
+        assertThatThrownBy(() -> insertCustomerOrder(orderId, placedAt.minus(40, ChronoUnit.DAYS)))
+            .isInstanceOf(DuplicateKeyException.class);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM customer_orders WHERE id = ?", Long.class, orderId)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectManufacturingOrderIdStoredInAnotherMonth() {
+        var orderId = UUID.randomUUID();
+        var createdAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        insertManufacturingOrder(orderId, createdAt);
+
+        assertThatThrownBy(() -> insertManufacturingOrder(orderId, createdAt.minus(40, ChronoUnit.DAYS)))
+            .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void shouldFreeTheIdOfDeletedOrder() {
+        var orderId = UUID.randomUUID();
+        var placedAt = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        insertCustomerOrder(orderId, placedAt);
+
+        jdbcTemplate.update("DELETE FROM customer_orders WHERE id = ?", orderId);
+        insertCustomerOrder(orderId, placedAt.minus(40, ChronoUnit.DAYS));
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM customer_order_ids WHERE id = ?", Long.class, orderId)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepRegisteredIdsWhenRowsMoveOutOfTheDefaultPartition() {
+        var orderId = UUID.randomUUID();
+        // Far enough ahead that no monthly partition exists yet, so the row lands in the default one
+        var placedAt = Instant.now().plus(400, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+        insertCustomerOrder(orderId, placedAt);
+
+        var month = OffsetDateTime.ofInstant(placedAt, ZoneOffset.UTC).toLocalDate();
+        jdbcTemplate.queryForObject("SELECT create_monthly_partitions('customer_orders', ?, ?)", Integer.class, month, month);
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT count(*) FROM customer_order_ids WHERE id = ?", Long.class, orderId)).isEqualTo(1);
+        assertThatThrownBy(() -> insertCustomerOrder(orderId, placedAt.minus(400, ChronoUnit.DAYS)))
+            .isInstanceOf(DuplicateKeyException.class);
+    }
+
+    @Test
+    void shouldRegisterThePartitionKeyOfEveryOrder() {
+        var orderId = UUID.randomUUID();
+        var placedAt = Instant.now().minus(40, ChronoUnit.DAYS).truncatedTo(ChronoUnit.MICROS);
+        insertCustomerOrder(orderId, placedAt);
+        insertManufacturingOrder(orderId, placedAt);
+
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT placed_at FROM customer_order_ids WHERE id = ?", OffsetDateTime.class, orderId).toInstant())
+            .isEqualTo(placedAt);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT created_at FROM manufacturing_order_ids WHERE id = ?", OffsetDateTime.class, orderId).toInstant())
+            .isEqualTo(placedAt);
+    }
+
+    @Test
+    void shouldRejectLinkToUnknownManufacturingOrder() {
+        var orderId = UUID.randomUUID();
+        insertCustomerOrder(orderId, Instant.now().truncatedTo(ChronoUnit.MICROS));
+
+        assertThatThrownBy(() -> linkManufacturingOrder(orderId, UUID.randomUUID()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    void shouldKeepLinkToArchivedManufacturingOrder() {
+        var orderId = UUID.randomUUID();
+        var manufacturingOrderId = UUID.randomUUID();
+        var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+        insertManufacturingOrder(manufacturingOrderId, now);
+        insertCustomerOrder(orderId, now);
+        linkManufacturingOrder(orderId, manufacturingOrderId);
+
+        jdbcTemplate.update("INSERT INTO archived_orders (aggregate_type, id, payload, archived_at) VALUES (1, ?, ?, now())",
+            manufacturingOrderId, new byte[] {1});
+        jdbcTemplate.update("DELETE FROM manufacturing_orders WHERE id = ?", manufacturingOrderId);
+
+        assertThat(jdbcTemplate.update(
+            "UPDATE customer_orders SET status = 'CONFIRMED', manufacturing_order_id = manufacturing_order_id WHERE id = ?",
+            orderId)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectItemOfUnknownCustomerOrder() {
+        assertThatThrownBy(() -> jdbcTemplate.update("""
+            INSERT INTO order_items (id, customer_order_id, product_code, description, quantity, unit_price, currency)
+            VALUES (nextval('order_items_seq'), ?, 'PROD-1', 'Product', 1, 10.00, 'EUR')
+            """, UUID.randomUUID()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private void linkManufacturingOrder(UUID orderId, UUID manufacturingOrderId) {
+        jdbcTemplate.update("UPDATE customer_orders SET manufacturing_order_id = ? WHERE id = ?", manufacturingOrderId, orderId);
+    }
+
+    private void insertCustomerOrder(UUID orderId, Instant placedAt) {
+        jdbcTemplate.update("""
+            INSERT INTO customer_orders (id, customer_id, customer_name, customer_email, customer_address,
+                total_amount, currency, status, placed_at, updated_at, version)
+            VALUES (?, ?, 'Customer', 'customer@example.com', '1 Main Street', 10.00, 'EUR', 'PLACED', ?, ?, 0)
+            """, orderId, UUID.randomUUID(), timestamp(placedAt), timestamp(placedAt));
+    }
+
+    private void insertManufacturingOrder(UUID orderId, Instant createdAt) {
+        jdbcTemplate.update("""
+            INSERT INTO manufacturing_orders (id, product_code, description, quantity, specifications, status,
+                expected_start_date, expected_completion_date, created_at, updated_at)
+            VALUES (?, 'PROD-1', 'Product', 1, 'Standard', 'PENDING', ?, ?, ?, ?)
+            """, orderId, timestamp(createdAt.plus(1, ChronoUnit.DAYS)), timestamp(createdAt.plus(7, ChronoUnit.DAYS)),
+            timestamp(createdAt), timestamp(createdAt));
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return OffsetDateTime.ofInstant(instant, ZoneOffset.UTC);
+    }
+}
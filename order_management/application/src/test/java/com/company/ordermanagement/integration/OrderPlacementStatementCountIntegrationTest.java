@@ -0,0 +1,92 @@
+package com.company.ordermanagement.integration;
+
+import com.company.customerorder.application.command.PlaceCustomerOrderCommand;
+import com.company.customerorder.application.command.PlaceCustomerOrderHandler;
+import com.company.customerorder.domain.model.CustomerId;
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import com.company.sharedkernel.OrderId;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the JDBC statements needed to place a large order, so that a change to the item
+ * id strategy or the batch settings that brings back one INSERT per item fails here.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:statementcounttest",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.show_sql=false",
+    "order.management.auto-create-manufacturing-orders=false",
+    "order.management.events.outbox.enabled=false",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+class OrderPlacementStatementCountIntegrationTest {
+    private static final Logger log = LoggerFactory.getLogger(OrderPlacementStatementCountIntegrationTest.class);
+    private static final int ITEM_COUNT = 200;
+
+    @Autowired
+    private PlaceCustomerOrderHandler placeCustomerOrderHandler;
+
+    @Autowired
+    private CustomerOrderRepository customerOrderRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // Warm up, so that the first sequence block is not charged to the measured order
+        placeCustomerOrderHandler.handle(command(1));
+    }
+
+    @Test
+    void shouldInsertItemsOfLargeOrderInBatches() {
+        var command = command(ITEM_COUNT);
+        statistics.clear();
+
+        placeCustomerOrderHandler.handle(command);
+
+        var statements = statistics.getPrepareStatementCount();
+        log.info("Placing an order with {} items prepared {} statements", ITEM_COUNT, statements);
+        assertThat(customerOrderRepository.findById(command.orderId()).orElseThrow().getItems()).hasSize(ITEM_COUNT);
+        assertThat(statements).isLessThanOrEqualTo(ITEM_COUNT / 50 + 5);
+    }
+
+    private static PlaceCustomerOrderCommand command(int itemCount) {
+        var items = IntStream.range(0, itemCount)
+            .mapToObj(i -> new PlaceCustomerOrderCommand.OrderItemCommand(
+                "PROD-" + i, "Product " + i, 1, new BigDecimal("10.00"), Currency.getInstance("EUR")))
+            .toList();
+        return new PlaceCustomerOrderCommand(
+            OrderId.of(UUID.randomUUID()),
+            CustomerId.of(UUID.randomUUID()),
+            "Jane Doe",
+            "jane.doe@example.com",
+            "1 Main Street",
+            items
+        );
+    }
+}
@@ -0,0 +1,71 @@
+package com.company.ordermanagement.journal;
+
+import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:journaltest",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "order.management.auto-create-manufacturing-orders=false",
+    "order.management.events.journal.enabled=true",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+class EventJournalIntegrationTest {
+
+    @TempDir
+    static Path journalDirectory;
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MappedEventJournal journal;
+
+    @Autowired
+    private EventJournalEndpoint endpoint;
+
+    @DynamicPropertySource
+    static void journalProperties(DynamicPropertyRegistry registry) {
+        registry.add("order.management.events.journal.directory", journalDirectory::toString);
+    }
+
+    @Test
+    void shouldJournalOnlyCommittedEvents() {
+        long start = journal.nextOffset();
+        var committed = CustomerOrderCancelled.of(OrderId.generate(), "committed");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            domainEventPublisher.publishEvent(CustomerOrderCancelled.of(OrderId.generate(), "rolled back"));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> domainEventPublisher.publishEvent(committed));
+
+        assertThat(journal.replayFrom(start).map(JournalEntry::event)).containsExactly(committed);
+        assertThat(endpoint.entries(start, null, null))
+            .singleElement()
+            .satisfies(entry -> {
+                assertThat(entry.offset()).isEqualTo(start);
+                assertThat(entry.eventType()).isEqualTo("CustomerOrderCancelled");
+                assertThat(entry.event()).isEqualTo(committed);
+            });
+    }
+}
@@ -0,0 +1,269 @@
+package com.company.ordermanagement.journal;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Mapped Event Journal Tests")
+class MappedEventJournalTest {
+
+    private static final int SEGMENT_SIZE = 1024;
+    private static final int INDEX_INTERVAL = 128;
+
+    @TempDir
+    Path directory;
+
+    private final TestClock clock = new TestClock(Instant.parse("2025-01-01T10:00:00Z"));
+    private final DomainEventCodec codec = new DomainEventCodec();
+    private MappedEventJournal journal;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should assign consecutive offsets and replay events in append order")
+    void shouldReplayFromStart() throws IOException {
+        journal = open();
+        var events = events(5);
+
+        journal.appendAll(events);
+
+        assertThat(journal.nextOffset()).isEqualTo(5);
+        assertThat(journal.replayFrom(0L).map(JournalEntry::event)).containsExactlyElementsOf(events);
+        assertThat(journal.replayFrom(0L).map(JournalEntry::offset)).containsExactly(0L, 1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("Should roll over to new segments and replay across them from any offset")
+    void shouldReplayFromOffsetAcrossSegments() throws IOException {
+        journal = open();
+        var events = events(100);
+
+        journal.appendAll(events);
+
+        assertThat(journal.segmentCount()).isGreaterThan(3);
+        for (int offset : List.of(0, 1, 17, 42, 63, 99)) {
+            assertThat(journal.replayFrom((long) offset).map(JournalEntry::event))
+                .containsExactlyElementsOf(events.subList(offset, events.size()));
+        }
+        assertThat(journal.replayFrom(100L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should replay events journaled at or after a point in time")
+    void shouldReplayFromTimestamp() throws IOException {
+        journal = open();
+        var events = events(60);
+
+        for (var event : events) {
+            journal.append(event);
+            clock.advanceMillis(1000);
+        }
+
+        var from = Instant.parse("2025-01-01T10:00:30Z");
+        assertThat(journal.replayFrom(from).map(JournalEntry::event))
+            .containsExactlyElementsOf(events.subList(30, 60));
+        assertThat(journal.replayFrom(from).findFirst().orElseThrow().appendedAt()).isEqualTo(from);
+        assertThat(journal.replayFrom(Instant.parse("2024-12-31T00:00:00Z"))).hasSize(60);
+    }
+
+    @Test
+    @DisplayName("Should never let append timestamps go backwards")
+    void shouldKeepTimestampsMonotonic() throws IOException {
+        journal = open();
+
+        journal.append(event(0));
+        clock.advanceMillis(-5000);
+        journal.append(event(1));
+
+        var timestamps = journal.replayFrom(0L).map(JournalEntry::appendedAt).toList();
+        assertThat(timestamps.get(1)).isEqualTo(timestamps.get(0));
+    }
+
+    @Test
+    @DisplayName("Should continue after the last event when reopened")
+    void shouldRecoverOnReopen() throws IOException {
+        journal = open();
+        var events = events(40);
+        journal.appendAll(events.subList(0, 30));
+        journal.close();
+
+        journal = open();
+        assertThat(journal.nextOffset()).isEqualTo(30);
+        journal.appendAll(events.subList(30, 40));
+
+        assertThat(journal.replayFrom(0L).map(JournalEntry::event)).containsExactlyElementsOf(events);
+    }
+
+    @Test
+    @DisplayName("Should drop a torn record at the end of the journal when reopened")
+    void shouldDropTornRecordOnReopen() throws IOException {
+        journal = open();
+        var events = events(3);
+        journal.appendAll(events);
+        journal.close();
+
+        var segment = directory.resolve(JournalSegment.fileName(0, ".log"));
+        int lastPayloadPosition = recordPosition(segment, 2) + JournalSegment.RECORD_HEADER_BYTES;
+        try (var channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {0x7F}), lastPayloadPosition + 3);
+        }
+
+        journal = open();
+        assertThat(journal.nextOffset()).isEqualTo(2);
+        assertThat(journal.replayFrom(0L).map(JournalEntry::event)).containsExactlyElementsOf(events.subList(0, 2));
+    }
+
+    @Test
+    @DisplayName("Should only replay events journaled before the replay started")
+    void shouldReplaySnapshot() throws IOException {
+        journal = open();
+        journal.appendAll(events(3));
+
+        var replay = journal.replayFrom(0L);
+        journal.append(event(3));
+
+        assertThat(replay).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("Should reject events larger than a segment")
+    void shouldRejectOversizedEvent() throws IOException {
+        journal = open();
+        var oversized = CustomerOrderCancelled.of(OrderId.generate(), "x".repeat(SEGMENT_SIZE));
+
+        assertThatThrownBy(() -> journal.append(oversized))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("does not fit");
+        assertThat(journal.nextOffset()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should delete full segments whose events are past the retention age")
+    void shouldDeleteSegmentsPastRetention() throws IOException {
+        journal = open(Duration.ofHours(1), 0);
+        var events = events(60);
+        journal.appendAll(events.subList(0, 30));
+        clock.advanceMillis(Duration.ofHours(2).toMillis());
+        journal.appendAll(events.subList(30, 60));
+        int segmentsBefore = journal.segmentCount();
+
+        int deleted = journal.deleteExpiredSegments();
+
+        assertThat(deleted).isPositive();
+        assertThat(journal.segmentCount()).isEqualTo(segmentsBefore - deleted);
+        // The segment holding both old and recent events is kept as a whole
+        var remaining = journal.replayFrom(0L).map(JournalEntry::event).toList();
+        assertThat(remaining).hasSizeLessThan(60).endsWith(events.subList(30, 60).toArray(DomainEvent[]::new));
+        assertThat(Files.list(directory).filter(path -> path.toString().endsWith(".log")).count())
+            .isEqualTo(journal.segmentCount());
+    }
+
+    @Test
+    @DisplayName("Should delete the oldest segments while the journal is over its retention size")
+    void shouldDeleteOldestSegmentsOverRetentionSize() throws IOException {
+        journal = open(Duration.ZERO, 3 * SEGMENT_SIZE);
+        journal.appendAll(events(100));
+
+        journal.deleteExpiredSegments();
+
+        assertThat(journal.sizeInBytes()).isLessThanOrEqualTo(3 * SEGMENT_SIZE);
+        assertThat(journal.segmentCount()).isGreaterThanOrEqualTo(1);
+        assertThat(journal.replayFrom(0L).map(JournalEntry::offset).toList()).endsWith(99L);
+    }
+
+    @Test
+    @DisplayName("Should keep the segment being written and its offsets when everything has expired")
+    void shouldKeepActiveSegmentAfterRetention() throws IOException {
+        journal = open(Duration.ofMinutes(1), 0);
+        journal.appendAll(events(100));
+        clock.advanceMillis(Duration.ofHours(1).toMillis());
+
+        journal.deleteExpiredSegments();
+        journal.close();
+
+        journal = open(Duration.ofMinutes(1), 0);
+        assertThat(journal.segmentCount()).isEqualTo(1);
+        assertThat(journal.nextOffset()).isEqualTo(100);
+        assertThat(journal.append(event(100))).isEqualTo(100);
+    }
+
+    private MappedEventJournal open() throws IOException {
+        return new MappedEventJournal(directory, SEGMENT_SIZE, INDEX_INTERVAL, codec, clock);
+    }
+
+    private MappedEventJournal open(Duration retention, long retentionSize) throws IOException {
+        return new MappedEventJournal(directory, SEGMENT_SIZE, INDEX_INTERVAL, codec, clock, retention, retentionSize);
+    }
+
+    private static List<DomainEvent> events(int count) {
+        return IntStream.range(0, count).mapToObj(MappedEventJournalTest::event).toList();
+    }
+
+    private static DomainEvent event(int sequence) {
+        return ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "STEP_" + sequence);
+    }
+
+    private static int recordPosition(Path segment, int record) throws IOException {
+        var buffer = ByteBuffer.wrap(Files.readAllBytes(segment));
+        int position = 0;
+        for (int i = 0; i < record; i++) {
+            position += JournalSegment.RECORD_HEADER_BYTES + buffer.getInt(position);
+        }
+        return position;
+    }
+
+    private static final class TestClock extends Clock {
+        private Instant now;
+
+        TestClock(Instant now) {
+            this.now = now;
+        }
+
+        void advanceMillis(long millis) {
+            now = now.plusMillis(millis);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
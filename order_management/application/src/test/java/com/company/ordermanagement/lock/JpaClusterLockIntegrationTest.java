@@ -0,0 +1,68 @@
+package com.company.ordermanagement.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:archivestoragetest",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "order.management.auto-create-manufacturing-orders=false",
+    "order.management.events.outbox.enabled=false",
+    "order.management.archive.enabled=true",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+@DisplayName("JPA Cluster Lock Integration Tests")
+class JpaClusterLockIntegrationTest {
+
+    @Autowired
+    private JpaClusterLock lock;
+
+    @Autowired
+    private JobLockJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JpaClusterLock otherInstance;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        otherInstance = new JpaClusterLock(repository, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Should let only one instance hold a lock")
+    void shouldLetOnlyOneInstanceHoldLock() {
+        assertThat(lock.tryLock("job", Duration.ofMinutes(1))).isTrue();
+
+        assertThat(otherInstance.tryLock("job", Duration.ofMinutes(1))).isFalse();
+        assertThat(lock.tryLock("job", Duration.ofMinutes(1))).isTrue();
+        assertThat(otherInstance.tryLock("other-job", Duration.ofMinutes(1))).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should free a lock when it is unlocked or its lease runs out")
+    void shouldFreeLockOnUnlockOrExpiry() {
+        lock.tryLock("job", Duration.ofMinutes(1));
+        otherInstance.unlock("job");
+        assertThat(otherInstance.tryLock("job", Duration.ofMinutes(1))).isFalse();
+
+        lock.unlock("job");
+        assertThat(otherInstance.tryLock("job", Duration.ZERO)).isTrue();
+
+        assertThat(lock.tryLock("job", Duration.ofMinutes(1))).isTrue();
+    }
+}
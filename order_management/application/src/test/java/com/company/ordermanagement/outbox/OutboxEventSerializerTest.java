@@ -0,0 +1,75 @@
+package com.company.ordermanagement.outbox;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.CustomerOrderPlaced;
+import com.company.sharedkernel.events.CustomerOrderStatusUpdated;
+import com.company.sharedkernel.events.ManufacturingOrderCompleted;
+import com.company.sharedkernel.events.ManufacturingOrderCreated;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Outbox Event Serializer Tests")
+class OutboxEventSerializerTest {
+
+    private final OutboxEventSerializer serializer =
+        new OutboxEventSerializer(new ObjectMapper().registerModule(new JavaTimeModule()));
+
+    static Stream<DomainEvent> events() {
+        var orderId = OrderId.generate();
+        return Stream.of(
+            CustomerOrderPlaced.of(orderId, UUID.randomUUID(), Money.of(new BigDecimal("149.99"), Currency.getInstance("EUR"))),
+            CustomerOrderStatusUpdated.of(orderId, "PLACED", "CONFIRMED"),
+            CustomerOrderCancelled.of(orderId, "Customer changed their mind"),
+            ManufacturingOrderCreated.of(orderId, "PROD-001", 5),
+            ManufacturingOrderStatusChanged.of(orderId, "PENDING", "IN_PROGRESS"),
+            ManufacturingOrderCompleted.of(orderId, Instant.now())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("events")
+    @DisplayName("Should restore every shared kernel event from its payload")
+    void shouldRoundTripEvent(DomainEvent event) {
+        var payload = serializer.serialize(event);
+
+        assertThat(serializer.deserialize(event.eventType(), payload)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Should give payloads written before events had ids a stable id")
+    void shouldDeriveEventIdForLegacyPayload() {
+        var payload = serializer.serialize(CustomerOrderCancelled.of(OrderId.generate(), "No longer needed"))
+            .replaceFirst("\"eventId\":\"[^\"]+\",?", "");
+
+        var first = serializer.deserialize("CustomerOrderCancelled", payload);
+        var second = serializer.deserialize("CustomerOrderCancelled", payload);
+
+        assertThat(payload).doesNotContain("eventId");
+        assertThat(first.eventId()).isNotNull().isEqualTo(second.eventId());
+    }
+
+    @Test
+    @DisplayName("Should reject payloads of unknown event types")
+    void shouldRejectUnknownEventType() {
+        assertThatThrownBy(() -> serializer.deserialize("SomethingHappened", "{}"))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("SomethingHappened");
+    }
+}
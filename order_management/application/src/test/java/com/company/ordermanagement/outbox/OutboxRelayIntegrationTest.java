@@ -0,0 +1,173 @@
+package com.company.ordermanagement.outbox;
+
+import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(OutboxRelayIntegrationTest.RecordingListenerConfiguration.class)
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:outboxtest",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "order.management.auto-create-manufacturing-orders=false",
+    "spring.main.allow-bean-definition-overriding=true"
+})
+class OutboxRelayIntegrationTest {
+
+    @Autowired
+    private DomainEventPublisher domainEventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxRepository;
+
+    @Autowired
+    private OutboxEventSerializer serializer;
+
+    @Autowired
+    private DomainEventCodec codec;
+
+    @Autowired
+    private RecordingListener listener;
+
+    @BeforeEach
+    void setUp() {
+        listener.received.clear();
+        listener.gate = null;
+    }
+
+    @Test
+    void shouldDeliverStoredEventsAfterCommit() {
+        var events = List.of(
+            CustomerOrderCancelled.of(OrderId.generate(), "first"),
+            CustomerOrderCancelled.of(OrderId.generate(), "second"),
+            CustomerOrderCancelled.of(OrderId.generate(), "third")
+        );
+
+        transactionTemplate.executeWithoutResult(status -> events.forEach(domainEventPublisher::publishEvent));
+
+        await()
+            .atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> assertThat(listener.received).hasSize(3));
+        assertThat(listener.received).containsExactlyInAnyOrderElementsOf(events);
+        await()
+            .atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> assertThat(outboxRepository.count()).isZero());
+    }
+
+    @Test
+    void shouldKeepEventUntilListenersHaveHandledIt() {
+        var release = new CountDownLatch(1);
+        listener.gate = release;
+        var event = CustomerOrderCancelled.of(OrderId.generate(), "slow listener");
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> domainEventPublisher.publishEvent(event));
+
+            await()
+                .atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(outboxRepository.findAll())
+                    .singleElement()
+                    .satisfies(entry -> assertThat(entry.getDispatchedAt()).isNotNull()));
+            assertThat(listener.received).isEmpty();
+        } finally {
+            release.countDown();
+        }
+
+        await()
+            .atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> assertThat(outboxRepository.count()).isZero());
+        assertThat(listener.received).containsExactly(event);
+    }
+
+    @Test
+    void shouldRedeliverEventDispatchedByRelayThatStopped() {
+        var lost = CustomerOrderCancelled.of(OrderId.generate(), "dispatched before a crash");
+        var stored = new OutboxEventJpaEntity(
+            null, lost.eventType(), null, codec.encode(lost), lost.occurredOn(), Instant.now(), Instant.now().minus(Duration.ofHours(1)));
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.save(stored));
+
+        await()
+            .atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> assertThat(listener.received).containsExactly(lost));
+        await()
+            .atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> assertThat(outboxRepository.count()).isZero());
+    }
+
+    @Test
+    void shouldNotDeliverEventsOfRolledBackTransaction() throws InterruptedException {
+        var committed = CustomerOrderCancelled.of(OrderId.generate(), "committed");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            domainEventPublisher.publishEvent(CustomerOrderCancelled.of(OrderId.generate(), "rolled back"));
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status -> domainEventPublisher.publishEvent(committed));
+
+        await()
+            .atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> assertThat(listener.received).contains(committed));
+        assertThat(listener.received).containsExactly(committed);
+    }
+
+    @Test
+    void shouldDeliverEventsStoredAsJsonBeforeBinaryEncoding() {
+        var legacy = CustomerOrderCancelled.of(OrderId.generate(), "stored as json");
+
+        transactionTemplate.executeWithoutResult(status -> outboxRepository.save(new OutboxEventJpaEntity(
+            null, legacy.eventType(), serializer.serialize(legacy), null, legacy.occurredOn(), Instant.now(), null)));
+
+        await()
+            .atMost(5, TimeUnit.SECONDS)
+            .untilAsserted(() -> assertThat(listener.received).containsExactly(legacy));
+    }
+
+    @TestConfiguration
+    static class RecordingListenerConfiguration {
+        @Bean
+        RecordingListener recordingListener() {
+            return new RecordingListener();
+        }
+    }
+
+    static class RecordingListener {
+        final List<CustomerOrderCancelled> received = new CopyOnWriteArrayList<>();
+        volatile CountDownLatch gate;
+
+        @EventListener
+        void on(CustomerOrderCancelled event) throws InterruptedException {
+            var current = gate;
+            if (current != null) {
+                current.await();
+            }
+            received.add(event);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.company.ordermanagement.partitioning;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PartitionMaintenanceJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-11-30T23:30:00Z"), ZoneOffset.UTC);
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private PartitionMaintenanceJob job;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        var properties = new PartitionMaintenanceProperties(
+            true, List.of("customer_orders", "manufacturing_orders"), 3, Duration.ofHours(6));
+        job = new PartitionMaintenanceJob(jdbcTemplate, properties, CLOCK, meterRegistry);
+    }
+
+    @Test
+    void shouldCreatePartitionsFromCurrentMonthThroughMonthsAhead() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any(), any())).thenReturn(2, 0);
+
+        job.createMissingPartitions();
+
+        var from = LocalDate.of(2026, 11, 1);
+        var to = LocalDate.of(2027, 2, 1);
+        verify(jdbcTemplate).queryForObject(anyString(), eq(Integer.class), eq("customer_orders"), eq(from), eq(to));
+        verify(jdbcTemplate).queryForObject(anyString(), eq(Integer.class), eq("manufacturing_orders"), eq(from), eq(to));
+        assertThat(meterRegistry.get("order.partitions.created").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepMaintainingOtherTablesWhenOneFails() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("customer_orders"), any(), any()))
+            .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("manufacturing_orders"), any(), any()))
+            .thenReturn(1);
+
+        job.createMissingPartitions();
+
+        assertThat(meterRegistry.get("order.partitions.created").counter().count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.company.benchmarks;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.CustomerOrderPlaced;
+import com.company.sharedkernel.events.CustomerOrderStatusUpdated;
+import com.company.sharedkernel.events.ManufacturingOrderCompleted;
+import com.company.sharedkernel.events.ManufacturingOrderCreated;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
+import com.company.sharedkernel.events.codec.DomainEventCodec;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the binary {@link DomainEventCodec} with the Jackson JSON encoding the outbox
+ * used before it. The JSON mapper is configured like {@code OutboxEventSerializer}: order
+ * ids as strings and money as an amount/currency object.
+ *
+ * Payload sizes do not depend on the run and are printed once per trial, e.g.
+ * {@code ManufacturingOrderStatusChanged: codec=32 bytes, json=137 bytes}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainEventEncodingBenchmark {
+
+    @Param({
+        "CustomerOrderPlaced",
+        "CustomerOrderStatusUpdated",
+        "CustomerOrderCancelled",
+        "ManufacturingOrderCreated",
+        "ManufacturingOrderStatusChanged",
+        "ManufacturingOrderCompleted"
+    })
+    public String eventType;
+
+    private final DomainEventCodec codec = new DomainEventCodec();
+    private final ObjectMapper objectMapper = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .registerModule(outboxModule());
+
+    private DomainEvent event;
+    private byte[] encoded;
+    private String json;
+
+    @Setup
+    public void setUp() throws IOException {
+        event = sampleEvent(eventType);
+        encoded = codec.encode(event);
+        json = objectMapper.writeValueAsString(event);
+        System.out.printf("%n%s: codec=%d bytes, json=%d bytes%n",
+            eventType, encoded.length, json.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return codec.encode(event);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public DomainEvent decodeBinary() {
+        return codec.decode(encoded);
+    }
+
+    @Benchmark
+    public DomainEvent decodeJson() throws IOException {
+        return objectMapper.readValue(json, event.getClass());
+    }
+
+    private static DomainEvent sampleEvent(String eventType) {
+        var orderId = OrderId.generate();
+        return switch (eventType) {
+            case "CustomerOrderPlaced" -> CustomerOrderPlaced.of(
+                orderId, UUID.randomUUID(), Money.of(new BigDecimal("1249.90"), Currency.getInstance("EUR")));
+            case "CustomerOrderStatusUpdated" -> CustomerOrderStatusUpdated.of(orderId, "CONFIRMED", "MANUFACTURING_IN_PROGRESS");
+            case "CustomerOrderCancelled" -> CustomerOrderCancelled.of(orderId, "Customer requested cancellation");
+            case "ManufacturingOrderCreated" -> ManufacturingOrderCreated.of(orderId, "PROD-001", 25);
+            case "ManufacturingOrderStatusChanged" -> ManufacturingOrderStatusChanged.of(orderId, "PENDING", "IN_PROGRESS");
+            case "ManufacturingOrderCompleted" -> ManufacturingOrderCompleted.of(orderId, Instant.now());
+            default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+        };
+    }
+
+    private static SimpleModule outboxModule() {
+        var module = new SimpleModule("SharedKernelOutboxModule");
+        module.addSerializer(OrderId.class, ToStringSerializer.instance);
+        module.addDeserializer(OrderId.class, new JsonDeserializer<>() {
+            @Override
+            public OrderId deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                return OrderId.of(parser.getValueAsString());
+            }
+        });
+        module.addSerializer(Money.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(Money money, JsonGenerator generator, SerializerProvider provider) throws IOException {
+                generator.writeStartObject();
+                generator.writeStringField("amount", money.getAmount().toPlainString());
+                generator.writeStringField("currency", money.getCurrency().getCurrencyCode());
+                generator.writeEndObject();
+            }
+        });
+        module.addDeserializer(Money.class, new JsonDeserializer<>() {
+            @Override
+            public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                JsonNode node = parser.readValueAsTree();
+                return Money.of(
+                    new BigDecimal(node.get("amount").asText()),
+                    Currency.getInstance(node.get("currency").asText())
+                );
+            }
+        });
+        return module;
+    }
+}
@@ -15,18 +15,14 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class ManufacturingOrderEventHandler {
     private final CustomerOrderRepository customerOrderRepository;
+    private final ManufacturingProgressCoalescer progressCoalescer;
     
-    @EventListener
-    @Transactional
+    @EventListener(id = "track-manufacturing-completion")
     public void handleManufacturingOrderCompleted(ManufacturingOrderCompleted event) {
-        customerOrderRepository.findByManufacturingOrderId(event.orderId())
-            .forEach(customerOrder -> {
-                customerOrder.notifyManufacturingCompleted();
-                customerOrderRepository.save(customerOrder);
-            });
+        progressCoalescer.submit(event.orderId(), ManufacturingProgress.COMPLETED);
     }
     
-    @EventListener
+    @EventListener(id = "link-manufacturing-order")
     @Transactional
     public void handleManufacturingOrderCreated(ManufacturingOrderCreated event) {
         customerOrderRepository.findById(event.orderId())
@@ -38,24 +34,9 @@ public class ManufacturingOrderEventHandler {
             });
     }
     
-    @EventListener
-    @Transactional
+    @EventListener(id = "track-manufacturing-status")
     public void handleManufacturingOrderStatusChanged(ManufacturingOrderStatusChanged event) {
-        customerOrderRepository.findByManufacturingOrderId(event.orderId())
-            .forEach(customerOrder -> {
-                switch (event.newStatus()) {
-                    case "IN_PROGRESS" -> {
-                        customerOrder.notifyManufacturingStarted();
-                        customerOrderRepository.save(customerOrder);
-                    }
-                    case "CANCELLED" -> {
-                        if (!customerOrder.getStatus().name().equals("CANCELLED") && 
-                            !customerOrder.getStatus().name().equals("DELIVERED")) {
-                            customerOrder.cancel("Manufacturing order was cancelled");
-                            customerOrderRepository.save(customerOrder);
-                        }
-                    }
-                }
-            });
+        ManufacturingProgress.fromStatus(event.newStatus())
+            .ifPresent(progress -> progressCoalescer.submit(event.orderId(), progress));
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.company.customerorder.adapter.in.event;
+
+import com.company.customerorder.domain.model.CustomerOrder;
+
+import java.util.Optional;
+
+/**
+ * Latest known state of a manufacturing order, as far as linked customer orders care.
+ * Applying a state also applies the steps before it, so a customer order that missed
+ * the start of manufacturing still ends up completed.
+ */
+enum ManufacturingProgress {
+    STARTED {
+        @Override
+        void applyTo(CustomerOrder order) {
+            order.notifyManufacturingStarted();
+        }
+    },
+    COMPLETED {
+        @Override
+        void applyTo(CustomerOrder order) {
+            order.notifyManufacturingStarted();
+            order.notifyManufacturingCompleted();
+        }
+    },
+    CANCELLED {
+        @Override
+        void applyTo(CustomerOrder order) {
+            if (!order.getStatus().isTerminal()) {
+                order.cancel("Manufacturing order was cancelled");
+            }
+        }
+    };
+
+    abstract void applyTo(CustomerOrder order);
+
+    static Optional<ManufacturingProgress> fromStatus(String status) {
+        return switch (status) {
+            case "IN_PROGRESS" -> Optional.of(STARTED);
+            case "COMPLETED" -> Optional.of(COMPLETED);
+            case "CANCELLED" -> Optional.of(CANCELLED);
+            default -> Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,57 @@
+package com.company.customerorder.adapter.in.event;
+
+import com.company.customerorder.domain.model.CustomerOrder;
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.RetryOnConflict;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Applies a batch of manufacturing progress to the linked customer orders in one
+ * transaction. A batch that loses a race against a concurrent change to one of its
+ * customer orders, such as a cancellation through the API, is loaded and applied again
+ * from the stored state.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+class ManufacturingProgressApplier {
+    private final CustomerOrderRepository customerOrderRepository;
+
+    /**
+     * @return the manufacturing orders whose customer order exists but is not linked to them yet
+     */
+    @RetryOnConflict
+    @Transactional
+    public Set<OrderId> apply(Map<OrderId, ManufacturingProgress> batch) {
+        var changedOrders = new ArrayList<CustomerOrder>();
+        var unmatched = new HashSet<>(batch.keySet());
+        for (var customerOrder : customerOrderRepository.findByManufacturingOrderIds(batch.keySet())) {
+            var progress = batch.get(customerOrder.getManufacturingOrderId());
+            if (progress == null) {
+                continue;
+            }
+            unmatched.remove(customerOrder.getManufacturingOrderId());
+            progress.applyTo(customerOrder);
+            if (!customerOrder.getDomainEvents().isEmpty()) {
+                changedOrders.add(customerOrder);
+            }
+        }
+        if (!changedOrders.isEmpty()) {
+            customerOrderRepository.saveAll(changedOrders);
+        }
+        // A manufacturing order is created for the customer order with the same id
+        var notLinked = unmatched.isEmpty() ? Set.<OrderId>of() : customerOrderRepository.findExistingIds(unmatched);
+        log.debug("Applied progress of {} manufacturing orders to {} customer orders, {} not linked yet",
+            batch.size(), changedOrders.size(), notLinked.size());
+        return notLinked;
+    }
+}
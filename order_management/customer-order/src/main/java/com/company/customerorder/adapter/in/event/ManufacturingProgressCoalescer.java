@@ -0,0 +1,198 @@
+package com.company.customerorder.adapter.in.event;
+
+import com.company.sharedkernel.OrderId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Collects manufacturing progress for a short window and applies it to the linked
+ * customer orders in one go, so progress reported for many manufacturing orders at about
+ * the same time costs a single load and save.
+ *
+ * {@link #submit} only queues the progress and returns; the listener that reported it
+ * never waits for the window. A timer thread applies the queue once the window after the
+ * first queued progress has passed, or straight away once {@code batchSize} manufacturing
+ * orders are queued. Newer progress for a manufacturing order replaces what is still
+ * queued for it. A batch that conflicts with a concurrent change to one of its customer
+ * orders is first loaded and applied again by {@link ManufacturingProgressApplier}.
+ *
+ * If a batch cannot be saved as a whole, each manufacturing order is retried in its own
+ * transaction so one bad row does not hold back the rest. Progress that still fails, and
+ * progress for a customer order that exists but is not linked to its manufacturing order
+ * yet, is queued again after {@code retryDelay}, up to {@code maxAttempts} times, and then
+ * logged and dropped. Progress for a manufacturing order without any customer order is
+ * ignored. Progress still queued when the application shuts down is applied once more
+ * before the timer stops.
+ */
+@Component
+@Slf4j
+public class ManufacturingProgressCoalescer implements Closeable {
+    private final ManufacturingProgressApplier applier;
+    private final Duration window;
+    private final int batchSize;
+    private final Duration retryDelay;
+    private final int maxAttempts;
+    private final ScheduledThreadPoolExecutor timer;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Map<OrderId, Pending> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    public ManufacturingProgressCoalescer(
+        ManufacturingProgressApplier applier,
+        @Value("${order.management.customer-orders.progress-coalescing-window:5ms}") Duration window,
+        @Value("${order.management.customer-orders.progress-batch-size:500}") int batchSize,
+        @Value("${order.management.customer-orders.progress-retry-delay:1s}") Duration retryDelay,
+        @Value("${order.management.customer-orders.progress-max-attempts:10}") int maxAttempts
+    ) {
+        if (batchSize <= 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("Progress batch size and attempts must be positive");
+        }
+        this.applier = applier;
+        this.window = window;
+        this.batchSize = batchSize;
+        this.retryDelay = retryDelay;
+        this.maxAttempts = maxAttempts;
+        this.timer = new ScheduledThreadPoolExecutor(1, Thread.ofPlatform().name("progress-coalescer").daemon().factory());
+    }
+
+    /**
+     * Queues {@code progress} to be applied with whatever else is reported within the window.
+     */
+    public void submit(OrderId manufacturingOrderId, ManufacturingProgress progress) {
+        enqueue(manufacturingOrderId, new Pending(progress, 1), true);
+    }
+
+    /**
+     * Applies everything queued so far on the calling thread.
+     */
+    public void flush() {
+        Map<OrderId, Pending> batch;
+        lock.lock();
+        try {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            flushScheduled = false;
+        } finally {
+            lock.unlock();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        Map<OrderId, ManufacturingProgress> progress = new LinkedHashMap<>();
+        batch.forEach((manufacturingOrderId, queued) -> progress.put(manufacturingOrderId, queued.progress()));
+        try {
+            var notLinked = applier.apply(progress);
+            notLinked.forEach(manufacturingOrderId ->
+                retryLater(manufacturingOrderId, batch.get(manufacturingOrderId), "its customer order is not linked yet"));
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply manufacturing progress for {} orders, retrying one by one: {}",
+                batch.size(), e.getMessage());
+            batch.forEach(this::applySingle);
+        }
+    }
+
+    /**
+     * @return manufacturing orders with progress waiting to be applied
+     */
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        timer.shutdownNow();
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("Failed to apply manufacturing progress on shutdown: {}", e.getMessage(), e);
+        }
+    }
+
+    private void applySingle(OrderId manufacturingOrderId, Pending queued) {
+        try {
+            Set<OrderId> notLinked = applier.apply(Map.of(manufacturingOrderId, queued.progress()));
+            if (!notLinked.isEmpty()) {
+                retryLater(manufacturingOrderId, queued, "its customer order is not linked yet");
+            }
+        } catch (RuntimeException e) {
+            retryLater(manufacturingOrderId, queued, e.toString());
+        }
+    }
+
+    private void retryLater(OrderId manufacturingOrderId, Pending queued, String reason) {
+        if (queued.attempt() >= maxAttempts) {
+            log.error("Dropping {} progress of manufacturing order {} after {} attempts, {}",
+                queued.progress(), manufacturingOrderId, queued.attempt(), reason);
+            return;
+        }
+        log.debug("Queueing {} progress of manufacturing order {} again in {}ms, {}",
+            queued.progress(), manufacturingOrderId, retryDelay.toMillis(), reason);
+        var retry = new Pending(queued.progress(), queued.attempt() + 1);
+        try {
+            timer.schedule(() -> enqueue(manufacturingOrderId, retry, false), retryDelay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("Dropping {} progress of manufacturing order {} on shutdown", queued.progress(), manufacturingOrderId);
+        }
+    }
+
+    /**
+     * @param replace whether {@code queued} replaces progress already queued for the order;
+     *                a retry never replaces newer progress
+     */
+    private void enqueue(OrderId manufacturingOrderId, Pending queued, boolean replace) {
+        boolean full;
+        boolean scheduleFlush;
+        lock.lock();
+        try {
+            if (replace) {
+                pending.put(manufacturingOrderId, queued);
+            } else {
+                pending.putIfAbsent(manufacturingOrderId, queued);
+            }
+            full = pending.size() >= batchSize;
+            scheduleFlush = !full && !flushScheduled;
+            if (scheduleFlush) {
+                flushScheduled = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            if (full) {
+                timer.execute(this::flushQuietly);
+            } else if (scheduleFlush) {
+                timer.schedule(this::flushQuietly, window.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        } catch (RejectedExecutionException e) {
+            // Shutting down; close() applies what is queued
+        }
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.error("Failed to apply manufacturing progress: {}", e.getMessage(), e);
+        }
+    }
+
+    private record Pending(ManufacturingProgress progress, int attempt) {
+    }
+}
@@ -1,52 +1,142 @@
 package com.company.customerorder.adapter.in.rest;
 
 import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.PageCursor;
 import com.company.customerorder.application.command.*;
 import com.company.customerorder.application.query.CustomerOrderDto;
+import com.company.customerorder.application.query.ExportCustomerOrdersQuery;
+import com.company.customerorder.application.query.ListCustomerOrdersQuery;
 import com.company.customerorder.application.service.CustomerOrderApplicationService;
 import com.company.customerorder.domain.model.CustomerId;
 import com.company.customerorder.domain.model.CustomerOrderStatus;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Currency;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/customer-orders")
 @RequiredArgsConstructor
 public class CustomerOrderController {
+    private static final String NDJSON = "application/x-ndjson";
+    
     private final CustomerOrderApplicationService applicationService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
     
     @PostMapping
     public ResponseEntity<PlaceOrderResponse> placeOrder(@Valid @RequestBody PlaceOrderRequest request) {
-        var command = new PlaceCustomerOrderCommand(
-            OrderId.of(request.orderId()),
-            CustomerId.of(request.customerId()),
-            request.customerName(),
-            request.customerEmail(),
-            request.customerAddress(),
-            request.items().stream()
-                .map(item -> new PlaceCustomerOrderCommand.OrderItemCommand(
-                    item.productCode(),
-                    item.description(),
-                    item.quantity(),
-                    item.unitPrice(),
-                    item.currency()
-                ))
-                .toList()
-        );
-        
-        var orderId = applicationService.placeOrder(command);
+        var orderId = applicationService.placeOrder(toCommand(request));
         return ResponseEntity.status(HttpStatus.CREATED)
             .body(new PlaceOrderResponse(orderId.getValue()));
     }
     
+    /**
+     * Places a JSON array of orders. The body is read one order at a time while earlier
+     * orders are being stored, so the whole array is never held in memory. Orders that
+     * cannot be read or fail validation are reported as rejected without stopping the rest.
+     *
+     * A body that is not a well-formed JSON array of objects fails the request with 400,
+     * also when an element that is not an object, a missing closing bracket or content
+     * after it is only found part-way through. The orders before that point may already be
+     * stored and are reported as already placed if the batch is sent again.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<BatchPlaceOrderResponse> placeOrders(InputStream body) throws IOException {
+        try (var parser = objectMapper.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Batch body must be a JSON array of orders");
+            }
+            return ResponseEntity.ok(placeOrders(parser));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed batch body: " + e.getOriginalMessage(), e);
+        }
+    }
+    
+    /**
+     * Lists orders in placement order, one page at a time. The response carries the cursor
+     * to pass back for the next page, or none on the last page.
+     */
+    @GetMapping
+    public ResponseEntity<CustomerOrderPageResponse> listOrders(
+        @RequestParam(required = false) UUID customerId,
+        @RequestParam(required = false) CustomerOrderStatus status,
+        @RequestParam(defaultValue = "false") boolean active,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        var page = applicationService.listOrders(new ListCustomerOrdersQuery(
+            customerId != null ? CustomerId.of(customerId) : null,
+            status,
+            active,
+            cursor != null ? PageCursor.decode(cursor) : null,
+            limit
+        ));
+        return ResponseEntity.ok(new CustomerOrderPageResponse(
+            page.items(),
+            page.next().map(PageCursor::encode).orElse(null)
+        ));
+    }
+    
+    /**
+     * Writes every order placed in {@code [from, to)} as newline-delimited JSON, one order
+     * per line, while the orders are still being read. Memory use does not grow with the
+     * size of the period. A failure part-way through ends the response early, so clients
+     * should treat a last line without a newline as incomplete.
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    public void exportOrders(
+        @RequestParam Instant from,
+        @RequestParam Instant to,
+        HttpServletResponse response
+    ) throws IOException {
+        var query = new ExportCustomerOrdersQuery(from, to);
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        var writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        try (var generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            applicationService.exportOrders(query, order -> {
+                try {
+                    writer.writeValue(generator, order);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+    
     @GetMapping("/{orderId}")
     public ResponseEntity<CustomerOrderDto> getOrder(@PathVariable UUID orderId) {
         return applicationService.findOrder(OrderId.of(orderId))
@@ -93,13 +183,123 @@ public class CustomerOrderController {
         return ResponseEntity.ok().build();
     }
     
+    private BatchPlaceOrderResponse placeOrders(JsonParser parser) throws IOException {
+        var requests = new PlaceOrderRequestIterator(parser);
+        List<PlaceCustomerOrderResult> placed;
+        try {
+            placed = applicationService.placeOrders(requests);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        
+        var results = new ArrayList<BatchPlaceOrderResult>(requests.position);
+        var placedResults = placed.iterator();
+        for (int position = 0; position < requests.position; position++) {
+            var unreadable = requests.rejected.get(position);
+            results.add(unreadable != null ? unreadable : BatchPlaceOrderResult.of(placedResults.next()));
+        }
+        return BatchPlaceOrderResponse.of(results);
+    }
+    
+    private PlaceCustomerOrderCommand toCommand(PlaceOrderRequest request) {
+        return new PlaceCustomerOrderCommand(
+            OrderId.of(request.orderId()),
+            CustomerId.of(request.customerId()),
+            request.customerName(),
+            request.customerEmail(),
+            request.customerAddress(),
+            Optional.ofNullable(request.items()).orElse(List.of()).stream()
+                .map(item -> new PlaceCustomerOrderCommand.OrderItemCommand(
+                    item.productCode(),
+                    item.description(),
+                    item.quantity(),
+                    item.unitPrice(),
+                    item.currency()
+                ))
+                .toList()
+        );
+    }
+    
+    /**
+     * Reads the orders of a batch from the parser as they are asked for, skipping those
+     * that cannot be turned into a command and remembering them by position. Anything that
+     * breaks the array itself fails with {@link IllegalArgumentException}.
+     */
+    private class PlaceOrderRequestIterator implements Iterator<PlaceCustomerOrderCommand> {
+        private final JsonParser parser;
+        private final Map<Integer, BatchPlaceOrderResult> rejected = new HashMap<>();
+        private PlaceCustomerOrderCommand next;
+        private int position;
+        private boolean finished;
+        
+        PlaceOrderRequestIterator(JsonParser parser) {
+            this.parser = parser;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            try {
+                while (next == null && !finished) {
+                    var token = parser.nextToken();
+                    if (token == JsonToken.END_ARRAY) {
+                        finished = true;
+                        if (parser.nextToken() != null) {
+                            throw new IllegalArgumentException("Unexpected content after the batch array");
+                        }
+                    } else if (token == null) {
+                        throw new IllegalArgumentException("Batch array is not closed");
+                    } else if (token != JsonToken.START_OBJECT) {
+                        throw new IllegalArgumentException("Batch element " + position + " is not an order object");
+                    } else {
+                        read(parser.readValueAsTree());
+                        position++;
+                    }
+                }
+                return next != null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        
+        private void read(JsonNode order) {
+            try {
+                var request = objectMapper.treeToValue(order, PlaceOrderRequest.class);
+                var violations = validator.validate(request);
+                if (!violations.isEmpty()) {
+                    throw new IllegalArgumentException(describe(violations));
+                }
+                next = toCommand(request);
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                var orderId = order.path("orderId").asText(null);
+                rejected.put(position, new BatchPlaceOrderResult(orderId, "REJECTED", e.getMessage()));
+            }
+        }
+        
+        @Override
+        public PlaceCustomerOrderCommand next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var command = next;
+            next = null;
+            return command;
+        }
+    }
+    
+    private static String describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+    
     public record PlaceOrderRequest(
-        UUID orderId,
-        UUID customerId,
+        @NotNull UUID orderId,
+        @NotNull UUID customerId,
         String customerName,
         String customerEmail,
         String customerAddress,
-        List<OrderItemRequest> items
+        List<@NotNull @Valid OrderItemRequest> items
     ) {}
     
     public record OrderItemRequest(
@@ -114,6 +314,40 @@ public class CustomerOrderController {
         UUID orderId
     ) {}
     
+    public record BatchPlaceOrderResult(
+        String orderId,
+        String outcome,
+        String message
+    ) {
+        static BatchPlaceOrderResult of(PlaceCustomerOrderResult result) {
+            return new BatchPlaceOrderResult(
+                result.orderId() != null ? result.orderId().getValue().toString() : null,
+                result.outcome().name(),
+                result.message()
+            );
+        }
+    }
+    
+    public record BatchPlaceOrderResponse(
+        long placed,
+        long alreadyPlaced,
+        long rejected,
+        List<BatchPlaceOrderResult> results
+    ) {
+        static BatchPlaceOrderResponse of(List<BatchPlaceOrderResult> results) {
+            return new BatchPlaceOrderResponse(
+                count(results, PlaceCustomerOrderResult.Outcome.PLACED),
+                count(results, PlaceCustomerOrderResult.Outcome.ALREADY_PLACED),
+                count(results, PlaceCustomerOrderResult.Outcome.REJECTED),
+                results
+            );
+        }
+        
+        private static long count(List<BatchPlaceOrderResult> results, PlaceCustomerOrderResult.Outcome outcome) {
+            return results.stream().filter(result -> outcome.name().equals(result.outcome())).count();
+        }
+    }
+    
     public record UpdateStatusRequest(
         CustomerOrderStatus newStatus
     ) {}
@@ -121,4 +355,9 @@ public class CustomerOrderController {
     public record CancelOrderRequest(
         String reason
     ) {}
-}
\ No newline at end of file
+    
+    public record CustomerOrderPageResponse(
+        List<CustomerOrderDto> items,
+        String nextCursor
+    ) {}
+}
@@ -0,0 +1,75 @@
+package com.company.customerorder.adapter.in.scheduling;
+
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import com.company.sharedkernel.ClusterLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Moves customer orders that have been delivered or cancelled for longer than
+ * {@code closed-for} to the order archive, batch by batch until none are left, so the
+ * order tables only hold open and recently closed orders.
+ *
+ * A run holds a cluster lock, extended after every batch, so only one instance archives
+ * at a time; the others skip the run.
+ */
+@Component
+@ConditionalOnProperty(name = "order.management.archive.enabled", havingValue = "true")
+@Slf4j
+public class CustomerOrderArchivalJob {
+    private static final String LOCK_NAME = "customer-order-archival";
+    
+    private final CustomerOrderRepository repository;
+    private final ClusterLock clusterLock;
+    private final Duration closedFor;
+    private final int batchSize;
+    private final Duration lockLease;
+    
+    public CustomerOrderArchivalJob(
+        CustomerOrderRepository repository,
+        ClusterLock clusterLock,
+        @Value("${order.management.archive.closed-for:90d}") Duration closedFor,
+        @Value("${order.management.archive.batch-size:500}") int batchSize,
+        @Value("${order.management.archive.lock-lease:10m}") Duration lockLease
+    ) {
+        this.repository = repository;
+        this.clusterLock = clusterLock;
+        this.closedFor = closedFor;
+        this.batchSize = batchSize;
+        this.lockLease = lockLease;
+    }
+    
+    @Scheduled(
+        fixedDelayString = "${order.management.archive.interval:1h}",
+        initialDelayString = "${order.management.archive.interval:1h}"
+    )
+    public void archiveClosedOrders() {
+        if (!clusterLock.tryLock(LOCK_NAME, lockLease)) {
+            log.debug("Skipping archival of closed customer orders, another instance is running it");
+            return;
+        }
+        var closedBefore = Instant.now().minus(closedFor);
+        int archived = 0;
+        try {
+            int batch;
+            do {
+                batch = repository.archiveClosedOrders(closedBefore, batchSize);
+                archived += batch;
+            } while (batch == batchSize && clusterLock.tryLock(LOCK_NAME, lockLease));
+        } catch (RuntimeException e) {
+            log.warn("Failed to archive closed customer orders after {} were moved: {}", archived, e.getMessage(), e);
+            return;
+        } finally {
+            clusterLock.unlock(LOCK_NAME);
+        }
+        if (archived > 0) {
+            log.info("Archived {} customer orders closed before {}", archived, closedBefore);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import com.company.customerorder.domain.model.CustomerId;
+import com.company.customerorder.domain.model.CustomerInfo;
+import com.company.customerorder.domain.model.CustomerOrder;
+import com.company.customerorder.domain.model.CustomerOrderStatus;
+import com.company.customerorder.domain.model.OrderItem;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Binary form of a customer order in the order archive. The first byte is the format
+ * version, so orders archived in an older form stay readable after a change.
+ */
+final class CustomerOrderArchiveCodec {
+    private static final int FORMAT_VERSION = 1;
+
+    private CustomerOrderArchiveCodec() {
+    }
+
+    static byte[] encode(CustomerOrder order) {
+        var bytes = new ByteArrayOutputStream(256);
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            writeUuid(out, order.getId().getValue());
+            writeUuid(out, order.getCustomerInfo().getCustomerId().getValue());
+            out.writeUTF(order.getCustomerInfo().getName());
+            out.writeUTF(order.getCustomerInfo().getEmail());
+            out.writeUTF(order.getCustomerInfo().getAddress());
+            out.writeInt(order.getItems().size());
+            for (var item : order.getItems()) {
+                out.writeUTF(item.getProductCode());
+                out.writeUTF(item.getDescription());
+                out.writeInt(item.getQuantity());
+                writeMoney(out, item.getUnitPrice());
+            }
+            writeMoney(out, order.getTotalAmount());
+            out.writeUTF(order.getStatus().name());
+            writeInstant(out, order.getPlacedAt());
+            writeInstant(out, order.getUpdatedAt());
+            out.writeBoolean(order.getManufacturingOrderId() != null);
+            if (order.getManufacturingOrderId() != null) {
+                writeUuid(out, order.getManufacturingOrderId().getValue());
+            }
+            out.writeLong(order.getVersion() != null ? order.getVersion() : 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static CustomerOrder decode(byte[] bytes) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int formatVersion = in.readUnsignedByte();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unknown archived customer order format: " + formatVersion);
+            }
+            var id = OrderId.of(readUuid(in));
+            var customerInfo = CustomerInfo.of(CustomerId.of(readUuid(in)), in.readUTF(), in.readUTF(), in.readUTF());
+            int itemCount = in.readInt();
+            var items = new ArrayList<OrderItem>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(OrderItem.of(in.readUTF(), in.readUTF(), in.readInt(), readMoney(in)));
+            }
+            var totalAmount = readMoney(in);
+            var status = CustomerOrderStatus.valueOf(in.readUTF());
+            var placedAt = readInstant(in);
+            var updatedAt = readInstant(in);
+            var manufacturingOrderId = in.readBoolean() ? OrderId.of(readUuid(in)) : null;
+            var version = in.readLong();
+            return CustomerOrder.reconstitute(
+                id, customerInfo, items, totalAmount, status, placedAt, updatedAt, manufacturingOrderId, version);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeUuid(DataOutputStream out, UUID value) throws IOException {
+        out.writeLong(value.getMostSignificantBits());
+        out.writeLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID readUuid(DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeLong(value.getEpochSecond());
+        out.writeInt(value.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+
+    private static void writeMoney(DataOutputStream out, Money value) throws IOException {
+        out.writeUTF(value.getAmount().toPlainString());
+        out.writeUTF(value.getCurrency().getCurrencyCode());
+    }
+
+    private static Money readMoney(DataInputStream in) throws IOException {
+        return Money.of(new BigDecimal(in.readUTF()), Currency.getInstance(in.readUTF()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import com.company.customerorder.domain.model.CustomerId;
+import com.company.customerorder.domain.model.CustomerInfo;
+import com.company.customerorder.domain.model.CustomerOrder;
+import com.company.customerorder.domain.model.CustomerOrderStatus;
+import com.company.customerorder.domain.model.OrderItem;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Currency;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * JSON form of a whole customer order in the document table. The version is kept in its
+ * own column only, since the database bumps it on every update.
+ */
+record CustomerOrderDocument(
+    UUID id,
+    Customer customer,
+    List<Item> items,
+    Amount totalAmount,
+    CustomerOrderStatus status,
+    Instant placedAt,
+    Instant updatedAt,
+    UUID manufacturingOrderId
+) {
+    
+    record Customer(UUID id, String name, String email, String address) {
+    }
+    
+    record Item(String productCode, String description, int quantity, Amount unitPrice) {
+    }
+    
+    record Amount(BigDecimal amount, String currency) {
+        
+        static Amount of(Money money) {
+            return new Amount(money.getAmount(), money.getCurrency().getCurrencyCode());
+        }
+        
+        Money toMoney() {
+            return Money.of(amount, Currency.getInstance(currency));
+        }
+    }
+    
+    static CustomerOrderDocument of(CustomerOrder order) {
+        var customer = order.getCustomerInfo();
+        return new CustomerOrderDocument(
+            order.getId().getValue(),
+            new Customer(customer.getCustomerId().getValue(), customer.getName(), customer.getEmail(), customer.getAddress()),
+            order.getItems().stream()
+                .map(item -> new Item(item.getProductCode(), item.getDescription(), item.getQuantity(), Amount.of(item.getUnitPrice())))
+                .toList(),
+            Amount.of(order.getTotalAmount()),
+            order.getStatus(),
+            // The placed_at column keeps microseconds; page cursors taken from it must match
+            order.getPlacedAt().truncatedTo(ChronoUnit.MICROS),
+            order.getUpdatedAt(),
+            order.getManufacturingOrderId() != null ? order.getManufacturingOrderId().getValue() : null
+        );
+    }
+    
+    CustomerOrder toDomain(long version) {
+        return CustomerOrder.reconstitute(
+            OrderId.of(id),
+            CustomerInfo.of(CustomerId.of(customer.id()), customer.name(), customer.email(), customer.address()),
+            items.stream()
+                .map(item -> OrderItem.of(item.productCode(), item.description(), item.quantity(), item.unitPrice().toMoney()))
+                .toList(),
+            totalAmount.toMoney(),
+            status,
+            placedAt,
+            updatedAt,
+            manufacturingOrderId != null ? OrderId.of(manufacturingOrderId) : null,
+            version
+        );
+    }
+}
@@ -0,0 +1,52 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A customer order stored as a single document. The columns besides the document copy the
+ * fields that are filtered and sorted on, so that they can be indexed.
+ */
+@Entity
+@Table(name = "customer_order_documents")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CustomerOrderDocumentJpaEntity implements CustomerOrderRow {
+    
+    @Id
+    private UUID id;
+    
+    @Column(name = "customer_id", nullable = false)
+    private UUID customerId;
+    
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private CustomerOrderJpaEntity.CustomerOrderStatusEntity status;
+    
+    @Column(name = "placed_at", nullable = false)
+    private Instant placedAt;
+    
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+    
+    @Column(name = "manufacturing_order_id")
+    private UUID manufacturingOrderId;
+    
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "document", nullable = false)
+    private CustomerOrderDocument document;
+}
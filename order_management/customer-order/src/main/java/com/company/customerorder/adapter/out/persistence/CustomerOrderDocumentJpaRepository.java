@@ -0,0 +1,34 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface CustomerOrderDocumentJpaRepository extends CustomerOrderRowJpaRepository<CustomerOrderDocumentJpaEntity> {
+    
+    /**
+     * Replaces the document and its indexed columns if the row is still at {@code version}.
+     * A copy of the row loaded earlier in the persistence context is left as it was; the
+     * caller evicts it.
+     *
+     * @return 1 if the row was updated, 0 if it was changed or deleted in the meantime
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CustomerOrderDocumentJpaEntity d SET d.document = :document, d.status = :status, " +
+           "d.updatedAt = :updatedAt, d.manufacturingOrderId = :manufacturingOrderId, d.version = d.version + 1 " +
+           "WHERE d.id = :id AND d.version = :version")
+    int updateIfVersionMatches(
+        UUID id,
+        long version,
+        CustomerOrderDocument document,
+        CustomerOrderJpaEntity.CustomerOrderStatusEntity status,
+        Instant updatedAt,
+        UUID manufacturingOrderId
+    );
+}
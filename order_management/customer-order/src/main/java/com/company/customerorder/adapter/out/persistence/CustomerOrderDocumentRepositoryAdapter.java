@@ -0,0 +1,75 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.OrderArchive;
+import com.company.customerorder.domain.model.CustomerOrder;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Stores each customer order, items included, as one JSON document in a single row of
+ * {@code customer_order_documents}, next to indexed copies of the fields lists filter and
+ * sort on. Loading or saving an order reads or writes that one row, where the relational
+ * adapter joins or rewrites the item rows.
+ *
+ * Used instead of {@link CustomerOrderRepositoryAdapter} when
+ * {@code order.management.customer-orders.storage} is {@code document}.
+ */
+@Repository
+@ConditionalOnProperty(name = "order.management.customer-orders.storage", havingValue = "document")
+public class CustomerOrderDocumentRepositoryAdapter extends CustomerOrderRepositorySupport<CustomerOrderDocumentJpaEntity> {
+    
+    private final CustomerOrderDocumentJpaRepository jpaRepository;
+    private final CustomerOrderMapper mapper;
+
+    public CustomerOrderDocumentRepositoryAdapter(
+        CustomerOrderDocumentJpaRepository jpaRepository,
+        CustomerOrderJpaRepository relationalRepository,
+        @Qualifier("customerOrderMapperImpl") CustomerOrderMapper mapper,
+        DomainEventPublisher eventPublisher,
+        EntityManager entityManager,
+        CustomerOrderNearCache nearCache,
+        Optional<OrderArchive> archive
+    ) {
+        super(jpaRepository, CustomerOrderDocumentJpaEntity.class, relationalRepository, "customer_orders",
+            mapper, eventPublisher, entityManager, nearCache, archive);
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+    
+    @Override
+    protected CustomerOrder toDomain(CustomerOrderDocumentJpaEntity row) {
+        return row.getDocument().toDomain(row.getVersion());
+    }
+    
+    @Override
+    protected CustomerOrderDocumentJpaEntity toRow(CustomerOrder order) {
+        var document = CustomerOrderDocument.of(order);
+        return new CustomerOrderDocumentJpaEntity(
+            document.id(),
+            document.customer().id(),
+            mapper.statusToEntity(order.getStatus()),
+            document.placedAt(),
+            document.updatedAt(),
+            document.manufacturingOrderId(),
+            order.getVersion(),
+            document
+        );
+    }
+    
+    @Override
+    protected int updateIfVersionMatches(CustomerOrder order) {
+        return jpaRepository.updateIfVersionMatches(
+            order.getId().getValue(),
+            order.getVersion(),
+            CustomerOrderDocument.of(order),
+            mapper.statusToEntity(order.getStatus()),
+            order.getUpdatedAt(),
+            mapper.orderIdToUuid(order.getManufacturingOrderId())
+        );
+    }
+}
@@ -1,10 +1,12 @@
 package com.company.customerorder.adapter.out.persistence;
 
+import com.company.sharedkernel.KeysetPage;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -19,7 +21,7 @@ import java.util.UUID;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-public class CustomerOrderJpaEntity {
+public class CustomerOrderJpaEntity implements CustomerOrderRow {
     
     @Id
     private UUID id;
@@ -55,7 +57,14 @@ public class CustomerOrderJpaEntity {
     @Column(name = "manufacturing_order_id")
     private UUID manufacturingOrderId;
     
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
+    // A page reads one order more than its limit to see whether another page follows;
+    // the batch covers the largest page, so its items always load in a single statement
     @OneToMany(mappedBy = "customerOrder", cascade = CascadeType.ALL, fetch = FetchType.EAGER)
+    @BatchSize(size = KeysetPage.MAX_LIMIT + 1)
     private List<OrderItemJpaEntity> items = new ArrayList<>();
     
     public enum CustomerOrderStatusEntity {
@@ -1,21 +1,89 @@
 package com.company.customerorder.adapter.out.persistence;
 
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface CustomerOrderJpaRepository extends JpaRepository<CustomerOrderJpaEntity, UUID> {
+public interface CustomerOrderJpaRepository extends CustomerOrderRowJpaRepository<CustomerOrderJpaEntity> {
     
-    List<CustomerOrderJpaEntity> findByCustomerId(UUID customerId);
+    @Override
+    @Query("SELECT DISTINCT o FROM CustomerOrderJpaEntity o LEFT JOIN FETCH o.items " +
+           "WHERE o.manufacturingOrderId IN :manufacturingOrderIds")
+    List<CustomerOrderJpaEntity> findByManufacturingOrderIdIn(Collection<UUID> manufacturingOrderIds);
     
-    List<CustomerOrderJpaEntity> findByStatus(CustomerOrderJpaEntity.CustomerOrderStatusEntity status);
+    /**
+     * Streams the orders placed in {@code [from, to)} with their items, in placement order.
+     * Rows are fetched from a database cursor 500 at a time, and the entities
+     * are not tracked for changes. The stream must be consumed and closed inside a transaction.
+     */
+    @Override
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT o FROM CustomerOrderJpaEntity o LEFT JOIN FETCH o.items " +
+           "WHERE o.placedAt >= :from AND o.placedAt < :to ORDER BY o.placedAt, o.id")
+    Stream<CustomerOrderJpaEntity> streamPlacedBetween(Instant from, Instant to);
     
-    @Query("SELECT o FROM CustomerOrderJpaEntity o WHERE o.status NOT IN ('DELIVERED', 'CANCELLED')")
-    List<CustomerOrderJpaEntity> findActiveOrders();
+    /**
+     * Reads the placement time of the order from {@code customer_order_ids} first, so only
+     * the monthly partition holding the row is probed. Needs the partitioned schema.
+     */
+    @Query(value = "SELECT o.* FROM customer_orders o WHERE o.id = :id AND o.placed_at = " +
+                   "(SELECT r.placed_at FROM customer_order_ids r WHERE r.id = :id)",
+           nativeQuery = true)
+    Optional<CustomerOrderJpaEntity> findRegisteredById(UUID id);
     
-    List<CustomerOrderJpaEntity> findByManufacturingOrderId(UUID manufacturingOrderId);
-}
\ No newline at end of file
+    /**
+     * Checks {@code customer_order_ids} alone, without reading the partitions. Needs the
+     * partitioned schema.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM customer_order_ids WHERE id = :id)", nativeQuery = true)
+    boolean existsRegisteredById(UUID id);
+    
+    /**
+     * Reads {@code customer_order_ids} alone, without reading the partitions. Needs the
+     * partitioned schema.
+     */
+    @Query(value = "SELECT id FROM customer_order_ids WHERE id IN :ids", nativeQuery = true)
+    List<UUID> findRegisteredIdsByIdIn(Collection<UUID> ids);
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM OrderItemJpaEntity i WHERE i.customerOrder.id IN :orderIds")
+    int deleteItemsByOrderIdIn(Collection<UUID> orderIds);
+    
+    /**
+     * Writes the fields that can change after an order is placed, if the row is still at
+     * {@code version}. Items, customer details and totals are fixed at placement. The
+     * placement time narrows the update to the partition holding the row. A copy of the row
+     * loaded earlier in the persistence context is left as it was; the caller evicts it.
+     *
+     * @return 1 if the row was updated, 0 if it was changed or deleted in the meantime
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE CustomerOrderJpaEntity o SET o.status = :status, o.updatedAt = :updatedAt, " +
+           "o.manufacturingOrderId = :manufacturingOrderId, o.version = o.version + 1 " +
+           "WHERE o.id = :id AND o.placedAt = :placedAt AND o.version = :version")
+    int updateIfVersionMatches(
+        UUID id,
+        Instant placedAt,
+        long version,
+        CustomerOrderJpaEntity.CustomerOrderStatusEntity status,
+        Instant updatedAt,
+        UUID manufacturingOrderId
+    );
+}
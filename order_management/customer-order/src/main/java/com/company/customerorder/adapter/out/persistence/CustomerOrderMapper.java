@@ -27,6 +27,7 @@ public interface CustomerOrderMapper {
     @Mapping(target = "items", source = "items", qualifiedByName = "itemsToEntities")
     @Mapping(target = "placedAt", source = "placedAt")
     @Mapping(target = "updatedAt", source = "updatedAt")
+    @Mapping(target = "version", source = "version")
     CustomerOrderJpaEntity toEntity(CustomerOrder order);
     
     default CustomerOrder toDomain(CustomerOrderJpaEntity entity) {
@@ -40,7 +41,8 @@ public interface CustomerOrderMapper {
             entityToStatus(entity.getStatus()),
             entity.getPlacedAt(),
             entity.getUpdatedAt(),
-            uuidToOrderId(entity.getManufacturingOrderId())
+            uuidToOrderId(entity.getManufacturingOrderId()),
+            entity.getVersion()
         );
     }
     
@@ -114,33 +116,6 @@ public interface CustomerOrderMapper {
             .toList();
     }
     
-    default List<OrderItemJpaEntity> mapItemsPreservingIds(List<OrderItem> items, List<OrderItemJpaEntity> existingItems) {
-        if (existingItems == null || existingItems.isEmpty()) {
-            return itemsToEntities(items);
-        }
-        
-        var result = new java.util.ArrayList<OrderItemJpaEntity>();
-        for (int i = 0; i < items.size(); i++) {
-            var item = items.get(i);
-            OrderItemJpaEntity entity;
-            
-            if (i < existingItems.size()) {
-                entity = existingItems.get(i);
-                entity.setProductCode(item.getProductCode());
-                entity.setDescription(item.getDescription());
-                entity.setQuantity(item.getQuantity());
-                entity.setUnitPrice(item.getUnitPrice().getAmount());
-                entity.setCurrency(item.getUnitPrice().getCurrency().getCurrencyCode());
-            } else {
-                entity = new OrderItemJpaEntity(null, null, item.getProductCode(),
-                    item.getDescription(), item.getQuantity(), item.getUnitPrice().getAmount(),
-                    item.getUnitPrice().getCurrency().getCurrencyCode());
-            }
-            result.add(entity);
-        }
-        return result;
-    }
-    
     @Named("entitiesToItems")
     default List<OrderItem> entitiesToItems(List<OrderItemJpaEntity> entities) {
         return entities.stream()
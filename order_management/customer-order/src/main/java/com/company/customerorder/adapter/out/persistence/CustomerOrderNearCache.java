@@ -0,0 +1,113 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import com.company.customerorder.domain.model.CustomerOrder;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.CustomerOrderStatusUpdated;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of customer orders by id. Concurrent misses for the same order
+ * wait for a single load instead of each going to the database, and unknown orders are
+ * not cached.
+ *
+ * The cached order is a snapshot that is never handed out: every hit returns a fresh copy,
+ * so callers can change and save it as they would a loaded one. Read-write transactions
+ * bypass the cache altogether, so an order is only ever changed from its stored state.
+ * With read replicas enabled, read-only transactions are served from the cache but do not
+ * fill it: they read from a replica that may lag behind the primary, and an order loaded
+ * from it could bring back a state that was just evicted and keep it for the whole expiry.
+ *
+ * An entry is dropped when the order is saved or deleted through this instance, again once
+ * that transaction has completed, and whenever its status update or cancellation is
+ * published. The expiry only limits how long an entry can outlive a change that arrived
+ * by none of these routes.
+ *
+ * Hits, misses and evictions are reported as the {@code cache.*} meters tagged
+ * {@code cache=customerOrders}.
+ */
+@Component
+public class CustomerOrderNearCache {
+    static final String CACHE_NAME = "customerOrders";
+
+    private final Cache<OrderId, CustomerOrder> cache;
+    private final boolean readReplicas;
+
+    public CustomerOrderNearCache(
+        MeterRegistry meterRegistry,
+        @Value("${order.management.customer-orders.near-cache.maximum-size:10000}") long maximumSize,
+        @Value("${order.management.customer-orders.near-cache.expire-after-write:5m}") Duration expireAfterWrite,
+        @Value("${order.management.datasource.read-replicas.enabled:false}") boolean readReplicas
+    ) {
+        this.readReplicas = readReplicas;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(expireAfterWrite)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<CustomerOrder> get(OrderId orderId, Function<OrderId, Optional<CustomerOrder>> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+            && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return loader.apply(orderId);
+        }
+        if (readReplicas && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return Optional.ofNullable(cache.getIfPresent(orderId))
+                .map(CustomerOrderNearCache::copyOf)
+                .or(() -> loader.apply(orderId));
+        }
+        return Optional.ofNullable(cache.get(orderId, id -> loader.apply(id).orElse(null)))
+            .map(CustomerOrderNearCache::copyOf);
+    }
+
+    public void invalidate(OrderId orderId) {
+        cache.invalidate(orderId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A reader outside the transaction may cache the old row until it commits
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(orderId);
+                }
+            });
+        }
+    }
+
+    @EventListener(id = "evict-customer-order-on-status-update")
+    public void onStatusUpdated(CustomerOrderStatusUpdated event) {
+        cache.invalidate(event.orderId());
+    }
+
+    @EventListener(id = "evict-customer-order-on-cancellation")
+    public void onCancelled(CustomerOrderCancelled event) {
+        cache.invalidate(event.orderId());
+    }
+
+    private static CustomerOrder copyOf(CustomerOrder order) {
+        return CustomerOrder.reconstitute(
+            order.getId(),
+            order.getCustomerInfo(),
+            order.getItems(),
+            order.getTotalAmount(),
+            order.getStatus(),
+            order.getPlacedAt(),
+            order.getUpdatedAt(),
+            order.getManufacturingOrderId(),
+            order.getVersion()
+        );
+    }
+}
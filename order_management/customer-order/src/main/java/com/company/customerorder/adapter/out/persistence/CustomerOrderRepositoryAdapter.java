@@ -1,107 +1,98 @@
 package com.company.customerorder.adapter.out.persistence;
 
 import com.company.sharedkernel.DomainEventPublisher;
-import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.OrderArchive;
 import com.company.customerorder.domain.model.CustomerOrder;
-import com.company.customerorder.domain.model.CustomerId;
-import com.company.customerorder.domain.model.CustomerOrderStatus;
-import com.company.customerorder.domain.port.CustomerOrderRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Repository;
 
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * Stores customer orders in {@code customer_orders}, with one row per item in
+ * {@code order_items}.
+ */
 @Repository
-public class CustomerOrderRepositoryAdapter implements CustomerOrderRepository {
+@ConditionalOnProperty(name = "order.management.customer-orders.storage", havingValue = "relational", matchIfMissing = true)
+public class CustomerOrderRepositoryAdapter extends CustomerOrderRepositorySupport<CustomerOrderJpaEntity> {
+    
     private final CustomerOrderJpaRepository jpaRepository;
     private final CustomerOrderMapper mapper;
-    private final DomainEventPublisher eventPublisher;
+    private final boolean partitioned;
 
+    /**
+     * @param partitioned whether {@code customer_orders} is partitioned, so lookups by id go
+     *                    through {@code customer_order_ids} to read only the partition of the order
+     */
     public CustomerOrderRepositoryAdapter(
         CustomerOrderJpaRepository jpaRepository,
+        CustomerOrderDocumentJpaRepository documentRepository,
         @Qualifier("customerOrderMapperImpl") CustomerOrderMapper mapper,
-        DomainEventPublisher eventPublisher
+        DomainEventPublisher eventPublisher,
+        EntityManager entityManager,
+        CustomerOrderNearCache nearCache,
+        @Value("${order.management.partitioning.enabled:false}") boolean partitioned,
+        Optional<OrderArchive> archive
     ) {
+        super(jpaRepository, CustomerOrderJpaEntity.class, documentRepository, "customer_order_documents",
+            mapper, eventPublisher, entityManager, nearCache, archive);
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
-        this.eventPublisher = eventPublisher;
-    }
-    
-    @Override
-    public Optional<CustomerOrder> findById(OrderId orderId) {
-        return jpaRepository.findById(orderId.getValue())
-            .map(mapper::toDomain);
-    }
-    
-    @Override
-    public List<CustomerOrder> findByCustomerId(CustomerId customerId) {
-        return jpaRepository.findByCustomerId(customerId.getValue())
-            .stream()
-            .map(mapper::toDomain)
-            .toList();
+        this.partitioned = partitioned;
     }
     
     @Override
-    public List<CustomerOrder> findByStatus(CustomerOrderStatus status) {
-        var entityStatus = CustomerOrderJpaEntity.CustomerOrderStatusEntity.valueOf(status.name());
-        return jpaRepository.findByStatus(entityStatus)
-            .stream()
-            .map(mapper::toDomain)
-            .toList();
+    protected Optional<CustomerOrderJpaEntity> findRowById(UUID id) {
+        return partitioned ? jpaRepository.findRegisteredById(id) : super.findRowById(id);
     }
     
     @Override
-    public List<CustomerOrder> findActiveOrders() {
-        return jpaRepository.findActiveOrders()
-            .stream()
-            .map(mapper::toDomain)
-            .toList();
+    protected boolean rowExists(UUID id) {
+        return partitioned ? jpaRepository.existsRegisteredById(id) : super.rowExists(id);
     }
     
     @Override
-    public List<CustomerOrder> findAll() {
-        return jpaRepository.findAll()
-            .stream()
-            .map(mapper::toDomain)
-            .toList();
+    protected List<UUID> findStoredIds(Collection<UUID> ids) {
+        return partitioned ? jpaRepository.findRegisteredIdsByIdIn(ids) : super.findStoredIds(ids);
     }
     
     @Override
-    public List<CustomerOrder> findByManufacturingOrderId(OrderId manufacturingOrderId) {
-        return jpaRepository.findByManufacturingOrderId(manufacturingOrderId.getValue())
-            .stream()
-            .map(mapper::toDomain)
-            .toList();
+    protected CustomerOrder toDomain(CustomerOrderJpaEntity row) {
+        return mapper.toDomain(row);
     }
     
     @Override
-    public CustomerOrder save(CustomerOrder order) {
-        var existingEntity = jpaRepository.findById(order.getId().getValue()).orElse(null);
+    protected CustomerOrderJpaEntity toRow(CustomerOrder order) {
         var entity = mapper.toEntity(order);
-        
-        if (existingEntity != null) {
-            var preservedItems = mapper.mapItemsPreservingIds(order.getItems(), existingEntity.getItems());
-            entity.setItems(preservedItems);
-        }
-        
+        // The column keeps microseconds; a managed entity with more precision would hand
+        // out page cursors that do not match the stored row.
+        entity.setPlacedAt(entity.getPlacedAt().truncatedTo(ChronoUnit.MICROS));
         entity.getItems().forEach(item -> item.setCustomerOrder(entity));
-        var savedEntity = jpaRepository.save(entity);
-        var savedOrder = mapper.toDomain(savedEntity);
-        
-        order.getDomainEvents().forEach(eventPublisher::publishEvent);
-        order.clearDomainEvents();
-        
-        return savedOrder;
+        return entity;
     }
     
     @Override
-    public void delete(OrderId orderId) {
-        jpaRepository.deleteById(orderId.getValue());
+    protected int updateIfVersionMatches(CustomerOrder order) {
+        return jpaRepository.updateIfVersionMatches(
+            order.getId().getValue(),
+            order.getPlacedAt().truncatedTo(ChronoUnit.MICROS),
+            order.getVersion(),
+            mapper.statusToEntity(order.getStatus()),
+            order.getUpdatedAt(),
+            mapper.orderIdToUuid(order.getManufacturingOrderId())
+        );
     }
     
     @Override
-    public boolean existsById(OrderId orderId) {
-        return jpaRepository.existsById(orderId.getValue());
+    protected void deleteArchivedRows(List<UUID> ids) {
+        jpaRepository.deleteItemsByOrderIdIn(ids);
+        jpaRepository.deleteByIdIn(ids);
     }
-}
\ No newline at end of file
+}
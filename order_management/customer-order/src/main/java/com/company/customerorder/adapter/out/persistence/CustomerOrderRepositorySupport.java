@@ -0,0 +1,370 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import com.company.sharedkernel.AggregateRepositorySupport;
+import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.KeysetPage;
+import com.company.sharedkernel.OrderArchive;
+import com.company.sharedkernel.OrderArchive.AggregateType;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.PageCursor;
+import com.company.customerorder.domain.model.CustomerOrder;
+import com.company.customerorder.domain.model.CustomerId;
+import com.company.customerorder.domain.model.CustomerOrderStatus;
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * What the customer order adapters share whatever layout they store orders in: keyset
+ * paging, versioned saves without a read, the near cache and the order archive. A layout
+ * supplies the mapping of its rows and its versioned UPDATE.
+ *
+ * Only one layout is in use at a time, and orders are not copied between them when the
+ * setting changes. Startup fails while the table of the layout not in use still holds
+ * orders, rather than serving a store that silently misses them.
+ *
+ * @param <E> the row of the layout
+ */
+abstract class CustomerOrderRepositorySupport<E extends CustomerOrderRow> extends AggregateRepositorySupport
+    implements CustomerOrderRepository, SmartInitializingSingleton {
+    
+    private static final Set<CustomerOrderJpaEntity.CustomerOrderStatusEntity> CLOSED_STATUSES = EnumSet.of(
+        CustomerOrderJpaEntity.CustomerOrderStatusEntity.DELIVERED,
+        CustomerOrderJpaEntity.CustomerOrderStatusEntity.CANCELLED
+    );
+    private static final Sort PLACEMENT_ORDER = Sort.by("placedAt", "id");
+    
+    private final CustomerOrderRowJpaRepository<E> rows;
+    private final Class<E> rowType;
+    private final CustomerOrderRowJpaRepository<?> inactiveLayout;
+    private final String inactiveTable;
+    private final CustomerOrderMapper mapper;
+    private final DomainEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final CustomerOrderNearCache nearCache;
+    private final OrderArchive archive;
+    
+    /**
+     * Without an order archive, lookups only cover the table of the layout and closed
+     * orders cannot be archived.
+     */
+    protected CustomerOrderRepositorySupport(
+        CustomerOrderRowJpaRepository<E> rows,
+        Class<E> rowType,
+        CustomerOrderRowJpaRepository<?> inactiveLayout,
+        String inactiveTable,
+        CustomerOrderMapper mapper,
+        DomainEventPublisher eventPublisher,
+        EntityManager entityManager,
+        CustomerOrderNearCache nearCache,
+        Optional<OrderArchive> archive
+    ) {
+        this.rows = rows;
+        this.rowType = rowType;
+        this.inactiveLayout = inactiveLayout;
+        this.inactiveTable = inactiveTable;
+        this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.nearCache = nearCache;
+        this.archive = archive.orElse(null);
+    }
+    
+    protected abstract CustomerOrder toDomain(E row);
+    
+    protected abstract E toRow(CustomerOrder order);
+    
+    /**
+     * Writes the changeable fields of a stored order if its row is still at the version
+     * the order was loaded with.
+     *
+     * @return 1 if the row was updated, 0 if it was changed or deleted in the meantime
+     */
+    protected abstract int updateIfVersionMatches(CustomerOrder order);
+    
+    /**
+     * Lookups by id. A layout stored in a partitioned table overrides them to go through
+     * the id registry, which names the partition of an order.
+     */
+    protected Optional<E> findRowById(UUID id) {
+        return rows.findById(id);
+    }
+    
+    protected boolean rowExists(UUID id) {
+        return rows.existsById(id);
+    }
+    
+    protected List<UUID> findStoredIds(Collection<UUID> ids) {
+        return rows.findIdsByIdIn(ids);
+    }
+    
+    /**
+     * Deletes the rows of archived orders. A layout that keeps more than one row per order
+     * deletes the others too.
+     */
+    protected void deleteArchivedRows(List<UUID> ids) {
+        rows.deleteByIdIn(ids);
+    }
+    
+    /**
+     * @throws IllegalStateException if the table of the other layout holds orders
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (hasRows(inactiveLayout)) {
+            throw new IllegalStateException("Table " + inactiveTable + " still holds customer orders, but "
+                + "order.management.customer-orders.storage selects the other layout; orders are not "
+                + "copied between layouts, so move them over or switch the setting back");
+        }
+    }
+    
+    private static <T> boolean hasRows(JpaSpecificationExecutor<T> repository) {
+        return repository.exists((root, query, cb) -> cb.conjunction());
+    }
+    
+    @Override
+    public Optional<CustomerOrder> findById(OrderId orderId) {
+        return nearCache.get(orderId, id -> findRowById(id.getValue())
+            .map(this::toDomain)
+            .or(() -> findArchived(id)));
+    }
+    
+    @Override
+    public KeysetPage<CustomerOrder> findByCustomerId(CustomerId customerId, PageCursor after, int limit) {
+        return toPage(rows.findByCustomerIdOrderByPlacedAtAscIdAsc(
+            customerId.getValue(), positionAfter(after), Limit.of(KeysetPage.checkLimit(limit))));
+    }
+    
+    @Override
+    public KeysetPage<CustomerOrder> findByStatus(CustomerOrderStatus status, PageCursor after, int limit) {
+        return toPage(rows.findByStatusOrderByPlacedAtAscIdAsc(
+            mapper.statusToEntity(status), positionAfter(after), Limit.of(KeysetPage.checkLimit(limit))));
+    }
+    
+    @Override
+    public KeysetPage<CustomerOrder> findActiveOrders(PageCursor after, int limit) {
+        int pageSize = KeysetPage.checkLimit(limit);
+        return toPage(rows.findBy(isActive(), query -> query
+            .sortBy(PLACEMENT_ORDER)
+            .limit(pageSize)
+            .scroll(positionAfter(after))));
+    }
+    
+    @Override
+    public KeysetPage<CustomerOrder> findAll(PageCursor after, int limit) {
+        return toPage(rows.findAllByOrderByPlacedAtAscIdAsc(
+            positionAfter(after), Limit.of(KeysetPage.checkLimit(limit))));
+    }
+    
+    @Override
+    public List<CustomerOrder> findByManufacturingOrderId(OrderId manufacturingOrderId) {
+        return findByManufacturingOrderIds(List.of(manufacturingOrderId));
+    }
+    
+    @Override
+    public List<CustomerOrder> findByManufacturingOrderIds(Collection<OrderId> manufacturingOrderIds) {
+        if (manufacturingOrderIds.isEmpty()) {
+            return List.of();
+        }
+        var ids = manufacturingOrderIds.stream().map(OrderId::getValue).toList();
+        return rows.findByManufacturingOrderIdIn(ids)
+            .stream()
+            .map(this::toDomain)
+            .toList();
+    }
+    
+    /**
+     * Reads the orders from a database cursor and detaches each one once it has been
+     * handed on, so the persistence context stays small however many orders there are.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachPlacedBetween(Instant from, Instant to, Consumer<CustomerOrder> action) {
+        try (var entities = rows.streamPlacedBetween(from, to)) {
+            entities.forEach(entity -> {
+                action.accept(toDomain(entity));
+                entityManager.detach(entity);
+            });
+        }
+    }
+    
+    /**
+     * Inserts a new order, or updates a stored one with a single versioned UPDATE, without
+     * reading it first. The given order is returned with its new version.
+     *
+     * @throws ObjectOptimisticLockingFailureException if the order was changed since it was loaded
+     * @throws IllegalStateException if the order was loaded from the archive
+     */
+    @Override
+    public CustomerOrder save(CustomerOrder order) {
+        if (order.getVersion() == null) {
+            insert(List.of(order));
+        } else {
+            update(order);
+        }
+    
+        eventPublisher.publishAll(order.pullDomainEvents());
+    
+        return order;
+    }
+    
+    @Override
+    public List<CustomerOrder> saveAll(List<CustomerOrder> orders) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        insert(orders.stream().filter(order -> order.getVersion() == null).toList());
+        orders.stream().filter(order -> order.getVersion() != null).forEach(this::update);
+    
+        eventPublisher.publishAll(orders.stream()
+            .flatMap(order -> order.pullDomainEvents().stream())
+            .toList());
+    
+        return orders;
+    }
+    
+    private void insert(List<CustomerOrder> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        var entities = orders.stream().map(this::toRow).toList();
+        // With a null @Version the entities count as new, so they are persisted, not merged
+        rows.saveAll(entities);
+        for (int i = 0; i < orders.size(); i++) {
+            recordSavedVersion(orders.get(i), entities.get(i).getVersion());
+        }
+    }
+    
+    private void update(CustomerOrder order) {
+        if (updateIfVersionMatches(order) == 0) {
+            if (isArchived(order.getId())) {
+                throw new IllegalStateException("Customer order " + order.getId() + " is archived and can no longer be changed");
+            }
+            throw new ObjectOptimisticLockingFailureException(rowType, order.getId().getValue());
+        }
+        evictLoadedCopy(order.getId());
+        nearCache.invalidate(order.getId());
+        recordSavedVersion(order, order.getVersion() + 1);
+    }
+    
+    /**
+     * Writes the closed statuses into the SQL as literals instead of binding them, so that
+     * the planner can prove the condition of the partial index on active orders, also for
+     * a generic plan of a prepared statement. Must match that index condition.
+     */
+    private static <T> Specification<T> isActive() {
+        return (root, query, cb) -> {
+            var closed = cb.in(root.<CustomerOrderJpaEntity.CustomerOrderStatusEntity>get("status"));
+            CLOSED_STATUSES.forEach(status -> closed.value(cb.literal(status)));
+            return cb.not(closed);
+        };
+    }
+    
+    private static ScrollPosition positionAfter(PageCursor after) {
+        return after == null
+            ? ScrollPosition.keyset()
+            : ScrollPosition.forward(Map.of("placedAt", after.timestamp(), "id", after.id()));
+    }
+    
+    private KeysetPage<CustomerOrder> toPage(Window<E> window) {
+        var orders = window.getContent().stream().map(this::toDomain).toList();
+        if (!window.hasNext() || window.isEmpty()) {
+            return new KeysetPage<>(orders, null);
+        }
+        var last = window.getContent().getLast();
+        return new KeysetPage<>(orders, new PageCursor(last.getPlacedAt(), last.getId()));
+    }
+    
+    /**
+     * Detaches the order if this persistence context loaded it before the versioned UPDATE,
+     * so a later read in the same transaction sees the updated row. Other managed entities
+     * stay as they are. {@code getReference} does not read the row if it was not loaded.
+     */
+    private void evictLoadedCopy(OrderId orderId) {
+        entityManager.detach(entityManager.getReference(rowType, orderId.getValue()));
+    }
+    
+    @Override
+    public void delete(OrderId orderId) {
+        rows.deleteById(orderId.getValue());
+        nearCache.invalidate(orderId);
+    }
+    
+    @Override
+    public boolean existsById(OrderId orderId) {
+        return rowExists(orderId.getValue()) || isArchived(orderId);
+    }
+    
+    @Override
+    public Set<OrderId> findExistingIds(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return Set.of();
+        }
+        var existing = findStoredIds(orderIds.stream().map(OrderId::getValue).toList())
+            .stream()
+            .map(OrderId::of)
+            .collect(Collectors.toCollection(HashSet::new));
+        orderIds.stream()
+            .filter(orderId -> !existing.contains(orderId) && isArchived(orderId))
+            .forEach(existing::add);
+        return existing;
+    }
+    
+    /**
+     * Stores the orders in the archive before deleting their rows, so a failure in between
+     * leaves an order in both tiers, where the order table takes precedence, and never in
+     * neither.
+     */
+    @Override
+    @Transactional
+    public int archiveClosedOrders(Instant closedBefore, int limit) {
+        if (archive == null) {
+            throw new IllegalStateException("No order archive is configured");
+        }
+        var entities = rows.findByStatusInAndUpdatedAtBefore(CLOSED_STATUSES, closedBefore, Limit.of(limit));
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        var encoded = new LinkedHashMap<OrderId, byte[]>();
+        entities.stream()
+            .map(this::toDomain)
+            .forEach(order -> encoded.put(order.getId(), CustomerOrderArchiveCodec.encode(order)));
+        archive.store(AggregateType.CUSTOMER_ORDER, encoded);
+    
+        deleteArchivedRows(entities.stream().map(CustomerOrderRow::getId).toList());
+        entities.forEach(entityManager::detach);
+        return entities.size();
+    }
+    
+    private Optional<CustomerOrder> findArchived(OrderId orderId) {
+        if (archive == null) {
+            return Optional.empty();
+        }
+        return archive.find(AggregateType.CUSTOMER_ORDER, orderId).map(CustomerOrderArchiveCodec::decode);
+    }
+    
+    private boolean isArchived(OrderId orderId) {
+        return archive != null && archive.contains(AggregateType.CUSTOMER_ORDER, orderId);
+    }
+}
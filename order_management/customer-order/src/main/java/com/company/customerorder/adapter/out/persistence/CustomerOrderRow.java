@@ -0,0 +1,17 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * The stored fields that both customer order layouts have in common, which paging and
+ * versioned saves work with.
+ */
+interface CustomerOrderRow {
+    
+    UUID getId();
+    
+    Instant getPlacedAt();
+    
+    Long getVersion();
+}
@@ -0,0 +1,63 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * The queries {@link CustomerOrderRepositorySupport} runs against either customer order
+ * layout. A layout redeclares a query where it has to fetch more than its own row.
+ */
+@NoRepositoryBean
+interface CustomerOrderRowJpaRepository<E extends CustomerOrderRow>
+    extends JpaRepository<E, UUID>, JpaSpecificationExecutor<E> {
+    
+    Window<E> findAllByOrderByPlacedAtAscIdAsc(ScrollPosition position, Limit limit);
+    
+    Window<E> findByCustomerIdOrderByPlacedAtAscIdAsc(UUID customerId, ScrollPosition position, Limit limit);
+    
+    Window<E> findByStatusOrderByPlacedAtAscIdAsc(
+        CustomerOrderJpaEntity.CustomerOrderStatusEntity status, ScrollPosition position, Limit limit);
+    
+    List<E> findByManufacturingOrderIdIn(Collection<UUID> manufacturingOrderIds);
+    
+    /**
+     * Streams the orders placed in {@code [from, to)} in placement order, 500 rows at a time
+     * from a database cursor, without tracking them for changes. The stream must be consumed
+     * and closed inside a transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT o FROM #{#entityName} o WHERE o.placedAt >= :from AND o.placedAt < :to ORDER BY o.placedAt, o.id")
+    Stream<E> streamPlacedBetween(Instant from, Instant to);
+    
+    @Query("SELECT o.id FROM #{#entityName} o WHERE o.id IN :ids")
+    List<UUID> findIdsByIdIn(Collection<UUID> ids);
+    
+    List<E> findByStatusInAndUpdatedAtBefore(
+        Collection<CustomerOrderJpaEntity.CustomerOrderStatusEntity> statuses,
+        Instant updatedBefore,
+        Limit limit
+    );
+    
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM #{#entityName} o WHERE o.id IN :ids")
+    int deleteByIdIn(Collection<UUID> ids);
+}
@@ -2,6 +2,7 @@ package com.company.customerorder.application.command;
 
 import com.company.customerorder.domain.port.CustomerOrderRepository;
 import com.company.customerorder.domain.service.CustomerOrderDomainService;
+import com.company.sharedkernel.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,6 +13,7 @@ public class CancelCustomerOrderHandler {
     private final CustomerOrderRepository repository;
     private final CustomerOrderDomainService domainService;
     
+    @RetryOnConflict
     @Transactional
     public void handle(CancelCustomerOrderCommand command) {
         var order = repository.findById(command.orderId())
@@ -6,6 +6,7 @@ import com.company.customerorder.domain.model.CustomerId;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Currency;
+import java.util.Objects;
 
 public record PlaceCustomerOrderCommand(
     OrderId orderId,
@@ -25,6 +26,9 @@ public record PlaceCustomerOrderCommand(
         if (items == null || items.isEmpty()) {
             throw new IllegalArgumentException("Order must have at least one item");
         }
+        if (items.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Order items cannot be null");
+        }
     }
     
     public record OrderItemCommand(
@@ -7,22 +7,42 @@ import com.company.customerorder.domain.model.CustomerInfo;
 import com.company.customerorder.domain.model.OrderItem;
 import com.company.customerorder.domain.port.CustomerOrderRepository;
 import com.company.customerorder.domain.service.CustomerOrderDomainService;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 
 @Component
-@RequiredArgsConstructor
 public class PlaceCustomerOrderHandler {
     private static final Logger log = LoggerFactory.getLogger(PlaceCustomerOrderHandler.class);
     private static final Logger auditLog = LoggerFactory.getLogger("AUDIT");
     
     private final CustomerOrderRepository repository;
     private final CustomerOrderDomainService domainService;
+    private final TransactionOperations transactionOperations;
+    private final int batchChunkSize;
+    
+    public PlaceCustomerOrderHandler(
+        CustomerOrderRepository repository,
+        CustomerOrderDomainService domainService,
+        TransactionOperations transactionOperations,
+        @Value("${order.management.customer-orders.batch-chunk-size:500}") int batchChunkSize
+    ) {
+        if (batchChunkSize <= 0) {
+            throw new IllegalArgumentException("Batch chunk size must be positive");
+        }
+        this.repository = repository;
+        this.domainService = domainService;
+        this.transactionOperations = transactionOperations;
+        this.batchChunkSize = batchChunkSize;
+    }
     
     @Transactional
     public OrderId handle(PlaceCustomerOrderCommand command) {
@@ -31,31 +51,14 @@ public class PlaceCustomerOrderHandler {
         
         long startTime = System.currentTimeMillis();
         
+        // Orders are inserted, never merged, so a repeated request must not reach the insert
+        if (repository.existsById(command.orderId())) {
+            log.info("Customer order already placed, ignoring repeated request: orderId={}", command.orderId());
+            return command.orderId();
+        }
+        
         try {
-            var customerInfo = CustomerInfo.of(
-                command.customerId(),
-                command.customerName(),
-                command.customerEmail(),
-                command.customerAddress()
-            );
-            
-            var orderItems = command.items().stream()
-                .map(item -> OrderItem.of(
-                    item.productCode(),
-                    item.description(),
-                    item.quantity(),
-                    Money.of(item.unitPrice(), item.currency())
-                ))
-                .toList();
-            
-            log.debug("Validating order items for orderId={}", command.orderId());
-            domainService.validateOrderItems(orderItems);
-            
-            var order = CustomerOrder.placeOrder(
-                command.orderId(),
-                customerInfo,
-                orderItems
-            );
+            var order = toOrder(command);
             
             repository.save(order);
             
@@ -79,4 +82,151 @@ public class PlaceCustomerOrderHandler {
             throw e;
         }
     }
-}
\ No newline at end of file
+    
+    /**
+     * Places many orders, reading the commands as they are needed. Every chunk of
+     * {@code batchChunkSize} commands is validated in parallel and stored in one
+     * transaction. If a chunk cannot be stored, its orders are placed one by one, each in
+     * its own transaction, so one bad order does not hold back the rest.
+     *
+     * @return one result per command, in the order the commands were given
+     */
+    public List<PlaceCustomerOrderResult> handleBatch(Iterator<PlaceCustomerOrderCommand> commands) {
+        long startTime = System.currentTimeMillis();
+        var results = new ArrayList<PlaceCustomerOrderResult>();
+        var chunk = new ArrayList<PlaceCustomerOrderCommand>(batchChunkSize);
+        
+        while (commands.hasNext()) {
+            chunk.add(commands.next());
+            if (chunk.size() == batchChunkSize) {
+                results.addAll(placeChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(placeChunk(chunk));
+        }
+        
+        long duration = System.currentTimeMillis() - startTime;
+        var placed = results.stream()
+            .filter(result -> result.outcome() == PlaceCustomerOrderResult.Outcome.PLACED)
+            .count();
+        log.info("Placed {} of {} customer orders in batch, duration={}ms", placed, results.size(), duration);
+        auditLog.info("CUSTOMER_ORDER_BATCH_PLACED orders={} placed={} duration={}ms", results.size(), placed, duration);
+        
+        return results;
+    }
+    
+    private List<PlaceCustomerOrderResult> placeChunk(List<PlaceCustomerOrderCommand> chunk) {
+        var prepared = chunk.parallelStream().map(this::prepare).toList();
+        var seen = new HashSet<OrderId>();
+        var valid = new ArrayList<PreparedOrder>();
+        var results = new ArrayList<PlaceCustomerOrderResult>(prepared.size());
+        for (var order : prepared) {
+            if (order.rejection() != null) {
+                results.add(order.rejection());
+            } else if (!seen.add(order.command().orderId())) {
+                results.add(PlaceCustomerOrderResult.alreadyPlaced(order.command().orderId()));
+            } else {
+                valid.add(order);
+                results.add(null);
+            }
+        }
+        if (valid.isEmpty()) {
+            return results;
+        }
+        
+        List<PlaceCustomerOrderResult> stored;
+        try {
+            stored = transactionOperations.execute(status -> store(valid));
+        } catch (RuntimeException e) {
+            log.warn("Failed to store chunk of {} customer orders, placing them one by one: {}",
+                valid.size(), e.getMessage());
+            stored = valid.stream().map(order -> placeAlone(order.command())).toList();
+        }
+        
+        var storedResults = stored.iterator();
+        results.replaceAll(result -> result != null ? result : storedResults.next());
+        return results;
+    }
+    
+    private List<PlaceCustomerOrderResult> store(List<PreparedOrder> orders) {
+        var existing = repository.findExistingIds(orders.stream().map(order -> order.command().orderId()).toList());
+        var newOrders = orders.stream()
+            .map(PreparedOrder::order)
+            .filter(order -> !existing.contains(order.getId()))
+            .toList();
+        repository.saveAll(newOrders);
+        return orders.stream()
+            .map(order -> existing.contains(order.command().orderId())
+                ? PlaceCustomerOrderResult.alreadyPlaced(order.command().orderId())
+                : PlaceCustomerOrderResult.placed(order.command().orderId()))
+            .toList();
+    }
+    
+    /**
+     * Builds the order again from its command, as the aggregate of the failed chunk has
+     * already handed its events to the rolled back transaction.
+     */
+    private PlaceCustomerOrderResult placeAlone(PlaceCustomerOrderCommand command) {
+        try {
+            return transactionOperations.execute(status -> {
+                if (repository.existsById(command.orderId())) {
+                    return PlaceCustomerOrderResult.alreadyPlaced(command.orderId());
+                }
+                repository.save(toOrder(command));
+                return PlaceCustomerOrderResult.placed(command.orderId());
+            });
+        } catch (RuntimeException e) {
+            log.error("Failed to place customer order in batch: orderId={}, error={}",
+                command.orderId(), e.getMessage(), e);
+            return PlaceCustomerOrderResult.rejected(command.orderId(), e.getMessage());
+        }
+    }
+    
+    /**
+     * Whatever building the order fails with rejects only this order: earlier chunks are
+     * already stored, so failing the whole batch here would report them as not placed.
+     */
+    private PreparedOrder prepare(PlaceCustomerOrderCommand command) {
+        try {
+            return new PreparedOrder(command, toOrder(command), null);
+        } catch (RuntimeException e) {
+            if (!(e instanceof IllegalArgumentException || e instanceof IllegalStateException)) {
+                log.error("Failed to prepare customer order in batch: orderId={}, error={}",
+                    command.orderId(), e.getMessage(), e);
+            }
+            return new PreparedOrder(command, null, PlaceCustomerOrderResult.rejected(command.orderId(), e.getMessage()));
+        }
+    }
+    
+    private CustomerOrder toOrder(PlaceCustomerOrderCommand command) {
+        var customerInfo = CustomerInfo.of(
+            command.customerId(),
+            command.customerName(),
+            command.customerEmail(),
+            command.customerAddress()
+        );
+        
+        var orderItems = command.items().stream()
+            .map(item -> OrderItem.of(
+                item.productCode(),
+                item.description(),
+                item.quantity(),
+                Money.of(item.unitPrice(), item.currency())
+            ))
+            .toList();
+        
+        log.debug("Validating order items for orderId={}", command.orderId());
+        domainService.validateOrderItems(orderItems);
+        
+        return CustomerOrder.placeOrder(
+            command.orderId(),
+            customerInfo,
+            orderItems
+        );
+    }
+    
+    private record PreparedOrder(PlaceCustomerOrderCommand command, CustomerOrder order, PlaceCustomerOrderResult rejection) {
+    }
+}
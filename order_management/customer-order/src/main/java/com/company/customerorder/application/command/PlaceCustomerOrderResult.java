@@ -0,0 +1,28 @@
+package com.company.customerorder.application.command;
+
+import com.company.sharedkernel.OrderId;
+
+/**
+ * Outcome of placing one order of a batch.
+ *
+ * @param orderId id of the order, {@code null} if the request did not carry a usable one
+ * @param message why the order was rejected, {@code null} otherwise
+ */
+public record PlaceCustomerOrderResult(OrderId orderId, Outcome outcome, String message) {
+
+    public enum Outcome {
+        PLACED, ALREADY_PLACED, REJECTED
+    }
+
+    public static PlaceCustomerOrderResult placed(OrderId orderId) {
+        return new PlaceCustomerOrderResult(orderId, Outcome.PLACED, null);
+    }
+
+    public static PlaceCustomerOrderResult alreadyPlaced(OrderId orderId) {
+        return new PlaceCustomerOrderResult(orderId, Outcome.ALREADY_PLACED, null);
+    }
+
+    public static PlaceCustomerOrderResult rejected(OrderId orderId, String message) {
+        return new PlaceCustomerOrderResult(orderId, Outcome.REJECTED, message);
+    }
+}
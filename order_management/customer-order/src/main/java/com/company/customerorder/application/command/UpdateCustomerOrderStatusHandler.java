@@ -1,6 +1,7 @@
 package com.company.customerorder.application.command;
 
 import com.company.customerorder.domain.port.CustomerOrderRepository;
+import com.company.sharedkernel.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,6 +11,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdateCustomerOrderStatusHandler {
     private final CustomerOrderRepository repository;
     
+    @RetryOnConflict
     @Transactional
     public void handle(UpdateCustomerOrderStatusCommand command) {
         var order = repository.findById(command.orderId())
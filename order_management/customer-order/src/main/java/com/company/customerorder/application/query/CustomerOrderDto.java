@@ -3,6 +3,7 @@ package com.company.customerorder.application.query;
 import com.company.sharedkernel.OrderId;
 import com.company.sharedkernel.Money;
 import com.company.customerorder.domain.model.CustomerId;
+import com.company.customerorder.domain.model.CustomerOrder;
 import com.company.customerorder.domain.model.CustomerOrderStatus;
 
 import java.time.Instant;
@@ -23,6 +24,31 @@ public record CustomerOrderDto(
     boolean isActive
 ) {
     
+    public static CustomerOrderDto from(CustomerOrder order) {
+        return new CustomerOrderDto(
+            order.getId(),
+            order.getCustomerInfo().getCustomerId(),
+            order.getCustomerInfo().getName(),
+            order.getCustomerInfo().getEmail(),
+            order.getCustomerInfo().getAddress(),
+            order.getItems().stream()
+                .map(item -> new OrderItemDto(
+                    item.getProductCode(),
+                    item.getDescription(),
+                    item.getQuantity(),
+                    item.getUnitPrice(),
+                    item.getTotalPrice()
+                ))
+                .toList(),
+            order.getTotalAmount(),
+            order.getStatus(),
+            order.getPlacedAt(),
+            order.getUpdatedAt(),
+            order.getManufacturingOrderId(),
+            order.isActive()
+        );
+    }
+    
     public record OrderItemDto(
         String productCode,
         String description,
@@ -0,0 +1,29 @@
+package com.company.customerorder.application.query;
+
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class ExportCustomerOrdersHandler {
+    private final CustomerOrderRepository repository;
+    
+    /**
+     * Passes each order of the period to {@code sink} as soon as it is read. Nothing is
+     * collected, so the caller decides how much is buffered.
+     *
+     * @return the number of exported orders
+     */
+    public long handle(ExportCustomerOrdersQuery query, Consumer<CustomerOrderDto> sink) {
+        var exported = new AtomicLong();
+        repository.forEachPlacedBetween(query.from(), query.to(), order -> {
+            sink.accept(CustomerOrderDto.from(order));
+            exported.incrementAndGet();
+        });
+        return exported.get();
+    }
+}
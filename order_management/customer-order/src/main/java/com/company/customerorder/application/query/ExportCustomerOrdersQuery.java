@@ -0,0 +1,20 @@
+package com.company.customerorder.application.query;
+
+import java.time.Instant;
+
+/**
+ * Orders placed from {@code from} inclusive to {@code to} exclusive.
+ */
+public record ExportCustomerOrdersQuery(
+    Instant from,
+    Instant to
+) {
+    public ExportCustomerOrdersQuery {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Export period must have a start and an end");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Export period must end after it starts");
+        }
+    }
+}
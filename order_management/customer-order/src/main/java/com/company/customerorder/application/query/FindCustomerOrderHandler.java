@@ -15,27 +15,6 @@ public class FindCustomerOrderHandler {
     @Transactional(readOnly = true)
     public Optional<CustomerOrderDto> handle(FindCustomerOrderQuery query) {
         return repository.findById(query.orderId())
-            .map(order -> new CustomerOrderDto(
-                order.getId(),
-                order.getCustomerInfo().getCustomerId(),
-                order.getCustomerInfo().getName(),
-                order.getCustomerInfo().getEmail(),
-                order.getCustomerInfo().getAddress(),
-                order.getItems().stream()
-                    .map(item -> new CustomerOrderDto.OrderItemDto(
-                        item.getProductCode(),
-                        item.getDescription(),
-                        item.getQuantity(),
-                        item.getUnitPrice(),
-                        item.getTotalPrice()
-                    ))
-                    .toList(),
-                order.getTotalAmount(),
-                order.getStatus(),
-                order.getPlacedAt(),
-                order.getUpdatedAt(),
-                order.getManufacturingOrderId(),
-                order.isActive()
-            ));
+            .map(CustomerOrderDto::from);
     }
 }
\ No newline at end of file
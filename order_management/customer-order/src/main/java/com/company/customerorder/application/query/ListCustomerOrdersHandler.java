@@ -0,0 +1,22 @@
+package com.company.customerorder.application.query;
+
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import com.company.sharedkernel.KeysetPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class ListCustomerOrdersHandler {
+    private final CustomerOrderRepository repository;
+    
+    @Transactional(readOnly = true)
+    public KeysetPage<CustomerOrderDto> handle(ListCustomerOrdersQuery query) {
+        var page = query.customerId() != null ? repository.findByCustomerId(query.customerId(), query.after(), query.limit())
+            : query.status() != null ? repository.findByStatus(query.status(), query.after(), query.limit())
+            : query.activeOnly() ? repository.findActiveOrders(query.after(), query.limit())
+            : repository.findAll(query.after(), query.limit());
+        return page.map(CustomerOrderDto::from);
+    }
+}
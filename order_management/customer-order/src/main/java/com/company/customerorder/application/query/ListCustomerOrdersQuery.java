@@ -0,0 +1,26 @@
+package com.company.customerorder.application.query;
+
+import com.company.customerorder.domain.model.CustomerId;
+import com.company.customerorder.domain.model.CustomerOrderStatus;
+import com.company.sharedkernel.KeysetPage;
+import com.company.sharedkernel.PageCursor;
+
+/**
+ * Lists customer orders by placement time, filtered by at most one of customer, status
+ * or being active. {@code after} is null for the first page.
+ */
+public record ListCustomerOrdersQuery(
+    CustomerId customerId,
+    CustomerOrderStatus status,
+    boolean activeOnly,
+    PageCursor after,
+    int limit
+) {
+    public ListCustomerOrdersQuery {
+        int filters = (customerId != null ? 1 : 0) + (status != null ? 1 : 0) + (activeOnly ? 1 : 0);
+        if (filters > 1) {
+            throw new IllegalArgumentException("Orders can be filtered by customer, status or being active, but only one at a time");
+        }
+        KeysetPage.checkLimit(limit);
+    }
+}
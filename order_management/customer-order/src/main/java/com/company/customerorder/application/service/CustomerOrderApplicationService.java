@@ -5,10 +5,18 @@ import com.company.customerorder.application.command.*;
 import com.company.customerorder.application.query.FindCustomerOrderQuery;
 import com.company.customerorder.application.query.FindCustomerOrderHandler;
 import com.company.customerorder.application.query.CustomerOrderDto;
+import com.company.customerorder.application.query.ExportCustomerOrdersHandler;
+import com.company.customerorder.application.query.ExportCustomerOrdersQuery;
+import com.company.customerorder.application.query.ListCustomerOrdersHandler;
+import com.company.customerorder.application.query.ListCustomerOrdersQuery;
+import com.company.sharedkernel.KeysetPage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
@@ -17,11 +25,17 @@ public class CustomerOrderApplicationService {
     private final UpdateCustomerOrderStatusHandler updateStatusHandler;
     private final CancelCustomerOrderHandler cancelOrderHandler;
     private final FindCustomerOrderHandler findOrderHandler;
+    private final ListCustomerOrdersHandler listOrdersHandler;
+    private final ExportCustomerOrdersHandler exportOrdersHandler;
     
     public OrderId placeOrder(PlaceCustomerOrderCommand command) {
         return placeOrderHandler.handle(command);
     }
     
+    public List<PlaceCustomerOrderResult> placeOrders(Iterator<PlaceCustomerOrderCommand> commands) {
+        return placeOrderHandler.handleBatch(commands);
+    }
+    
     public void updateOrderStatus(UpdateCustomerOrderStatusCommand command) {
         updateStatusHandler.handle(command);
     }
@@ -33,4 +47,12 @@ public class CustomerOrderApplicationService {
     public Optional<CustomerOrderDto> findOrder(OrderId orderId) {
         return findOrderHandler.handle(new FindCustomerOrderQuery(orderId));
     }
-}
\ No newline at end of file
+    
+    public KeysetPage<CustomerOrderDto> listOrders(ListCustomerOrdersQuery query) {
+        return listOrdersHandler.handle(query);
+    }
+    
+    public long exportOrders(ExportCustomerOrdersQuery query, Consumer<CustomerOrderDto> sink) {
+        return exportOrdersHandler.handle(query, sink);
+    }
+}
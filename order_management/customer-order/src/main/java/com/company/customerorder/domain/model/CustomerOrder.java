@@ -61,6 +61,10 @@ public class CustomerOrder extends AggregateRoot<OrderId> {
         return order;
     }
 
+    /**
+     * Rebuilds a stored order. {@code version} is the stored version it was read at, or
+     * {@code null} for an order that has not been stored yet.
+     */
     public static CustomerOrder reconstitute(
         OrderId orderId,
         CustomerInfo customerInfo,
@@ -69,7 +73,8 @@ public class CustomerOrder extends AggregateRoot<OrderId> {
         CustomerOrderStatus status,
         Instant placedAt,
         Instant updatedAt,
-        OrderId manufacturingOrderId
+        OrderId manufacturingOrderId,
+        Long version
     ) {
         var order = new CustomerOrder();
         order.id = orderId;
@@ -80,6 +85,7 @@ public class CustomerOrder extends AggregateRoot<OrderId> {
         order.placedAt = placedAt;
         order.updatedAt = updatedAt;
         order.manufacturingOrderId = manufacturingOrderId;
+        order.restoreVersion(version);
         return order;
     }
     
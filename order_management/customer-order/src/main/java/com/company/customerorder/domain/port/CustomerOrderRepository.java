@@ -1,30 +1,64 @@
 package com.company.customerorder.domain.port;
 
+import com.company.sharedkernel.KeysetPage;
 import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.PageCursor;
 import com.company.customerorder.domain.model.CustomerOrder;
 import com.company.customerorder.domain.model.CustomerId;
 import com.company.customerorder.domain.model.CustomerOrderStatus;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public interface CustomerOrderRepository {
     
     Optional<CustomerOrder> findById(OrderId orderId);
     
-    List<CustomerOrder> findByCustomerId(CustomerId customerId);
+    /**
+     * Lists below are ordered by placement time and id and read page by page: pass the
+     * next cursor of the previous page as {@code after}, or null for the first page.
+     */
+    KeysetPage<CustomerOrder> findByCustomerId(CustomerId customerId, PageCursor after, int limit);
     
-    List<CustomerOrder> findByStatus(CustomerOrderStatus status);
+    KeysetPage<CustomerOrder> findByStatus(CustomerOrderStatus status, PageCursor after, int limit);
     
-    List<CustomerOrder> findActiveOrders();
+    KeysetPage<CustomerOrder> findActiveOrders(PageCursor after, int limit);
     
-    List<CustomerOrder> findAll();
+    KeysetPage<CustomerOrder> findAll(PageCursor after, int limit);
     
     List<CustomerOrder> findByManufacturingOrderId(OrderId manufacturingOrderId);
     
+    List<CustomerOrder> findByManufacturingOrderIds(Collection<OrderId> manufacturingOrderIds);
+    
+    /**
+     * Hands every order placed in {@code [from, to)} to {@code action}, in placement order,
+     * without holding more than a small window of them in memory.
+     */
+    void forEachPlacedBetween(Instant from, Instant to, Consumer<CustomerOrder> action);
+    
     CustomerOrder save(CustomerOrder order);
     
+    List<CustomerOrder> saveAll(List<CustomerOrder> orders);
+    
     void delete(OrderId orderId);
     
     boolean existsById(OrderId orderId);
+    
+    /**
+     * @return those of the given ids that belong to a stored order
+     */
+    Set<OrderId> findExistingIds(Collection<OrderId> orderIds);
+    
+    /**
+     * Moves up to {@code limit} delivered or cancelled orders last changed before
+     * {@code closedBefore} from the order tables to the order archive. They can still be
+     * found by id afterwards, but no longer appear in any list.
+     *
+     * @return the number of orders moved
+     */
+    int archiveClosedOrders(Instant closedBefore, int limit);
 }
\ No newline at end of file
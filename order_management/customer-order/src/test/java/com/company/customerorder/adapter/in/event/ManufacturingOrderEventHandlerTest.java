@@ -1,6 +1,7 @@
 package com.company.customerorder.adapter.in.event;
 
 import com.company.sharedkernel.events.ManufacturingOrderCompleted;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
 import com.company.sharedkernel.OrderId;
 import com.company.sharedkernel.Money;
 import com.company.customerorder.domain.model.*;
@@ -8,16 +9,18 @@ import com.company.customerorder.domain.port.CustomerOrderRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Currency;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -27,7 +30,7 @@ class ManufacturingOrderEventHandlerTest {
     @Mock
     private CustomerOrderRepository customerOrderRepository;
 
-    @InjectMocks
+    private ManufacturingProgressCoalescer progressCoalescer;
     private ManufacturingOrderEventHandler eventHandler;
 
     private OrderId manufacturingOrderId;
@@ -36,6 +39,9 @@ class ManufacturingOrderEventHandlerTest {
 
     @BeforeEach
     void setUp() {
+        // Progress is only applied when a test flushes the coalescer
+        useCoalescingWindow(Duration.ofMinutes(1));
+        
         manufacturingOrderId = OrderId.of(UUID.randomUUID());
         customerOrderId = OrderId.of(UUID.randomUUID());
         
@@ -55,6 +61,7 @@ class ManufacturingOrderEventHandlerTest {
         customerOrder.confirm();
         customerOrder.linkManufacturingOrder(manufacturingOrderId);
         customerOrder.notifyManufacturingStarted();
+        customerOrder.clearDomainEvents();
     }
 
     @Test
@@ -62,15 +69,16 @@ class ManufacturingOrderEventHandlerTest {
         // Given
         var completedEvent = ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now());
         
-        when(customerOrderRepository.findByManufacturingOrderId(manufacturingOrderId)).thenReturn(List.of(customerOrder));
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of(customerOrder));
         
         // When
         eventHandler.handleManufacturingOrderCompleted(completedEvent);
+        progressCoalescer.flush();
         
         // Then
-        verify(customerOrderRepository, times(1)).findByManufacturingOrderId(manufacturingOrderId);
-        verify(customerOrderRepository, times(1)).save(argThat(order -> 
-            order.getStatus() == CustomerOrderStatus.MANUFACTURING_COMPLETED
+        verify(customerOrderRepository, times(1)).findByManufacturingOrderIds(argThat(ids -> ids.contains(manufacturingOrderId)));
+        verify(customerOrderRepository, times(1)).saveAll(argThat(orders -> 
+            orders.size() == 1 && orders.getFirst().getStatus() == CustomerOrderStatus.MANUFACTURING_COMPLETED
         ));
     }
 
@@ -80,14 +88,15 @@ class ManufacturingOrderEventHandlerTest {
         var unmatchedManufacturingOrderId = OrderId.of(UUID.randomUUID());
         var completedEvent = ManufacturingOrderCompleted.of(unmatchedManufacturingOrderId, Instant.now());
         
-        when(customerOrderRepository.findByManufacturingOrderId(unmatchedManufacturingOrderId)).thenReturn(List.of());
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of());
         
         // When
         eventHandler.handleManufacturingOrderCompleted(completedEvent);
+        progressCoalescer.flush();
         
         // Then
-        verify(customerOrderRepository, times(1)).findByManufacturingOrderId(unmatchedManufacturingOrderId);
-        verify(customerOrderRepository, never()).save(any());
+        verify(customerOrderRepository, times(1)).findByManufacturingOrderIds(argThat(ids -> ids.contains(unmatchedManufacturingOrderId)));
+        verify(customerOrderRepository, never()).saveAll(any());
     }
 
     @Test
@@ -110,84 +119,207 @@ class ManufacturingOrderEventHandlerTest {
         secondCustomerOrder.confirm();
         secondCustomerOrder.linkManufacturingOrder(manufacturingOrderId); // Same manufacturing order
         secondCustomerOrder.notifyManufacturingStarted();
+        secondCustomerOrder.clearDomainEvents();
         
         var completedEvent = ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now());
         
-        when(customerOrderRepository.findByManufacturingOrderId(manufacturingOrderId)).thenReturn(List.of(customerOrder, secondCustomerOrder));
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of(customerOrder, secondCustomerOrder));
         
         // When
         eventHandler.handleManufacturingOrderCompleted(completedEvent);
+        progressCoalescer.flush();
         
         // Then
-        verify(customerOrderRepository, times(1)).findByManufacturingOrderId(manufacturingOrderId);
-        verify(customerOrderRepository, times(2)).save(argThat(order -> 
-            order.getStatus() == CustomerOrderStatus.MANUFACTURING_COMPLETED
+        verify(customerOrderRepository, times(1)).findByManufacturingOrderIds(any());
+        verify(customerOrderRepository, times(1)).saveAll(argThat(orders -> 
+            orders.size() == 2 && orders.stream().allMatch(order -> order.getStatus() == CustomerOrderStatus.MANUFACTURING_COMPLETED)
         ));
     }
 
     @Test
-    void shouldHandleEventWhenCustomerOrderHasNoLinkedManufacturingOrder() {
-        // Given
-        var customerOrderWithoutLink = CustomerOrder.placeOrder(
-            OrderId.of(UUID.randomUUID()),
-            customerOrder.getCustomerInfo(),
-            customerOrder.getItems().stream().toList()
-        );
-        customerOrderWithoutLink.confirm();
-        // No manufacturing order linked
-        
-        var completedEvent = ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now());
+    void shouldCoalesceProgressOfDifferentManufacturingOrdersIntoSingleLoadAndSave() {
+        // Given - a second customer order that has not seen the start of manufacturing yet
+        var otherManufacturingOrderId = OrderId.of(UUID.randomUUID());
+        var confirmedOrder = CustomerOrder.placeOrder(OrderId.of(UUID.randomUUID()),
+            customerOrder.getCustomerInfo(), customerOrder.getItems().stream().toList());
+        confirmedOrder.confirm();
+        confirmedOrder.linkManufacturingOrder(otherManufacturingOrderId);
+        confirmedOrder.clearDomainEvents();
         
-        when(customerOrderRepository.findByManufacturingOrderId(manufacturingOrderId)).thenReturn(
-            List.of(customerOrder)
-        );
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of(customerOrder, confirmedOrder));
         
         // When
-        eventHandler.handleManufacturingOrderCompleted(completedEvent);
+        eventHandler.handleManufacturingOrderCompleted(ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now()));
+        eventHandler.handleManufacturingOrderStatusChanged(
+            ManufacturingOrderStatusChanged.of(otherManufacturingOrderId, "IN_PROGRESS", "COMPLETED"));
+        progressCoalescer.flush();
         
         // Then
-        verify(customerOrderRepository, times(1)).findByManufacturingOrderId(manufacturingOrderId);
-        verify(customerOrderRepository, times(1)).save(argThat(order -> 
-            order.getId().equals(customerOrderId) &&
-            order.getStatus() == CustomerOrderStatus.MANUFACTURING_COMPLETED
-        ));
+        verify(customerOrderRepository, times(1)).findByManufacturingOrderIds(
+            argThat(ids -> ids.containsAll(Set.of(manufacturingOrderId, otherManufacturingOrderId))));
+        verify(customerOrderRepository, times(1)).saveAll(argThat(orders -> orders.size() == 2));
+        assertThat(customerOrder.getStatus()).isEqualTo(CustomerOrderStatus.MANUFACTURING_COMPLETED);
+        assertThat(confirmedOrder.getStatus()).isEqualTo(CustomerOrderStatus.MANUFACTURING_COMPLETED);
     }
 
     @Test
-    void shouldHandleEventWhenRepositoryIsEmpty() {
+    void shouldCancelCustomerOrderWhenManufacturingOrderCancelled() {
         // Given
-        var completedEvent = ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now());
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of(customerOrder));
         
-        when(customerOrderRepository.findByManufacturingOrderId(manufacturingOrderId)).thenReturn(List.of());
+        // When
+        eventHandler.handleManufacturingOrderStatusChanged(
+            ManufacturingOrderStatusChanged.of(manufacturingOrderId, "IN_PROGRESS", "CANCELLED"));
+        progressCoalescer.flush();
         
+        // Then
+        verify(customerOrderRepository, times(1)).saveAll(argThat(orders -> orders.getFirst().isCancelled()));
+    }
+
+    @Test
+    void shouldIgnoreStatusChangesWithoutCustomerImpact() {
         // When
-        eventHandler.handleManufacturingOrderCompleted(completedEvent);
+        eventHandler.handleManufacturingOrderStatusChanged(
+            ManufacturingOrderStatusChanged.of(manufacturingOrderId, "PENDING", "PENDING"));
+        progressCoalescer.flush();
         
         // Then
-        verify(customerOrderRepository, times(1)).findByManufacturingOrderId(manufacturingOrderId);
-        verify(customerOrderRepository, never()).save(any());
+        verifyNoInteractions(customerOrderRepository);
     }
 
     @Test
-    void shouldHandleEventWhenCustomerOrderNotInCorrectStatus() {
+    void shouldNotSaveCustomerOrderNotInCorrectStatus() {
         // Given
         var newCustomerOrder = CustomerOrder.placeOrder(customerOrderId, 
             customerOrder.getCustomerInfo(), customerOrder.getItems().stream().toList());
         // Order is in PLACED status, not MANUFACTURING_IN_PROGRESS
         newCustomerOrder.linkManufacturingOrder(manufacturingOrderId);
+        newCustomerOrder.clearDomainEvents();
         
         var completedEvent = ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now());
         
-        when(customerOrderRepository.findByManufacturingOrderId(manufacturingOrderId)).thenReturn(List.of(newCustomerOrder));
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of(newCustomerOrder));
         
         // When
         eventHandler.handleManufacturingOrderCompleted(completedEvent);
+        progressCoalescer.flush();
+        
+        // Then - the domain rejects the transition, so there is nothing to write
+        verify(customerOrderRepository, times(1)).findByManufacturingOrderIds(any());
+        verify(customerOrderRepository, never()).saveAll(any());
+        assertThat(newCustomerOrder.getStatus()).isEqualTo(CustomerOrderStatus.PLACED);
+    }
+
+    @Test
+    void shouldRetryEachManufacturingOrderSeparatelyWhenBatchFails() {
+        // Given
+        var otherManufacturingOrderId = OrderId.of(UUID.randomUUID());
+        when(customerOrderRepository.findByManufacturingOrderIds(argThat(ids -> ids != null && ids.size() == 2)))
+            .thenThrow(new IllegalStateException("Batch failed"));
+        when(customerOrderRepository.findByManufacturingOrderIds(argThat(ids -> ids != null && ids.size() == 1 && ids.contains(manufacturingOrderId))))
+            .thenReturn(List.of(customerOrder));
+        when(customerOrderRepository.findByManufacturingOrderIds(argThat(ids -> ids != null && ids.size() == 1 && ids.contains(otherManufacturingOrderId))))
+            .thenReturn(List.of());
+        
+        // When
+        eventHandler.handleManufacturingOrderCompleted(ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now()));
+        eventHandler.handleManufacturingOrderCompleted(ManufacturingOrderCompleted.of(otherManufacturingOrderId, Instant.now()));
+        progressCoalescer.flush();
+        
+        // Then
+        verify(customerOrderRepository, times(3)).findByManufacturingOrderIds(any());
+        verify(customerOrderRepository, times(1)).saveAll(List.of(customerOrder));
+    }
+
+    @Test
+    void shouldApplyProgressOnTimerOnceWindowHasPassed() {
+        // Given
+        useCoalescingWindow(Duration.ofMillis(20));
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of(customerOrder));
+        
+        // When - the handler only queues the progress
+        eventHandler.handleManufacturingOrderCompleted(ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now()));
         
         // Then
-        verify(customerOrderRepository, times(1)).findByManufacturingOrderId(manufacturingOrderId);
-        verify(customerOrderRepository, times(1)).save(any(CustomerOrder.class));
+        verify(customerOrderRepository, timeout(2000)).saveAll(List.of(customerOrder));
+        assertThat(progressCoalescer.getPendingCount()).isZero();
+    }
+
+    @Test
+    void shouldApplyProgressOnceBatchIsFullWithoutWaitingForWindow() {
+        // Given
+        var otherManufacturingOrderId = OrderId.of(UUID.randomUUID());
+        progressCoalescer = new ManufacturingProgressCoalescer(
+            new ManufacturingProgressApplier(customerOrderRepository), Duration.ofMinutes(1), 2, Duration.ofMillis(10), 3);
+        eventHandler = new ManufacturingOrderEventHandler(customerOrderRepository, progressCoalescer);
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of(customerOrder));
+        
+        // When
+        eventHandler.handleManufacturingOrderCompleted(ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now()));
+        eventHandler.handleManufacturingOrderCompleted(ManufacturingOrderCompleted.of(otherManufacturingOrderId, Instant.now()));
         
-        // The handler should still call notifyManufacturingCompleted, but the domain logic
-        // will determine if the status transition is valid
+        // Then
+        verify(customerOrderRepository, timeout(2000)).findByManufacturingOrderIds(
+            argThat(ids -> ids.containsAll(Set.of(manufacturingOrderId, otherManufacturingOrderId))));
+    }
+
+    @Test
+    void shouldQueueProgressAgainWhenItCannotBeSaved() {
+        // Given
+        useCoalescingWindow(Duration.ofMillis(20));
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of(customerOrder));
+        when(customerOrderRepository.saveAll(any()))
+            .thenThrow(new IllegalStateException("Database unavailable"))
+            .thenThrow(new IllegalStateException("Database unavailable"))
+            .thenReturn(List.of(customerOrder));
+        
+        // When - the failure no longer reaches the event dispatcher
+        eventHandler.handleManufacturingOrderCompleted(ManufacturingOrderCompleted.of(manufacturingOrderId, Instant.now()));
+        
+        // Then - the batch, the single retry and the queued retry
+        verify(customerOrderRepository, timeout(2000).times(3)).saveAll(any());
+        assertThat(customerOrder.getStatus()).isEqualTo(CustomerOrderStatus.MANUFACTURING_COMPLETED);
+    }
+
+    @Test
+    void shouldQueueProgressAgainForCustomerOrderNotLinkedYet() {
+        // Given - the customer order exists, but the link to its manufacturing order is not saved yet
+        useCoalescingWindow(Duration.ofMillis(20));
+        when(customerOrderRepository.findByManufacturingOrderIds(any()))
+            .thenReturn(List.of())
+            .thenReturn(List.of(customerOrder));
+        when(customerOrderRepository.findExistingIds(any())).thenReturn(Set.of(manufacturingOrderId));
+        
+        // When
+        eventHandler.handleManufacturingOrderStatusChanged(
+            ManufacturingOrderStatusChanged.of(manufacturingOrderId, "IN_PROGRESS", "COMPLETED"));
+        
+        // Then - applied once the link is there
+        verify(customerOrderRepository, timeout(2000)).saveAll(List.of(customerOrder));
+        verify(customerOrderRepository, times(2)).findByManufacturingOrderIds(any());
+    }
+
+    @Test
+    void shouldDropProgressAfterMaxAttempts() {
+        // Given
+        useCoalescingWindow(Duration.ofMillis(5));
+        when(customerOrderRepository.findByManufacturingOrderIds(any())).thenReturn(List.of());
+        when(customerOrderRepository.findExistingIds(any())).thenReturn(Set.of(manufacturingOrderId));
+        
+        // When
+        eventHandler.handleManufacturingOrderStatusChanged(
+            ManufacturingOrderStatusChanged.of(manufacturingOrderId, "PENDING", "IN_PROGRESS"));
+        
+        // Then - three attempts, then nothing more is queued
+        verify(customerOrderRepository, timeout(2000).times(3)).findByManufacturingOrderIds(any());
+        verify(customerOrderRepository, after(200).times(3)).findByManufacturingOrderIds(any());
+        assertThat(progressCoalescer.getPendingCount()).isZero();
+        verify(customerOrderRepository, never()).saveAll(any());
+    }
+
+    private void useCoalescingWindow(Duration window) {
+        progressCoalescer = new ManufacturingProgressCoalescer(
+            new ManufacturingProgressApplier(customerOrderRepository), window, 500, Duration.ofMillis(10), 3);
+        eventHandler = new ManufacturingOrderEventHandler(customerOrderRepository, progressCoalescer);
     }
-}
\ No newline at end of file
+}
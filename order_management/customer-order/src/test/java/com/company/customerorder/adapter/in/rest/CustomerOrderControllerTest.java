@@ -1,10 +1,16 @@
 package com.company.customerorder.adapter.in.rest;
 
 import com.company.customerorder.application.command.PlaceCustomerOrderCommand;
+import com.company.customerorder.application.command.PlaceCustomerOrderResult;
 import com.company.customerorder.application.query.CustomerOrderDto;
+import com.company.customerorder.application.query.ExportCustomerOrdersQuery;
+import com.company.customerorder.application.query.ListCustomerOrdersQuery;
 import com.company.customerorder.application.service.CustomerOrderApplicationService;
+import com.company.customerorder.domain.model.CustomerId;
 import com.company.customerorder.domain.model.CustomerOrderStatus;
+import com.company.sharedkernel.KeysetPage;
 import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.PageCursor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,10 +25,18 @@ import static org.mockito.Mockito.mock;
 
 import java.math.BigDecimal;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -84,6 +98,183 @@ class CustomerOrderControllerTest {
     }
 
 
+    @Test
+    @DisplayName("Should place a batch of orders and report the outcome of each")
+    void shouldPlaceBatchOfOrders() throws Exception {
+        when(applicationService.placeOrders(any())).thenAnswer(invocation -> {
+            Iterator<PlaceCustomerOrderCommand> commands = invocation.getArgument(0);
+            var results = new ArrayList<PlaceCustomerOrderResult>();
+            commands.forEachRemaining(command -> results.add(PlaceCustomerOrderResult.placed(command.orderId())));
+            return results;
+        });
+
+        String requestBody = """
+            [
+                {
+                    "orderId": "123e4567-e89b-12d3-a456-426614174001",
+                    "customerId": "123e4567-e89b-12d3-a456-426614174000",
+                    "customerName": "John Doe",
+                    "customerEmail": "john.doe@example.com",
+                    "customerAddress": "123 Main St, City, State",
+                    "items": [
+                        {"productCode": "PROD-001", "description": "Product 1", "quantity": 1, "unitPrice": 50.00, "currency": "USD"}
+                    ]
+                },
+                {
+                    "orderId": "123e4567-e89b-12d3-a456-426614174002",
+                    "customerId": "123e4567-e89b-12d3-a456-426614174000",
+                    "customerName": "John Doe",
+                    "customerEmail": "john.doe@example.com",
+                    "customerAddress": "123 Main St, City, State",
+                    "items": []
+                },
+                {
+                    "orderId": "123e4567-e89b-12d3-a456-426614174003",
+                    "customerId": "123e4567-e89b-12d3-a456-426614174000",
+                    "customerName": "John Doe",
+                    "customerEmail": "john.doe@example.com",
+                    "customerAddress": "123 Main St, City, State",
+                    "items": [
+                        {"productCode": "PROD-002", "description": "Product 2", "quantity": 2, "unitPrice": 30.00, "currency": "XXXX"}
+                    ]
+                },
+                {
+                    "orderId": "123e4567-e89b-12d3-a456-426614174004",
+                    "customerId": "123e4567-e89b-12d3-a456-426614174000",
+                    "customerName": "John Doe",
+                    "customerEmail": "john.doe@example.com",
+                    "customerAddress": "123 Main St, City, State",
+                    "items": [
+                        {"productCode": "PROD-002", "description": "Product 2", "quantity": 2, "unitPrice": 30.00, "currency": "USD"}
+                    ]
+                }
+            ]
+            """;
+
+        mockMvc.perform(post("/api/customer-orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.placed").value(2))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[0].outcome").value("PLACED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].orderId").value("123e4567-e89b-12d3-a456-426614174002"))
+                .andExpect(jsonPath("$.results[2].outcome").value("REJECTED"))
+                .andExpect(jsonPath("$.results[3].orderId").value("123e4567-e89b-12d3-a456-426614174004"))
+                .andExpect(jsonPath("$.results[3].outcome").value("PLACED"));
+    }
+
+    @Test
+    @DisplayName("Should reject batch orders that fail validation")
+    void shouldRejectBatchOrdersFailingValidation() throws Exception {
+        doAnswer(invocation -> {
+            Iterator<PlaceCustomerOrderCommand> commands = invocation.getArgument(0);
+            var results = new ArrayList<PlaceCustomerOrderResult>();
+            commands.forEachRemaining(command -> results.add(PlaceCustomerOrderResult.placed(command.orderId())));
+            return results;
+        }).when(applicationService).placeOrders(any());
+
+        String requestBody = """
+            [
+                {
+                    "customerId": "123e4567-e89b-12d3-a456-426614174000",
+                    "customerName": "John Doe",
+                    "customerEmail": "john.doe@example.com",
+                    "customerAddress": "123 Main St, City, State",
+                    "items": [
+                        {"productCode": "PROD-001", "description": "Product 1", "quantity": 1, "unitPrice": 50.00, "currency": "USD"}
+                    ]
+                },
+                {
+                    "orderId": "123e4567-e89b-12d3-a456-426614174002",
+                    "customerId": "123e4567-e89b-12d3-a456-426614174000",
+                    "customerName": "John Doe",
+                    "customerEmail": "john.doe@example.com",
+                    "customerAddress": "123 Main St, City, State",
+                    "items": [null]
+                }
+            ]
+            """;
+
+        mockMvc.perform(post("/api/customer-orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.placed").value(0))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[0].message").value("orderId must not be null"))
+                .andExpect(jsonPath("$.results[1].orderId").value("123e4567-e89b-12d3-a456-426614174002"))
+                .andExpect(jsonPath("$.results[1].message").value("items[0].<list element> must not be null"));
+    }
+
+    @Test
+    @DisplayName("Should fail a batch that is not a well-formed array of orders")
+    void shouldFailMalformedBatch() {
+        doAnswer(invocation -> {
+            Iterator<PlaceCustomerOrderCommand> commands = invocation.getArgument(0);
+            commands.forEachRemaining(command -> {});
+            return List.of();
+        }).when(applicationService).placeOrders(any());
+        var order = """
+            {"orderId": "123e4567-e89b-12d3-a456-426614174001", "customerId": "123e4567-e89b-12d3-a456-426614174000",
+             "customerName": "John Doe", "customerEmail": "john.doe@example.com", "customerAddress": "123 Main St",
+             "items": [{"productCode": "PROD-001", "description": "Product 1", "quantity": 1, "unitPrice": 50.00, "currency": "USD"}]}
+            """;
+
+        for (var body : List.of("[" + order + ", 42]", "[" + order, "[" + order + "] " + order, "[" + order + "]]")) {
+            var failure = assertThrows(Exception.class, () -> mockMvc.perform(post("/api/customer-orders/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body)));
+            assertInstanceOf(IllegalArgumentException.class, failure.getCause(), body);
+        }
+    }
+
+    @Test
+    @DisplayName("Should list the first page of a customer's orders")
+    void shouldListFirstPageOfCustomerOrders() throws Exception {
+        var customerId = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+        var nextCursor = new PageCursor(Instant.parse("2024-01-10T08:00:00Z"), UUID.randomUUID());
+        when(applicationService.listOrders(any())).thenReturn(new KeysetPage<>(List.of(), nextCursor));
+
+        mockMvc.perform(get("/api/customer-orders")
+                .param("customerId", customerId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(0))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor.encode()));
+
+        verify(applicationService).listOrders(
+            new ListCustomerOrdersQuery(CustomerId.of(customerId), null, false, null, 50));
+    }
+
+    @Test
+    @DisplayName("Should export orders of a period as one JSON document per line")
+    void shouldExportOrdersAsNdjson() throws Exception {
+        var from = Instant.parse("2024-01-01T00:00:00Z");
+        var to = Instant.parse("2024-02-01T00:00:00Z");
+        var first = createTestOrderDto(OrderId.generate());
+        var second = createTestOrderDto(OrderId.generate());
+        when(applicationService.exportOrders(any(), any())).thenAnswer(invocation -> {
+            Consumer<CustomerOrderDto> sink = invocation.getArgument(1);
+            sink.accept(first);
+            sink.accept(second);
+            return 2L;
+        });
+
+        var body = mockMvc.perform(get("/api/customer-orders/export")
+                .param("from", from.toString())
+                .param("to", to.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        var lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(first.orderId().toString(), objectMapper.readTree(lines[0]).at("/orderId/value").asText());
+        assertEquals(second.orderId().toString(), objectMapper.readTree(lines[1]).at("/orderId/value").asText());
+        verify(applicationService).exportOrders(eq(new ExportCustomerOrdersQuery(from, to)), any());
+    }
+
     @Test
     @DisplayName("Should return not found when order does not exist")
     void shouldReturnNotFoundWhenOrderDoesNotExist() throws Exception {
@@ -0,0 +1,324 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.OrderArchive;
+import com.company.sharedkernel.OrderArchive.AggregateType;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.PageCursor;
+import com.company.customerorder.domain.model.*;
+import com.company.customerorder.domain.port.CustomerOrderRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Currency;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DataJpaTest
+@Import({RepositoryTestConfig.class, CustomerOrderDocumentRepositoryAdapter.class})
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "order.management.customer-orders.storage=document"
+})
+class CustomerOrderDocumentRepositoryAdapterIntegrationTest {
+
+    @Autowired
+    private CustomerOrderDocumentRepositoryAdapter repository;
+
+    @Autowired
+    private List<CustomerOrderRepository> repositories;
+
+    @Autowired
+    private CustomerOrderDocumentJpaRepository jpaRepository;
+
+    @Autowired
+    private CustomerOrderJpaRepository relationalRepository;
+
+    @Autowired
+    @Qualifier("customerOrderMapperImpl")
+    private CustomerOrderMapper mapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DomainEventPublisher eventPublisher;
+
+    @Autowired
+    private OrderArchive archive;
+
+    private OrderId testOrderId;
+    private CustomerInfo testCustomerInfo;
+    private List<OrderItem> testItems;
+
+    @BeforeEach
+    void setUp() {
+        reset(eventPublisher, archive);
+        testOrderId = OrderId.of(UUID.randomUUID());
+        testCustomerInfo = CustomerInfo.of(
+            CustomerId.of(UUID.randomUUID()),
+            "John Doe",
+            "john.doe@example.com",
+            "123 Main St, City, Country"
+        );
+        testItems = List.of(
+            OrderItem.of("PROD-001", "Test Product 1", 5, Money.of(new BigDecimal("100.00"), Currency.getInstance("USD"))),
+            OrderItem.of("PROD-002", "Test Product 2", 3, Money.of(new BigDecimal("150.50"), Currency.getInstance("USD")))
+        );
+    }
+
+    @Test
+    void shouldBeTheOnlyCustomerOrderRepository() {
+        assertThat(repositories).containsExactly(repository);
+    }
+
+    @Test
+    void shouldStoreWholeOrderInOneRowAndLoadItWithOneStatement() {
+        // Given
+        var order = repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        entityManager.flush();
+        entityManager.clear();
+        var statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        
+        // When
+        var loaded = repository.findById(testOrderId).orElseThrow();
+        
+        // Then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(loaded.getCustomerInfo()).isEqualTo(testCustomerInfo);
+        assertThat(loaded.getItems()).containsExactlyElementsOf(testItems);
+        assertThat(loaded.getTotalAmount()).isEqualTo(order.getTotalAmount());
+        assertThat(loaded.getStatus()).isEqualTo(CustomerOrderStatus.PLACED);
+        assertThat(loaded.getPlacedAt()).isEqualTo(order.getPlacedAt().truncatedTo(ChronoUnit.MICROS));
+        assertThat(loaded.getVersion()).isZero();
+        verify(eventPublisher).publishAll(anyList());
+    }
+
+    @Test
+    void shouldRewriteDocumentAndIndexedColumnsTogether() {
+        // Given
+        var order = repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        var manufacturingOrderId = OrderId.of(UUID.randomUUID());
+        
+        // When
+        order.confirm();
+        order.linkManufacturingOrder(manufacturingOrderId);
+        order.notifyManufacturingStarted();
+        repository.save(order);
+        
+        // Then
+        assertThat(order.getVersion()).isEqualTo(1);
+        var row = jpaRepository.findById(testOrderId.getValue()).orElseThrow();
+        assertThat(row.getStatus()).isEqualTo(CustomerOrderJpaEntity.CustomerOrderStatusEntity.MANUFACTURING_IN_PROGRESS);
+        assertThat(row.getManufacturingOrderId()).isEqualTo(manufacturingOrderId.getValue());
+        assertThat(row.getDocument().status()).isEqualTo(CustomerOrderStatus.MANUFACTURING_IN_PROGRESS);
+        assertThat(row.getDocument().manufacturingOrderId()).isEqualTo(manufacturingOrderId.getValue());
+        assertThat(repository.findByManufacturingOrderId(manufacturingOrderId))
+            .extracting(CustomerOrder::getId)
+            .containsExactly(testOrderId);
+        assertThat(repository.findByStatus(CustomerOrderStatus.MANUFACTURING_IN_PROGRESS, null, 10).items())
+            .extracting(CustomerOrder::getId)
+            .containsExactly(testOrderId);
+        verify(eventPublisher, times(2)).publishAll(anyList());
+    }
+
+    @Test
+    void shouldRejectSaveOfStaleOrder() {
+        // Given
+        repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        var first = repository.findById(testOrderId).orElseThrow();
+        var second = repository.findById(testOrderId).orElseThrow();
+        first.confirm();
+        repository.save(first);
+        
+        // When & Then
+        second.cancel("Changed concurrently");
+        assertThatThrownBy(() -> repository.save(second))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(repository.findById(testOrderId).orElseThrow().getStatus())
+            .isEqualTo(CustomerOrderStatus.CONFIRMED);
+    }
+
+    @Test
+    void shouldReadActiveOrdersPageByPageSkippingClosedOnes() {
+        // Given
+        var activeIds = new ArrayList<OrderId>();
+        var orders = new ArrayList<CustomerOrder>();
+        for (int i = 0; i < 6; i++) {
+            orders.add(CustomerOrder.placeOrder(OrderId.of(UUID.randomUUID()), testCustomerInfo, testItems));
+        }
+        repository.saveAll(orders);
+        for (int i = 0; i < orders.size(); i++) {
+            if (i % 3 == 0) {
+                orders.get(i).cancel("Test cancellation");
+            } else {
+                activeIds.add(orders.get(i).getId());
+            }
+        }
+        repository.saveAll(orders);
+        
+        // When
+        var active = new ArrayList<CustomerOrder>();
+        PageCursor cursor = null;
+        int pages = 0;
+        do {
+            var page = repository.findActiveOrders(cursor, 2);
+            active.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+        
+        // Then
+        assertThat(pages).isEqualTo(2);
+        assertThat(active).extracting(CustomerOrder::getId).containsExactlyInAnyOrderElementsOf(activeIds);
+        assertThat(active).extracting(CustomerOrder::getPlacedAt).isSorted();
+        assertThat(active).allSatisfy(order -> assertThat(order.getItems()).containsExactlyElementsOf(testItems));
+    }
+
+    @Test
+    void shouldReadCustomerOrdersPageByPageInPlacementOrder() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            repository.save(CustomerOrder.placeOrder(OrderId.of(UUID.randomUUID()), testCustomerInfo, testItems));
+        }
+        repository.save(CustomerOrder.placeOrder(
+            OrderId.of(UUID.randomUUID()),
+            CustomerInfo.of(CustomerId.of(UUID.randomUUID()), "Jane Doe", "jane@example.com", "456 Oak St"),
+            testItems));
+        
+        // When
+        var orders = new ArrayList<CustomerOrder>();
+        PageCursor cursor = null;
+        int pages = 0;
+        do {
+            var page = repository.findByCustomerId(testCustomerInfo.getCustomerId(), cursor, 2);
+            orders.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+        
+        // Then
+        assertThat(pages).isEqualTo(3);
+        assertThat(orders).hasSize(5).extracting(CustomerOrder::getId).doesNotHaveDuplicates();
+        assertThat(orders).extracting(CustomerOrder::getPlacedAt).isSorted();
+        assertThat(repository.findAll(null, 10).items()).hasSize(6);
+    }
+
+    @Test
+    void shouldStreamOrdersPlacedWithinPeriodInPlacementOrder() {
+        // Given
+        var start = Instant.parse("2024-03-01T00:00:00Z");
+        var total = Money.of(new BigDecimal("951.50"), Currency.getInstance("USD"));
+        for (var placedAt : List.of(start.plusSeconds(30), start, start.plusSeconds(10), start.plusSeconds(60))) {
+            repository.save(CustomerOrder.reconstitute(OrderId.of(UUID.randomUUID()), testCustomerInfo, testItems,
+                total, CustomerOrderStatus.PLACED, placedAt, placedAt, null, null));
+        }
+        
+        // When
+        var streamed = new ArrayList<CustomerOrder>();
+        repository.forEachPlacedBetween(start, start.plusSeconds(60), streamed::add);
+        
+        // Then
+        assertThat(streamed)
+            .extracting(CustomerOrder::getPlacedAt)
+            .containsExactly(start, start.plusSeconds(10), start.plusSeconds(30));
+        assertThat(streamed).allSatisfy(order -> assertThat(order.getItems()).hasSameSizeAs(testItems));
+    }
+
+    @Test
+    void shouldFindExistingIdsAndForgetDeletedOrders() {
+        // Given
+        repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        var unknownId = OrderId.of(UUID.randomUUID());
+        
+        // When & Then
+        assertThat(repository.findExistingIds(List.of(testOrderId, unknownId))).containsExactly(testOrderId);
+        assertThat(repository.existsById(testOrderId)).isTrue();
+        
+        repository.delete(testOrderId);
+        
+        assertThat(repository.existsById(testOrderId)).isFalse();
+        assertThat(repository.findById(testOrderId)).isEmpty();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMoveClosedOrdersToArchiveAndStillFindThemById() {
+        // Given
+        var cancelledOrder = repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        cancelledOrder.cancel("Customer requested cancellation");
+        repository.save(cancelledOrder);
+        var activeOrderId = OrderId.of(UUID.randomUUID());
+        repository.save(CustomerOrder.placeOrder(activeOrderId, testCustomerInfo, testItems));
+        var storedOrder = repository.findById(testOrderId).orElseThrow();
+        
+        // When
+        var archived = repository.archiveClosedOrders(Instant.now().plusSeconds(1), 10);
+        
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(jpaRepository.findById(testOrderId.getValue())).isEmpty();
+        assertThat(jpaRepository.findById(activeOrderId.getValue())).isPresent();
+        
+        ArgumentCaptor<Map<OrderId, byte[]>> storedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(archive).store(eq(AggregateType.CUSTOMER_ORDER), storedCaptor.capture());
+        assertThat(storedCaptor.getValue()).containsOnlyKeys(testOrderId);
+        when(archive.find(AggregateType.CUSTOMER_ORDER, testOrderId))
+            .thenReturn(Optional.of(storedCaptor.getValue().get(testOrderId)));
+        when(archive.contains(AggregateType.CUSTOMER_ORDER, testOrderId)).thenReturn(true);
+        
+        var archivedOrder = repository.findById(testOrderId).orElseThrow();
+        assertThat(archivedOrder.getStatus()).isEqualTo(CustomerOrderStatus.CANCELLED);
+        assertThat(archivedOrder.getItems()).containsExactlyElementsOf(testItems);
+        assertThat(archivedOrder.getTotalAmount()).isEqualTo(storedOrder.getTotalAmount());
+        assertThat(archivedOrder.getVersion()).isEqualTo(storedOrder.getVersion());
+        assertThat(repository.findAll(null, 10).items()).extracting(CustomerOrder::getId).containsExactly(activeOrderId);
+        assertThatThrownBy(() -> repository.save(archivedOrder))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("is archived");
+    }
+
+    @Test
+    void shouldRefuseToStartWhileTheRelationalLayoutHoldsOrders() {
+        // Given
+        var entity = mapper.toEntity(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        entity.getItems().forEach(item -> item.setCustomerOrder(entity));
+        relationalRepository.saveAndFlush(entity);
+        
+        // When / Then
+        assertThatThrownBy(repository::afterSingletonsInstantiated)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("customer_orders");
+    }
+}
@@ -0,0 +1,180 @@
+package com.company.customerorder.adapter.out.persistence;
+
+import com.company.customerorder.domain.model.CustomerId;
+import com.company.customerorder.domain.model.CustomerInfo;
+import com.company.customerorder.domain.model.CustomerOrder;
+import com.company.customerorder.domain.model.CustomerOrderStatus;
+import com.company.customerorder.domain.model.OrderItem;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.CustomerOrderStatusUpdated;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Currency;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Customer Order Near Cache Tests")
+class CustomerOrderNearCacheTest {
+
+    private CustomerOrderNearCache nearCache;
+    private CustomerOrder storedOrder;
+    private AtomicInteger loads;
+    private Function<OrderId, Optional<CustomerOrder>> loader;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new CustomerOrderNearCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), false);
+        storedOrder = createStoredOrder(OrderId.generate());
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return id.equals(storedOrder.getId()) ? Optional.of(storedOrder) : Optional.empty();
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("Should load an order once and hand out a separate copy on every hit")
+    void shouldServeCopiesOfCachedOrder() {
+        var first = nearCache.get(storedOrder.getId(), loader).orElseThrow();
+        var second = nearCache.get(storedOrder.getId(), loader).orElseThrow();
+
+        assertThat(loads).hasValue(1);
+        assertThat(first).isNotSameAs(second).isNotSameAs(storedOrder);
+        assertThat(second.getVersion()).isEqualTo(3L);
+
+        first.updateStatus(CustomerOrderStatus.CONFIRMED);
+
+        var third = nearCache.get(storedOrder.getId(), loader).orElseThrow();
+        assertThat(third.getStatus()).isEqualTo(CustomerOrderStatus.PLACED);
+        assertThat(third.getDomainEvents()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should not cache orders that do not exist")
+    void shouldNotCacheMissingOrders() {
+        var unknown = OrderId.generate();
+
+        assertThat(nearCache.get(unknown, loader)).isEmpty();
+        assertThat(nearCache.get(unknown, loader)).isEmpty();
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should drop an order when its status update or cancellation is published")
+    void shouldEvictOnPublishedChanges() {
+        nearCache.get(storedOrder.getId(), loader);
+
+        nearCache.onStatusUpdated(CustomerOrderStatusUpdated.of(storedOrder.getId(), "PLACED", "CONFIRMED"));
+        nearCache.get(storedOrder.getId(), loader);
+        nearCache.onCancelled(CustomerOrderCancelled.of(storedOrder.getId(), "changed mind"));
+        nearCache.get(storedOrder.getId(), loader);
+        nearCache.onStatusUpdated(CustomerOrderStatusUpdated.of(OrderId.generate(), "PLACED", "CONFIRMED"));
+        nearCache.get(storedOrder.getId(), loader);
+
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("Should read through to the database inside read-write transactions")
+    void shouldBypassCacheInReadWriteTransactions() {
+        nearCache.get(storedOrder.getId(), loader);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        var order = nearCache.get(storedOrder.getId(), loader).orElseThrow();
+
+        assertThat(loads).hasValue(2);
+        assertThat(order).isSameAs(storedOrder);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        nearCache.get(storedOrder.getId(), loader);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should not fill the cache from replica reads")
+    void shouldNotFillCacheFromReplicaReads() {
+        nearCache = new CustomerOrderNearCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), true);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        nearCache.get(storedOrder.getId(), loader);
+        nearCache.get(storedOrder.getId(), loader);
+
+        assertThat(loads).hasValue(2);
+
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        nearCache.get(storedOrder.getId(), loader);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        var order = nearCache.get(storedOrder.getId(), loader).orElseThrow();
+
+        assertThat(loads).hasValue(3);
+        assertThat(order).isNotSameAs(storedOrder);
+    }
+
+    @Test
+    @DisplayName("Should load a hot order once however many readers miss it at the same time")
+    void shouldCollapseConcurrentMisses() throws InterruptedException {
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        Function<OrderId, Optional<CustomerOrder>> slowLoader = id -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader.apply(id);
+        };
+
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                executor.submit(() -> nearCache.get(storedOrder.getId(), slowLoader));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            release.countDown();
+        }
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private static CustomerOrder createStoredOrder(OrderId orderId) {
+        return CustomerOrder.reconstitute(
+            orderId,
+            CustomerInfo.of(CustomerId.generate(), "John Doe", "john.doe@example.com", "123 Main St"),
+            List.of(OrderItem.of("PROD-001", "Test Product", 2, Money.of(new BigDecimal("10.00"), Currency.getInstance("USD")))),
+            Money.of(new BigDecimal("20.00"), Currency.getInstance("USD")),
+            CustomerOrderStatus.PLACED,
+            Instant.now(),
+            Instant.now(),
+            null,
+            3L
+        );
+    }
+}
@@ -2,30 +2,41 @@ package com.company.customerorder.adapter.out.persistence;
 
 import com.company.sharedkernel.DomainEvent;
 import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.OrderArchive;
+import com.company.sharedkernel.OrderArchive.AggregateType;
 import com.company.sharedkernel.OrderId;
 import com.company.sharedkernel.Money;
+import com.company.sharedkernel.PageCursor;
 import com.company.customerorder.config.TestConfiguration;
 import com.company.customerorder.domain.model.*;
 import com.company.customerorder.adapter.out.persistence.CustomerOrderJpaRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Currency;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.reset;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @DataJpaTest
 @Import({RepositoryTestConfig.class, CustomerOrderRepositoryAdapter.class})
@@ -43,16 +54,25 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
     @Autowired
     private CustomerOrderJpaRepository jpaRepository;
 
+    @Autowired
+    private CustomerOrderDocumentJpaRepository documentRepository;
+
     @Autowired
     private DomainEventPublisher eventPublisher;
 
+    @Autowired
+    private OrderArchive archive;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private OrderId testOrderId;
     private CustomerInfo testCustomerInfo;
     private List<OrderItem> testItems;
 
     @BeforeEach
     void setUp() {
-        reset(eventPublisher);
+        reset(eventPublisher, archive);
         testOrderId = OrderId.of(UUID.randomUUID());
         testCustomerInfo = CustomerInfo.of(
             CustomerId.of(UUID.randomUUID()),
@@ -95,10 +115,10 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         assertThat(savedOrder.getTotalAmount().getAmount()).isEqualTo(new BigDecimal("950.00"));
         
         // Verify domain events were published
-        ArgumentCaptor<DomainEvent> eventCaptor = ArgumentCaptor.forClass(DomainEvent.class);
-        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        var publishedEvents = publishedEvents();
+        assertThat(publishedEvents).hasSize(1);
         
-        DomainEvent publishedEvent = eventCaptor.getValue();
+        DomainEvent publishedEvent = publishedEvents.getFirst();
         assertThat(publishedEvent.eventType()).isEqualTo("CustomerOrderPlaced");
     }
 
@@ -128,7 +148,7 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         repository.save(order2);
         
         // When
-        var customerOrders = repository.findByCustomerId(testCustomerInfo.getCustomerId());
+        var customerOrders = repository.findByCustomerId(testCustomerInfo.getCustomerId(), null, 10).items();
         
         // Then
         assertThat(customerOrders).hasSize(2);
@@ -149,7 +169,7 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         repository.save(order2);
         
         // When
-        var placedOrders = repository.findByStatus(CustomerOrderStatus.PLACED);
+        var placedOrders = repository.findByStatus(CustomerOrderStatus.PLACED, null, 10).items();
         
         // Then
         assertThat(placedOrders).hasSize(2);
@@ -174,7 +194,7 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         assertThat(updatedOrder.get().getStatus()).isEqualTo(CustomerOrderStatus.CONFIRMED);
         
         // Verify events were published (place + confirm)
-        verify(eventPublisher, times(2)).publishEvent(any(DomainEvent.class));
+        assertThat(publishedEvents()).hasSize(2);
     }
 
     @Test
@@ -198,6 +218,35 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         assertThat(updatedOrder.get().getStatus()).isEqualTo(CustomerOrderStatus.MANUFACTURING_IN_PROGRESS);
     }
 
+    @Test
+    void shouldFindOrdersOfSeveralManufacturingOrdersAndSaveThemTogether() {
+        // Given
+        var firstManufacturingOrderId = OrderId.of(UUID.randomUUID());
+        var secondManufacturingOrderId = OrderId.of(UUID.randomUUID());
+        for (var manufacturingOrderId : List.of(firstManufacturingOrderId, secondManufacturingOrderId)) {
+            var order = CustomerOrder.placeOrder(OrderId.of(UUID.randomUUID()), testCustomerInfo, testItems);
+            order.confirm();
+            order.linkManufacturingOrder(manufacturingOrderId);
+            repository.save(order);
+        }
+        repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        reset(eventPublisher);
+        
+        // When
+        var linkedOrders = repository.findByManufacturingOrderIds(
+            List.of(firstManufacturingOrderId, secondManufacturingOrderId));
+        linkedOrders.forEach(CustomerOrder::notifyManufacturingStarted);
+        var savedOrders = repository.saveAll(linkedOrders);
+        
+        // Then
+        assertThat(linkedOrders).hasSize(2);
+        assertThat(savedOrders)
+            .extracting(CustomerOrder::getStatus)
+            .containsOnly(CustomerOrderStatus.MANUFACTURING_IN_PROGRESS);
+        assertThat(repository.findByManufacturingOrderId(firstManufacturingOrderId).getFirst().getItems()).hasSize(2);
+        assertThat(publishedEvents()).hasSize(2);
+    }
+
     @Test
     void shouldNotifyManufacturingCompletedAndUpdateStatus() {
         // Given
@@ -234,7 +283,7 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         assertThat(cancelledOrder.get().isCancelled()).isTrue();
         
         // Verify cancellation event was published
-        verify(eventPublisher, times(2)).publishEvent(any(DomainEvent.class)); // place + cancel
+        assertThat(publishedEvents()).hasSize(2); // place + cancel
     }
 
     @Test
@@ -252,7 +301,7 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         repository.save(savedCancelledOrder);
         
         // When
-        var activeOrders = repository.findActiveOrders();
+        var activeOrders = repository.findActiveOrders(null, 10).items();
         
         // Then
         assertThat(activeOrders).hasSize(1);
@@ -260,6 +309,38 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         assertThat(activeOrders.get(0).isActive()).isTrue();
     }
 
+    @Test
+    void shouldReadActiveOrdersPageByPageSkippingClosedOnes() {
+        // Given
+        var activeIds = new ArrayList<OrderId>();
+        for (int i = 0; i < 6; i++) {
+            var order = repository.save(CustomerOrder.placeOrder(OrderId.of(UUID.randomUUID()), testCustomerInfo, testItems));
+            if (i % 3 == 0) {
+                order.cancel("Test cancellation");
+                repository.save(order);
+            } else {
+                activeIds.add(order.getId());
+            }
+        }
+        
+        // When
+        var orders = new ArrayList<CustomerOrder>();
+        PageCursor cursor = null;
+        int pages = 0;
+        do {
+            var page = repository.findActiveOrders(cursor, 2);
+            orders.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+        
+        // Then
+        assertThat(pages).isEqualTo(2);
+        assertThat(orders).extracting(CustomerOrder::getId).containsExactlyInAnyOrderElementsOf(activeIds);
+        assertThat(orders).extracting(CustomerOrder::getPlacedAt).isSorted();
+        assertThat(orders).allSatisfy(order -> assertThat(order.getItems()).hasSameSizeAs(testItems));
+    }
+
     @Test
     void shouldCompleteOrderLifecycle() {
         // Given
@@ -283,7 +364,61 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         assertThat(completedOrder.get().isActive()).isFalse();
         
         // Verify all status change events were published (place + confirm + manufacturing_started + manufacturing_completed + shipped + delivered)
-        verify(eventPublisher, times(6)).publishEvent(any(DomainEvent.class));
+        assertThat(publishedEvents()).hasSize(6);
+    }
+
+    @Test
+    void shouldIncrementVersionOnEverySave() {
+        // Given
+        var customerOrder = CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems);
+        repository.save(customerOrder);
+        assertThat(customerOrder.getVersion()).isZero();
+        
+        // When
+        customerOrder.confirm();
+        repository.save(customerOrder);
+        
+        // Then
+        assertThat(customerOrder.getVersion()).isEqualTo(1);
+        assertThat(jpaRepository.findById(testOrderId.getValue()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictOnlyTheUpdatedOrderFromPersistenceContext() {
+        // Given
+        var order = CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems);
+        var otherOrderId = OrderId.of(UUID.randomUUID());
+        repository.save(order);
+        repository.save(CustomerOrder.placeOrder(otherOrderId, testCustomerInfo, testItems));
+        var loadedCopy = jpaRepository.findById(testOrderId.getValue()).orElseThrow();
+        var otherEntity = jpaRepository.findById(otherOrderId.getValue()).orElseThrow();
+        
+        // When
+        order.confirm();
+        repository.save(order);
+        
+        // Then
+        assertThat(entityManager.contains(loadedCopy)).isFalse();
+        assertThat(entityManager.contains(otherEntity)).isTrue();
+        assertThat(jpaRepository.findById(testOrderId.getValue()).orElseThrow().getStatus())
+            .isEqualTo(CustomerOrderJpaEntity.CustomerOrderStatusEntity.CONFIRMED);
+    }
+
+    @Test
+    void shouldRejectSaveOfStaleOrder() {
+        // Given
+        repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        var first = repository.findById(testOrderId).orElseThrow();
+        var second = repository.findById(testOrderId).orElseThrow();
+        first.confirm();
+        repository.save(first);
+        
+        // When & Then
+        second.cancel("Changed concurrently");
+        assertThatThrownBy(() -> repository.save(second))
+            .isInstanceOf(OptimisticLockingFailureException.class);
+        assertThat(repository.findById(testOrderId).orElseThrow().getStatus())
+            .isEqualTo(CustomerOrderStatus.CONFIRMED);
     }
 
     @Test
@@ -323,9 +458,145 @@ class CustomerOrderRepositoryAdapterIntegrationTest {
         repository.save(order2);
         
         // When
-        var allOrders = repository.findAll();
+        var allOrders = repository.findAll(null, 10);
+        
+        // Then
+        assertThat(allOrders.items()).hasSize(2);
+        assertThat(allOrders.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldReadCustomerOrdersPageByPageInPlacementOrder() {
+        // Given
+        for (int i = 0; i < 5; i++) {
+            repository.save(CustomerOrder.placeOrder(OrderId.of(UUID.randomUUID()), testCustomerInfo, testItems));
+        }
+        repository.save(CustomerOrder.placeOrder(
+            OrderId.of(UUID.randomUUID()),
+            CustomerInfo.of(CustomerId.of(UUID.randomUUID()), "Jane Doe", "jane@example.com", "456 Oak St"),
+            testItems));
+        
+        // When
+        var orders = new ArrayList<CustomerOrder>();
+        PageCursor cursor = null;
+        int pages = 0;
+        do {
+            var page = repository.findByCustomerId(testCustomerInfo.getCustomerId(), cursor, 2);
+            orders.addAll(page.items());
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
         
         // Then
-        assertThat(allOrders).hasSize(2);
+        assertThat(pages).isEqualTo(3);
+        assertThat(orders).hasSize(5)
+            .extracting(CustomerOrder::getId)
+            .doesNotHaveDuplicates();
+        assertThat(orders)
+            .extracting(CustomerOrder::getPlacedAt)
+            .isSorted();
+        assertThat(orders).allSatisfy(order -> assertThat(order.getItems()).hasSameSizeAs(testItems));
+    }
+
+    @Test
+    void shouldStreamOrdersPlacedWithinPeriodOnceEachInPlacementOrder() {
+        // Given
+        var start = Instant.parse("2024-03-01T00:00:00Z");
+        var total = Money.of(new BigDecimal("950.00"), Currency.getInstance("USD"));
+        for (var placedAt : List.of(start.plusSeconds(30), start, start.plusSeconds(10), start.plusSeconds(60))) {
+            repository.save(CustomerOrder.reconstitute(OrderId.of(UUID.randomUUID()), testCustomerInfo, testItems,
+                total, CustomerOrderStatus.PLACED, placedAt, placedAt, null, null));
+        }
+        
+        // When
+        var streamed = new ArrayList<CustomerOrder>();
+        repository.forEachPlacedBetween(start, start.plusSeconds(60), streamed::add);
+        
+        // Then
+        assertThat(streamed)
+            .extracting(CustomerOrder::getPlacedAt)
+            .containsExactly(start, start.plusSeconds(10), start.plusSeconds(30));
+        assertThat(streamed).extracting(CustomerOrder::getId).doesNotHaveDuplicates();
+        assertThat(streamed).allSatisfy(order -> assertThat(order.getItems()).hasSameSizeAs(testItems));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMoveClosedOrdersToArchiveAndStillFindThemById() {
+        // Given
+        var cancelledOrder = repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        cancelledOrder.cancel("Customer requested cancellation");
+        repository.save(cancelledOrder);
+        var activeOrderId = OrderId.of(UUID.randomUUID());
+        repository.save(CustomerOrder.placeOrder(activeOrderId, testCustomerInfo, testItems));
+        var storedOrder = repository.findById(testOrderId).orElseThrow();
+        
+        // When
+        var archived = repository.archiveClosedOrders(Instant.now().plusSeconds(1), 10);
+        
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(jpaRepository.findById(testOrderId.getValue())).isEmpty();
+        assertThat(jpaRepository.findById(activeOrderId.getValue())).isPresent();
+        
+        ArgumentCaptor<Map<OrderId, byte[]>> storedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(archive).store(eq(AggregateType.CUSTOMER_ORDER), storedCaptor.capture());
+        assertThat(storedCaptor.getValue()).containsOnlyKeys(testOrderId);
+        when(archive.find(AggregateType.CUSTOMER_ORDER, testOrderId))
+            .thenReturn(Optional.of(storedCaptor.getValue().get(testOrderId)));
+        when(archive.contains(AggregateType.CUSTOMER_ORDER, testOrderId)).thenReturn(true);
+        
+        var archivedOrder = repository.findById(testOrderId).orElseThrow();
+        assertThat(archivedOrder.getStatus()).isEqualTo(CustomerOrderStatus.CANCELLED);
+        assertThat(archivedOrder.getCustomerInfo()).isEqualTo(testCustomerInfo);
+        assertThat(archivedOrder.getItems()).containsExactlyInAnyOrderElementsOf(testItems);
+        assertThat(archivedOrder.getTotalAmount()).isEqualTo(storedOrder.getTotalAmount());
+        assertThat(archivedOrder.getPlacedAt()).isEqualTo(storedOrder.getPlacedAt());
+        assertThat(archivedOrder.getUpdatedAt()).isEqualTo(storedOrder.getUpdatedAt());
+        assertThat(archivedOrder.getVersion()).isEqualTo(storedOrder.getVersion());
+        assertThat(repository.existsById(testOrderId)).isTrue();
+        assertThat(repository.findAll(null, 10).items()).extracting(CustomerOrder::getId).containsExactly(activeOrderId);
+        assertThatThrownBy(() -> repository.save(archivedOrder))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("is archived");
+    }
+
+    @Test
+    void shouldLeaveRecentlyClosedOrdersInPlace() {
+        // Given
+        var cancelledOrder = repository.save(CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems));
+        cancelledOrder.cancel("Customer requested cancellation");
+        repository.save(cancelledOrder);
+        
+        // When
+        var archived = repository.archiveClosedOrders(cancelledOrder.getUpdatedAt().minusSeconds(1), 10);
+        
+        // Then
+        assertThat(archived).isZero();
+        assertThat(jpaRepository.findById(testOrderId.getValue())).isPresent();
+    }
+
+    @Test
+    void shouldRefuseToStartWhileTheDocumentLayoutHoldsOrders() {
+        // Given
+        var order = CustomerOrder.placeOrder(testOrderId, testCustomerInfo, testItems);
+        var document = CustomerOrderDocument.of(order);
+        documentRepository.saveAndFlush(new CustomerOrderDocumentJpaEntity(
+            document.id(), document.customer().id(), CustomerOrderJpaEntity.CustomerOrderStatusEntity.PLACED,
+            document.placedAt(), document.updatedAt(), null, null, document));
+        
+        // When / Then
+        assertThatThrownBy(repository::afterSingletonsInstantiated)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("customer_order_documents");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DomainEvent> publishedEvents() {
+        ArgumentCaptor<List<DomainEvent>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher, atLeastOnce()).publishAll(batchCaptor.capture());
+        return batchCaptor.getAllValues().stream()
+            .flatMap(List::stream)
+            .toList();
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,9 @@
 package com.company.customerorder.adapter.out.persistence;
 
 import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.OrderArchive;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.boot.SpringBootConfiguration;
 import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
 import org.springframework.context.annotation.Bean;
@@ -16,4 +19,14 @@ public class RepositoryTestConfig {
     public DomainEventPublisher domainEventPublisher() {
         return mock(DomainEventPublisher.class);
     }
+    
+    @Bean
+    public OrderArchive orderArchive() {
+        return mock(OrderArchive.class);
+    }
+    
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
 }
\ No newline at end of file
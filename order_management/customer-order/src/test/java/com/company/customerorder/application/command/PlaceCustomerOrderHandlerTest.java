@@ -11,13 +11,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Currency;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,7 +38,7 @@ class PlaceCustomerOrderHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new PlaceCustomerOrderHandler(repository, domainService);
+        handler = new PlaceCustomerOrderHandler(repository, domainService, TransactionOperations.withoutTransaction(), 2);
     }
 
     @Test
@@ -49,6 +53,19 @@ class PlaceCustomerOrderHandlerTest {
     }
 
 
+    @Test
+    @DisplayName("Should not place an order twice when the request is repeated")
+    void shouldIgnoreRepeatedRequest() {
+        PlaceCustomerOrderCommand command = createTestCommand();
+        when(repository.existsById(command.orderId())).thenReturn(true);
+
+        OrderId result = handler.handle(command);
+
+        assertEquals(command.orderId(), result);
+        verify(repository, never()).save(any());
+        verifyNoInteractions(domainService);
+    }
+
     @Test
     @DisplayName("Should handle repository exceptions")
     void shouldHandleRepositoryExceptions() {
@@ -128,6 +145,96 @@ class PlaceCustomerOrderHandlerTest {
         verify(repository).save(any(CustomerOrder.class));
     }
 
+    @Test
+    @DisplayName("Should store a batch in chunks")
+    void shouldStoreBatchInChunks() {
+        var commands = List.of(createTestCommand(), createTestCommand(), createTestCommand(),
+            createTestCommand(), createTestCommand());
+
+        var results = handler.handleBatch(commands.iterator());
+
+        assertEquals(commands.stream().map(PlaceCustomerOrderCommand::orderId).toList(),
+            results.stream().map(PlaceCustomerOrderResult::orderId).toList());
+        assertTrue(results.stream().allMatch(result -> result.outcome() == PlaceCustomerOrderResult.Outcome.PLACED));
+        verify(repository, times(3)).saveAll(any());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should report invalid and already placed orders of a batch")
+    void shouldReportInvalidAndExistingOrdersOfBatch() {
+        var existing = createTestCommand();
+        var invalid = new PlaceCustomerOrderCommand(
+            OrderId.generate(),
+            CustomerId.generate(),
+            "John Doe",
+            "john.doe@example.com",
+            "123 Main St",
+            List.of(new PlaceCustomerOrderCommand.OrderItemCommand(
+                "PROD-001", "", 1, new BigDecimal("50.00"), Currency.getInstance("USD")))
+        );
+        var valid = createTestCommand();
+        when(repository.findExistingIds(any())).thenReturn(Set.of(existing.orderId()));
+
+        var results = handler.handleBatch(List.of(existing, invalid, valid, valid).iterator());
+
+        assertEquals(List.of(
+            PlaceCustomerOrderResult.Outcome.ALREADY_PLACED,
+            PlaceCustomerOrderResult.Outcome.REJECTED,
+            PlaceCustomerOrderResult.Outcome.PLACED,
+            PlaceCustomerOrderResult.Outcome.ALREADY_PLACED
+        ), results.stream().map(PlaceCustomerOrderResult::outcome).toList());
+        assertEquals("Description cannot be null or empty", results.get(1).message());
+    }
+
+    @Test
+    @DisplayName("Should place orders one by one when their chunk cannot be stored")
+    void shouldFallBackToSingleOrdersWhenChunkFails() {
+        var failing = createTestCommand();
+        var healthy = createTestCommand();
+        doThrow(new RuntimeException("Duplicate key")).when(repository).saveAll(any());
+        doThrow(new RuntimeException("Duplicate key")).when(repository)
+            .save(argThat(order -> order.getId().equals(failing.orderId())));
+
+        var results = handler.handleBatch(List.of(failing, healthy).iterator());
+
+        assertEquals(PlaceCustomerOrderResult.Outcome.REJECTED, results.get(0).outcome());
+        assertEquals(PlaceCustomerOrderResult.Outcome.PLACED, results.get(1).outcome());
+        verify(repository, times(2)).save(any());
+    }
+
+    @Test
+    @DisplayName("Should reject only the order that cannot be built and keep placing the batch")
+    void shouldRejectOrderFailingUnexpectedlyAndContinueBatch() {
+        var failing = new PlaceCustomerOrderCommand(
+            OrderId.generate(), CustomerId.generate(), "John Doe", "john.doe@example.com", "123 Main St",
+            List.of(new PlaceCustomerOrderCommand.OrderItemCommand(
+                "UNPRICED-1", "Unpriced product", 1, new BigDecimal("50.00"), Currency.getInstance("USD"))));
+        var healthy = createTestCommand();
+        // The batch is prepared in parallel, so fail by content rather than by call order
+        doThrow(new NullPointerException("No price list"))
+            .when(domainService).validateOrderItems(argThat(items ->
+                items != null && items.getFirst().getProductCode().equals("UNPRICED-1")));
+
+        var results = handler.handleBatch(List.of(failing, healthy).iterator());
+
+        assertEquals(PlaceCustomerOrderResult.Outcome.REJECTED, results.get(0).outcome());
+        assertEquals("No price list", results.get(0).message());
+        assertEquals(PlaceCustomerOrderResult.Outcome.PLACED, results.get(1).outcome());
+    }
+
+    @Test
+    @DisplayName("Should not accept a command with a null item")
+    void shouldNotAcceptCommandWithNullItem() {
+        var items = new ArrayList<PlaceCustomerOrderCommand.OrderItemCommand>();
+        items.add(null);
+
+        var failure = assertThrows(IllegalArgumentException.class, () -> new PlaceCustomerOrderCommand(
+            OrderId.generate(), CustomerId.generate(), "John Doe", "john.doe@example.com", "123 Main St", items));
+
+        assertEquals("Order items cannot be null", failure.getMessage());
+    }
+
     private PlaceCustomerOrderCommand createTestCommand() {
         return new PlaceCustomerOrderCommand(
             OrderId.generate(),
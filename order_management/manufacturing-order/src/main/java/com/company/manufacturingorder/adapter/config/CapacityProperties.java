@@ -0,0 +1,25 @@
+package com.company.manufacturingorder.adapter.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Settings for the manufacturing capacity ledger.
+ *
+ * @param defaultLimit      orders that may be in progress at once for a product line without its own limit
+ * @param limits            limits of individual product lines, keyed by product line
+ * @param reconcileInterval pause between two resets of the ledger from the stored orders
+ */
+@ConfigurationProperties(prefix = "order.management.manufacturing.capacity")
+public record CapacityProperties(
+    @DefaultValue("10") int defaultLimit,
+    Map<String, Integer> limits,
+    @DefaultValue("1m") Duration reconcileInterval
+) {
+    public CapacityProperties {
+        limits = limits != null ? Map.copyOf(limits) : Map.of();
+    }
+}
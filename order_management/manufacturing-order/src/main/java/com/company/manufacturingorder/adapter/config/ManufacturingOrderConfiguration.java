@@ -1,17 +1,26 @@
 package com.company.manufacturingorder.adapter.config;
 
 import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.manufacturingorder.domain.service.CapacityLedger;
 import com.company.manufacturingorder.domain.service.ManufacturingOrderDomainService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(CapacityProperties.class)
 public class ManufacturingOrderConfiguration {
     
+    @Bean
+    public CapacityLedger capacityLedger(CapacityProperties properties) {
+        return new CapacityLedger(properties.defaultLimit(), properties.limits());
+    }
+    
     @Bean
     public ManufacturingOrderDomainService manufacturingOrderDomainService(
-        ManufacturingOrderRepository repository
+        ManufacturingOrderRepository repository,
+        CapacityLedger capacityLedger
     ) {
-        return new ManufacturingOrderDomainService(repository);
+        return new ManufacturingOrderDomainService(repository, capacityLedger);
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.company.manufacturingorder.adapter.in.event;
 import com.company.sharedkernel.events.CustomerOrderStatusUpdated;
 import com.company.sharedkernel.events.CustomerOrderCancelled;
 import com.company.manufacturingorder.application.command.CreateManufacturingOrderCommand;
+import com.company.manufacturingorder.application.command.CapacityReservations;
 import com.company.manufacturingorder.application.command.CreateManufacturingOrderHandler;
 import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
 import com.company.manufacturingorder.domain.model.OrderStatus;
@@ -23,8 +24,9 @@ import java.time.temporal.ChronoUnit;
 public class CustomerOrderEventHandler {
     private final CreateManufacturingOrderHandler createManufacturingOrderHandler;
     private final ManufacturingOrderRepository manufacturingOrderRepository;
+    private final CapacityReservations capacityReservations;
     
-    @EventListener
+    @EventListener(id = "create-manufacturing-order")
     @Transactional
     public void handleCustomerOrderStatusUpdated(CustomerOrderStatusUpdated event) {
         if (!"CONFIRMED".equals(event.newStatus())) {
@@ -51,14 +53,16 @@ public class CustomerOrderEventHandler {
         createManufacturingOrderHandler.handle(createCommand);
     }
     
-    @EventListener
+    @EventListener(id = "cancel-manufacturing-order")
     @Transactional
     public void handleCustomerOrderCancelled(CustomerOrderCancelled event) {
         manufacturingOrderRepository.findById(event.orderId())
             .ifPresent(manufacturingOrder -> {
                 if (manufacturingOrder.getStatus() == OrderStatus.PENDING || 
                     manufacturingOrder.getStatus() == OrderStatus.IN_PROGRESS) {
+                    var previousStatus = manufacturingOrder.getStatus();
                     manufacturingOrder.cancel();
+                    capacityReservations.statusChanged(manufacturingOrder, previousStatus);
                     manufacturingOrderRepository.save(manufacturingOrder);
                 }
             });
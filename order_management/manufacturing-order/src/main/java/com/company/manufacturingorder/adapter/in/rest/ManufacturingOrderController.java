@@ -1,7 +1,9 @@
 package com.company.manufacturingorder.adapter.in.rest;
 
 import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.PageCursor;
 import com.company.manufacturingorder.application.command.*;
+import com.company.manufacturingorder.application.query.ListManufacturingOrdersQuery;
 import com.company.manufacturingorder.application.query.ManufacturingOrderDto;
 import com.company.manufacturingorder.application.service.ManufacturingOrderApplicationService;
 import com.company.manufacturingorder.domain.model.OrderStatus;
@@ -12,6 +14,7 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -37,6 +40,29 @@ public class ManufacturingOrderController {
             .body(new CreateOrderResponse(orderId.getValue()));
     }
     
+    /**
+     * Lists orders in creation order, one page at a time. The response carries the cursor
+     * to pass back for the next page, or none on the last page.
+     */
+    @GetMapping
+    public ResponseEntity<ManufacturingOrderPageResponse> listOrders(
+        @RequestParam(required = false) OrderStatus status,
+        @RequestParam(defaultValue = "false") boolean overdue,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(defaultValue = "50") int limit
+    ) {
+        var page = applicationService.listOrders(new ListManufacturingOrdersQuery(
+            status,
+            overdue,
+            cursor != null ? PageCursor.decode(cursor) : null,
+            limit
+        ));
+        return ResponseEntity.ok(new ManufacturingOrderPageResponse(
+            page.items(),
+            page.next().map(PageCursor::encode).orElse(null)
+        ));
+    }
+    
     @GetMapping("/{orderId}")
     public ResponseEntity<ManufacturingOrderDto> getOrder(@PathVariable UUID orderId) {
         return applicationService.findOrder(OrderId.of(orderId))
@@ -76,6 +102,21 @@ public class ManufacturingOrderController {
         return ResponseEntity.ok().build();
     }
     
+    @PostMapping("/bulk/start")
+    public ResponseEntity<BulkStatusChangeResponse> startOrders(@RequestBody BulkStatusChangeRequest request) {
+        return ResponseEntity.ok(new BulkStatusChangeResponse(applicationService.startOrders(request.toOrderIds())));
+    }
+    
+    @PostMapping("/bulk/complete")
+    public ResponseEntity<BulkStatusChangeResponse> completeOrders(@RequestBody BulkStatusChangeRequest request) {
+        return ResponseEntity.ok(new BulkStatusChangeResponse(applicationService.completeOrders(request.toOrderIds())));
+    }
+    
+    @PostMapping("/bulk/cancel")
+    public ResponseEntity<BulkStatusChangeResponse> cancelOrders(@RequestBody BulkStatusChangeRequest request) {
+        return ResponseEntity.ok(new BulkStatusChangeResponse(applicationService.cancelOrders(request.toOrderIds())));
+    }
+    
     public record CreateOrderRequest(
         UUID orderId,
         String productCode,
@@ -93,4 +134,24 @@ public class ManufacturingOrderController {
     public record ChangeStatusRequest(
         OrderStatus newStatus
     ) {}
-}
\ No newline at end of file
+    
+    public record BulkStatusChangeRequest(
+        List<UUID> orderIds
+    ) {
+        List<OrderId> toOrderIds() {
+            if (orderIds == null) {
+                throw new IllegalArgumentException("Order IDs cannot be null or empty");
+            }
+            return orderIds.stream().map(OrderId::of).toList();
+        }
+    }
+    
+    public record BulkStatusChangeResponse(
+        int changed
+    ) {}
+    
+    public record ManufacturingOrderPageResponse(
+        List<ManufacturingOrderDto> items,
+        String nextCursor
+    ) {}
+}
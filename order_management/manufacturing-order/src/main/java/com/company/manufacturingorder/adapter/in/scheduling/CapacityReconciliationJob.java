@@ -0,0 +1,38 @@
+package com.company.manufacturingorder.adapter.in.scheduling;
+
+import com.company.manufacturingorder.domain.service.ManufacturingOrderDomainService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resets the capacity ledger from the stored orders once before the application takes
+ * requests and then at a fixed interval. The interval run corrects drift from orders that
+ * were changed outside the command handlers, deleted, or changed by another instance.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CapacityReconciliationJob implements SmartInitializingSingleton {
+    private final ManufacturingOrderDomainService domainService;
+    
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+    
+    @Scheduled(
+        fixedDelayString = "${order.management.manufacturing.capacity.reconcile-interval:1m}",
+        initialDelayString = "${order.management.manufacturing.capacity.reconcile-interval:1m}"
+    )
+    public void reconcile() {
+        try {
+            domainService.reconcileCapacity();
+            log.debug("Reconciled manufacturing capacity ledger");
+        } catch (RuntimeException e) {
+            log.warn("Failed to reconcile manufacturing capacity ledger: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -1,34 +1,71 @@
 package com.company.manufacturingorder.adapter.out.external;
 
+import com.company.manufacturingorder.adapter.out.persistence.ManufacturingOrderJpaRepository;
+import com.company.manufacturingorder.adapter.out.persistence.ManufacturingOrderMapper;
+import com.company.manufacturingorder.adapter.out.persistence.ManufacturingOrderStatusCache;
 import com.company.manufacturingorder.domain.model.ManufacturingOrder;
+import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
 import com.company.sharedkernel.OrderId;
 import com.company.manufacturingorder.application.port.ManufacturingOrderQueryPort;
-import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
+/**
+ * Answers status lookups from other modules with a projection of the four fields they
+ * need, kept in the {@link ManufacturingOrderStatusCache}, which the repository evicts
+ * whenever it writes an order. Orders that are no longer in the order table are looked up
+ * through the repository, which also reads the order archive.
+ */
 @Component
-@RequiredArgsConstructor
 public class ManufacturingOrderQueryAdapter implements ManufacturingOrderQueryPort {
+    private final ManufacturingOrderJpaRepository jpaRepository;
+    private final ManufacturingOrderMapper mapper;
     private final ManufacturingOrderRepository repository;
+    private final ManufacturingOrderStatusCache cache;
+    
+    public ManufacturingOrderQueryAdapter(
+        ManufacturingOrderJpaRepository jpaRepository,
+        ManufacturingOrderMapper mapper,
+        ManufacturingOrderRepository repository,
+        ManufacturingOrderStatusCache cache
+    ) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.repository = repository;
+        this.cache = cache;
+    }
     
     @Override
     public Optional<ManufacturingOrderStatus> getOrderStatus(OrderId orderId) {
-        return repository.findById(orderId)
-            .map(order -> new ManufacturingOrderStatus(
-                order.getId(),
-                order.getStatus(),
-                order.getProductSpecification().getProductCode(),
-                order.getProductSpecification().getQuantity()
-            ));
+        return cache.get(orderId, this::load);
     }
     
     @Override
     public boolean isOrderCompleted(OrderId orderId) {
-        return repository.findById(orderId)
-            .map(ManufacturingOrder::isCompleted)
+        return getOrderStatus(orderId)
+            .map(status -> status.status() == OrderStatus.COMPLETED)
             .orElse(false);
     }
-}
\ No newline at end of file
+    
+    private Optional<ManufacturingOrderStatus> load(OrderId orderId) {
+        return jpaRepository.findStatusViewById(orderId.getValue())
+            .map(view -> new ManufacturingOrderStatus(
+                OrderId.of(view.getId()),
+                mapper.entityToOrderStatus(view.getStatus()),
+                view.getProductCode(),
+                view.getQuantity()
+            ))
+            .or(() -> repository.findById(orderId).map(ManufacturingOrderQueryAdapter::toStatus));
+    }
+    
+    private static ManufacturingOrderStatus toStatus(ManufacturingOrder order) {
+        return new ManufacturingOrderStatus(
+            order.getId(),
+            order.getStatus(),
+            order.getProductSpecification().getProductCode(),
+            order.getProductSpecification().getQuantity()
+        );
+    }
+}
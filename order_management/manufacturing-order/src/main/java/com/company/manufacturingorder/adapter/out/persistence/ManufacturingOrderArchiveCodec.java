@@ -0,0 +1,94 @@
+package com.company.manufacturingorder.adapter.out.persistence;
+
+import com.company.manufacturingorder.domain.model.ManufacturingOrder;
+import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.manufacturingorder.domain.model.ProductSpecification;
+import com.company.manufacturingorder.domain.model.Timeline;
+import com.company.sharedkernel.OrderId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Binary form of a manufacturing order in the order archive. The first byte is the format
+ * version, so orders archived in an older form stay readable after a change. Format 2
+ * appended the version of the order; orders in format 1 are read as version 0.
+ */
+final class ManufacturingOrderArchiveCodec {
+    private static final int FORMAT_VERSION = 2;
+
+    private ManufacturingOrderArchiveCodec() {
+    }
+
+    static byte[] encode(ManufacturingOrder order) {
+        var bytes = new ByteArrayOutputStream(256);
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            var id = order.getId().getValue();
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+            var specification = order.getProductSpecification();
+            out.writeUTF(specification.getProductCode());
+            out.writeUTF(specification.getDescription());
+            out.writeInt(specification.getQuantity());
+            out.writeUTF(specification.getSpecifications());
+            out.writeUTF(order.getStatus().name());
+            var timeline = order.getTimeline();
+            writeInstant(out, timeline.getExpectedStartDate());
+            writeInstant(out, timeline.getExpectedCompletionDate());
+            writeNullableInstant(out, timeline.getActualStartDate());
+            writeNullableInstant(out, timeline.getActualCompletionDate());
+            writeInstant(out, order.getCreatedAt());
+            writeInstant(out, order.getUpdatedAt());
+            out.writeLong(order.getVersion() != null ? order.getVersion() : 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static ManufacturingOrder decode(byte[] bytes) {
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            int formatVersion = in.readUnsignedByte();
+            if (formatVersion < 1 || formatVersion > FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unknown archived manufacturing order format: " + formatVersion);
+            }
+            var id = OrderId.of(new UUID(in.readLong(), in.readLong()));
+            var specification = ProductSpecification.of(in.readUTF(), in.readUTF(), in.readInt(), in.readUTF());
+            var status = OrderStatus.valueOf(in.readUTF());
+            var timeline = new Timeline(readInstant(in), readInstant(in), readNullableInstant(in), readNullableInstant(in));
+            var createdAt = readInstant(in);
+            var updatedAt = readInstant(in);
+            long version = formatVersion >= 2 ? in.readLong() : 0L;
+            return ManufacturingOrder.reconstitute(id, specification, status, timeline, createdAt, updatedAt, version);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeLong(value.getEpochSecond());
+        out.writeInt(value.getNano());
+    }
+
+    private static void writeNullableInstant(DataOutputStream out, Instant value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeInstant(out, value);
+        }
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+
+    private static Instant readNullableInstant(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readInstant(in) : null;
+    }
+}
@@ -54,6 +54,10 @@ public class ManufacturingOrderJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
     
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+    
     public enum OrderStatusEntity {
         PENDING, IN_PROGRESS, COMPLETED, CANCELLED
     }
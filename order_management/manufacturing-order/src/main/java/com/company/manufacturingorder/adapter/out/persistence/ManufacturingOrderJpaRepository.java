@@ -1,21 +1,107 @@
 package com.company.manufacturingorder.adapter.out.persistence;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface ManufacturingOrderJpaRepository extends JpaRepository<ManufacturingOrderJpaEntity, UUID> {
+public interface ManufacturingOrderJpaRepository
+    extends JpaRepository<ManufacturingOrderJpaEntity, UUID>, JpaSpecificationExecutor<ManufacturingOrderJpaEntity>,
+        ManufacturingOrderStatusUpdates {
     
-    List<ManufacturingOrderJpaEntity> findByStatus(ManufacturingOrderJpaEntity.OrderStatusEntity status);
+    Window<ManufacturingOrderJpaEntity> findAllByOrderByCreatedAtAscIdAsc(ScrollPosition position, Limit limit);
     
-    @Query("SELECT o FROM ManufacturingOrderJpaEntity o WHERE o.expectedCompletionDate < :now " +
-           "AND o.status NOT IN ('COMPLETED', 'CANCELLED')")
-    List<ManufacturingOrderJpaEntity> findOverdueOrders(Instant now);
+    Window<ManufacturingOrderJpaEntity> findByStatusOrderByCreatedAtAscIdAsc(
+        ManufacturingOrderJpaEntity.OrderStatusEntity status, ScrollPosition position, Limit limit);
+    
+    /**
+     * Reads only the columns a status lookup needs, leaving the specifications text in the table.
+     */
+    @Query("SELECT o.id AS id, o.status AS status, o.productCode AS productCode, o.quantity AS quantity " +
+           "FROM ManufacturingOrderJpaEntity o WHERE o.id = :id")
+    Optional<StatusView> findStatusViewById(UUID id);
+    
+    /**
+     * Reads the creation time of the order from {@code manufacturing_order_ids} first, so
+     * only the monthly partition holding the row is probed. Needs the partitioned schema.
+     */
+    @Query(value = "SELECT o.* FROM manufacturing_orders o WHERE o.id = :id AND o.created_at = " +
+                   "(SELECT r.created_at FROM manufacturing_order_ids r WHERE r.id = :id)",
+           nativeQuery = true)
+    Optional<ManufacturingOrderJpaEntity> findRegisteredById(UUID id);
+    
+    /**
+     * Checks {@code manufacturing_order_ids} alone, without reading the partitions. Needs
+     * the partitioned schema.
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM manufacturing_order_ids WHERE id = :id)", nativeQuery = true)
+    boolean existsRegisteredById(UUID id);
     
     long countByStatus(ManufacturingOrderJpaEntity.OrderStatusEntity status);
-}
\ No newline at end of file
+    
+    List<ManufacturingOrderJpaEntity> findByStatusInAndUpdatedAtBefore(
+        Collection<ManufacturingOrderJpaEntity.OrderStatusEntity> statuses,
+        Instant updatedBefore,
+        Limit limit
+    );
+    
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ManufacturingOrderJpaEntity o WHERE o.id IN :ids")
+    int deleteByIdIn(Collection<UUID> ids);
+    
+    @Query("SELECT o.productCode AS productCode, COUNT(o) AS orders FROM ManufacturingOrderJpaEntity o " +
+           "WHERE o.status = :status GROUP BY o.productCode")
+    List<ProductCodeCount> countByStatusGroupByProductCode(ManufacturingOrderJpaEntity.OrderStatusEntity status);
+    
+    interface StatusView {
+        UUID getId();
+        
+        ManufacturingOrderJpaEntity.OrderStatusEntity getStatus();
+        
+        String getProductCode();
+        
+        Integer getQuantity();
+    }
+    
+    interface ProductCodeCount {
+        String getProductCode();
+        
+        long getOrders();
+    }
+    
+    /**
+     * Writes the fields that can change after an order is created, if the row is still at
+     * {@code version}. Product and expected dates are fixed at creation. The creation time
+     * narrows the update to the partition holding the row. A copy of the order managed by
+     * the persistence context is left stale; the caller detaches it.
+     *
+     * @return 1 if the row was updated, 0 if it was changed or deleted in the meantime
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE ManufacturingOrderJpaEntity o SET o.status = :status, o.updatedAt = :updatedAt, " +
+           "o.actualStartDate = :actualStartDate, o.actualCompletionDate = :actualCompletionDate, " +
+           "o.version = o.version + 1 " +
+           "WHERE o.id = :id AND o.createdAt = :createdAt AND o.version = :version")
+    int updateIfVersionMatches(
+        UUID id,
+        Instant createdAt,
+        long version,
+        ManufacturingOrderJpaEntity.OrderStatusEntity status,
+        Instant updatedAt,
+        Instant actualStartDate,
+        Instant actualCompletionDate
+    );
+}
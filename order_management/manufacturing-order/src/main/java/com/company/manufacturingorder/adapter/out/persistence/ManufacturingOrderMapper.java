@@ -26,6 +26,7 @@ public interface ManufacturingOrderMapper {
     @Mapping(target = "actualCompletionDate", source = "timeline.actualCompletionDate")
     @Mapping(target = "createdAt", source = "createdAt")
     @Mapping(target = "updatedAt", source = "updatedAt")
+    @Mapping(target = "version", source = "version")
     ManufacturingOrderJpaEntity toEntity(ManufacturingOrder order);
     
     default ManufacturingOrder toDomain(ManufacturingOrderJpaEntity entity) {
@@ -37,7 +38,8 @@ public interface ManufacturingOrderMapper {
             entityToOrderStatus(entity.getStatus()),
             entityToTimeline(entity),
             entity.getCreatedAt(),
-            entity.getUpdatedAt()
+            entity.getUpdatedAt(),
+            entity.getVersion()
         );
     }
     
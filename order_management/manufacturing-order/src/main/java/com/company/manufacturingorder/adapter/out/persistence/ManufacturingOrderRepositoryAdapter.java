@@ -1,83 +1,329 @@
 package com.company.manufacturingorder.adapter.out.persistence;
 
+import com.company.sharedkernel.AggregateRepositorySupport;
 import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.KeysetPage;
+import com.company.sharedkernel.OrderArchive;
+import com.company.sharedkernel.OrderArchive.AggregateType;
 import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.PageCursor;
 import com.company.manufacturingorder.domain.model.ManufacturingOrder;
 import com.company.manufacturingorder.domain.model.OrderStatus;
 import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Repository
-public class ManufacturingOrderRepositoryAdapter implements ManufacturingOrderRepository {
+public class ManufacturingOrderRepositoryAdapter extends AggregateRepositorySupport implements ManufacturingOrderRepository {
+    private static final Set<ManufacturingOrderJpaEntity.OrderStatusEntity> CLOSED_STATUSES = EnumSet.of(
+        ManufacturingOrderJpaEntity.OrderStatusEntity.COMPLETED,
+        ManufacturingOrderJpaEntity.OrderStatusEntity.CANCELLED
+    );
+    private static final Sort CREATION_ORDER = Sort.by("createdAt", "id");
+    
     private final ManufacturingOrderJpaRepository jpaRepository;
     private final ManufacturingOrderMapper mapper;
     private final DomainEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final ManufacturingOrderStatusCache statusCache;
+    private final boolean partitioned;
+    private final OrderArchive archive;
 
+    /**
+     * Without an order archive, lookups only cover the order table and closed orders
+     * cannot be archived.
+     *
+     * @param partitioned whether the order table is partitioned, so lookups by id go
+     *                    through the id registry to read only the partition of the order
+     */
     public ManufacturingOrderRepositoryAdapter(
         ManufacturingOrderJpaRepository jpaRepository,
         @Qualifier("manufacturingOrderMapperImpl") ManufacturingOrderMapper mapper,
-        DomainEventPublisher eventPublisher
+        DomainEventPublisher eventPublisher,
+        EntityManager entityManager,
+        ManufacturingOrderStatusCache statusCache,
+        @Value("${order.management.partitioning.enabled:false}") boolean partitioned,
+        Optional<OrderArchive> archive
     ) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
         this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.statusCache = statusCache;
+        this.partitioned = partitioned;
+        this.archive = archive.orElse(null);
     }
     
     @Override
     public Optional<ManufacturingOrder> findById(OrderId orderId) {
-        return jpaRepository.findById(orderId.getValue())
-            .map(mapper::toDomain);
+        var entity = partitioned
+            ? jpaRepository.findRegisteredById(orderId.getValue())
+            : jpaRepository.findById(orderId.getValue());
+        return entity
+            .map(mapper::toDomain)
+            .or(() -> findArchived(orderId));
     }
     
     @Override
-    public List<ManufacturingOrder> findByStatus(OrderStatus status) {
-        var entityStatus = ManufacturingOrderJpaEntity.OrderStatusEntity.valueOf(status.name());
-        return jpaRepository.findByStatus(entityStatus)
+    public List<ManufacturingOrder> findAllById(Collection<OrderId> orderIds) {
+        return jpaRepository.findAllById(orderIds.stream().map(OrderId::getValue).toList())
             .stream()
             .map(mapper::toDomain)
             .toList();
     }
     
     @Override
-    public List<ManufacturingOrder> findOverdueOrders() {
-        return jpaRepository.findOverdueOrders(Instant.now())
-            .stream()
-            .map(mapper::toDomain)
-            .toList();
+    public KeysetPage<ManufacturingOrder> findByStatus(OrderStatus status, PageCursor after, int limit) {
+        return toPage(jpaRepository.findByStatusOrderByCreatedAtAscIdAsc(
+            mapper.orderStatusToEntity(status), positionAfter(after), Limit.of(KeysetPage.checkLimit(limit))));
     }
     
     @Override
-    public List<ManufacturingOrder> findAll() {
-        return jpaRepository.findAll()
-            .stream()
-            .map(mapper::toDomain)
-            .toList();
+    public KeysetPage<ManufacturingOrder> findOverdueOrders(PageCursor after, int limit) {
+        int pageSize = KeysetPage.checkLimit(limit);
+        return toPage(jpaRepository.findBy(isOverdue(Instant.now()), query -> query
+            .sortBy(CREATION_ORDER)
+            .limit(pageSize)
+            .scroll(positionAfter(after))));
+    }
+    
+    @Override
+    public KeysetPage<ManufacturingOrder> findAll(PageCursor after, int limit) {
+        return toPage(jpaRepository.findAllByOrderByCreatedAtAscIdAsc(
+            positionAfter(after), Limit.of(KeysetPage.checkLimit(limit))));
     }
     
+    @Override
+    public long countByStatus(OrderStatus status) {
+        return jpaRepository.countByStatus(mapper.orderStatusToEntity(status));
+    }
+    
+    @Override
+    public Map<String, Long> countByProductCode(OrderStatus status) {
+        return jpaRepository.countByStatusGroupByProductCode(mapper.orderStatusToEntity(status)).stream()
+            .collect(Collectors.toMap(
+                ManufacturingOrderJpaRepository.ProductCodeCount::getProductCode,
+                ManufacturingOrderJpaRepository.ProductCodeCount::getOrders
+            ));
+    }
+    
+    /**
+     * Inserts a new order, or updates a stored one with a single versioned UPDATE, without
+     * reading it first. The given order is returned with its new version. Its cached
+     * status is dropped, and dropped again once the transaction has completed.
+     *
+     * @throws ObjectOptimisticLockingFailureException if the order was changed since it was loaded
+     * @throws IllegalStateException if the order was loaded from the archive
+     */
     @Override
     public ManufacturingOrder save(ManufacturingOrder order) {
+        if (order.getVersion() == null) {
+            insert(order);
+        } else {
+            update(order);
+        }
+        statusCache.invalidate(order.getId());
+        
+        eventPublisher.publishAll(order.pullDomainEvents());
+        
+        return order;
+    }
+    
+    private void insert(ManufacturingOrder order) {
         var entity = mapper.toEntity(order);
-        var savedEntity = jpaRepository.save(entity);
-        var savedOrder = mapper.toDomain(savedEntity);
+        // The column keeps microseconds; a managed entity with more precision would hand
+        // out page cursors that do not match the stored row.
+        entity.setCreatedAt(entity.getCreatedAt().truncatedTo(ChronoUnit.MICROS));
+        // With a null @Version the entity counts as new, so it is persisted, not merged
+        recordSavedVersion(order, jpaRepository.save(entity).getVersion());
+    }
+    
+    private void update(ManufacturingOrder order) {
+        var timeline = order.getTimeline();
+        var updated = jpaRepository.updateIfVersionMatches(
+            order.getId().getValue(),
+            order.getCreatedAt().truncatedTo(ChronoUnit.MICROS),
+            order.getVersion(),
+            mapper.orderStatusToEntity(order.getStatus()),
+            order.getUpdatedAt(),
+            timeline.getActualStartDate(),
+            timeline.getActualCompletionDate()
+        );
+        if (updated == 0) {
+            if (isArchived(order.getId())) {
+                throw new IllegalStateException("Manufacturing order " + order.getId() + " is archived and can no longer be changed");
+            }
+            throw new ObjectOptimisticLockingFailureException(ManufacturingOrderJpaEntity.class, order.getId().getValue());
+        }
+        evictLoadedCopy(order.getId().getValue());
+        recordSavedVersion(order, order.getVersion() + 1);
+    }
+    
+    /**
+     * Writes the set with a single update statement that guards every row by its own
+     * previous status and the version it was loaded at. All orders of a change share their
+     * new status and change time, and so their dates: the change starts the orders that
+     * had not started yet, and completes all of them or none. The start date is only
+     * written where none is stored, so orders that had already started keep theirs. The
+     * cached statuses of the orders are dropped, and dropped again once the transaction
+     * has completed.
+     *
+     * @throws ObjectOptimisticLockingFailureException if any of the orders is no longer in
+     *         its previous status or was changed since it was loaded
+     * @throws IllegalArgumentException if an order was never stored
+     */
+    @Override
+    public void saveStatusChanges(Map<OrderStatus, List<ManufacturingOrder>> ordersByPreviousStatus) {
+        var orders = ordersByPreviousStatus.values().stream().flatMap(List::stream).toList();
+        if (orders.isEmpty()) {
+            return;
+        }
+        var status = orders.getFirst().getStatus();
+        var changedAt = orders.getFirst().getUpdatedAt();
+        if (orders.stream().anyMatch(order -> order.getStatus() != status || !changedAt.equals(order.getUpdatedAt()))) {
+            throw new IllegalArgumentException("Orders of a status change must share their new status and change time");
+        }
+        if (orders.stream().anyMatch(order -> order.getVersion() == null)) {
+            throw new IllegalArgumentException("Orders of a status change must be loaded from the repository");
+        }
         
-        order.getDomainEvents().forEach(eventPublisher::publishEvent);
-        order.clearDomainEvents();
+        var rows = new ArrayList<ManufacturingOrderStatusUpdates.ExpectedRow>();
+        ordersByPreviousStatus.forEach((previousStatus, ordersOfStatus) -> ordersOfStatus.forEach(order ->
+            rows.add(new ManufacturingOrderStatusUpdates.ExpectedRow(
+                order.getId().getValue(), mapper.orderStatusToEntity(previousStatus), order.getVersion()))));
+        var startedAt = orders.stream().anyMatch(order -> changedAt.equals(order.getTimeline().getActualStartDate()))
+            ? changedAt
+            : null;
+        var createdAt = orders.stream().map(ManufacturingOrder::getCreatedAt).toList();
+        var updated = jpaRepository.updateStatusesIfVersionsMatch(
+            rows,
+            Collections.min(createdAt).truncatedTo(ChronoUnit.MICROS),
+            Collections.max(createdAt),
+            mapper.orderStatusToEntity(status),
+            changedAt,
+            startedAt,
+            orders.getFirst().getTimeline().getActualCompletionDate()
+        );
+        var ids = rows.stream().map(ManufacturingOrderStatusUpdates.ExpectedRow::id).toList();
+        if (updated != rows.size()) {
+            throw new ObjectOptimisticLockingFailureException(ManufacturingOrderJpaEntity.class, ids);
+        }
+        ids.forEach(this::evictLoadedCopy);
+        statusCache.invalidateAll(orders.stream().map(ManufacturingOrder::getId).toList());
+        orders.forEach(order -> recordSavedVersion(order, order.getVersion() + 1));
         
-        return savedOrder;
+        eventPublisher.publishAll(orders.stream()
+            .flatMap(order -> order.pullDomainEvents().stream())
+            .toList());
+    }
+    
+    /**
+     * Detaches the order if this persistence context loaded it before a versioned UPDATE,
+     * so a later read in the same transaction sees the updated row. Other managed entities
+     * stay as they are. {@code getReference} does not read the row if it was not loaded.
+     */
+    private void evictLoadedCopy(UUID id) {
+        entityManager.detach(entityManager.getReference(ManufacturingOrderJpaEntity.class, id));
+    }
+    
+    /**
+     * Writes the closed statuses into the SQL as literals instead of binding them, so that
+     * the planner can prove the condition of the partial index on open orders, also for a
+     * generic plan of a prepared statement. Must match that index condition.
+     */
+    private static Specification<ManufacturingOrderJpaEntity> isOverdue(Instant now) {
+        return (root, query, cb) -> {
+            var closed = cb.in(root.<ManufacturingOrderJpaEntity.OrderStatusEntity>get("status"));
+            CLOSED_STATUSES.forEach(status -> closed.value(cb.literal(status)));
+            return cb.and(cb.lessThan(root.get("expectedCompletionDate"), now), cb.not(closed));
+        };
+    }
+    
+    private static ScrollPosition positionAfter(PageCursor after) {
+        return after == null
+            ? ScrollPosition.keyset()
+            : ScrollPosition.forward(Map.of("createdAt", after.timestamp(), "id", after.id()));
+    }
+    
+    private KeysetPage<ManufacturingOrder> toPage(Window<ManufacturingOrderJpaEntity> window) {
+        var orders = window.getContent().stream().map(mapper::toDomain).toList();
+        if (!window.hasNext() || window.isEmpty()) {
+            return new KeysetPage<>(orders, null);
+        }
+        var last = window.getContent().getLast();
+        return new KeysetPage<>(orders, new PageCursor(last.getCreatedAt(), last.getId()));
     }
     
     @Override
     public void delete(OrderId orderId) {
         jpaRepository.deleteById(orderId.getValue());
+        statusCache.invalidate(orderId);
     }
     
     @Override
     public boolean existsById(OrderId orderId) {
-        return jpaRepository.existsById(orderId.getValue());
+        var stored = partitioned
+            ? jpaRepository.existsRegisteredById(orderId.getValue())
+            : jpaRepository.existsById(orderId.getValue());
+        return stored || isArchived(orderId);
+    }
+    
+    /**
+     * Stores the orders in the archive before deleting their rows, so a failure in between
+     * leaves an order in both tiers, where the order table takes precedence, and never in
+     * neither.
+     */
+    @Override
+    @Transactional
+    public int archiveClosedOrders(Instant closedBefore, int limit) {
+        if (archive == null) {
+            throw new IllegalStateException("No order archive is configured");
+        }
+        var entities = jpaRepository.findByStatusInAndUpdatedAtBefore(CLOSED_STATUSES, closedBefore, Limit.of(limit));
+        if (entities.isEmpty()) {
+            return 0;
+        }
+        var encoded = new LinkedHashMap<OrderId, byte[]>();
+        entities.stream()
+            .map(mapper::toDomain)
+            .forEach(order -> encoded.put(order.getId(), ManufacturingOrderArchiveCodec.encode(order)));
+        archive.store(AggregateType.MANUFACTURING_ORDER, encoded);
+        
+        jpaRepository.deleteByIdIn(entities.stream().map(ManufacturingOrderJpaEntity::getId).toList());
+        return entities.size();
+    }
+    
+    private Optional<ManufacturingOrder> findArchived(OrderId orderId) {
+        if (archive == null) {
+            return Optional.empty();
+        }
+        return archive.find(AggregateType.MANUFACTURING_ORDER, orderId).map(ManufacturingOrderArchiveCodec::decode);
+    }
+    
+    private boolean isArchived(OrderId orderId) {
+        return archive != null && archive.contains(AggregateType.MANUFACTURING_ORDER, orderId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,81 @@
+package com.company.manufacturingorder.adapter.out.persistence;
+
+import com.company.manufacturingorder.application.port.ManufacturingOrderQueryPort.ManufacturingOrderStatus;
+import com.company.sharedkernel.OrderId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of the status projection other modules look up. Concurrent
+ * misses for the same order wait for a single load instead of each going to the database.
+ *
+ * Unknown orders are cached too, but only for {@code expire-unknown-after-write}, so a
+ * caller polling for an order that does not exist yet does not reach the database on
+ * every lookup, and an order stored by another instance is found soon after.
+ *
+ * {@link ManufacturingOrderRepositoryAdapter} drops an entry whenever it stores or deletes
+ * the order, and again once that transaction has completed, since a lookup before the
+ * commit reads and caches the old row. The expiry only limits how long an entry can
+ * outlive a change written by another instance.
+ *
+ * Hits, misses and evictions are reported as the {@code cache.*} meters tagged
+ * {@code cache=manufacturingOrderStatus}.
+ */
+@Component
+public class ManufacturingOrderStatusCache {
+    public static final String CACHE_NAME = "manufacturingOrderStatus";
+
+    private final Cache<OrderId, Optional<ManufacturingOrderStatus>> cache;
+
+    public ManufacturingOrderStatusCache(
+        MeterRegistry meterRegistry,
+        @Value("${order.management.manufacturing.status-cache.maximum-size:10000}") long maximumSize,
+        @Value("${order.management.manufacturing.status-cache.expire-after-write:30s}") Duration expireAfterWrite,
+        @Value("${order.management.manufacturing.status-cache.expire-unknown-after-write:2s}") Duration expireUnknownAfterWrite
+    ) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(Expiry.<OrderId, Optional<ManufacturingOrderStatus>>writing(
+                (orderId, status) -> status.isPresent() ? expireAfterWrite : expireUnknownAfterWrite))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<ManufacturingOrderStatus> get(
+        OrderId orderId,
+        Function<OrderId, Optional<ManufacturingOrderStatus>> loader
+    ) {
+        return cache.get(orderId, loader);
+    }
+
+    public void invalidate(OrderId orderId) {
+        invalidateAll(List.of(orderId));
+    }
+
+    public void invalidateAll(Collection<OrderId> orderIds) {
+        cache.invalidateAll(orderIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // A lookup outside the transaction may cache the old row until it commits
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidateAll(orderIds);
+                }
+            });
+        }
+    }
+}
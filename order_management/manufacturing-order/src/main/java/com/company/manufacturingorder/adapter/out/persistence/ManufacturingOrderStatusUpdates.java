@@ -0,0 +1,38 @@
+package com.company.manufacturingorder.adapter.out.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Set-based status updates of {@link ManufacturingOrderJpaRepository} whose statement
+ * depends on the number of orders, so it cannot be declared with {@code @Query}.
+ */
+public interface ManufacturingOrderStatusUpdates {
+    
+    /**
+     * Moves the given orders to {@code status} in a single UPDATE, each only where it is
+     * still in its expected status and at its expected version. An actual start date is
+     * only written where none is stored yet. The creation time range of the orders narrows
+     * the update to the partitions holding them. The version of every updated row is
+     * raised, so saves of copies loaded before fail. Copies of the orders managed by the
+     * persistence context are left stale; the caller detaches them.
+     *
+     * @return the number of rows updated
+     */
+    int updateStatusesIfVersionsMatch(
+        Collection<ExpectedRow> rows,
+        Instant createdFrom,
+        Instant createdTo,
+        ManufacturingOrderJpaEntity.OrderStatusEntity status,
+        Instant updatedAt,
+        Instant actualStartDate,
+        Instant actualCompletionDate
+    );
+    
+    /**
+     * Status and version an order must still be at for the update to apply to it.
+     */
+    record ExpectedRow(UUID id, ManufacturingOrderJpaEntity.OrderStatusEntity status, long version) {
+    }
+}
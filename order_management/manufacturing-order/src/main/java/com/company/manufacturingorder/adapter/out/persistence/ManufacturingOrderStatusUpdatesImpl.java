@@ -0,0 +1,85 @@
+package com.company.manufacturingorder.adapter.out.persistence;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.stream.Collectors;
+
+/**
+ * Guards every row with its own expected status and version, so a status change of many
+ * orders is one statement however many versions they were loaded at. The rows are
+ * grouped by expected status, each group matching its rows through a row value
+ * {@code IN} list of id and version; the status is compared on its own, as the enum
+ * column cannot be bound inside a row value.
+ */
+class ManufacturingOrderStatusUpdatesImpl implements ManufacturingOrderStatusUpdates {
+    private static final String UPDATE_STATUSES =
+        "UPDATE ManufacturingOrderJpaEntity o SET o.status = :status, o.updatedAt = :updatedAt, " +
+        "o.actualStartDate = COALESCE(o.actualStartDate, :actualStartDate), " +
+        "o.actualCompletionDate = :actualCompletionDate, o.version = o.version + 1 " +
+        "WHERE o.createdAt BETWEEN :createdFrom AND :createdTo AND (";
+    
+    private final EntityManager entityManager;
+    
+    ManufacturingOrderStatusUpdatesImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+    
+    @Override
+    @Transactional
+    public int updateStatusesIfVersionsMatch(
+        Collection<ExpectedRow> rows,
+        Instant createdFrom,
+        Instant createdTo,
+        ManufacturingOrderJpaEntity.OrderStatusEntity status,
+        Instant updatedAt,
+        Instant actualStartDate,
+        Instant actualCompletionDate
+    ) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        var rowsByStatus = rows.stream().collect(Collectors.groupingBy(
+            ExpectedRow::status,
+            () -> new EnumMap<>(ManufacturingOrderJpaEntity.OrderStatusEntity.class),
+            Collectors.toList()
+        ));
+        var statement = new StringBuilder(UPDATE_STATUSES);
+        int row = 0;
+        for (var expectedStatus : rowsByStatus.entrySet()) {
+            if (row > 0) {
+                statement.append(" OR ");
+            }
+            statement.append("o.status = :expectedStatus").append(expectedStatus.getKey().ordinal())
+                .append(" AND (o.id, o.version) IN (");
+            for (int i = 0; i < expectedStatus.getValue().size(); i++, row++) {
+                statement.append(i == 0 ? "" : ", ")
+                    .append("(:id").append(row).append(", :expectedVersion").append(row).append(')');
+            }
+            statement.append(')');
+        }
+        statement.append(')');
+        
+        entityManager.flush();
+        var query = entityManager.createQuery(statement.toString())
+            .setParameter("status", status)
+            .setParameter("updatedAt", updatedAt)
+            .setParameter("actualStartDate", actualStartDate)
+            .setParameter("actualCompletionDate", actualCompletionDate)
+            .setParameter("createdFrom", createdFrom)
+            .setParameter("createdTo", createdTo);
+        row = 0;
+        for (var expectedStatus : rowsByStatus.entrySet()) {
+            query.setParameter("expectedStatus" + expectedStatus.getKey().ordinal(), expectedStatus.getKey());
+            for (var expected : expectedStatus.getValue()) {
+                query.setParameter("id" + row, expected.id())
+                    .setParameter("expectedVersion" + row, expected.version());
+                row++;
+            }
+        }
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,25 @@
+package com.company.manufacturingorder.application.command;
+
+import com.company.sharedkernel.OrderId;
+import com.company.manufacturingorder.domain.model.OrderStatus;
+
+import java.util.List;
+import java.util.Objects;
+
+public record BulkChangeOrderStatusCommand(
+    List<OrderId> orderIds,
+    OrderStatus newStatus
+) {
+    public BulkChangeOrderStatusCommand {
+        if (orderIds == null || orderIds.isEmpty()) {
+            throw new IllegalArgumentException("Order IDs cannot be null or empty");
+        }
+        if (orderIds.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Order IDs cannot contain null");
+        }
+        if (newStatus == null) {
+            throw new IllegalArgumentException("New status cannot be null");
+        }
+        orderIds = List.copyOf(orderIds);
+    }
+}
@@ -0,0 +1,85 @@
+package com.company.manufacturingorder.application.command;
+
+import com.company.manufacturingorder.domain.model.ManufacturingOrder;
+import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.RetryOnConflict;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BulkChangeOrderStatusHandler {
+    private final ManufacturingOrderRepository repository;
+    private final CapacityReservations capacityReservations;
+
+    /**
+     * Moves all orders of the command to the new status, or none of them. Every transition
+     * is checked before anything is written; the change itself is stored with set-based
+     * updates and its events are published as one batch. As for a single order, completing
+     * a pending order starts it on the way and completing a completed order does nothing.
+     * Starting more orders than their product lines have room for fails the whole command.
+     *
+     * @return the number of orders whose status changed
+     */
+    @RetryOnConflict
+    @Transactional
+    public int handle(BulkChangeOrderStatusCommand command) {
+        var orderIds = new LinkedHashSet<>(command.orderIds());
+        var orders = repository.findAllById(orderIds);
+        if (orders.size() < orderIds.size()) {
+            var foundIds = orders.stream().map(ManufacturingOrder::getId).collect(Collectors.toSet());
+            throw new IllegalArgumentException(
+                "Manufacturing orders not found: " + orderIds.stream().filter(id -> !foundIds.contains(id)).toList()
+            );
+        }
+
+        var newStatus = command.newStatus();
+        var ordersToChange = orders.stream()
+            .filter(order -> !(newStatus == OrderStatus.COMPLETED && order.isCompleted()))
+            .toList();
+        var blocked = ordersToChange.stream()
+            .filter(order -> !canReach(order.getStatus(), newStatus))
+            .map(order -> order.getId() + " (" + order.getStatus() + ")")
+            .toList();
+        if (!blocked.isEmpty()) {
+            throw new IllegalStateException(
+                String.format("Cannot transition to %s: %s", newStatus, blocked)
+            );
+        }
+        if (ordersToChange.isEmpty()) {
+            return 0;
+        }
+
+        var ordersByPreviousStatus = ordersToChange.stream().collect(Collectors.groupingBy(
+            ManufacturingOrder::getStatus, () -> new EnumMap<>(OrderStatus.class), Collectors.toList()));
+        var changedAt = Instant.now();
+        for (var order : ordersToChange) {
+            var previousStatus = order.getStatus();
+            if (newStatus == OrderStatus.COMPLETED) {
+                order.complete(changedAt);
+            } else {
+                order.changeStatus(newStatus, changedAt);
+            }
+            capacityReservations.statusChanged(order, previousStatus);
+        }
+        repository.saveStatusChanges(ordersByPreviousStatus);
+
+        log.info("Manufacturing orders moved to {}: count={}", newStatus, ordersToChange.size());
+        return ordersToChange.size();
+    }
+
+    private static boolean canReach(OrderStatus currentStatus, OrderStatus newStatus) {
+        return currentStatus.canTransitionTo(newStatus)
+            || newStatus == OrderStatus.COMPLETED && currentStatus.canTransitionTo(OrderStatus.IN_PROGRESS);
+    }
+}
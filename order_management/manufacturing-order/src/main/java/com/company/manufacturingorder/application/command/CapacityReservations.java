@@ -0,0 +1,71 @@
+package com.company.manufacturingorder.application.command;
+
+import com.company.manufacturingorder.domain.model.ManufacturingOrder;
+import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.manufacturingorder.domain.service.ManufacturingOrderDomainService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Keeps the capacity ledger in step with status changes made in the current transaction.
+ * An order that is started takes its slot straight away; the slot counts as committed
+ * once the transaction commits and is given back if it rolls back. An order that leaves
+ * progress frees its slot only once the change is committed, so the slot is not handed
+ * out while the order still counts as in progress for everyone else. An order that is
+ * created holds a slot until its transaction completes, so concurrent creations cannot
+ * all pass the capacity check. Without a transaction everything settles immediately.
+ */
+@Component
+@RequiredArgsConstructor
+public class CapacityReservations {
+    private final ManufacturingOrderDomainService domainService;
+    
+    /**
+     * @throws IllegalStateException if the order was started and its product line is full
+     */
+    public void statusChanged(ManufacturingOrder order, OrderStatus previousStatus) {
+        var wasInProgress = previousStatus == OrderStatus.IN_PROGRESS;
+        if (!wasInProgress && order.isInProgress()) {
+            var reservation = domainService.reserveCapacity(order);
+            afterCompletion(committed -> {
+                if (committed) {
+                    reservation.confirm();
+                } else {
+                    reservation.cancel();
+                }
+            });
+        } else if (wasInProgress && !order.isInProgress()) {
+            var release = domainService.prepareCapacityRelease(order);
+            afterCompletion(committed -> {
+                if (committed) {
+                    release.commit();
+                }
+            });
+        }
+    }
+    
+    /**
+     * @throws IllegalStateException if the product line of the new order is full
+     */
+    public void orderCreated(ManufacturingOrder order) {
+        var reservation = domainService.reserveSchedulingCapacity(order);
+        afterCompletion(committed -> reservation.cancel());
+    }
+    
+    private static void afterCompletion(Consumer<Boolean> action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.company.manufacturingorder.application.command;
 
 import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.sharedkernel.RetryOnConflict;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -9,7 +10,9 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class ChangeOrderStatusHandler {
     private final ManufacturingOrderRepository repository;
+    private final CapacityReservations capacityReservations;
     
+    @RetryOnConflict
     @Transactional
     public void handle(ChangeOrderStatusCommand command) {
         var order = repository.findById(command.orderId())
@@ -17,7 +20,9 @@ public class ChangeOrderStatusHandler {
                 "Manufacturing order not found: " + command.orderId()
             ));
         
+        var previousStatus = order.getStatus();
         order.changeStatus(command.newStatus());
+        capacityReservations.statusChanged(order, previousStatus);
         
         repository.save(order);
     }
@@ -20,6 +20,7 @@ public class CreateManufacturingOrderHandler {
     
     private final ManufacturingOrderRepository repository;
     private final ManufacturingOrderDomainService domainService;
+    private final CapacityReservations capacityReservations;
     
     @Transactional
     public OrderId handle(CreateManufacturingOrderCommand command) {
@@ -49,6 +50,7 @@ public class CreateManufacturingOrderHandler {
             
             log.debug("Validating order scheduling for orderId={}", command.orderId());
             domainService.validateOrderScheduling(order);
+            capacityReservations.orderCreated(order);
             
             repository.save(order);
             
@@ -15,20 +15,6 @@ public class FindManufacturingOrderHandler {
     @Transactional(readOnly = true)
     public Optional<ManufacturingOrderDto> handle(FindManufacturingOrderQuery query) {
         return repository.findById(query.orderId())
-            .map(order -> new ManufacturingOrderDto(
-                order.getId(),
-                order.getProductSpecification().getProductCode(),
-                order.getProductSpecification().getDescription(),
-                order.getProductSpecification().getQuantity(),
-                order.getProductSpecification().getSpecifications(),
-                order.getStatus(),
-                order.getTimeline().getExpectedStartDate(),
-                order.getTimeline().getExpectedCompletionDate(),
-                order.getTimeline().getActualStartDate(),
-                order.getTimeline().getActualCompletionDate(),
-                order.getCreatedAt(),
-                order.getUpdatedAt(),
-                order.isOverdue()
-            ));
+            .map(ManufacturingOrderDto::from);
     }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.company.manufacturingorder.application.query;
+
+import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.sharedkernel.KeysetPage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Component
+@RequiredArgsConstructor
+public class ListManufacturingOrdersHandler {
+    private final ManufacturingOrderRepository repository;
+    
+    @Transactional(readOnly = true)
+    public KeysetPage<ManufacturingOrderDto> handle(ListManufacturingOrdersQuery query) {
+        var page = query.status() != null ? repository.findByStatus(query.status(), query.after(), query.limit())
+            : query.overdueOnly() ? repository.findOverdueOrders(query.after(), query.limit())
+            : repository.findAll(query.after(), query.limit());
+        return page.map(ManufacturingOrderDto::from);
+    }
+}
@@ -0,0 +1,23 @@
+package com.company.manufacturingorder.application.query;
+
+import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.sharedkernel.KeysetPage;
+import com.company.sharedkernel.PageCursor;
+
+/**
+ * Lists manufacturing orders by creation time, filtered by at most one of status or being
+ * overdue. {@code after} is null for the first page.
+ */
+public record ListManufacturingOrdersQuery(
+    OrderStatus status,
+    boolean overdueOnly,
+    PageCursor after,
+    int limit
+) {
+    public ListManufacturingOrdersQuery {
+        if (status != null && overdueOnly) {
+            throw new IllegalArgumentException("Orders can be filtered by status or being overdue, but not both");
+        }
+        KeysetPage.checkLimit(limit);
+    }
+}
@@ -1,6 +1,7 @@
 package com.company.manufacturingorder.application.query;
 
 import com.company.sharedkernel.OrderId;
+import com.company.manufacturingorder.domain.model.ManufacturingOrder;
 import com.company.manufacturingorder.domain.model.OrderStatus;
 
 import java.time.Instant;
@@ -19,4 +20,23 @@ public record ManufacturingOrderDto(
     Instant createdAt,
     Instant updatedAt,
     boolean isOverdue
-) {}
\ No newline at end of file
+) {
+    
+    public static ManufacturingOrderDto from(ManufacturingOrder order) {
+        return new ManufacturingOrderDto(
+            order.getId(),
+            order.getProductSpecification().getProductCode(),
+            order.getProductSpecification().getDescription(),
+            order.getProductSpecification().getQuantity(),
+            order.getProductSpecification().getSpecifications(),
+            order.getStatus(),
+            order.getTimeline().getExpectedStartDate(),
+            order.getTimeline().getExpectedCompletionDate(),
+            order.getTimeline().getActualStartDate(),
+            order.getTimeline().getActualCompletionDate(),
+            order.getCreatedAt(),
+            order.getUpdatedAt(),
+            order.isOverdue()
+        );
+    }
+}
\ No newline at end of file
@@ -1,13 +1,18 @@
 package com.company.manufacturingorder.application.service;
 
+import com.company.sharedkernel.KeysetPage;
 import com.company.sharedkernel.OrderId;
 import com.company.manufacturingorder.application.command.*;
 import com.company.manufacturingorder.application.query.FindManufacturingOrderQuery;
 import com.company.manufacturingorder.application.query.FindManufacturingOrderHandler;
+import com.company.manufacturingorder.application.query.ListManufacturingOrdersHandler;
+import com.company.manufacturingorder.application.query.ListManufacturingOrdersQuery;
 import com.company.manufacturingorder.application.query.ManufacturingOrderDto;
+import com.company.manufacturingorder.domain.model.OrderStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -16,7 +21,9 @@ public class ManufacturingOrderApplicationService {
     private final CreateManufacturingOrderHandler createHandler;
     private final ChangeOrderStatusHandler changeStatusHandler;
     private final CompleteManufacturingOrderHandler completeHandler;
+    private final BulkChangeOrderStatusHandler bulkChangeStatusHandler;
     private final FindManufacturingOrderHandler findHandler;
+    private final ListManufacturingOrdersHandler listHandler;
     
     public OrderId createOrder(CreateManufacturingOrderCommand command) {
         return createHandler.handle(command);
@@ -30,7 +37,23 @@ public class ManufacturingOrderApplicationService {
         completeHandler.handle(command);
     }
     
+    public int startOrders(List<OrderId> orderIds) {
+        return bulkChangeStatusHandler.handle(new BulkChangeOrderStatusCommand(orderIds, OrderStatus.IN_PROGRESS));
+    }
+    
+    public int completeOrders(List<OrderId> orderIds) {
+        return bulkChangeStatusHandler.handle(new BulkChangeOrderStatusCommand(orderIds, OrderStatus.COMPLETED));
+    }
+    
+    public int cancelOrders(List<OrderId> orderIds) {
+        return bulkChangeStatusHandler.handle(new BulkChangeOrderStatusCommand(orderIds, OrderStatus.CANCELLED));
+    }
+    
     public Optional<ManufacturingOrderDto> findOrder(OrderId orderId) {
         return findHandler.handle(new FindManufacturingOrderQuery(orderId));
     }
-}
\ No newline at end of file
+    
+    public KeysetPage<ManufacturingOrderDto> listOrders(ListManufacturingOrdersQuery query) {
+        return listHandler.handle(query);
+    }
+}
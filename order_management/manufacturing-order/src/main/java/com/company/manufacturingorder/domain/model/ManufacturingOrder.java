@@ -52,13 +52,18 @@ public class ManufacturingOrder extends AggregateRoot<OrderId> {
         return order;
     }
 
+    /**
+     * Rebuilds a stored order. {@code version} is the stored version it was read at, or
+     * {@code null} for an order that has not been stored yet.
+     */
     public static ManufacturingOrder reconstitute(
         OrderId orderId,
         ProductSpecification productSpecification,
         OrderStatus status,
         Timeline timeline,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        Long version
     ) {
         var order = new ManufacturingOrder();
         order.id = orderId;
@@ -67,13 +72,25 @@ public class ManufacturingOrder extends AggregateRoot<OrderId> {
         order.timeline = timeline;
         order.createdAt = createdAt;
         order.updatedAt = updatedAt;
+        order.restoreVersion(version);
         return order;
     }
 
     public void changeStatus(OrderStatus newStatus) {
+        changeStatus(newStatus, Instant.now());
+    }
+
+    /**
+     * Changes the status as of {@code changedAt}, so that orders changed together can
+     * share one timestamp with the rows written for them.
+     */
+    public void changeStatus(OrderStatus newStatus, Instant changedAt) {
         if (newStatus == null) {
             throw new IllegalArgumentException("New status cannot be null");
         }
+        if (changedAt == null) {
+            throw new IllegalArgumentException("Change time cannot be null");
+        }
 
         if (!status.canTransitionTo(newStatus)) {
             throw new IllegalStateException(
@@ -83,32 +100,35 @@ public class ManufacturingOrder extends AggregateRoot<OrderId> {
 
         var previousStatus = this.status;
         this.status = newStatus;
-        this.updatedAt = Instant.now();
+        this.updatedAt = changedAt;
 
         log.info("Manufacturing order status changed: orderId={}, from={}, to={}", id, previousStatus, newStatus);
         addDomainEvent(ManufacturingOrderStatusChanged.of(id, previousStatus.name(), newStatus.name()));
 
         if (newStatus == OrderStatus.IN_PROGRESS && timeline.getActualStartDate() == null) {
-            this.timeline = timeline.withActualStartDate(Instant.now());
+            this.timeline = timeline.withActualStartDate(changedAt);
         }
 
         if (newStatus == OrderStatus.COMPLETED) {
-            complete();
+            complete(changedAt);
         }
     }
 
     public void complete() {
+        complete(Instant.now());
+    }
+
+    public void complete(Instant completionTime) {
         if (status == OrderStatus.COMPLETED) {
             return; // Already completed
         }
         
         if (status == OrderStatus.PENDING) {
-            changeStatus(OrderStatus.IN_PROGRESS);
+            changeStatus(OrderStatus.IN_PROGRESS, completionTime);
         }
         
-        changeStatus(OrderStatus.COMPLETED);
+        changeStatus(OrderStatus.COMPLETED, completionTime);
         
-        var completionTime = Instant.now();
         this.timeline = timeline.withActualCompletionDate(completionTime);
         this.updatedAt = completionTime;
 
@@ -117,7 +137,11 @@ public class ManufacturingOrder extends AggregateRoot<OrderId> {
     }
 
     public void cancel() {
-        changeStatus(OrderStatus.CANCELLED);
+        cancel(Instant.now());
+    }
+
+    public void cancel(Instant cancelledAt) {
+        changeStatus(OrderStatus.CANCELLED, cancelledAt);
     }
 
     public boolean isOverdue() {
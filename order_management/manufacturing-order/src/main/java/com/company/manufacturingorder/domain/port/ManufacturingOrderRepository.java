@@ -1,25 +1,61 @@
 package com.company.manufacturingorder.domain.port;
 
+import com.company.sharedkernel.KeysetPage;
 import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.PageCursor;
 import com.company.manufacturingorder.domain.model.ManufacturingOrder;
 import com.company.manufacturingorder.domain.model.OrderStatus;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ManufacturingOrderRepository {
     
     Optional<ManufacturingOrder> findById(OrderId orderId);
     
-    List<ManufacturingOrder> findByStatus(OrderStatus status);
+    List<ManufacturingOrder> findAllById(Collection<OrderId> orderIds);
     
-    List<ManufacturingOrder> findOverdueOrders();
+    /**
+     * Lists below are ordered by creation time and id and read page by page: pass the
+     * next cursor of the previous page as {@code after}, or null for the first page.
+     */
+    KeysetPage<ManufacturingOrder> findByStatus(OrderStatus status, PageCursor after, int limit);
     
-    List<ManufacturingOrder> findAll();
+    KeysetPage<ManufacturingOrder> findOverdueOrders(PageCursor after, int limit);
+    
+    KeysetPage<ManufacturingOrder> findAll(PageCursor after, int limit);
+    
+    long countByStatus(OrderStatus status);
+    
+    /**
+     * @return the number of orders in {@code status} per product code, leaving out codes without any
+     */
+    Map<String, Long> countByProductCode(OrderStatus status);
     
     ManufacturingOrder save(ManufacturingOrder order);
     
+    /**
+     * Stores orders that were all moved to the same status at the same instant and
+     * publishes their events. The orders are given by the status each had before the
+     * change, and a row is only changed while it is still in that status and at the
+     * version the order was loaded at; if any order has changed in the meantime nothing
+     * is stored.
+     */
+    void saveStatusChanges(Map<OrderStatus, List<ManufacturingOrder>> ordersByPreviousStatus);
+    
     void delete(OrderId orderId);
     
     boolean existsById(OrderId orderId);
+    
+    /**
+     * Moves up to {@code limit} completed or cancelled orders last changed before
+     * {@code closedBefore} from the order table to the order archive. They can still be
+     * found by id afterwards, but no longer appear in any list or count.
+     *
+     * @return the number of orders moved
+     */
+    int archiveClosedOrders(Instant closedBefore, int limit);
 }
\ No newline at end of file
@@ -0,0 +1,200 @@
+package com.company.manufacturingorder.domain.service;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts the orders in progress per product line, so that admission is a map lookup
+ * rather than a query and two orders started at the same moment cannot both take the
+ * last free slot of their line.
+ *
+ * The product line of an order is the part of its product code before the first dash,
+ * in upper case: {@code PROD-001} belongs to {@code PROD}.
+ *
+ * A line counts its committed orders and, separately, the reservations still in flight:
+ * slots taken by transactions that have not completed yet. {@link #reconcile} replaces
+ * only the committed count with what is actually stored, so a reconciliation never frees
+ * the slot of an order that is being started and is not visible in the database yet.
+ * Where a reconciliation races a commit it cannot tell whether the stored count already
+ * included it, and the line counts the order twice until the next reconciliation; the
+ * ledger errs on the side of refusing a slot rather than overbooking. Orders started on
+ * other nodes only become visible here through the next reconciliation.
+ */
+public class CapacityLedger {
+    private final int defaultLimit;
+    private final Map<String, Integer> limits;
+    private final ConcurrentHashMap<String, Line> lines = new ConcurrentHashMap<>();
+
+    public CapacityLedger(int defaultLimit, Map<String, Integer> limits) {
+        if (defaultLimit <= 0) {
+            throw new IllegalArgumentException("Default capacity limit must be positive");
+        }
+        this.defaultLimit = defaultLimit;
+        this.limits = new HashMap<>();
+        limits.forEach((productLine, limit) -> {
+            if (limit == null || limit <= 0) {
+                throw new IllegalArgumentException("Capacity limit of product line " + productLine + " must be positive");
+            }
+            this.limits.put(productLine.toUpperCase(Locale.ROOT), limit);
+        });
+    }
+
+    public static String productLineOf(String productCode) {
+        var separator = productCode.indexOf('-');
+        var productLine = separator > 0 ? productCode.substring(0, separator) : productCode;
+        return productLine.toUpperCase(Locale.ROOT);
+    }
+
+    public int limitOf(String productLine) {
+        return limits.getOrDefault(productLine, defaultLimit);
+    }
+
+    /**
+     * @return the committed orders of the product line plus its reservations in flight
+     */
+    public int inProgress(String productLine) {
+        var line = lines.get(productLine);
+        return line != null ? line.taken() : 0;
+    }
+
+    public boolean hasCapacity(String productLine) {
+        return inProgress(productLine) < limitOf(productLine);
+    }
+
+    /**
+     * Takes a slot of the product line if one is free. The slot stays in flight until the
+     * reservation is confirmed or cancelled.
+     *
+     * @return the reservation, or empty if the line is full
+     */
+    public Optional<Reservation> tryReserve(String productLine) {
+        var line = lineOf(productLine);
+        return line.tryReserve(limitOf(productLine)) ? Optional.of(new Reservation(line)) : Optional.empty();
+    }
+
+    /**
+     * Prepares to free the slot of an order that is leaving progress. Call it before the
+     * change is committed and {@link Release#commit} once it is.
+     */
+    public Release prepareRelease(String productLine) {
+        var line = lineOf(productLine);
+        return new Release(line, line.generation());
+    }
+
+    /**
+     * Replaces the committed counts with the given numbers of orders in progress per
+     * product code. Product lines missing from the map have no committed orders; their
+     * reservations in flight are kept.
+     */
+    public void reconcile(Map<String, Long> inProgressByProductCode) {
+        var byProductLine = new HashMap<String, Integer>();
+        inProgressByProductCode.forEach((productCode, count) ->
+            byProductLine.merge(productLineOf(productCode), Math.toIntExact(count), Integer::sum));
+        byProductLine.keySet().forEach(this::lineOf);
+        lines.forEach((productLine, line) -> line.reconcile(byProductLine.getOrDefault(productLine, 0)));
+    }
+
+    private Line lineOf(String productLine) {
+        return lines.computeIfAbsent(productLine, key -> new Line());
+    }
+
+    /**
+     * A slot taken for an order that is being started or created.
+     */
+    public static final class Reservation {
+        private final Line line;
+        private boolean settled;
+
+        private Reservation(Line line) {
+            this.line = line;
+        }
+
+        /**
+         * Turns the slot into a committed one, once the order is stored as in progress.
+         */
+        public synchronized void confirm() {
+            if (!settled) {
+                settled = true;
+                line.confirm();
+            }
+        }
+
+        /**
+         * Gives the slot back, when the order did not end up in progress.
+         */
+        public synchronized void cancel() {
+            if (!settled) {
+                settled = true;
+                line.cancel();
+            }
+        }
+    }
+
+    /**
+     * The slot of an order leaving progress, freed on {@link #commit}.
+     */
+    public static final class Release {
+        private final Line line;
+        private final long generation;
+        private boolean committed;
+
+        private Release(Line line, long generation) {
+            this.line = line;
+            this.generation = generation;
+        }
+
+        public synchronized void commit() {
+            if (!committed) {
+                committed = true;
+                line.release(generation);
+            }
+        }
+    }
+
+    private static final class Line {
+        private int committed;
+        private int inFlight;
+        // Bumped by every reconciliation, which may or may not have seen a pending release
+        private long generation;
+
+        synchronized int taken() {
+            return committed + inFlight;
+        }
+
+        synchronized long generation() {
+            return generation;
+        }
+
+        synchronized boolean tryReserve(int limit) {
+            if (committed + inFlight >= limit) {
+                return false;
+            }
+            inFlight++;
+            return true;
+        }
+
+        synchronized void confirm() {
+            inFlight = Math.max(0, inFlight - 1);
+            committed++;
+        }
+
+        synchronized void cancel() {
+            inFlight = Math.max(0, inFlight - 1);
+        }
+
+        synchronized void release(long preparedGeneration) {
+            // A reconciliation since may already have left the order out; keep the slot until the next one
+            if (preparedGeneration == generation) {
+                committed = Math.max(0, committed - 1);
+            }
+        }
+
+        synchronized void reconcile(int stored) {
+            committed = stored;
+            generation++;
+        }
+    }
+}
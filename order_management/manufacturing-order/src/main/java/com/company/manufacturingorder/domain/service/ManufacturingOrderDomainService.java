@@ -2,28 +2,30 @@ package com.company.manufacturingorder.domain.service;
 
 import com.company.manufacturingorder.domain.model.ManufacturingOrder;
 import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.manufacturingorder.domain.model.ProductSpecification;
 import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
-
-import java.util.List;
+import com.company.sharedkernel.KeysetPage;
+import com.company.sharedkernel.PageCursor;
 
 public class ManufacturingOrderDomainService {
     private final ManufacturingOrderRepository repository;
+    private final CapacityLedger capacityLedger;
     
-    public ManufacturingOrderDomainService(ManufacturingOrderRepository repository) {
+    public ManufacturingOrderDomainService(ManufacturingOrderRepository repository, CapacityLedger capacityLedger) {
         this.repository = repository;
+        this.capacityLedger = capacityLedger;
     }
     
-    public boolean canScheduleNewOrder() {
-        List<ManufacturingOrder> inProgressOrders = repository.findByStatus(OrderStatus.IN_PROGRESS);
-        return inProgressOrders.size() < getMaxConcurrentOrders();
+    public boolean canScheduleNewOrder(ProductSpecification productSpecification) {
+        return capacityLedger.hasCapacity(productLineOf(productSpecification));
     }
     
-    public List<ManufacturingOrder> findOrdersRequiringAttention() {
-        return repository.findOverdueOrders();
+    public KeysetPage<ManufacturingOrder> findOrdersRequiringAttention(PageCursor after, int limit) {
+        return repository.findOverdueOrders(after, limit);
     }
     
     public void validateOrderScheduling(ManufacturingOrder order) {
-        if (!canScheduleNewOrder()) {
+        if (!canScheduleNewOrder(order.getProductSpecification())) {
             throw new IllegalStateException("Cannot schedule new order: maximum concurrent orders reached");
         }
         
@@ -32,7 +34,37 @@ public class ManufacturingOrderDomainService {
         }
     }
     
-    private int getMaxConcurrentOrders() {
-        return 10;
+    /**
+     * Takes a slot of the order's product line for an order that is being started.
+     */
+    public CapacityLedger.Reservation reserveCapacity(ManufacturingOrder order) {
+        var productLine = productLineOf(order.getProductSpecification());
+        return capacityLedger.tryReserve(productLine).orElseThrow(() -> new IllegalStateException(
+            "Cannot start order " + order.getId() + ": maximum concurrent orders reached for product line " + productLine
+        ));
+    }
+    
+    /**
+     * Takes a slot of the order's product line for an order that is being created, so that
+     * concurrent creations count against each other until they complete.
+     */
+    public CapacityLedger.Reservation reserveSchedulingCapacity(ManufacturingOrder order) {
+        return capacityLedger.tryReserve(productLineOf(order.getProductSpecification())).orElseThrow(() ->
+            new IllegalStateException("Cannot schedule new order: maximum concurrent orders reached"));
+    }
+    
+    public CapacityLedger.Release prepareCapacityRelease(ManufacturingOrder order) {
+        return capacityLedger.prepareRelease(productLineOf(order.getProductSpecification()));
+    }
+    
+    /**
+     * Resets the committed counts of the capacity ledger to the orders stored as in progress.
+     */
+    public void reconcileCapacity() {
+        capacityLedger.reconcile(repository.countByProductCode(OrderStatus.IN_PROGRESS));
+    }
+    
+    private static String productLineOf(ProductSpecification productSpecification) {
+        return CapacityLedger.productLineOf(productSpecification.getProductCode());
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,12 @@
 package com.company.manufacturingorder.adapter.in.rest;
 
+import com.company.manufacturingorder.application.query.ListManufacturingOrdersQuery;
 import com.company.manufacturingorder.application.query.ManufacturingOrderDto;
 import com.company.manufacturingorder.application.service.ManufacturingOrderApplicationService;
 import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.sharedkernel.KeysetPage;
 import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.PageCursor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,7 +20,9 @@ import org.springframework.context.annotation.Bean;
 import static org.mockito.Mockito.mock;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -129,6 +134,55 @@ class ManufacturingOrderControllerTest {
         verify(applicationService).completeOrder(any());
     }
 
+    @Test
+    @DisplayName("Should list manufacturing orders one page at a time")
+    void shouldListManufacturingOrdersPageByPage() throws Exception {
+        var cursor = new PageCursor(Instant.parse("2024-01-10T08:00:00Z"), UUID.randomUUID());
+        var nextCursor = new PageCursor(Instant.parse("2024-01-11T08:00:00Z"), UUID.randomUUID());
+        var order = new ManufacturingOrderDto(
+            OrderId.generate(), "PROD-001", "Test Product", 10, "Standard specifications",
+            OrderStatus.PENDING, Instant.parse("2024-01-15T10:00:00Z"), Instant.parse("2024-01-30T18:00:00Z"),
+            null, null, Instant.parse("2024-01-11T08:00:00Z"), Instant.parse("2024-01-11T08:00:00Z"), false
+        );
+        when(applicationService.listOrders(new ListManufacturingOrdersQuery(OrderStatus.PENDING, false, cursor, 1)))
+            .thenReturn(new KeysetPage<>(List.of(order), nextCursor));
+
+        mockMvc.perform(get("/api/manufacturing-orders")
+                .param("status", "PENDING")
+                .param("cursor", cursor.encode())
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].productCode").value("PROD-001"))
+                .andExpect(jsonPath("$.nextCursor").value(nextCursor.encode()));
+    }
+
+    @Test
+    @DisplayName("Should complete a set of manufacturing orders")
+    void shouldCompleteSetOfManufacturingOrders() throws Exception {
+        when(applicationService.completeOrders(any())).thenReturn(2);
+
+        String requestBody = """
+            {
+                "orderIds": [
+                    "123e4567-e89b-12d3-a456-426614174000",
+                    "123e4567-e89b-12d3-a456-426614174001"
+                ]
+            }
+            """;
+
+        mockMvc.perform(post("/api/manufacturing-orders/bulk/complete")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(requestBody))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changed").value(2));
+
+        verify(applicationService).completeOrders(List.of(
+            OrderId.of(UUID.fromString("123e4567-e89b-12d3-a456-426614174000")),
+            OrderId.of(UUID.fromString("123e4567-e89b-12d3-a456-426614174001"))
+        ));
+    }
+
     @Test
     @DisplayName("Should handle invalid order ID format")
     void shouldHandleInvalidOrderIdFormat() throws Exception {
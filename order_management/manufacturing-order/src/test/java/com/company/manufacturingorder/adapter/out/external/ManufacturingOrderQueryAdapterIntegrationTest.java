@@ -0,0 +1,162 @@
+package com.company.manufacturingorder.adapter.out.external;
+
+import com.company.manufacturingorder.adapter.out.persistence.ManufacturingOrderJpaEntity;
+import com.company.manufacturingorder.adapter.out.persistence.ManufacturingOrderJpaRepository;
+import com.company.manufacturingorder.adapter.out.persistence.ManufacturingOrderRepositoryAdapter;
+import com.company.manufacturingorder.adapter.out.persistence.ManufacturingOrderStatusCache;
+import com.company.manufacturingorder.adapter.out.persistence.RepositoryTestConfig;
+import com.company.manufacturingorder.domain.model.ManufacturingOrder;
+import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.manufacturingorder.domain.model.ProductSpecification;
+import com.company.manufacturingorder.domain.model.Timeline;
+import com.company.sharedkernel.OrderId;
+import com.company.manufacturingorder.application.port.ManufacturingOrderQueryPort;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.transaction.TestTransaction;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ContextConfiguration(classes = RepositoryTestConfig.class)
+@Import({ManufacturingOrderRepositoryAdapter.class, ManufacturingOrderQueryAdapter.class})
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.datasource.url=jdbc:h2:mem:testdb",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.show-sql=false"
+})
+class ManufacturingOrderQueryAdapterIntegrationTest {
+
+    @Autowired
+    private ManufacturingOrderQueryAdapter queryAdapter;
+
+    @Autowired
+    private ManufacturingOrderRepositoryAdapter repository;
+
+    @Autowired
+    private ManufacturingOrderJpaRepository jpaRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void shouldServeRepeatedLookupsFromCacheUntilStatusChanges() {
+        // Given
+        var orderId = OrderId.of(UUID.randomUUID());
+        var order = repository.save(createOrder(orderId));
+        var hits = cacheGets("hit");
+        var misses = cacheGets("miss");
+        
+        // When
+        var first = queryAdapter.getOrderStatus(orderId);
+        startBehindRepository(order);
+        var cached = queryAdapter.getOrderStatus(orderId);
+        var stored = repository.findById(orderId).orElseThrow();
+        stored.complete(Instant.now());
+        repository.save(stored);
+        var reloaded = queryAdapter.getOrderStatus(orderId);
+        
+        // Then
+        assertThat(first).hasValue(new ManufacturingOrderQueryPort.ManufacturingOrderStatus(
+            orderId, OrderStatus.PENDING, "PROD-001", 10));
+        assertThat(cached).isEqualTo(first);
+        assertThat(reloaded).get()
+            .extracting(ManufacturingOrderQueryPort.ManufacturingOrderStatus::status)
+            .isEqualTo(OrderStatus.COMPLETED);
+        assertThat(cacheGets("hit") - hits).isEqualTo(1);
+        assertThat(cacheGets("miss") - misses).isEqualTo(2);
+    }
+
+    @Test
+    void shouldEvictAgainOnceTheStatusChangeIsCommitted() {
+        // Given
+        var orderId = OrderId.of(UUID.randomUUID());
+        var order = repository.save(createOrder(orderId));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        
+        try {
+            // When
+            TestTransaction.start();
+            order.changeStatus(OrderStatus.IN_PROGRESS, Instant.now());
+            repository.saveStatusChanges(Map.of(OrderStatus.PENDING, List.of(order)));
+            // A lookup outside the transaction before it commits caches the old status
+            var beforeCommit = CompletableFuture.supplyAsync(() -> queryAdapter.getOrderStatus(orderId)).join();
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+            
+            // Then
+            assertThat(beforeCommit).get()
+                .extracting(ManufacturingOrderQueryPort.ManufacturingOrderStatus::status)
+                .isEqualTo(OrderStatus.PENDING);
+            assertThat(queryAdapter.getOrderStatus(orderId)).get()
+                .extracting(ManufacturingOrderQueryPort.ManufacturingOrderStatus::status)
+                .isEqualTo(OrderStatus.IN_PROGRESS);
+        } finally {
+            TestTransaction.start();
+            jpaRepository.deleteById(orderId.getValue());
+            TestTransaction.flagForCommit();
+            TestTransaction.end();
+        }
+    }
+
+    @Test
+    void shouldRememberUnknownOrderUntilItIsCreated() {
+        // Given
+        var orderId = OrderId.of(UUID.randomUUID());
+        var hits = cacheGets("hit");
+        
+        // When
+        var beforeCreation = queryAdapter.isOrderCompleted(orderId);
+        var missing = queryAdapter.getOrderStatus(orderId);
+        repository.save(createOrder(orderId));
+        
+        // Then
+        assertThat(beforeCreation).isFalse();
+        assertThat(missing).isEmpty();
+        assertThat(cacheGets("hit") - hits).isEqualTo(1);
+        assertThat(queryAdapter.getOrderStatus(orderId)).isPresent();
+    }
+
+    /**
+     * Stores the order as started behind the repository adapter, which leaves the cache as it is.
+     */
+    private void startBehindRepository(ManufacturingOrder order) {
+        jpaRepository.updateIfVersionMatches(order.getId().getValue(), order.getCreatedAt().truncatedTo(ChronoUnit.MICROS),
+            order.getVersion(), ManufacturingOrderJpaEntity.OrderStatusEntity.IN_PROGRESS, Instant.now(), Instant.now(), null);
+        entityManager.clear();
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+            .tags("cache", ManufacturingOrderStatusCache.CACHE_NAME, "result", result)
+            .functionCounter()
+            .count();
+    }
+
+    private static ManufacturingOrder createOrder(OrderId orderId) {
+        return ManufacturingOrder.create(
+            orderId,
+            ProductSpecification.of("PROD-001", "Test Product", 10, "Standard specifications"),
+            Timeline.create(Instant.now().plus(1, ChronoUnit.DAYS), Instant.now().plus(7, ChronoUnit.DAYS))
+        );
+    }
+}
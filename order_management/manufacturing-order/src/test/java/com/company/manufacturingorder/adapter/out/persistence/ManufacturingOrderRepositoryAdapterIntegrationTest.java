@@ -2,6 +2,8 @@ package com.company.manufacturingorder.adapter.out.persistence;
 
 import com.company.sharedkernel.DomainEvent;
 import com.company.sharedkernel.DomainEventPublisher;
+import com.company.sharedkernel.OrderArchive;
+import com.company.sharedkernel.OrderArchive.AggregateType;
 import com.company.sharedkernel.OrderId;
 import com.company.manufacturingorder.config.TestConfiguration;
 import com.company.manufacturingorder.domain.model.ManufacturingOrder;
@@ -14,20 +16,31 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @DataJpaTest
 @Import({RepositoryTestConfig.class, ManufacturingOrderRepositoryAdapter.class})
@@ -48,13 +61,19 @@ class ManufacturingOrderRepositoryAdapterIntegrationTest {
     @Autowired
     private DomainEventPublisher eventPublisher;
 
+    @Autowired
+    private OrderArchive archive;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
     private OrderId testOrderId;
     private ProductSpecification testProductSpec;
     private Timeline testTimeline;
 
     @BeforeEach
     void setUp() {
-        reset(eventPublisher);
+        reset(eventPublisher, archive);
         testOrderId = OrderId.of(UUID.randomUUID());
         testProductSpec = ProductSpecification.of(
             "PROD-001",
@@ -83,10 +102,10 @@ class ManufacturingOrderRepositoryAdapterIntegrationTest {
         assertThat(savedOrder.getStatus()).isEqualTo(OrderStatus.PENDING);
         
         // Verify domain events were published
-        ArgumentCaptor<DomainEvent> eventCaptor = ArgumentCaptor.forClass(DomainEvent.class);
-        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+        var publishedEvents = publishedEvents();
+        assertThat(publishedEvents).hasSize(1);
         
-        DomainEvent publishedEvent = eventCaptor.getValue();
+        DomainEvent publishedEvent = publishedEvents.getFirst();
         assertThat(publishedEvent.eventType()).isEqualTo("ManufacturingOrderCreated");
     }
 
@@ -117,11 +136,12 @@ class ManufacturingOrderRepositoryAdapterIntegrationTest {
         repository.save(order2);
         
         // When
-        var pendingOrders = repository.findByStatus(OrderStatus.PENDING);
+        var pendingOrders = repository.findByStatus(OrderStatus.PENDING, null, 10);
         
         // Then
-        assertThat(pendingOrders).hasSize(2);
-        assertThat(pendingOrders)
+        assertThat(pendingOrders.items()).hasSize(2);
+        assertThat(pendingOrders.hasNext()).isFalse();
+        assertThat(pendingOrders.items())
             .extracting(ManufacturingOrder::getStatus)
             .containsOnly(OrderStatus.PENDING);
     }
@@ -142,7 +162,7 @@ class ManufacturingOrderRepositoryAdapterIntegrationTest {
         assertThat(updatedOrder.get().getStatus()).isEqualTo(OrderStatus.IN_PROGRESS);
         
         // Verify events were published (create + status change)
-        verify(eventPublisher, times(2)).publishEvent(any(DomainEvent.class));
+        assertThat(publishedEvents()).hasSize(2);
     }
 
     @Test
@@ -161,7 +181,7 @@ class ManufacturingOrderRepositoryAdapterIntegrationTest {
         repository.save(normalOrder);
         
         // When
-        var overdueOrders = repository.findOverdueOrders();
+        var overdueOrders = repository.findOverdueOrders(null, 10).items();
         
         // Then
         assertThat(overdueOrders).hasSize(1);
@@ -205,10 +225,75 @@ class ManufacturingOrderRepositoryAdapterIntegrationTest {
         repository.save(order2);
         
         // When
-        var allOrders = repository.findAll();
+        var allOrders = repository.findAll(null, 10);
+        
+        // Then
+        assertThat(allOrders.items()).hasSize(2);
+    }
+
+    @Test
+    void shouldReadAllOrdersPageByPageInCreationOrder() {
+        // Given - orders created at the same instant are ordered by id
+        var createdAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        for (int i = 0; i < 5; i++) {
+            var entity = jpaRepository.save(new ManufacturingOrderJpaEntity(
+                UUID.randomUUID(), "PROD-00" + i, "Test Product", 10, "Standard specifications",
+                ManufacturingOrderJpaEntity.OrderStatusEntity.PENDING,
+                testTimeline.getExpectedStartDate(), testTimeline.getExpectedCompletionDate(),
+                null, null, i < 3 ? createdAt : createdAt.plusSeconds(i), createdAt, null));
+        }
+        
+        // When
+        var firstPage = repository.findAll(null, 2);
+        var secondPage = repository.findAll(firstPage.nextCursor(), 2);
+        var lastPage = repository.findAll(secondPage.nextCursor(), 2);
         
         // Then
-        assertThat(allOrders).hasSize(2);
+        var ids = Stream.of(firstPage, secondPage, lastPage)
+            .flatMap(page -> page.items().stream())
+            .map(ManufacturingOrder::getId)
+            .toList();
+        var expectedIds = jpaRepository.findAll().stream()
+            .sorted(Comparator.comparing(ManufacturingOrderJpaEntity::getCreatedAt))
+            .map(entity -> OrderId.of(entity.getId()))
+            .toList();
+        assertThat(ids).doesNotHaveDuplicates().hasSize(5);
+        assertThat(ids.subList(3, 5)).isEqualTo(expectedIds.subList(3, 5));
+        assertThat(ids.subList(0, 3)).containsExactlyInAnyOrderElementsOf(expectedIds.subList(0, 3));
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.hasNext()).isTrue();
+        assertThat(lastPage.items()).hasSize(1);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @Test
+    void shouldCountOrdersByStatus() {
+        // Given
+        repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        var started = ManufacturingOrder.create(OrderId.of(UUID.randomUUID()), testProductSpec, testTimeline);
+        started.changeStatus(OrderStatus.IN_PROGRESS);
+        repository.save(started);
+        
+        // When & Then
+        assertThat(repository.countByStatus(OrderStatus.IN_PROGRESS)).isEqualTo(1);
+        assertThat(repository.countByStatus(OrderStatus.COMPLETED)).isZero();
+    }
+
+    @Test
+    void shouldCountOrdersOfStatusPerProductCode() {
+        // Given
+        var otherProductSpec = ProductSpecification.of("AUTO-1", "Other Product", 1, "Other specs");
+        for (var productSpec : List.of(testProductSpec, testProductSpec, otherProductSpec)) {
+            var started = ManufacturingOrder.create(OrderId.of(UUID.randomUUID()), productSpec, testTimeline);
+            started.changeStatus(OrderStatus.IN_PROGRESS);
+            repository.save(started);
+        }
+        repository.save(ManufacturingOrder.create(testOrderId, otherProductSpec, testTimeline));
+        
+        // When & Then
+        assertThat(repository.countByProductCode(OrderStatus.IN_PROGRESS))
+            .containsExactlyInAnyOrderEntriesOf(Map.of(testProductSpec.getProductCode(), 2L, "AUTO-1", 1L));
+        assertThat(repository.countByProductCode(OrderStatus.COMPLETED)).isEmpty();
     }
 
     @Test
@@ -229,6 +314,222 @@ class ManufacturingOrderRepositoryAdapterIntegrationTest {
         assertThat(completedOrder.get().isCompleted()).isTrue();
         
         // Verify all events were published (create + in_progress + status_change_to_completed + completed)
-        verify(eventPublisher, times(4)).publishEvent(any(DomainEvent.class));
+        assertThat(publishedEvents()).hasSize(4);
+    }
+
+    @Test
+    void shouldStoreStatusChangesOfSetAndPublishTheirEvents() {
+        // Given
+        var pending = repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        var started = ManufacturingOrder.create(OrderId.of(UUID.randomUUID()), testProductSpec, testTimeline);
+        var startedAt = Instant.now().minus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.MILLIS);
+        started.changeStatus(OrderStatus.IN_PROGRESS, startedAt);
+        started = repository.save(started);
+        reset(eventPublisher);
+        
+        // When
+        var completedAt = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        pending.complete(completedAt);
+        started.complete(completedAt);
+        repository.saveStatusChanges(Map.of(OrderStatus.PENDING, List.of(pending), OrderStatus.IN_PROGRESS, List.of(started)));
+        
+        // Then
+        var storedPending = repository.findById(pending.getId()).orElseThrow();
+        assertThat(storedPending.getStatus()).isEqualTo(OrderStatus.COMPLETED);
+        assertThat(storedPending.getTimeline().getActualStartDate()).isEqualTo(completedAt);
+        assertThat(storedPending.getTimeline().getActualCompletionDate()).isEqualTo(completedAt);
+        var storedStarted = repository.findById(started.getId()).orElseThrow();
+        assertThat(storedStarted.getTimeline().getActualStartDate()).isEqualTo(startedAt);
+        assertThat(storedStarted.getUpdatedAt()).isEqualTo(completedAt);
+        
+        // pending: to in_progress + to completed + completed; started: to completed + completed
+        verify(eventPublisher).publishAll(anyList());
+        assertThat(publishedEvents()).hasSize(5);
+    }
+
+    @Test
+    void shouldStoreNothingWhenAnOrderOfSetHasMovedOn() {
+        // Given
+        var first = repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        var second = repository.save(ManufacturingOrder.create(
+            OrderId.of(UUID.randomUUID()), testProductSpec, testTimeline));
+        var concurrentCopy = repository.findById(second.getId()).orElseThrow();
+        concurrentCopy.cancel();
+        repository.save(concurrentCopy);
+        reset(eventPublisher);
+        
+        // When
+        var startedAt = Instant.now();
+        first.changeStatus(OrderStatus.IN_PROGRESS, startedAt);
+        second.changeStatus(OrderStatus.IN_PROGRESS, startedAt);
+        
+        // Then
+        assertThatThrownBy(() -> repository.saveStatusChanges(Map.of(OrderStatus.PENDING, List.of(first, second))))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(eventPublisher, never()).publishAll(anyList());
+    }
+
+    @Test
+    void shouldStoreNothingWhenAnOrderOfSetMovedToAnotherPreviousStatusOfTheSet() {
+        // Given
+        var pending = repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        var started = ManufacturingOrder.create(OrderId.of(UUID.randomUUID()), testProductSpec, testTimeline);
+        started.changeStatus(OrderStatus.IN_PROGRESS);
+        started = repository.save(started);
+        var concurrentCopy = repository.findById(pending.getId()).orElseThrow();
+        concurrentCopy.changeStatus(OrderStatus.IN_PROGRESS);
+        repository.save(concurrentCopy);
+        reset(eventPublisher);
+        
+        // When
+        var completedAt = Instant.now();
+        pending.complete(completedAt);
+        started.complete(completedAt);
+        var ordersByPreviousStatus = Map.of(OrderStatus.PENDING, List.of(pending), OrderStatus.IN_PROGRESS, List.of(started));
+        
+        // Then
+        assertThatThrownBy(() -> repository.saveStatusChanges(ordersByPreviousStatus))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(eventPublisher, never()).publishAll(anyList());
+    }
+
+    @Test
+    void shouldStoreNothingWhenAnOrderOfSetWasChangedInItsPreviousStatus() {
+        // Given
+        var first = repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        var second = repository.save(ManufacturingOrder.create(
+            OrderId.of(UUID.randomUUID()), testProductSpec, testTimeline));
+        // A concurrent save that leaves the order pending
+        jpaRepository.updateIfVersionMatches(second.getId().getValue(), second.getCreatedAt().truncatedTo(ChronoUnit.MICROS),
+            second.getVersion(), ManufacturingOrderJpaEntity.OrderStatusEntity.PENDING, Instant.now(), null, null);
+        reset(eventPublisher);
+        
+        // When
+        var startedAt = Instant.now();
+        first.changeStatus(OrderStatus.IN_PROGRESS, startedAt);
+        second.changeStatus(OrderStatus.IN_PROGRESS, startedAt);
+        
+        // Then
+        assertThatThrownBy(() -> repository.saveStatusChanges(Map.of(OrderStatus.PENDING, List.of(first, second))))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(eventPublisher, never()).publishAll(anyList());
+    }
+
+    @Test
+    void shouldDetachOnlyTheChangedOrdersOfSet() {
+        // Given
+        var changed = repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        var untouched = repository.save(ManufacturingOrder.create(
+            OrderId.of(UUID.randomUUID()), testProductSpec, testTimeline));
+        var untouchedEntity = jpaRepository.findById(untouched.getId().getValue()).orElseThrow();
+        
+        // When
+        changed.changeStatus(OrderStatus.IN_PROGRESS, Instant.now());
+        repository.saveStatusChanges(Map.of(OrderStatus.PENDING, List.of(changed)));
+        
+        // Then
+        assertThat(entityManager.getEntityManager().contains(untouchedEntity)).isTrue();
+        assertThat(jpaRepository.findById(changed.getId().getValue()).orElseThrow().getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldIncrementVersionOnEverySave() {
+        // Given
+        var order = repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        assertThat(order.getVersion()).isZero();
+        
+        // When
+        order.changeStatus(OrderStatus.IN_PROGRESS);
+        repository.save(order);
+        
+        // Then
+        assertThat(order.getVersion()).isEqualTo(1);
+        assertThat(jpaRepository.findById(testOrderId.getValue()).orElseThrow().getVersion()).isEqualTo(1);
+        assertThat(repository.findById(testOrderId).orElseThrow().getTimeline().getActualStartDate())
+            .isCloseTo(order.getTimeline().getActualStartDate(), within(1, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    void shouldRejectSaveOfStaleOrder() {
+        // Given
+        repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        var first = repository.findById(testOrderId).orElseThrow();
+        var second = repository.findById(testOrderId).orElseThrow();
+        first.changeStatus(OrderStatus.IN_PROGRESS);
+        repository.save(first);
+        reset(eventPublisher);
+        
+        // When & Then
+        second.cancel();
+        assertThatThrownBy(() -> repository.save(second))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        assertThat(repository.findById(testOrderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.IN_PROGRESS);
+        verify(eventPublisher, never()).publishAll(anyList());
+    }
+
+    @Test
+    void shouldRejectSaveOfCopyLoadedBeforeStatusChangesOfSet() {
+        // Given
+        var order = repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        var staleCopy = repository.findById(testOrderId).orElseThrow();
+        
+        // When
+        order.changeStatus(OrderStatus.IN_PROGRESS, Instant.now());
+        repository.saveStatusChanges(Map.of(OrderStatus.PENDING, List.of(order)));
+        
+        // Then
+        assertThat(order.getVersion()).isEqualTo(1);
+        staleCopy.cancel();
+        assertThatThrownBy(() -> repository.save(staleCopy))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMoveClosedOrdersToArchiveAndStillFindThemById() {
+        // Given
+        var cancelledOrder = repository.save(ManufacturingOrder.create(testOrderId, testProductSpec, testTimeline));
+        cancelledOrder.cancel();
+        repository.save(cancelledOrder);
+        var pendingOrderId = OrderId.of(UUID.randomUUID());
+        repository.save(ManufacturingOrder.create(pendingOrderId, testProductSpec, testTimeline));
+        var storedOrder = repository.findById(testOrderId).orElseThrow();
+        
+        // When
+        var archived = repository.archiveClosedOrders(Instant.now().plusSeconds(1), 10);
+        
+        // Then
+        assertThat(archived).isEqualTo(1);
+        assertThat(jpaRepository.findById(testOrderId.getValue())).isEmpty();
+        assertThat(jpaRepository.findById(pendingOrderId.getValue())).isPresent();
+        
+        ArgumentCaptor<Map<OrderId, byte[]>> storedCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(archive).store(eq(AggregateType.MANUFACTURING_ORDER), storedCaptor.capture());
+        assertThat(storedCaptor.getValue()).containsOnlyKeys(testOrderId);
+        when(archive.find(AggregateType.MANUFACTURING_ORDER, testOrderId))
+            .thenReturn(Optional.of(storedCaptor.getValue().get(testOrderId)));
+        when(archive.contains(AggregateType.MANUFACTURING_ORDER, testOrderId)).thenReturn(true);
+        
+        var archivedOrder = repository.findById(testOrderId).orElseThrow();
+        assertThat(archivedOrder.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(archivedOrder.getProductSpecification()).isEqualTo(testProductSpec);
+        assertThat(archivedOrder.getTimeline()).isEqualTo(storedOrder.getTimeline());
+        assertThat(archivedOrder.getCreatedAt()).isEqualTo(storedOrder.getCreatedAt());
+        assertThat(archivedOrder.getUpdatedAt()).isEqualTo(storedOrder.getUpdatedAt());
+        assertThat(archivedOrder.getVersion()).isEqualTo(storedOrder.getVersion());
+        assertThat(repository.existsById(testOrderId)).isTrue();
+        assertThat(repository.countByStatus(OrderStatus.CANCELLED)).isZero();
+        assertThatThrownBy(() -> repository.save(archivedOrder))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("is archived");
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<DomainEvent> publishedEvents() {
+        ArgumentCaptor<List<DomainEvent>> batchCaptor = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher, atLeastOnce()).publishAll(batchCaptor.capture());
+        return batchCaptor.getAllValues().stream()
+            .flatMap(List::stream)
+            .toList();
     }
-}
\ No newline at end of file
+}
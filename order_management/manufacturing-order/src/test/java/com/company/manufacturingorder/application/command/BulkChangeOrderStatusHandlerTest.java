@@ -0,0 +1,127 @@
+package com.company.manufacturingorder.application.command;
+
+import com.company.manufacturingorder.domain.model.ManufacturingOrder;
+import com.company.manufacturingorder.domain.model.OrderStatus;
+import com.company.manufacturingorder.domain.model.ProductSpecification;
+import com.company.manufacturingorder.domain.model.Timeline;
+import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.manufacturingorder.domain.service.CapacityLedger;
+import com.company.manufacturingorder.domain.service.ManufacturingOrderDomainService;
+import com.company.sharedkernel.OrderId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Bulk Change Order Status Handler Tests")
+class BulkChangeOrderStatusHandlerTest {
+
+    @Mock
+    private ManufacturingOrderRepository repository;
+
+    private BulkChangeOrderStatusHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        var capacityLedger = new CapacityLedger(10, Map.of("PROD", 2));
+        var domainService = new ManufacturingOrderDomainService(repository, capacityLedger);
+        handler = new BulkChangeOrderStatusHandler(repository, new CapacityReservations(domainService));
+    }
+
+    @Test
+    @DisplayName("Should complete pending and started orders with one shared timestamp")
+    void shouldCompleteOrdersTogether() {
+        var pending = createTestOrder(OrderStatus.PENDING);
+        var started = createTestOrder(OrderStatus.IN_PROGRESS);
+        var completed = createTestOrder(OrderStatus.COMPLETED);
+        var orders = List.of(pending, started, completed);
+        when(repository.findAllById(any())).thenReturn(orders);
+
+        int changed = handler.handle(new BulkChangeOrderStatusCommand(
+            orders.stream().map(ManufacturingOrder::getId).toList(), OrderStatus.COMPLETED));
+
+        assertEquals(2, changed);
+        assertEquals(OrderStatus.COMPLETED, pending.getStatus());
+        assertEquals(pending.getUpdatedAt(), started.getUpdatedAt());
+        assertEquals(pending.getUpdatedAt(), pending.getTimeline().getActualStartDate());
+        verify(repository).saveStatusChanges(Map.of(OrderStatus.PENDING, List.of(pending), OrderStatus.IN_PROGRESS, List.of(started)));
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should change no order when one of them cannot make the transition")
+    void shouldRejectWholeSetWhenOneTransitionIsInvalid() {
+        var pending = createTestOrder(OrderStatus.PENDING);
+        var cancelled = createTestOrder(OrderStatus.CANCELLED);
+        when(repository.findAllById(any())).thenReturn(List.of(pending, cancelled));
+
+        var command = new BulkChangeOrderStatusCommand(
+            List.of(pending.getId(), cancelled.getId()), OrderStatus.IN_PROGRESS);
+        var exception = assertThrows(IllegalStateException.class, () -> handler.handle(command));
+
+        assertTrue(exception.getMessage().contains(cancelled.getId().toString()));
+        assertEquals(OrderStatus.PENDING, pending.getStatus());
+        verify(repository, never()).saveStatusChanges(any());
+    }
+
+    @Test
+    @DisplayName("Should not start more orders than their product line has room for")
+    void shouldRejectStartingMoreOrdersThanCapacityAllows() {
+        var orders = List.of(
+            createTestOrder(OrderStatus.PENDING),
+            createTestOrder(OrderStatus.PENDING),
+            createTestOrder(OrderStatus.PENDING)
+        );
+        when(repository.findAllById(any())).thenReturn(orders);
+
+        var command = new BulkChangeOrderStatusCommand(
+            orders.stream().map(ManufacturingOrder::getId).toList(), OrderStatus.IN_PROGRESS);
+        var exception = assertThrows(IllegalStateException.class, () -> handler.handle(command));
+
+        assertTrue(exception.getMessage().contains("product line PROD"));
+        verify(repository, never()).saveStatusChanges(any());
+    }
+
+    @Test
+    @DisplayName("Should report orders that do not exist")
+    void shouldThrowExceptionWhenOrdersNotFound() {
+        var pending = createTestOrder(OrderStatus.PENDING);
+        var missingId = OrderId.generate();
+        when(repository.findAllById(Set.of(pending.getId(), missingId))).thenReturn(List.of(pending));
+
+        var command = new BulkChangeOrderStatusCommand(List.of(pending.getId(), missingId), OrderStatus.CANCELLED);
+        var exception = assertThrows(IllegalArgumentException.class, () -> handler.handle(command));
+
+        assertTrue(exception.getMessage().contains(missingId.toString()));
+        verify(repository, never()).saveStatusChanges(any());
+    }
+
+    private ManufacturingOrder createTestOrder(OrderStatus status) {
+        var order = ManufacturingOrder.create(
+            OrderId.generate(),
+            ProductSpecification.of("PROD-001", "Test Product", 10, "Standard specifications"),
+            Timeline.create(Instant.now().plus(1, ChronoUnit.DAYS), Instant.now().plus(7, ChronoUnit.DAYS))
+        );
+        switch (status) {
+            case IN_PROGRESS -> order.changeStatus(OrderStatus.IN_PROGRESS);
+            case COMPLETED -> order.complete();
+            case CANCELLED -> order.cancel();
+            case PENDING -> { }
+        }
+        order.clearDomainEvents();
+        return order;
+    }
+}
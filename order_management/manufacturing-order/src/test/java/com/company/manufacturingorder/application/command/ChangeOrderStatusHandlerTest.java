@@ -5,6 +5,7 @@ import com.company.manufacturingorder.domain.model.OrderStatus;
 import com.company.manufacturingorder.domain.model.ProductSpecification;
 import com.company.manufacturingorder.domain.model.Timeline;
 import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.manufacturingorder.domain.service.CapacityLedger;
 import com.company.manufacturingorder.domain.service.ManufacturingOrderDomainService;
 import com.company.sharedkernel.OrderId;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -35,7 +37,9 @@ class ChangeOrderStatusHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new ChangeOrderStatusHandler(repository);
+        var capacityReservations = new CapacityReservations(
+            new ManufacturingOrderDomainService(repository, new CapacityLedger(10, Map.of())));
+        handler = new ChangeOrderStatusHandler(repository, capacityReservations);
     }
 
     @Test
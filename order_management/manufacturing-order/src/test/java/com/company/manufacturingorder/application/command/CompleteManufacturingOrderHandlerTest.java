@@ -5,6 +5,8 @@ import com.company.manufacturingorder.domain.model.OrderStatus;
 import com.company.manufacturingorder.domain.model.ProductSpecification;
 import com.company.manufacturingorder.domain.model.Timeline;
 import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.manufacturingorder.domain.service.CapacityLedger;
+import com.company.manufacturingorder.domain.service.ManufacturingOrderDomainService;
 import com.company.sharedkernel.OrderId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -31,7 +34,9 @@ class CompleteManufacturingOrderHandlerTest {
 
     @BeforeEach
     void setUp() {
-        handler = new CompleteManufacturingOrderHandler(repository);
+        var capacityReservations = new CapacityReservations(
+            new ManufacturingOrderDomainService(repository, new CapacityLedger(10, Map.of())));
+        handler = new CompleteManufacturingOrderHandler(repository, capacityReservations);
     }
 
     @Test
@@ -31,11 +31,14 @@ class CreateManufacturingOrderHandlerTest {
     @Mock
     private ManufacturingOrderDomainService domainService;
 
+    @Mock
+    private CapacityReservations capacityReservations;
+
     private CreateManufacturingOrderHandler handler;
 
     @BeforeEach
     void setUp() {
-        handler = new CreateManufacturingOrderHandler(repository, domainService);
+        handler = new CreateManufacturingOrderHandler(repository, domainService, capacityReservations);
     }
 
     @Test
@@ -53,6 +56,7 @@ class CreateManufacturingOrderHandlerTest {
         OrderId result = handler.handle(command);
 
         assertNotNull(result);
+        verify(capacityReservations).orderCreated(any(ManufacturingOrder.class));
         verify(repository).save(any(ManufacturingOrder.class));
     }
 
@@ -83,6 +83,20 @@ class ManufacturingOrderTest {
         assertEquals(2, order.getDomainEvents().size());
     }
 
+    @Test
+    @DisplayName("Should hand out pending events in order and clear them")
+    void shouldPullDomainEventsInOrder() {
+        ManufacturingOrder order = ManufacturingOrder.create(orderId, productSpec, timeline);
+        order.changeStatus(OrderStatus.IN_PROGRESS);
+
+        var events = order.pullDomainEvents();
+
+        assertEquals(2, events.size());
+        assertTrue(events.get(0) instanceof ManufacturingOrderCreated);
+        assertTrue(events.get(1) instanceof ManufacturingOrderStatusChanged);
+        assertTrue(order.getDomainEvents().isEmpty());
+    }
+
     @Test
     @DisplayName("Should cancel order from any non-terminal status")
     void shouldCancelOrderFromAnyNonTerminalStatus() {
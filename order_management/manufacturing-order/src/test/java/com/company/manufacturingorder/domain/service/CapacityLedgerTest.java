@@ -0,0 +1,127 @@
+package com.company.manufacturingorder.domain.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Capacity Ledger Tests")
+class CapacityLedgerTest {
+
+    @Test
+    @DisplayName("Should derive the product line from the product code")
+    void shouldDeriveProductLineFromProductCode() {
+        assertEquals("PROD", CapacityLedger.productLineOf("PROD-001"));
+        assertEquals("AUTO", CapacityLedger.productLineOf("auto-1700000000000"));
+        assertEquals("WIDGET", CapacityLedger.productLineOf("widget"));
+    }
+
+    @Test
+    @DisplayName("Should use the limit of the product line or the default limit")
+    void shouldUseConfiguredLimits() {
+        var ledger = new CapacityLedger(10, Map.of("auto", 2));
+
+        assertEquals(2, ledger.limitOf("AUTO"));
+        assertEquals(10, ledger.limitOf("PROD"));
+    }
+
+    @Test
+    @DisplayName("Should never hand out more slots than the limit to concurrent callers")
+    void shouldNotOverbookUnderConcurrency() throws InterruptedException {
+        var ledger = new CapacityLedger(10, Map.of("PROD", 5));
+        var reserved = new AtomicInteger();
+        var start = new CountDownLatch(1);
+
+        try (var executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 100; i++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    if (ledger.tryReserve("PROD").isPresent()) {
+                        reserved.incrementAndGet();
+                    }
+                });
+            }
+            start.countDown();
+        }
+
+        assertEquals(5, reserved.get());
+        assertEquals(5, ledger.inProgress("PROD"));
+        assertFalse(ledger.hasCapacity("PROD"));
+    }
+
+    @Test
+    @DisplayName("Should replace its committed counts with the stored ones on reconciliation")
+    void shouldReconcileFromStoredCounts() {
+        var ledger = new CapacityLedger(10, Map.of());
+        ledger.tryReserve("PROD").orElseThrow().confirm();
+        ledger.tryReserve("OLD").orElseThrow().confirm();
+
+        ledger.reconcile(Map.of("PROD-001", 3L, "PROD-002", 4L, "AUTO-1", 1L));
+
+        assertEquals(7, ledger.inProgress("PROD"));
+        assertEquals(1, ledger.inProgress("AUTO"));
+        assertEquals(0, ledger.inProgress("OLD"));
+    }
+
+    @Test
+    @DisplayName("Should keep reservations in flight across reconciliation")
+    void shouldKeepReservationsInFlightOnReconciliation() {
+        var ledger = new CapacityLedger(10, Map.of("PROD", 3));
+        var reservation = ledger.tryReserve("PROD").orElseThrow();
+
+        ledger.reconcile(Map.of("PROD-001", 2L));
+
+        assertEquals(3, ledger.inProgress("PROD"));
+        assertTrue(ledger.tryReserve("PROD").isEmpty());
+        reservation.cancel();
+        assertEquals(2, ledger.inProgress("PROD"));
+    }
+
+    @Test
+    @DisplayName("Should count a confirmed reservation as committed and a cancelled one not at all")
+    void shouldSettleReservations() {
+        var ledger = new CapacityLedger(10, Map.of());
+        var confirmed = ledger.tryReserve("PROD").orElseThrow();
+        var cancelled = ledger.tryReserve("PROD").orElseThrow();
+
+        confirmed.confirm();
+        cancelled.cancel();
+        cancelled.cancel();
+
+        assertEquals(1, ledger.inProgress("PROD"));
+    }
+
+    @Test
+    @DisplayName("Should keep a slot whose release was prepared before a reconciliation")
+    void shouldNotReleaseAcrossReconciliation() {
+        var ledger = new CapacityLedger(10, Map.of());
+        ledger.reconcile(Map.of("PROD-001", 2L));
+        var release = ledger.prepareRelease("PROD");
+
+        // The stored count may already leave the released order out
+        ledger.reconcile(Map.of("PROD-001", 1L));
+        release.commit();
+
+        assertEquals(1, ledger.inProgress("PROD"));
+    }
+
+    @Test
+    @DisplayName("Should not count below zero")
+    void shouldNotReleaseBelowZero() {
+        var ledger = new CapacityLedger(10, Map.of());
+
+        ledger.prepareRelease("PROD").commit();
+
+        assertEquals(0, ledger.inProgress("PROD"));
+    }
+}
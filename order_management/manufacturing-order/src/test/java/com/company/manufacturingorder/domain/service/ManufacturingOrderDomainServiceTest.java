@@ -5,6 +5,7 @@ import com.company.manufacturingorder.domain.model.OrderStatus;
 import com.company.manufacturingorder.domain.model.ProductSpecification;
 import com.company.manufacturingorder.domain.model.Timeline;
 import com.company.manufacturingorder.domain.port.ManufacturingOrderRepository;
+import com.company.sharedkernel.KeysetPage;
 import com.company.sharedkernel.OrderId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -27,64 +29,77 @@ class ManufacturingOrderDomainServiceTest {
     @Mock
     private ManufacturingOrderRepository repository;
 
+    private CapacityLedger capacityLedger;
+
     private ManufacturingOrderDomainService domainService;
 
     @BeforeEach
     void setUp() {
-        domainService = new ManufacturingOrderDomainService(repository);
+        capacityLedger = new CapacityLedger(10, Map.of());
+        domainService = new ManufacturingOrderDomainService(repository, capacityLedger);
     }
 
     @Test
     @DisplayName("Should allow scheduling new order when under capacity")
     void shouldAllowSchedulingNewOrderWhenUnderCapacity() {
-        when(repository.findByStatus(OrderStatus.IN_PROGRESS)).thenReturn(List.of());
-
-        boolean canSchedule = domainService.canScheduleNewOrder();
+        boolean canSchedule = domainService.canScheduleNewOrder(createTestOrderWithFutureStart().getProductSpecification());
 
         assertTrue(canSchedule);
-        verify(repository).findByStatus(OrderStatus.IN_PROGRESS);
+        verifyNoInteractions(repository);
     }
 
     @Test
     @DisplayName("Should prevent scheduling when at capacity")
     void shouldPreventSchedulingWhenAtCapacity() {
-        List<ManufacturingOrder> maxOrders = List.of(
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS)
-        );
-        when(repository.findByStatus(OrderStatus.IN_PROGRESS)).thenReturn(maxOrders);
+        when(repository.countByProductCode(OrderStatus.IN_PROGRESS)).thenReturn(Map.of("PROD-001", 6L, "PROD-002", 4L));
+        domainService.reconcileCapacity();
 
-        boolean canSchedule = domainService.canScheduleNewOrder();
+        boolean canSchedule = domainService.canScheduleNewOrder(createTestOrderWithFutureStart().getProductSpecification());
 
         assertFalse(canSchedule);
     }
 
+    @Test
+    @DisplayName("Should count capacity per product line")
+    void shouldCountCapacityPerProductLine() {
+        when(repository.countByProductCode(OrderStatus.IN_PROGRESS)).thenReturn(Map.of("AUTO-1", 10L));
+        domainService.reconcileCapacity();
+
+        assertTrue(domainService.canScheduleNewOrder(createTestOrderWithFutureStart().getProductSpecification()));
+    }
+
+    @Test
+    @DisplayName("Should reserve capacity when an order starts and free it again on release")
+    void shouldReserveAndReleaseCapacity() {
+        when(repository.countByProductCode(OrderStatus.IN_PROGRESS)).thenReturn(Map.of("PROD-001", 9L));
+        domainService.reconcileCapacity();
+        var order = createTestOrderWithFutureStart();
+
+        domainService.reserveCapacity(order).confirm();
+
+        assertThrows(IllegalStateException.class, () -> domainService.reserveCapacity(order));
+        domainService.prepareCapacityRelease(order).commit();
+        assertDoesNotThrow(() -> domainService.reserveCapacity(order));
+    }
+
     @Test
     @DisplayName("Should find orders requiring attention")
     void shouldFindOrdersRequiringAttention() {
         ManufacturingOrder overdueOrder = createOverdueOrder();
-        when(repository.findOverdueOrders()).thenReturn(List.of(overdueOrder));
+        when(repository.findOverdueOrders(null, 20)).thenReturn(new KeysetPage<>(List.of(overdueOrder), null));
 
-        List<ManufacturingOrder> ordersRequiringAttention = domainService.findOrdersRequiringAttention();
+        var ordersRequiringAttention = domainService.findOrdersRequiringAttention(null, 20);
 
-        assertEquals(1, ordersRequiringAttention.size());
-        assertEquals(overdueOrder.getId(), ordersRequiringAttention.get(0).getId());
-        verify(repository).findOverdueOrders();
+        assertEquals(1, ordersRequiringAttention.items().size());
+        assertEquals(overdueOrder.getId(), ordersRequiringAttention.items().get(0).getId());
+        assertFalse(ordersRequiringAttention.hasNext());
+        verify(repository).findOverdueOrders(null, 20);
     }
 
     @Test
     @DisplayName("Should validate order scheduling successfully")
     void shouldValidateOrderSchedulingSuccessfully() {
         ManufacturingOrder order = createTestOrderWithFutureStart();
-        when(repository.findByStatus(OrderStatus.IN_PROGRESS)).thenReturn(List.of());
 
         assertDoesNotThrow(() -> domainService.validateOrderScheduling(order));
     }
@@ -93,7 +108,6 @@ class ManufacturingOrderDomainServiceTest {
     @DisplayName("Should throw exception when scheduling order with past start date")
     void shouldThrowExceptionWhenSchedulingOrderWithPastStartDate() {
         ManufacturingOrder order = createTestOrderWithPastStart();
-        when(repository.findByStatus(OrderStatus.IN_PROGRESS)).thenReturn(List.of());
 
         assertThrows(IllegalArgumentException.class, () -> domainService.validateOrderScheduling(order));
     }
@@ -102,29 +116,12 @@ class ManufacturingOrderDomainServiceTest {
     @DisplayName("Should throw exception when scheduling at capacity")
     void shouldThrowExceptionWhenSchedulingAtCapacity() {
         ManufacturingOrder order = createTestOrderWithFutureStart();
-        List<ManufacturingOrder> maxOrders = createMaxCapacityOrders();
-        when(repository.findByStatus(OrderStatus.IN_PROGRESS)).thenReturn(maxOrders);
+        when(repository.countByProductCode(OrderStatus.IN_PROGRESS)).thenReturn(Map.of("PROD-001", 10L));
+        domainService.reconcileCapacity();
 
         assertThrows(IllegalStateException.class, () -> domainService.validateOrderScheduling(order));
     }
 
-    private ManufacturingOrder createTestOrder(OrderStatus status) {
-        OrderId orderId = OrderId.generate();
-        ProductSpecification productSpec = ProductSpecification.of(
-            "PROD-001", "Test Product", 10, "Standard specifications"
-        );
-        Timeline timeline = Timeline.create(
-            Instant.now().plus(1, ChronoUnit.DAYS),
-            Instant.now().plus(7, ChronoUnit.DAYS)
-        );
-
-        ManufacturingOrder order = ManufacturingOrder.create(orderId, productSpec, timeline);
-        if (status != OrderStatus.PENDING) {
-            order.changeStatus(status);
-        }
-        return order;
-    }
-
     private ManufacturingOrder createOverdueOrder() {
         OrderId orderId = OrderId.generate();
         ProductSpecification productSpec = ProductSpecification.of(
@@ -163,19 +160,4 @@ class ManufacturingOrderDomainServiceTest {
 
         return ManufacturingOrder.create(orderId, productSpec, timeline);
     }
-
-    private List<ManufacturingOrder> createMaxCapacityOrders() {
-        return List.of(
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS),
-            createTestOrder(OrderStatus.IN_PROGRESS)
-        );
-    }
-}
\ No newline at end of file
+}
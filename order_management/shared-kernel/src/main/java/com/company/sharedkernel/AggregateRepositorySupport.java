@@ -0,0 +1,13 @@
+package com.company.sharedkernel;
+
+/**
+ * Base class of the repository adapters that store aggregates. It gives them, and nothing
+ * else outside the aggregates, a way to record the version an aggregate was saved as, so
+ * the next save of the same instance is checked against that version.
+ */
+public abstract class AggregateRepositorySupport {
+    
+    protected static void recordSavedVersion(AggregateRoot<?> aggregate, Long version) {
+        aggregate.restoreVersion(version);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.List;
 
 public abstract class AggregateRoot<ID> {
     private final List<DomainEvent> domainEvents = new ArrayList<>();
+    private Long version;
     
     protected void addDomainEvent(DomainEvent event) {
         domainEvents.add(event);
@@ -19,5 +20,32 @@ public abstract class AggregateRoot<ID> {
         return Collections.unmodifiableList(domainEvents);
     }
     
+    /**
+     * Returns the pending events in the order they were raised and clears them,
+     * so they can be handed to the publisher as one batch.
+     */
+    public List<DomainEvent> pullDomainEvents() {
+        var events = List.copyOf(domainEvents);
+        domainEvents.clear();
+        return events;
+    }
+    
+    /**
+     * Version of the stored aggregate this instance was loaded from or last saved as,
+     * or {@code null} if it has never been stored.
+     */
+    public Long getVersion() {
+        return version;
+    }
+    
+    /**
+     * Called by the {@code reconstitute} factory of the aggregate when it is loaded, and
+     * through {@link AggregateRepositorySupport} when it has been saved. Not part of the
+     * domain API: anything else setting the version could hide a concurrent change.
+     */
+    protected void restoreVersion(Long version) {
+        this.version = version;
+    }
+    
     public abstract ID getId();
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.company.sharedkernel;
+
+import java.time.Duration;
+
+/**
+ * Named lock shared by all instances of the application, for scheduled work that must not
+ * run on several of them at once. A lock is held for a lease rather than until released,
+ * so an instance that dies holding it blocks the others for one lease at most.
+ */
+public interface ClusterLock {
+
+    /**
+     * Takes the lock, or extends the lease if this instance already holds it. Long-running
+     * work calls this again before its lease runs out and stops if it returns false.
+     *
+     * @return whether this instance holds the lock for the next {@code leaseTime}
+     */
+    boolean tryLock(String name, Duration leaseTime);
+
+    /**
+     * Ends the lease early, if this instance still holds the lock.
+     */
+    void unlock(String name);
+}
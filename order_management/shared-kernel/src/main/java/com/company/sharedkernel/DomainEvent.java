@@ -1,6 +1,7 @@
 package com.company.sharedkernel;
 
 import java.time.Instant;
+import java.util.UUID;
 
 /**
  * Base interface for all domain events in the system.
@@ -10,8 +11,12 @@ import java.time.Instant;
  * 
  * Individual event implementations can be annotated with @Externalized
  * for publishing to external message brokers.
+ * 
+ * Every event carries a unique id that stays the same however often the event
+ * is stored and delivered again, so consumers can recognise redeliveries.
  */
 public interface DomainEvent {
+    UUID eventId();
     Instant occurredOn();
     String eventType();
 }
\ No newline at end of file
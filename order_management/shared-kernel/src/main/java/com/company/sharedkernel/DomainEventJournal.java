@@ -0,0 +1,11 @@
+package com.company.sharedkernel;
+
+import java.util.List;
+
+/**
+ * Append-only record of every domain event that has been committed, kept for replay
+ * and incident investigation rather than for delivery.
+ */
+public interface DomainEventJournal {
+    void appendAll(List<? extends DomainEvent> events);
+}
@@ -0,0 +1,19 @@
+package com.company.sharedkernel;
+
+import java.util.List;
+
+/**
+ * Durable store for domain events that must be delivered after the surrounding
+ * transaction commits.
+ *
+ * Implementations write the event in the caller's transaction, so the event is
+ * stored if and only if the aggregate change that raised it is committed. A relay
+ * delivers stored events to listeners afterwards.
+ */
+public interface DomainEventOutbox {
+    void append(DomainEvent event);
+    
+    default void appendAll(List<? extends DomainEvent> events) {
+        events.forEach(this::append);
+    }
+}
@@ -1,44 +1,133 @@
 package com.company.sharedkernel;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class DomainEventPublisher {
     private static final Logger businessEventLog = LoggerFactory.getLogger("BUSINESS_EVENT");
     private final ApplicationEventPublisher eventPublisher;
+    private final DomainEventOutbox outbox;
+    private final DomainEventJournal journal;
+    
+    public DomainEventPublisher(ApplicationEventPublisher eventPublisher) {
+        this(eventPublisher, Optional.empty());
+    }
+    
+    public DomainEventPublisher(ApplicationEventPublisher eventPublisher, Optional<DomainEventOutbox> outbox) {
+        this(eventPublisher, outbox, Optional.empty());
+    }
+    
+    /**
+     * When an outbox is available events are stored in the current transaction and
+     * delivered by the outbox relay once it commits; otherwise they are handed to the
+     * application event publisher straight away. When a journal is available events are
+     * appended to it once the surrounding transaction has committed.
+     */
+    @Autowired
+    public DomainEventPublisher(
+            ApplicationEventPublisher eventPublisher,
+            Optional<DomainEventOutbox> outbox,
+            Optional<DomainEventJournal> journal) {
+        this.eventPublisher = eventPublisher;
+        this.outbox = outbox.orElse(null);
+        this.journal = journal.orElse(null);
+    }
     
     @Transactional
     public void publishEvent(DomainEvent event) {
-        long startTime = System.currentTimeMillis();
+        publishAll(List.of(event));
+    }
+    
+    /**
+     * Publishes the events in order within one transaction, writing a single business
+     * event record and measuring latency once for the whole batch.
+     */
+    @Transactional
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        long startTime = System.nanoTime();
         
         try {
-            log.debug("Publishing domain event: {}", event.eventType());
-            businessEventLog.info("DOMAIN_EVENT_PUBLISHED eventType={} timestamp={}", 
-                    event.eventType(), event.occurredOn());
+            log.debug("Publishing {} domain events", events.size());
+            
+            if (outbox != null) {
+                outbox.appendAll(events);
+            } else {
+                events.forEach(eventPublisher::publishEvent);
+            }
+            journalAfterCommit(events);
             
-            eventPublisher.publishEvent(event);
+            long duration = elapsedMillis(startTime);
+            businessEventLog.info("{} count={} eventTypes={} firstOccurredOn={} duration={}ms",
+                    outbox != null ? "DOMAIN_EVENTS_STORED" : "DOMAIN_EVENTS_PUBLISHED",
+                    events.size(), eventTypes(events), events.getFirst().occurredOn(), duration);
             
-            long duration = System.currentTimeMillis() - startTime;
             if (duration > 10) {
-                log.warn("Slow event publishing detected: {} took {}ms", event.eventType(), duration);
+                log.warn("Slow event publishing detected: {} events {} took {}ms", 
+                        events.size(), eventTypes(events), duration);
             }
             
         } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("Failed to publish domain event: eventType={}, duration={}ms, error={}", 
-                    event.eventType(), duration, e.getMessage(), e);
+            long duration = elapsedMillis(startTime);
+            log.error("Failed to publish domain events: eventTypes={}, duration={}ms, error={}", 
+                    eventTypes(events), duration, e.getMessage(), e);
             
-            businessEventLog.error("DOMAIN_EVENT_PUBLISH_FAILED eventType={} error={} duration={}ms", 
-                    event.eventType(), e.getMessage(), duration);
+            businessEventLog.error("DOMAIN_EVENT_PUBLISH_FAILED eventTypes={} error={} duration={}ms", 
+                    eventTypes(events), e.getMessage(), duration);
             throw e;
         }
     }
-}
\ No newline at end of file
+    
+    private void journalAfterCommit(List<? extends DomainEvent> events) {
+        if (journal == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            appendToJournal(events);
+            return;
+        }
+        var committedEvents = List.copyOf(events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                appendToJournal(committedEvents);
+            }
+        });
+    }
+    
+    /**
+     * The business change has already been committed at this point, so a journal
+     * failure is logged instead of being reported to the caller.
+     */
+    private void appendToJournal(List<? extends DomainEvent> events) {
+        try {
+            journal.appendAll(events);
+        } catch (RuntimeException e) {
+            log.error("Failed to journal domain events: eventTypes={}, error={}",
+                    eventTypes(events), e.getMessage(), e);
+        }
+    }
+    
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+    
+    private static List<String> eventTypes(List<? extends DomainEvent> events) {
+        return events.stream().map(DomainEvent::eventType).toList();
+    }
+}
@@ -0,0 +1,42 @@
+package com.company.sharedkernel;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * One page of a keyset-paginated list. {@code nextCursor} is {@code null} on the last page.
+ */
+public record KeysetPage<T>(List<T> items, PageCursor nextCursor) {
+    public static final int MAX_LIMIT = 500;
+
+    public KeysetPage {
+        items = List.copyOf(items);
+    }
+
+    public static <T> KeysetPage<T> empty() {
+        return new KeysetPage<>(List.of(), null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public Optional<PageCursor> next() {
+        return Optional.ofNullable(nextCursor);
+    }
+
+    public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+        return new KeysetPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code limit} is not between 1 and {@link #MAX_LIMIT}
+     */
+    public static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Page limit must be between 1 and " + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,30 @@
+package com.company.sharedkernel;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Cold tier for closed orders that are rarely read again. Orders are kept in an encoded
+ * form chosen by their module, under their aggregate type and id, and stay readable by
+ * id once they have been removed from the order tables.
+ */
+public interface OrderArchive {
+
+    /**
+     * Archives record the type by its position, so new types may only be added at the end.
+     */
+    enum AggregateType {
+        CUSTOMER_ORDER,
+        MANUFACTURING_ORDER
+    }
+
+    /**
+     * Stores the encoded orders and returns once they are durable, so they can be deleted
+     * from the order tables afterwards. Storing an order again replaces the earlier copy.
+     */
+    void store(AggregateType type, Map<OrderId, byte[]> orders);
+
+    Optional<byte[]> find(AggregateType type, OrderId orderId);
+
+    boolean contains(AggregateType type, OrderId orderId);
+}
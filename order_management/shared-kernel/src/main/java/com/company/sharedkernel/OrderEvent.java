@@ -0,0 +1,11 @@
+package com.company.sharedkernel;
+
+/**
+ * Domain event raised by an order aggregate.
+ *
+ * Events of the same order must reach listeners in the order they were raised;
+ * {@link #orderId()} identifies the aggregate they belong to.
+ */
+public interface OrderEvent extends DomainEvent {
+    OrderId orderId();
+}
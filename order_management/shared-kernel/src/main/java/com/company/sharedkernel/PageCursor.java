@@ -0,0 +1,52 @@
+package com.company.sharedkernel;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a list ordered by a timestamp with the id as tie-breaker. The next page
+ * starts right after the row with this timestamp and id, so pages stay stable while rows
+ * are added and cost the same however deep the caller reads.
+ */
+public record PageCursor(Instant timestamp, UUID id) {
+    private static final char SEPARATOR = '|';
+
+    public PageCursor {
+        if (timestamp == null) {
+            throw new IllegalArgumentException("Cursor timestamp cannot be null");
+        }
+        if (id == null) {
+            throw new IllegalArgumentException("Cursor id cannot be null");
+        }
+    }
+
+    /**
+     * Opaque, URL-safe form for handing the cursor to clients.
+     */
+    public String encode() {
+        var raw = timestamp.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Page cursor cannot be null or empty");
+        }
+        try {
+            var raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid page cursor: " + token);
+            }
+            return new PageCursor(
+                Instant.parse(raw.substring(0, separator)),
+                UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid page cursor: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.company.sharedkernel;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a command handler method that is run again, in a new transaction, when it fails
+ * because an order it saved was changed concurrently, i.e. with an
+ * {@link org.springframework.dao.OptimisticLockingFailureException}. The method must load
+ * what it changes itself, so that a repeat starts from the stored state.
+ *
+ * Calls made inside an existing transaction are not repeated; the conflict is left to the
+ * caller that owns the transaction.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -1,18 +1,20 @@
 package com.company.sharedkernel.events;
 
-import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.OrderEvent;
 import com.company.sharedkernel.OrderId;
 
 import java.time.Instant;
+import java.util.UUID;
 
 public record CustomerOrderCancelled(
+    UUID eventId,
     OrderId orderId,
     String reason,
     Instant occurredOn
-) implements DomainEvent {
+) implements OrderEvent {
     
     public static CustomerOrderCancelled of(OrderId orderId, String reason) {
-        return new CustomerOrderCancelled(orderId, reason, Instant.now());
+        return new CustomerOrderCancelled(UUID.randomUUID(), orderId, reason, Instant.now());
     }
     
     @Override
@@ -1,6 +1,6 @@
 package com.company.sharedkernel.events;
 
-import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.OrderEvent;
 import com.company.sharedkernel.OrderId;
 import com.company.sharedkernel.Money;
 
@@ -8,14 +8,15 @@ import java.time.Instant;
 import java.util.UUID;
 
 public record CustomerOrderPlaced(
+    UUID eventId,
     OrderId orderId,
     UUID customerId,
     Money totalAmount,
     Instant occurredOn
-) implements DomainEvent {
+) implements OrderEvent {
     
     public static CustomerOrderPlaced of(OrderId orderId, UUID customerId, Money totalAmount) {
-        return new CustomerOrderPlaced(orderId, customerId, totalAmount, Instant.now());
+        return new CustomerOrderPlaced(UUID.randomUUID(), orderId, customerId, totalAmount, Instant.now());
     }
     
     @Override
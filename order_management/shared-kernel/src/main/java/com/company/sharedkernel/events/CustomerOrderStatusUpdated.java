@@ -1,19 +1,21 @@
 package com.company.sharedkernel.events;
 
-import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.OrderEvent;
 import com.company.sharedkernel.OrderId;
 
 import java.time.Instant;
+import java.util.UUID;
 
 public record CustomerOrderStatusUpdated(
+    UUID eventId,
     OrderId orderId,
     String previousStatus,
     String newStatus,
     Instant occurredOn
-) implements DomainEvent {
+) implements OrderEvent {
     
     public static CustomerOrderStatusUpdated of(OrderId orderId, String previousStatus, String newStatus) {
-        return new CustomerOrderStatusUpdated(orderId, previousStatus, newStatus, Instant.now());
+        return new CustomerOrderStatusUpdated(UUID.randomUUID(), orderId, previousStatus, newStatus, Instant.now());
     }
     
     @Override
@@ -1,18 +1,20 @@
 package com.company.sharedkernel.events;
 
-import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.OrderEvent;
 import com.company.sharedkernel.OrderId;
 
 import java.time.Instant;
+import java.util.UUID;
 
 public record ManufacturingOrderCompleted(
+    UUID eventId,
     OrderId orderId,
     Instant completedAt,
     Instant occurredOn
-) implements DomainEvent {
+) implements OrderEvent {
     
     public static ManufacturingOrderCompleted of(OrderId orderId, Instant completedAt) {
-        return new ManufacturingOrderCompleted(orderId, completedAt, Instant.now());
+        return new ManufacturingOrderCompleted(UUID.randomUUID(), orderId, completedAt, Instant.now());
     }
     
     @Override
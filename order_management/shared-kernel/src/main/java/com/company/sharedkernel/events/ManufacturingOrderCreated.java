@@ -1,19 +1,21 @@
 package com.company.sharedkernel.events;
 
-import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.OrderEvent;
 import com.company.sharedkernel.OrderId;
 
 import java.time.Instant;
+import java.util.UUID;
 
 public record ManufacturingOrderCreated(
+    UUID eventId,
     OrderId orderId,
     String productCode,
     Integer quantity,
     Instant occurredOn
-) implements DomainEvent {
+) implements OrderEvent {
     
     public static ManufacturingOrderCreated of(OrderId orderId, String productCode, Integer quantity) {
-        return new ManufacturingOrderCreated(orderId, productCode, quantity, Instant.now());
+        return new ManufacturingOrderCreated(UUID.randomUUID(), orderId, productCode, quantity, Instant.now());
     }
     
     @Override
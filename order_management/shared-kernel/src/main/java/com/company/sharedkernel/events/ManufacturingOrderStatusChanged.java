@@ -1,19 +1,21 @@
 package com.company.sharedkernel.events;
 
-import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.OrderEvent;
 import com.company.sharedkernel.OrderId;
 
 import java.time.Instant;
+import java.util.UUID;
 
 public record ManufacturingOrderStatusChanged(
+    UUID eventId,
     OrderId orderId,
     String previousStatus,
     String newStatus,
     Instant occurredOn
-) implements DomainEvent {
+) implements OrderEvent {
     
     public static ManufacturingOrderStatusChanged of(OrderId orderId, String previousStatus, String newStatus) {
-        return new ManufacturingOrderStatusChanged(orderId, previousStatus, newStatus, Instant.now());
+        return new ManufacturingOrderStatusChanged(UUID.randomUUID(), orderId, previousStatus, newStatus, Instant.now());
     }
     
     @Override
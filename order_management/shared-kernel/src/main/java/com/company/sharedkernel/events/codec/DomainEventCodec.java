@@ -0,0 +1,131 @@
+package com.company.sharedkernel.events.codec;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.CustomerOrderPlaced;
+import com.company.sharedkernel.events.CustomerOrderStatusUpdated;
+import com.company.sharedkernel.events.ManufacturingOrderCompleted;
+import com.company.sharedkernel.events.ManufacturingOrderCreated;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Compact binary form of the shared-kernel domain events, used wherever events are stored.
+ *
+ * Every payload starts with a schema version byte and a type tag byte, followed by the
+ * event id and the event's other fields in declaration order. UUIDs are written as two longs, instants as epoch
+ * seconds plus nanos, statuses as one-byte dictionary codes and money as currency code,
+ * scale and unscaled amount. All numbers are big-endian.
+ *
+ * Type tags and status codes are part of the stored format: add new ones at the end and
+ * bump {@link #SCHEMA_VERSION} whenever the layout of an existing event changes.
+ *
+ * Version 1 payloads, written before events had ids, are still decoded. Their event id is
+ * derived from the payload bytes, so the same stored payload always decodes to the same id.
+ */
+@Component
+public class DomainEventCodec {
+    public static final int SCHEMA_VERSION = 2;
+    private static final int SCHEMA_VERSION_WITHOUT_EVENT_ID = 1;
+
+    private static final int CUSTOMER_ORDER_PLACED = 1;
+    private static final int CUSTOMER_ORDER_STATUS_UPDATED = 2;
+    private static final int CUSTOMER_ORDER_CANCELLED = 3;
+    private static final int MANUFACTURING_ORDER_CREATED = 4;
+    private static final int MANUFACTURING_ORDER_STATUS_CHANGED = 5;
+    private static final int MANUFACTURING_ORDER_COMPLETED = 6;
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    public byte[] encode(DomainEvent event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        var writer = new EventWriter(INITIAL_CAPACITY);
+        writer.writeByte(SCHEMA_VERSION);
+
+        switch (event) {
+            case CustomerOrderPlaced e -> {
+                writer.writeByte(CUSTOMER_ORDER_PLACED);
+                writer.writeUuid(e.eventId());
+                writer.writeOrderId(e.orderId());
+                writer.writeUuid(e.customerId());
+                writer.writeMoney(e.totalAmount());
+                writer.writeInstant(e.occurredOn());
+            }
+            case CustomerOrderStatusUpdated e -> {
+                writer.writeByte(CUSTOMER_ORDER_STATUS_UPDATED);
+                writer.writeUuid(e.eventId());
+                writer.writeOrderId(e.orderId());
+                writer.writeStatus(e.previousStatus());
+                writer.writeStatus(e.newStatus());
+                writer.writeInstant(e.occurredOn());
+            }
+            case CustomerOrderCancelled e -> {
+                writer.writeByte(CUSTOMER_ORDER_CANCELLED);
+                writer.writeUuid(e.eventId());
+                writer.writeOrderId(e.orderId());
+                writer.writeString(e.reason());
+                writer.writeInstant(e.occurredOn());
+            }
+            case ManufacturingOrderCreated e -> {
+                writer.writeByte(MANUFACTURING_ORDER_CREATED);
+                writer.writeUuid(e.eventId());
+                writer.writeOrderId(e.orderId());
+                writer.writeString(e.productCode());
+                writer.writeVarInt(e.quantity());
+                writer.writeInstant(e.occurredOn());
+            }
+            case ManufacturingOrderStatusChanged e -> {
+                writer.writeByte(MANUFACTURING_ORDER_STATUS_CHANGED);
+                writer.writeUuid(e.eventId());
+                writer.writeOrderId(e.orderId());
+                writer.writeStatus(e.previousStatus());
+                writer.writeStatus(e.newStatus());
+                writer.writeInstant(e.occurredOn());
+            }
+            case ManufacturingOrderCompleted e -> {
+                writer.writeByte(MANUFACTURING_ORDER_COMPLETED);
+                writer.writeUuid(e.eventId());
+                writer.writeOrderId(e.orderId());
+                writer.writeNullableInstant(e.completedAt());
+                writer.writeInstant(e.occurredOn());
+            }
+            default -> throw new IllegalArgumentException("Unsupported event type: " + event.eventType());
+        }
+        return writer.toByteArray();
+    }
+
+    public DomainEvent decode(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            throw new IllegalArgumentException("Encoded event cannot be empty");
+        }
+        var reader = new EventReader(payload);
+        int version = reader.readByte();
+        if (version != SCHEMA_VERSION && version != SCHEMA_VERSION_WITHOUT_EVENT_ID) {
+            throw new IllegalArgumentException("Unsupported event schema version: " + version);
+        }
+
+        int tag = reader.readByte();
+        var eventId = version == SCHEMA_VERSION ? reader.readUuid() : UUID.nameUUIDFromBytes(payload);
+        DomainEvent event = switch (tag) {
+            case CUSTOMER_ORDER_PLACED -> new CustomerOrderPlaced(
+                eventId, reader.readOrderId(), reader.readUuid(), reader.readMoney(), reader.readInstant());
+            case CUSTOMER_ORDER_STATUS_UPDATED -> new CustomerOrderStatusUpdated(
+                eventId, reader.readOrderId(), reader.readStatus(), reader.readStatus(), reader.readInstant());
+            case CUSTOMER_ORDER_CANCELLED -> new CustomerOrderCancelled(
+                eventId, reader.readOrderId(), reader.readString(), reader.readInstant());
+            case MANUFACTURING_ORDER_CREATED -> new ManufacturingOrderCreated(
+                eventId, reader.readOrderId(), reader.readString(), reader.readVarInt(), reader.readInstant());
+            case MANUFACTURING_ORDER_STATUS_CHANGED -> new ManufacturingOrderStatusChanged(
+                eventId, reader.readOrderId(), reader.readStatus(), reader.readStatus(), reader.readInstant());
+            case MANUFACTURING_ORDER_COMPLETED -> new ManufacturingOrderCompleted(
+                eventId, reader.readOrderId(), reader.readNullableInstant(), reader.readInstant());
+            default -> throw new IllegalArgumentException("Unknown event type tag: " + tag);
+        };
+        reader.requireFullyRead();
+        return event;
+    }
+}
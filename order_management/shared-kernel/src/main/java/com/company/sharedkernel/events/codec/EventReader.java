@@ -0,0 +1,123 @@
+package com.company.sharedkernel.events.codec;
+
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.UUID;
+
+/**
+ * Counterpart of {@link EventWriter}. Reading past the end of the input fails with
+ * {@link IllegalArgumentException}.
+ */
+final class EventReader {
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private final byte[] buffer;
+    private int position;
+
+    EventReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    int readByte() {
+        require(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    int readInt() {
+        require(Integer.BYTES);
+        int value = (int) INT.get(buffer, position);
+        position += Integer.BYTES;
+        return value;
+    }
+
+    long readLong() {
+        require(Long.BYTES);
+        long value = (long) LONG.get(buffer, position);
+        position += Long.BYTES;
+        return value;
+    }
+
+    int readVarInt() {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int next = readByte();
+            value |= (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed variable-length integer");
+    }
+
+    UUID readUuid() {
+        return new UUID(readLong(), readLong());
+    }
+
+    OrderId readOrderId() {
+        return OrderId.of(readUuid());
+    }
+
+    Instant readInstant() {
+        return Instant.ofEpochSecond(readLong(), readInt());
+    }
+
+    Instant readNullableInstant() {
+        return readByte() == 1 ? readInstant() : null;
+    }
+
+    String readString() {
+        int prefix = readVarInt();
+        if (prefix == 0) {
+            return null;
+        }
+        int length = prefix - 1;
+        require(length);
+        var value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    String readStatus() {
+        int code = readByte();
+        return code == StatusDictionary.LITERAL ? readString() : StatusDictionary.statusOf(code);
+    }
+
+    Money readMoney() {
+        var currencyCode = new String(new char[] {(char) readByte(), (char) readByte(), (char) readByte()});
+        int scale = (byte) readByte();
+        BigInteger unscaled;
+        if (readByte() == 0) {
+            unscaled = BigInteger.valueOf(readLong());
+        } else {
+            int length = readVarInt();
+            require(length);
+            unscaled = new BigInteger(Arrays.copyOfRange(buffer, position, position + length));
+            position += length;
+        }
+        return new Money(new BigDecimal(unscaled, scale), Currency.getInstance(currencyCode));
+    }
+
+    void requireFullyRead() {
+        if (position != buffer.length) {
+            throw new IllegalArgumentException(
+                "Unexpected " + (buffer.length - position) + " trailing bytes in encoded event");
+        }
+    }
+
+    private void require(int bytes) {
+        if (bytes < 0 || position + bytes > buffer.length) {
+            throw new IllegalArgumentException("Encoded event is truncated");
+        }
+    }
+}
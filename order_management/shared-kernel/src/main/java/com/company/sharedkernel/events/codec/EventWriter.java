@@ -0,0 +1,135 @@
+package com.company.sharedkernel.events.codec;
+
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Growable big-endian buffer with the field encodings used by {@link DomainEventCodec}.
+ */
+final class EventWriter {
+    private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+    private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private byte[] buffer;
+    private int position;
+
+    EventWriter(int initialCapacity) {
+        this.buffer = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+        ensureCapacity(1);
+        buffer[position++] = (byte) value;
+    }
+
+    void writeInt(int value) {
+        ensureCapacity(Integer.BYTES);
+        INT.set(buffer, position, value);
+        position += Integer.BYTES;
+    }
+
+    void writeLong(long value) {
+        ensureCapacity(Long.BYTES);
+        LONG.set(buffer, position, value);
+        position += Long.BYTES;
+    }
+
+    void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        writeByte(value);
+    }
+
+    void writeUuid(UUID value) {
+        writeLong(value.getMostSignificantBits());
+        writeLong(value.getLeastSignificantBits());
+    }
+
+    void writeOrderId(OrderId value) {
+        writeUuid(value.getValue());
+    }
+
+    void writeInstant(Instant value) {
+        writeLong(value.getEpochSecond());
+        writeInt(value.getNano());
+    }
+
+    void writeNullableInstant(Instant value) {
+        writeByte(value != null ? 1 : 0);
+        if (value != null) {
+            writeInstant(value);
+        }
+    }
+
+    /**
+     * Length-prefixed UTF-8; the prefix is the byte length plus one so that zero marks null.
+     */
+    void writeString(String value) {
+        if (value == null) {
+            writeVarInt(0);
+            return;
+        }
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1);
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    void writeStatus(String status) {
+        int code = StatusDictionary.codeOf(status);
+        writeByte(code);
+        if (code == StatusDictionary.LITERAL) {
+            writeString(status);
+        }
+    }
+
+    /**
+     * Currency as its three-letter code, then the amount as scale plus unscaled value. Amounts
+     * whose unscaled value does not fit a long fall back to the two's-complement bytes.
+     */
+    void writeMoney(Money value) {
+        var currencyCode = value.getCurrency().getCurrencyCode();
+        for (int i = 0; i < 3; i++) {
+            writeByte(currencyCode.charAt(i));
+        }
+        BigDecimal amount = value.getAmount();
+        var unscaled = amount.unscaledValue();
+        if (amount.scale() < Byte.MIN_VALUE || amount.scale() > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Money scale out of range: " + amount.scale());
+        }
+        writeByte(amount.scale());
+        if (unscaled.bitLength() < Long.SIZE) {
+            writeByte(0);
+            writeLong(unscaled.longValue());
+        } else {
+            var bytes = unscaled.toByteArray();
+            writeByte(1);
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+        if (position + additional > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+        }
+    }
+}
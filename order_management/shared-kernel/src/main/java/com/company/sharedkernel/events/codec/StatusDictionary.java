@@ -0,0 +1,51 @@
+package com.company.sharedkernel.events.codec;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One-byte codes for the status names carried by status events. The shared kernel does not
+ * know the modules' status enums, so their names are listed here; codes are positions in
+ * this list and must never be reordered, only appended to. Names not in the list are
+ * written literally after the {@link #LITERAL} code.
+ */
+final class StatusDictionary {
+    static final int LITERAL = 0xFF;
+
+    private static final List<String> STATUSES = List.of(
+        // Customer order
+        "PLACED",
+        "CONFIRMED",
+        "MANUFACTURING_IN_PROGRESS",
+        "MANUFACTURING_COMPLETED",
+        "SHIPPED",
+        "DELIVERED",
+        "CANCELLED",
+        // Manufacturing order (CANCELLED is shared)
+        "PENDING",
+        "IN_PROGRESS",
+        "COMPLETED"
+    );
+    private static final Map<String, Integer> CODES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < STATUSES.size(); i++) {
+            CODES.put(STATUSES.get(i), i);
+        }
+    }
+
+    private StatusDictionary() {
+    }
+
+    static int codeOf(String status) {
+        return status != null ? CODES.getOrDefault(status, LITERAL) : LITERAL;
+    }
+
+    static String statusOf(int code) {
+        if (code >= STATUSES.size()) {
+            throw new IllegalArgumentException("Unknown status code: " + code);
+        }
+        return STATUSES.get(code);
+    }
+}
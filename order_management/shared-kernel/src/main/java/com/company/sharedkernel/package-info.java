@@ -5,8 +5,12 @@
  * used across multiple bounded contexts in the Order Management System.
  * 
  * Key components:
- * - Base domain classes (AggregateRoot, ValueObject, DomainEvent)
+ * - Base domain classes (AggregateRoot, ValueObject, DomainEvent, OrderEvent)
+ * - AggregateRepositorySupport for the repository adapters that save aggregates
  * - Common value objects (OrderId, Money)
+ * - Keyset pagination types for repository lists (PageCursor, KeysetPage)
+ * - RetryOnConflict for command handlers that repeat after a concurrent change
+ * - ClusterLock for scheduled jobs that must run on one instance at a time
  * - Domain events for inter-module communication
  * - Domain event publisher infrastructure
  * 
@@ -7,8 +7,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -102,16 +107,127 @@ class DomainEventPublisherTest {
         // The warning should be logged (can't easily test logging in unit test)
     }
 
+    @Test
+    void shouldStoreEventInOutboxInsteadOfPublishingWhenOutboxIsAvailable() {
+        // Given
+        var outbox = mock(DomainEventOutbox.class);
+        var outboxPublisher = new DomainEventPublisher(applicationEventPublisher, Optional.of(outbox));
+        var testEvent = new TestDomainEvent("OUTBOX_EVENT");
+        
+        // When
+        outboxPublisher.publishEvent(testEvent);
+        
+        // Then
+        verify(outbox, times(1)).appendAll(List.of(testEvent));
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void shouldPublishBatchInOrder() {
+        // Given
+        var first = new TestDomainEvent("FIRST_EVENT");
+        var second = new TestDomainEvent("SECOND_EVENT");
+        
+        // When
+        domainEventPublisher.publishAll(List.of(first, second));
+        
+        // Then
+        var inOrder = inOrder(applicationEventPublisher);
+        inOrder.verify(applicationEventPublisher).publishEvent(first);
+        inOrder.verify(applicationEventPublisher).publishEvent(second);
+    }
+
+    @Test
+    void shouldStoreBatchInOutboxWithSingleAppend() {
+        // Given
+        var outbox = mock(DomainEventOutbox.class);
+        var outboxPublisher = new DomainEventPublisher(applicationEventPublisher, Optional.of(outbox));
+        var events = List.of(new TestDomainEvent("FIRST_EVENT"), new TestDomainEvent("SECOND_EVENT"));
+        
+        // When
+        outboxPublisher.publishAll(events);
+        
+        // Then
+        verify(outbox, times(1)).appendAll(events);
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void shouldIgnoreEmptyBatch() {
+        // When
+        domainEventPublisher.publishAll(List.of());
+        
+        // Then
+        verifyNoInteractions(applicationEventPublisher);
+    }
+
+    @Test
+    void shouldJournalEventsImmediatelyOutsideTransaction() {
+        // Given
+        var journal = mock(DomainEventJournal.class);
+        var journalingPublisher = new DomainEventPublisher(applicationEventPublisher, Optional.empty(), Optional.of(journal));
+        var events = List.of(new TestDomainEvent("FIRST_EVENT"), new TestDomainEvent("SECOND_EVENT"));
+        
+        // When
+        journalingPublisher.publishAll(events);
+        
+        // Then
+        verify(journal, times(1)).appendAll(events);
+    }
+
+    @Test
+    void shouldJournalEventsOnlyAfterTransactionCommits() {
+        // Given
+        var journal = mock(DomainEventJournal.class);
+        var journalingPublisher = new DomainEventPublisher(applicationEventPublisher, Optional.empty(), Optional.of(journal));
+        var testEvent = new TestDomainEvent("COMMITTED_EVENT");
+        
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            journalingPublisher.publishEvent(testEvent);
+            
+            // Then
+            verifyNoInteractions(journal);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(journal, times(1)).appendAll(List.of(testEvent));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldNotFailPublishingWhenJournalFails() {
+        // Given
+        var journal = mock(DomainEventJournal.class);
+        var journalingPublisher = new DomainEventPublisher(applicationEventPublisher, Optional.empty(), Optional.of(journal));
+        var testEvent = new TestDomainEvent("JOURNAL_FAILURE_EVENT");
+        doThrow(new IllegalStateException("Disk full")).when(journal).appendAll(List.of(testEvent));
+        
+        // When
+        journalingPublisher.publishEvent(testEvent);
+        
+        // Then
+        verify(applicationEventPublisher, times(1)).publishEvent(testEvent);
+    }
+
     // Test implementation of DomainEvent for testing purposes
     private static class TestDomainEvent implements DomainEvent {
+        private final UUID eventId;
         private final String eventType;
         private final Instant occurredOn;
 
         public TestDomainEvent(String eventType) {
+            this.eventId = UUID.randomUUID();
             this.eventType = eventType;
             this.occurredOn = Instant.now();
         }
 
+        @Override
+        public UUID eventId() {
+            return eventId;
+        }
+
         @Override
         public String eventType() {
             return eventType;
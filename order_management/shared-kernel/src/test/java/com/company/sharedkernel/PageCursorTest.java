@@ -0,0 +1,42 @@
+package com.company.sharedkernel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PageCursor Tests")
+class PageCursorTest {
+
+    @Test
+    @DisplayName("Should decode an encoded cursor to the same position")
+    void shouldRoundTripThroughEncodedForm() {
+        var cursor = new PageCursor(Instant.parse("2025-03-01T10:15:30.123456Z"), UUID.randomUUID());
+
+        var token = cursor.encode();
+
+        assertTrue(token.matches("[A-Za-z0-9_-]+"));
+        assertEquals(cursor, PageCursor.decode(token));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens that are not cursors")
+    void shouldRejectMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode(""));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("not a cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("bm8tc2VwYXJhdG9y"));
+        assertThrows(IllegalArgumentException.class, () -> PageCursor.decode("MjAyNXx4eXo"));
+    }
+
+    @Test
+    @DisplayName("Should only accept page limits within bounds")
+    void shouldCheckPageLimit() {
+        assertEquals(1, KeysetPage.checkLimit(1));
+        assertEquals(KeysetPage.MAX_LIMIT, KeysetPage.checkLimit(KeysetPage.MAX_LIMIT));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.checkLimit(0));
+        assertThrows(IllegalArgumentException.class, () -> KeysetPage.checkLimit(KeysetPage.MAX_LIMIT + 1));
+    }
+}
@@ -0,0 +1,130 @@
+package com.company.sharedkernel.events.codec;
+
+import com.company.sharedkernel.DomainEvent;
+import com.company.sharedkernel.Money;
+import com.company.sharedkernel.OrderId;
+import com.company.sharedkernel.events.CustomerOrderCancelled;
+import com.company.sharedkernel.events.CustomerOrderPlaced;
+import com.company.sharedkernel.events.CustomerOrderStatusUpdated;
+import com.company.sharedkernel.events.ManufacturingOrderCompleted;
+import com.company.sharedkernel.events.ManufacturingOrderCreated;
+import com.company.sharedkernel.events.ManufacturingOrderStatusChanged;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Domain Event Codec Tests")
+class DomainEventCodecTest {
+
+    private final DomainEventCodec codec = new DomainEventCodec();
+
+    static Stream<DomainEvent> events() {
+        var orderId = OrderId.generate();
+        return Stream.of(
+            CustomerOrderPlaced.of(orderId, UUID.randomUUID(), Money.of(new BigDecimal("149.99"), Currency.getInstance("EUR"))),
+            CustomerOrderPlaced.of(orderId, UUID.randomUUID(), Money.usd(new BigDecimal("-12.5"))),
+            CustomerOrderPlaced.of(orderId, UUID.randomUUID(),
+                new Money(new BigDecimal("123456789012345678901234567890.1234"), Currency.getInstance("JPY"))),
+            CustomerOrderStatusUpdated.of(orderId, "PLACED", "CONFIRMED"),
+            CustomerOrderStatusUpdated.of(orderId, "CONFIRMED", "ON_HOLD"),
+            CustomerOrderCancelled.of(orderId, "Customer changed their mind – überraschend"),
+            CustomerOrderCancelled.of(orderId, null),
+            ManufacturingOrderCreated.of(orderId, "PROD-001", 5),
+            ManufacturingOrderCreated.of(orderId, "PROD-002", Integer.MAX_VALUE),
+            ManufacturingOrderStatusChanged.of(orderId, "PENDING", "IN_PROGRESS"),
+            ManufacturingOrderCompleted.of(orderId, Instant.now()),
+            ManufacturingOrderCompleted.of(orderId, null)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("events")
+    @DisplayName("Should restore every shared kernel event from its encoded form")
+    void shouldRoundTripEvent(DomainEvent event) {
+        var payload = codec.encode(event);
+
+        assertThat(codec.decode(payload)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Should encode a status change in a fixed number of bytes")
+    void shouldEncodeStatusChangeCompactly() {
+        var event = ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS");
+
+        // version + tag + event id + order id + two status codes + seconds + nanos
+        assertThat(codec.encode(event)).hasSize(1 + 1 + 16 + 16 + 2 + 8 + 4);
+    }
+
+    @Test
+    @DisplayName("Should start every payload with the schema version")
+    void shouldWriteSchemaVersion() {
+        var payload = codec.encode(CustomerOrderCancelled.of(OrderId.generate(), "reason"));
+
+        assertThat(payload[0]).isEqualTo((byte) DomainEventCodec.SCHEMA_VERSION);
+    }
+
+    @Test
+    @DisplayName("Should decode version 1 payloads with an id derived from the payload")
+    void shouldDecodeVersionWithoutEventId() {
+        var event = ManufacturingOrderStatusChanged.of(OrderId.generate(), "PENDING", "IN_PROGRESS");
+        var current = codec.encode(event);
+        var legacy = new byte[current.length - 16];
+        legacy[0] = 1;
+        legacy[1] = current[1];
+        System.arraycopy(current, 18, legacy, 2, current.length - 18);
+
+        var decoded = (ManufacturingOrderStatusChanged) codec.decode(legacy);
+
+        assertThat(decoded.eventId()).isEqualTo(UUID.nameUUIDFromBytes(legacy));
+        assertThat(decoded.eventId()).isEqualTo(codec.decode(legacy.clone()).eventId());
+        assertThat(decoded.orderId()).isEqualTo(event.orderId());
+        assertThat(decoded.newStatus()).isEqualTo("IN_PROGRESS");
+        assertThat(decoded.occurredOn()).isEqualTo(event.occurredOn());
+    }
+
+    @Test
+    @DisplayName("Should reject payloads of an unknown schema version")
+    void shouldRejectUnknownVersion() {
+        var payload = codec.encode(CustomerOrderCancelled.of(OrderId.generate(), "reason"));
+        payload[0] = 99;
+
+        assertThatThrownBy(() -> codec.decode(payload))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("version");
+    }
+
+    @Test
+    @DisplayName("Should reject payloads of an unknown event type")
+    void shouldRejectUnknownTypeTag() {
+        var payload = codec.encode(CustomerOrderCancelled.of(OrderId.generate(), "reason"));
+        payload[1] = 42;
+
+        assertThatThrownBy(() -> codec.decode(payload))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("42");
+    }
+
+    @Test
+    @DisplayName("Should reject truncated and padded payloads")
+    void shouldRejectMalformedLength() {
+        var payload = codec.encode(ManufacturingOrderCreated.of(OrderId.generate(), "PROD-001", 5));
+
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(payload, payload.length - 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("truncated");
+        assertThatThrownBy(() -> codec.decode(Arrays.copyOf(payload, payload.length + 1)))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("trailing");
+    }
+}